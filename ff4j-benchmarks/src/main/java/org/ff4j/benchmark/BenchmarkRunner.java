@@ -0,0 +1,87 @@
+package org.ff4j.benchmark;
+
+/*
+ * #%L
+ * ff4j-benchmarks
+ * %%
+ * Copyright (C) 2013 - 2020 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+
+import org.ff4j.FF4j;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run all benchmarks (or the ones matching the regular expressions given as arguments) and
+ * write results as JSON, one file per ff4j version, so that releases can be compared.
+ *
+ * <p>Output file can be overridden with system property <code>ff4j.benchmark.result</code>.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class BenchmarkRunner {
+
+    /** System property to override result file. */
+    public static final String RESULT_FILE = "ff4j.benchmark.result";
+
+    /**
+     * Hide constructor.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args
+     *      regular expressions of benchmarks to include (all if empty)
+     * @throws RunnerException
+     *      error during execution
+     */
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder();
+        if (args.length == 0) {
+            options.include("org\\.ff4j\\.benchmark\\..*");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+        String resultFile = System.getProperty(RESULT_FILE, defaultResultFile());
+        File parent = new File(resultFile).getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IllegalArgumentException("Cannot create directory " + parent);
+        }
+        options.resultFormat(ResultFormatType.JSON).result(resultFile);
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Result file named after the ff4j version under test.
+     *
+     * @return
+     *      path of result file
+     */
+    private static String defaultResultFile() {
+        String version = FF4j.class.getPackage().getImplementationVersion();
+        return "target/jmh-result-" + (version == null ? "dev" : version) + ".json";
+    }
+
+}
@@ -0,0 +1,163 @@
+package org.ff4j.benchmark;
+
+/*
+ * #%L
+ * ff4j-benchmarks
+ * %%
+ * Copyright (C) 2013 - 2020 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.FF4j;
+import org.ff4j.cache.InMemoryCacheManager;
+import org.ff4j.core.Feature;
+import org.ff4j.security.AbstractAuthorizationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of {@link FF4j#check(String)} with the different decorations of the instance.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckBenchmark {
+
+    /** Number of features in store. */
+    private static final int NB_FEATURES = 100;
+
+    /** Feature checked, enabled. */
+    private static final String FEATURE = "f42";
+
+    /** Decoration of ff4j instance. */
+    @Param({"plain", "audit", "authorization", "cache"})
+    public String mode;
+
+    /** Instance under test. */
+    private FF4j ff4j;
+
+    /**
+     * Create instance with features.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ff4j = new FF4j();
+        boolean secured = "authorization".equals(mode);
+        for (int i = 0; i < NB_FEATURES; i++) {
+            Feature f = new Feature("f" + i, true);
+            if (secured) {
+                f.setPermissions(new HashSet<String>(Arrays.asList("ADMIN", "ROLE_" + i)));
+            }
+            ff4j.createFeature(f);
+        }
+        if ("audit".equals(mode)) {
+            ff4j.audit(true);
+        } else if (secured) {
+            ff4j.setAuthorizationsManager(new StaticAuthorizationManager("USER", "ROLE_42"));
+        } else if ("cache".equals(mode)) {
+            ff4j.cache(new InMemoryCacheManager());
+        }
+    }
+
+    /**
+     * Stop publisher if any.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ff4j.stop();
+    }
+
+    /**
+     * Single thread evaluation.
+     *
+     * @return
+     *      status
+     */
+    @Benchmark
+    public boolean check() {
+        return ff4j.check(FEATURE);
+    }
+
+    /**
+     * Concurrent evaluation of the same feature.
+     *
+     * @return
+     *      status
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean checkMultiThreaded() {
+        return ff4j.check(FEATURE);
+    }
+
+    /**
+     * Authorization manager with fixed permissions for current user.
+     */
+    public static class StaticAuthorizationManager extends AbstractAuthorizationManager {
+
+        /** Roles of current user. */
+        private final Set<String> roles;
+
+        /**
+         * Constructor with current user roles.
+         *
+         * @param roles
+         *      roles of current user
+         */
+        public StaticAuthorizationManager(String... roles) {
+            this.roles = Collections.unmodifiableSet(new TreeSet<String>(Arrays.asList(roles)));
+        }
+
+        /** {@inheritDoc} */
+        public String getCurrentUserName() {
+            return "benchmark";
+        }
+
+        /** {@inheritDoc} */
+        public Set<String> getCurrentUserPermissions() {
+            return roles;
+        }
+
+        /** {@inheritDoc} */
+        public Set<String> listAllPermissions() {
+            return roles;
+        }
+    }
+
+}
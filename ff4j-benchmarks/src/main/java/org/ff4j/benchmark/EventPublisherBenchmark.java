@@ -0,0 +1,108 @@
+package org.ff4j.benchmark;
+
+/*
+ * #%L
+ * ff4j-benchmarks
+ * %%
+ * Copyright (C) 2013 - 2020 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.audit.Event;
+import org.ff4j.audit.EventBuilder;
+import org.ff4j.audit.EventConstants;
+import org.ff4j.audit.EventPublisher;
+import org.ff4j.audit.repository.InMemoryEventRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link EventPublisher} publishing into an {@link InMemoryEventRepository}.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPublisherBenchmark {
+
+    /** Size of the publisher worker pool. */
+    @Param({"1", "4"})
+    public int poolSize;
+
+    /** Publisher under test. */
+    private EventPublisher publisher;
+
+    /**
+     * Create publisher, repository is bounded (capacity of in-memory repository).
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        publisher = new EventPublisher(EventPublisher.DEFAULT_QUEUE_CAPACITY, poolSize, new InMemoryEventRepository());
+    }
+
+    /**
+     * Stop workers.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.stop();
+    }
+
+    /**
+     * Build the event published, as done in check.
+     *
+     * @return
+     *      event
+     */
+    private Event newEvent() {
+        return new EventBuilder().feature("f1").action(EventConstants.ACTION_CHECK_OK).build();
+    }
+
+    /**
+     * Single producer.
+     */
+    @Benchmark
+    public void publish() {
+        publisher.publish(newEvent());
+    }
+
+    /**
+     * Concurrent producers.
+     */
+    @Benchmark
+    @Threads(4)
+    public void publishMultiThreaded() {
+        publisher.publish(newEvent());
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.ff4j.benchmark;
+
+/*
+ * #%L
+ * ff4j-benchmarks
+ * %%
+ * Copyright (C) 2013 - 2020 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.core.Feature;
+import org.ff4j.core.FeatureStore;
+import org.ff4j.property.PropertyString;
+import org.ff4j.store.InMemoryFeatureStore;
+import org.ff4j.store.JdbcFeatureStore;
+import org.ff4j.strategy.PonderationStrategy;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link FeatureStore#readAll()} for the in-memory store and the JDBC store (embedded H2).
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureStoreReadAllBenchmark {
+
+    /** Store under test. */
+    @Param({"inmemory", "jdbc"})
+    public String store;
+
+    /** Number of features in store. */
+    @Param({"100", "1000"})
+    public int size;
+
+    /** Store under test. */
+    private FeatureStore featureStore;
+
+    /**
+     * Create and fill store.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("jdbc".equals(store)) {
+            JdbcDataSource ds = new JdbcDataSource();
+            // Distinct database per trial, kept open while connections are released
+            ds.setURL("jdbc:h2:mem:ff4j" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+            featureStore = new JdbcFeatureStore(ds);
+        } else {
+            featureStore = new InMemoryFeatureStore();
+        }
+        featureStore.createSchema();
+        for (int i = 0; i < size; i++) {
+            Feature f = new Feature("f" + i, i % 2 == 0, "feature " + i, "group" + (i % 10), Arrays.asList("USER", "ADMIN"));
+            if (i % 3 == 0) {
+                f.setFlippingStrategy(new PonderationStrategy(0.5));
+            }
+            if (i % 5 == 0) {
+                f.addProperty(new PropertyString("p" + i, "value" + i));
+            }
+            featureStore.create(f);
+        }
+    }
+
+    /**
+     * Single reader.
+     *
+     * @return
+     *      all features
+     */
+    @Benchmark
+    public Map<String, Feature> readAll() {
+        return featureStore.readAll();
+    }
+
+    /**
+     * Concurrent readers.
+     *
+     * @return
+     *      all features
+     */
+    @Benchmark
+    @Threads(4)
+    public Map<String, Feature> readAllMultiThreaded() {
+        return featureStore.readAll();
+    }
+
+}
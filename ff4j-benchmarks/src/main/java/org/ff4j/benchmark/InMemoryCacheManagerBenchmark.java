@@ -0,0 +1,209 @@
+package org.ff4j.benchmark;
+
+/*
+ * #%L
+ * ff4j-benchmarks
+ * %%
+ * Copyright (C) 2013 - 2020 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.cache.InMemoryCacheManager;
+import org.ff4j.core.Feature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contention on {@link InMemoryCacheManager}: concurrent readers, and readers mixed with writers.
+ *
+ * <p>Plain benchmarks share the cache of the benchmark, reader/writer groups use a cache per group
+ * ({@link GroupCache}).</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryCacheManagerBenchmark {
+
+    /** Number of cached features. */
+    private static final int NB_FEATURES = 1000;
+
+    /** Cache under test. */
+    private InMemoryCacheManager cache;
+
+    /** Features to put. */
+    private Feature[] features;
+
+    /**
+     * Fill the cache.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache    = new InMemoryCacheManager();
+        features = fill(cache);
+    }
+
+    /**
+     * Cache shared by the threads of a reader/writer group.
+     */
+    @State(Scope.Group)
+    public static class GroupCache {
+
+        /** Cache under test. */
+        private InMemoryCacheManager cache;
+
+        /** Features to put. */
+        private Feature[] features;
+
+        /**
+         * Fill the cache.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            cache    = new InMemoryCacheManager();
+            features = fill(cache);
+        }
+    }
+
+    /**
+     * Put features in cache.
+     *
+     * @param cache
+     *      target cache
+     * @return
+     *      cached features
+     */
+    private static Feature[] fill(InMemoryCacheManager cache) {
+        Feature[] features = new Feature[NB_FEATURES];
+        for (int i = 0; i < NB_FEATURES; i++) {
+            features[i] = new Feature("f" + i, true);
+            cache.putFeature(features[i]);
+        }
+        return features;
+    }
+
+    /**
+     * Random feature among features.
+     *
+     * @param features
+     *      cached features
+     * @return
+     *      feature
+     */
+    private static Feature randomFeature(Feature[] features) {
+        return features[ThreadLocalRandom.current().nextInt(NB_FEATURES)];
+    }
+
+    /**
+     * Single reader.
+     *
+     * @return
+     *      cached feature
+     */
+    @Benchmark
+    public Feature get() {
+        return cache.getFeature(randomFeature(features).getUid());
+    }
+
+    /**
+     * Concurrent readers only.
+     *
+     * @return
+     *      cached feature
+     */
+    @Benchmark
+    @Threads(8)
+    public Feature getMultiThreaded() {
+        return cache.getFeature(randomFeature(features).getUid());
+    }
+
+    /**
+     * Readers of the read/write group.
+     *
+     * @param group
+     *      cache of the group
+     * @return
+     *      cached feature
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(6)
+    public Feature readWriteGet(GroupCache group) {
+        return group.cache.getFeature(randomFeature(group.features).getUid());
+    }
+
+    /**
+     * Writers of the read/write group.
+     *
+     * @param group
+     *      cache of the group
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public void readWritePut(GroupCache group) {
+        group.cache.putFeature(randomFeature(group.features));
+    }
+
+    /**
+     * Writers evicting entries of the read/write group.
+     *
+     * @param group
+     *      cache of the group
+     */
+    @Benchmark
+    @Group("readEvict")
+    @GroupThreads(2)
+    public void readEvictEvict(GroupCache group) {
+        Feature f = randomFeature(group.features);
+        group.cache.evictFeature(f.getUid());
+        group.cache.putFeature(f);
+    }
+
+    /**
+     * Readers of the read/evict group.
+     *
+     * @param group
+     *      cache of the group
+     * @return
+     *      cached feature (could be null)
+     */
+    @Benchmark
+    @Group("readEvict")
+    @GroupThreads(6)
+    public Feature readEvictGet(GroupCache group) {
+        return group.cache.getFeature(randomFeature(group.features).getUid());
+    }
+
+}
@@ -0,0 +1,172 @@
+package org.ff4j.benchmark;
+
+/*
+ * #%L
+ * ff4j-benchmarks
+ * %%
+ * Copyright (C) 2013 - 2020 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.FF4j;
+import org.ff4j.core.Feature;
+import org.ff4j.core.FlippingExecutionContext;
+import org.ff4j.core.FlippingStrategy;
+import org.ff4j.strategy.BlackListStrategy;
+import org.ff4j.strategy.ClientFilterStrategy;
+import org.ff4j.strategy.DarkLaunchStrategy;
+import org.ff4j.strategy.PonderationStrategy;
+import org.ff4j.strategy.ServerFilterStrategy;
+import org.ff4j.strategy.WhiteListStrategy;
+import org.ff4j.strategy.el.ExpressionFlipStrategy;
+import org.ff4j.strategy.time.OfficeHourStrategy;
+import org.ff4j.strategy.time.ReleaseDateFlipStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of {@link FF4j#check(String, FlippingExecutionContext)} for each built-in {@link FlippingStrategy}.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+    /** Feature holding the strategy. */
+    private static final String FEATURE = "strategy";
+
+    /** Strategy under test. */
+    @Param({"ponderation", "blackList", "whiteList", "clientFilter", "serverFilter", 
+            "darkLaunch", "expression", "releaseDate", "officeHour"})
+    public String strategy;
+
+    /** Instance under test. */
+    private FF4j ff4j;
+
+    /** Context given to strategies. */
+    private FlippingExecutionContext context;
+
+    /**
+     * Create instance with a single feature using the strategy.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ff4j = new FF4j();
+        ff4j.createFeature(new Feature("A", true));
+        ff4j.createFeature(new Feature("B", false));
+        Feature f = new Feature(FEATURE, true);
+        f.setFlippingStrategy(createStrategy(strategy));
+        ff4j.createFeature(f);
+        context = new FlippingExecutionContext();
+        context.putString(ClientFilterStrategy.CLIENT_HOSTNAME, "client2");
+        context.putString(ServerFilterStrategy.SERVER_HOSTNAME, "server2");
+    }
+
+    /**
+     * Stop publisher if any.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ff4j.stop();
+    }
+
+    /**
+     * Single thread evaluation.
+     *
+     * @return
+     *      status
+     */
+    @Benchmark
+    public boolean check() {
+        return ff4j.check(FEATURE, context);
+    }
+
+    /**
+     * Concurrent evaluation, the context is read only.
+     *
+     * @return
+     *      status
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean checkMultiThreaded() {
+        return ff4j.check(FEATURE, context);
+    }
+
+    /**
+     * Create and initialize strategy from its short name.
+     *
+     * @param name
+     *      short name used as benchmark parameter
+     * @return
+     *      strategy
+     */
+    private static FlippingStrategy createStrategy(String name) {
+        if ("ponderation".equals(name)) {
+            return new PonderationStrategy(0.5);
+        } else if ("blackList".equals(name)) {
+            return new BlackListStrategy("client1,client3");
+        } else if ("whiteList".equals(name)) {
+            return new WhiteListStrategy("client1,client2");
+        } else if ("clientFilter".equals(name)) {
+            return new ClientFilterStrategy("client1,client2");
+        } else if ("serverFilter".equals(name)) {
+            return new ServerFilterStrategy("server1,server2");
+        } else if ("darkLaunch".equals(name)) {
+            return new DarkLaunchStrategy(0.5);
+        } else if ("expression".equals(name)) {
+            return new ExpressionFlipStrategy(FEATURE, "A & (!B | A)");
+        } else if ("releaseDate".equals(name)) {
+            Calendar past = Calendar.getInstance();
+            past.add(Calendar.YEAR, -1);
+            return new ReleaseDateFlipStrategy(past.getTime());
+        } else if ("officeHour".equals(name)) {
+            Map<String, String> initParams = new HashMap<String, String>();
+            for (String day : new String[] {"monday", "tuesday", "wednesday", "thursday", "friday"}) {
+                initParams.put(day, "08:00-12:00,13:30-18:00");
+            }
+            initParams.put("saturday", "10:00-19:00");
+            initParams.put("sunday", "");
+            initParams.put("publicHolidays", "2015-01-01,2015-05-01,2015-12-25");
+            OfficeHourStrategy officeHour = new OfficeHourStrategy();
+            officeHour.init(FEATURE, initParams);
+            return officeHour;
+        }
+        throw new IllegalArgumentException("Unknown strategy '" + name + "'");
+    }
+
+}
@@ -26,10 +26,21 @@ import static org.ff4j.audit.EventConstants.SOURCE_JAVA;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
+import org.ff4j.audit.Event;
 import org.ff4j.audit.EventBuilder;
 import org.ff4j.audit.EventPublisher;
 import org.ff4j.audit.proxy.FeatureStoreAuditProxy;
@@ -44,12 +55,24 @@ import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.core.FlippingExecutionContext;
 import org.ff4j.core.FlippingStrategy;
+import org.ff4j.core.ImportListener;
+import org.ff4j.exception.FeatureAccessException;
+import org.ff4j.exception.FeatureAlreadyExistException;
 import org.ff4j.exception.FeatureNotFoundException;
 import org.ff4j.property.Property;
+import org.ff4j.property.handle.BooleanPropertyHandle;
+import org.ff4j.property.handle.DoublePropertyHandle;
+import org.ff4j.property.handle.IntPropertyHandle;
+import org.ff4j.property.handle.LongPropertyHandle;
+import org.ff4j.property.handle.PropertyHandles;
+import org.ff4j.property.handle.StringPropertyHandle;
 import org.ff4j.property.store.InMemoryPropertyStore;
+import org.ff4j.property.store.PropertyChangeFeed;
 import org.ff4j.property.store.PropertyStore;
+import org.ff4j.security.AbstractAuthorizationManager;
 import org.ff4j.security.AuthorizationsManager;
 import org.ff4j.store.InMemoryFeatureStore;
+import org.ff4j.utils.Util;
 
 /**
  * Principal class stands as public api to work with FF4J.
@@ -89,10 +112,10 @@ public class FF4j {
     // -- Stores --
 
     /** Storage to persist feature within {@link FeatureStore}. */
-    private FeatureStore fstore = new InMemoryFeatureStore();
+    private volatile FeatureStore fstore = new InMemoryFeatureStore();
     
     /** Storage to persist properties within {@link PropertyStore}. */
-    private PropertyStore pStore = new InMemoryPropertyStore();
+    private volatile PropertyStore pStore = new InMemoryPropertyStore();
     
     /** Do not through {@link FeatureNotFoundException} exception and but feature is required. */
     private boolean autocreate = false;
@@ -109,15 +132,32 @@ public class FF4j {
     private EventRepository eventRepository = new InMemoryEventRepository();
 
     /** Event Publisher (threadpool, executor) to send data into {@link EventRepository} */
-    private EventPublisher eventPublisher = null;
+    private volatile EventPublisher eventPublisher = null;
    
     /** This attribute indicates to stop the event publisher. */
     private volatile boolean shutdownEventPublisher;
 
     // -- Settings --
     
-    /** Post Processing like audit enable. */
-    private boolean initialized = false;
+    /** Post Processing like audit enable, volatile to publish components built in {@link #init()}. */
+    private volatile boolean initialized = false;
+    
+    /** Guard for one-time initialization, never taken once initialized. */
+    private final Object initLock = new Object();
+    
+    /** Features being created with autocreate, concurrent misses on the same uid share one creation. */
+    private final ConcurrentMap<String, FutureTask<Feature>> autoCreations = new ConcurrentHashMap<String, FutureTask<Feature>>();
+
+    /** Typed handles on properties, created on first use. */
+    private volatile PropertyHandles propertyHandles;
+    
+    /** Refresh handles when the cache proxy has been filled again. */
+    private final Runnable propertyHandlesRefresher = new Runnable() {
+        @Override
+        public void run() {
+            refreshPropertyHandles();
+        }
+    };
 
     /** Hold flipping execution context as Thread-safe data. */
     private ThreadLocal<FlippingExecutionContext> currentExecutionContext = new ThreadLocal<FlippingExecutionContext>();
@@ -195,6 +235,79 @@ public class FF4j {
         return flipped;
     }
     
+    /**
+     * Ask for flipping of several features at once.
+     * 
+     * @param featureIDs
+     *            features unique identifiers.
+     * @return status of each feature, in requested order
+     */
+    public Map<String, Boolean> checkAll(Collection<String> featureIDs) {
+        return checkAll(featureIDs, currentExecutionContext.get());
+    }
+
+    /**
+     * Ask for flipping of several features sharing the same execution context.
+     * 
+     * <p>Features are read with a single store access, roles of current user are resolved once and
+     * audit events are published as one batch. Each feature is evaluated as with {@link #check(String, FlippingExecutionContext)}.</p>
+     * 
+     * @param featureIDs
+     *            features unique identifiers.
+     * @param executionContext
+     *            current execution context
+     * @return status of each feature, in requested order
+     */
+    public Map<String, Boolean> checkAll(Collection<String> featureIDs, FlippingExecutionContext executionContext) {
+        Util.assertNotNull(featureIDs);
+        Map<String, Feature> features = getFeatureStore().readFeatures(featureIDs);
+        
+        // Roles of current user resolved once for all features
+        BitSet userMask = null;
+        Set<String> userRoles = null;
+        if (getAuthorizationsManager() instanceof AbstractAuthorizationManager) {
+            userMask = ((AbstractAuthorizationManager) getAuthorizationsManager()).currentUserPermissionsMask();
+        } else if (getAuthorizationsManager() != null) {
+            userRoles = getAuthorizationsManager().getCurrentUserPermissions();
+        }
+        
+        Map<String, Boolean> result = new LinkedHashMap<String, Boolean>();
+        List<Event> events = new ArrayList<Event>();
+        for (String featureID : featureIDs) {
+            if (result.containsKey(featureID)) {
+                continue;
+            }
+            Feature fp = features.get(featureID);
+            if (fp == null) {
+                // Not found : autocreate or error, as check()
+                fp = getFeature(featureID);
+            }
+            boolean flipped = fp.isEnable();
+            if (flipped && getAuthorizationsManager() != null) {
+                flipped = isAllowed(fp, userMask, userRoles);
+            }
+            if (flipped && fp.getFlippingStrategy() != null) {
+                flipped = fp.getFlippingStrategy().evaluate(featureID, getFeatureStore(), executionContext);
+            }
+            result.put(featureID, flipped);
+            if (isEnableAudit()) {
+                events.add(new EventBuilder(this)
+                        .feature(featureID)
+                        .action(flipped ? ACTION_CHECK_OK : ACTION_CHECK_OFF)
+                        .build());
+            }
+        }
+        
+        // Update current context
+        currentExecutionContext.set(executionContext);
+        
+        // Accesses are logged into audit system with a single publication
+        if (!events.isEmpty()) {
+            getEventPublisher().publish(events);
+        }
+        return result;
+    }
+    
     /**
      * Send target event to audit if expected.
      *
@@ -260,8 +373,39 @@ public class FF4j {
         if (featureName.getPermissions().isEmpty()) {
             return true;
         }
-        Set<String> userRoles = getAuthorizationsManager().getCurrentUserPermissions();
-        for (String expectedRole : featureName.getPermissions()) {
+        // Roles compiled as bitsets over the same dictionary, no allocation
+        BitSet featureMask = featureName.permissionsMask();
+        if (featureMask != null && getAuthorizationsManager() instanceof AbstractAuthorizationManager) {
+            AbstractAuthorizationManager authManager = (AbstractAuthorizationManager) getAuthorizationsManager();
+            return featureMask.intersects(authManager.currentUserPermissionsMask());
+        }
+        return isAllowed(featureName, null, getAuthorizationsManager().getCurrentUserPermissions());
+    }
+    
+    /**
+     * Match permissions of feature with roles of current user already resolved.
+     *
+     * @param feature
+     *            target feature
+     * @param userMask
+     *            compiled roles of user if available
+     * @param userRoles
+     *            roles of user if not compiled
+     * @return if the feature is allowed
+     */
+    private boolean isAllowed(Feature feature, BitSet userMask, Set<String> userRoles) {
+        if (feature.getPermissions().isEmpty()) {
+            return true;
+        }
+        BitSet featureMask = (userMask == null) ? null : feature.permissionsMask();
+        if (featureMask != null) {
+            return featureMask.intersects(userMask);
+        }
+        if (userRoles == null) {
+            // Dictionary of roles is full, match names
+            userRoles = getAuthorizationsManager().getCurrentUserPermissions();
+        }
+        for (String expectedRole : feature.getPermissions()) {
             if (userRoles.contains(expectedRole)) {
                 return true;
             }
@@ -299,10 +443,9 @@ public class FF4j {
             getFeatureStore().enable(featureID);
         } catch (FeatureNotFoundException fnfe) {
             if (this.autocreate) {
-                synchronized (this) {
-                    if(!getFeatureStore().exist(featureID)){
-                        getFeatureStore().create(new Feature(featureID, true));
-                    }
+                if (!autoCreateFeature(featureID, true, true).isEnable()) {
+                    // created by another caller in between
+                    getFeatureStore().enable(featureID);
                 }
             } else {
             	throw fnfe;
@@ -355,6 +498,7 @@ public class FF4j {
      */
     public FF4j createProperty(Property<?> prop) {
         getPropertiesStore().createProperty(prop);
+        refreshPropertyHandles();
         return this;
     }
     
@@ -399,10 +543,9 @@ public class FF4j {
             getFeatureStore().disable(featureID);
         } catch (FeatureNotFoundException fnfe) {
         	 if (this.autocreate) {
-                 synchronized (this) {
-                     if(!getFeatureStore().exist(featureID)){
-                         getFeatureStore().create(new Feature(featureID, false));
-                     }
+                 if (autoCreateFeature(featureID, false, true).isEnable()) {
+                     // created by another caller in between
+                     getFeatureStore().disable(featureID);
                  }
              } else {
              	throw fnfe;
@@ -435,15 +578,7 @@ public class FF4j {
             fp = getFeatureStore().read(featureID);
         } catch (FeatureNotFoundException fnfe) {
             if (this.autocreate) {
-                synchronized (this) {
-                    if(!getFeatureStore().exist(featureID)){
-                        fp = new Feature(featureID, false);
-                        getFeatureStore().create(fp);
-                    }
-                    else{
-                        fp = getFeatureStore().read(featureID);
-                    }
-                }
+                fp = autoCreateFeature(featureID, false, false);
             } else {
                 throw fnfe;
             }
@@ -451,6 +586,57 @@ public class FF4j {
         return fp;
     }
     
+    /**
+     * Create a missing feature, only one caller creates a given uid and unrelated uids never wait for each other.
+     * 
+     * <p>While the creation is in progress, callers not waiting for it get a disabled feature (the default
+     * of autocreate) without accessing the store.</p>
+     *
+     * @param featureID
+     *            target feature ID
+     * @param enable
+     *            initial status if the feature is created here
+     * @param wait
+     *            wait for a creation in progress instead of returning the default
+     * @return
+     *            created or existing feature
+     */
+    private Feature autoCreateFeature(final String featureID, final boolean enable, boolean wait) {
+        FutureTask<Feature> creation = new FutureTask<Feature>(new Callable<Feature>() {
+            public Feature call() {
+                Feature fp = new Feature(featureID, enable);
+                try {
+                    getFeatureStore().create(fp);
+                } catch (FeatureAlreadyExistException faee) {
+                    fp = getFeatureStore().read(featureID);
+                }
+                return fp;
+            }
+        });
+        FutureTask<Feature> pending = autoCreations.putIfAbsent(featureID, creation);
+        if (pending == null) {
+            try {
+                creation.run();
+            } finally {
+                autoCreations.remove(featureID, creation);
+            }
+            pending = creation;
+        } else if (!wait && !pending.isDone()) {
+            return new Feature(featureID, false);
+        }
+        try {
+            return pending.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new FeatureAccessException("Interrupted while creating feature '" + featureID + "'", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            }
+            throw new FeatureAccessException("Cannot create feature '" + featureID + "'", ee.getCause());
+        }
+    }
+    
     /**
      * Read property in Store
      * 
@@ -473,6 +659,108 @@ public class FF4j {
        return getProperty(propertyName).asString();
     }
     
+    /**
+     * Handle holding the current value of an int property, reading it does not reach the store.
+     *
+     * @param propertyName
+     *            target property name
+     * @return handle updated when the property changes
+     */
+    public IntPropertyHandle intProperty(String propertyName) {
+        return getPropertyHandles().intProperty(propertyName);
+    }
+    
+    /**
+     * Handle holding the current value of a long property, reading it does not reach the store.
+     *
+     * @param propertyName
+     *            target property name
+     * @return handle updated when the property changes
+     */
+    public LongPropertyHandle longProperty(String propertyName) {
+        return getPropertyHandles().longProperty(propertyName);
+    }
+    
+    /**
+     * Handle holding the current value of a double property, reading it does not reach the store.
+     *
+     * @param propertyName
+     *            target property name
+     * @return handle updated when the property changes
+     */
+    public DoublePropertyHandle doubleProperty(String propertyName) {
+        return getPropertyHandles().doubleProperty(propertyName);
+    }
+    
+    /**
+     * Handle holding the current value of a boolean property, reading it does not reach the store.
+     *
+     * @param propertyName
+     *            target property name
+     * @return handle updated when the property changes
+     */
+    public BooleanPropertyHandle booleanProperty(String propertyName) {
+        return getPropertyHandles().booleanProperty(propertyName);
+    }
+    
+    /**
+     * Handle holding the current value of a property as String, reading it does not reach the store.
+     *
+     * @param propertyName
+     *            target property name
+     * @return handle updated when the property changes
+     */
+    public StringPropertyHandle stringProperty(String propertyName) {
+        return getPropertyHandles().stringProperty(propertyName);
+    }
+    
+    /**
+     * Update property handles with changes of the store. Invoked after writes through this class and when the
+     * cache proxy is filled again; use {@link PropertyHandles#startPolling(long)} to follow other writers.
+     */
+    public void refreshPropertyHandles() {
+        if (propertyHandles != null) {
+            propertyHandles.refresh();
+        }
+    }
+    
+    /**
+     * Registry of property handles, created on first use.
+     *
+     * @return
+     *      property handles
+     */
+    public PropertyHandles getPropertyHandles() {
+        if (propertyHandles == null) {
+            synchronized (initLock) {
+                if (propertyHandles == null) {
+                    propertyHandles = new PropertyHandles(getPropertyHandlesSource());
+                }
+            }
+        }
+        return propertyHandles;
+    }
+    
+    /**
+     * Store read by property handles : the concrete store when it tracks its changes, else the store without audit
+     * (the cache proxy notifies the handles when it is filled again).
+     *
+     * @return
+     *      store to read properties
+     */
+    private PropertyStore getPropertyHandlesSource() {
+        PropertyStore ps = getPropertiesStore();
+        if (ps instanceof PropertyStoreAuditProxy) {
+            ps = ((PropertyStoreAuditProxy) ps).getTarget();
+        }
+        if (ps instanceof FF4jCacheProxy) {
+            ((FF4jCacheProxy) ps).removeRefreshListener(propertyHandlesRefresher);
+            ((FF4jCacheProxy) ps).addRefreshListener(propertyHandlesRefresher);
+        }
+        PropertyStore concrete = getConcretePropertyStore(ps);
+        return (concrete instanceof PropertyChangeFeed) ? concrete : ps;
+    }
+    
     /**
      * Help to import features.
      * 
@@ -488,6 +776,23 @@ public class FF4j {
         return this;
     }
     
+    /**
+     * Import features by batches, existing features are replaced.
+     * 
+     * @param features
+     *      set of features.
+     * @param batchSize
+     *      number of features written in a single batch
+     * @param listener
+     *      notified after each batch (optional, can be null)
+     * @return
+     *      a reference to this object (builder pattern).
+     */
+    public FF4j importFeatures(Collection < Feature> features, int batchSize, ImportListener listener) {
+        getFeatureStore().importFeatures(features, batchSize, listener);
+        return this;
+    }
+    
     /**
      * Help to import propertiess.
      * 
@@ -504,6 +809,25 @@ public class FF4j {
                 getPropertiesStore().createProperty(property);
             }
         }
+        refreshPropertyHandles();
+        return this;
+    }
+    
+    /**
+     * Import properties by batches, existing properties are replaced.
+     * 
+     * @param properties
+     *      set of properties.
+     * @param batchSize
+     *      number of properties written in a single batch
+     * @param listener
+     *      notified after each batch (optional, can be null)
+     * @return
+     *      a reference to this object (builder pattern).
+     */
+    public FF4j importProperties(Collection < Property<?>> properties, int batchSize, ImportListener listener) {
+        getPropertiesStore().importProperties(properties, batchSize, listener);
+        refreshPropertyHandles();
         return this;
     }
 
@@ -516,6 +840,18 @@ public class FF4j {
     public InputStream exportFeatures() throws IOException {
         return new XmlParser().exportFeatures(getFeatureStore().readAll());
     }
+    
+    /**
+     * Export Feature through FF4J, XML is written to the stream feature per feature.
+     * 
+     * @param out
+     *      target stream (flushed, not closed)
+     * @throws IOException
+     *      error when writing
+     */
+    public void exportFeatures(OutputStream out) throws IOException {
+        new XmlParser().exportFeatures(getFeatureStore().readAll(), out);
+    }
 
     /**
      * Enable autocreation of features when not found.
@@ -582,6 +918,7 @@ public class FF4j {
      */
     public FF4j deleteProperty(String propertyName) {
         getPropertiesStore().deleteProperty(propertyName);
+        refreshPropertyHandles();
         return this;
     }
     
@@ -730,9 +1067,21 @@ public class FF4j {
     }
     
     /**
-     * Initialization of background components.
+     * Initialization of background components, double-checked on the volatile flag so
+     * that callers never lock once initialized.
      */
-    private synchronized void init() {
+    private void init() {
+        synchronized (initLock) {
+            if (!initialized) {
+                doInit();
+            }
+        }
+    }
+    
+    /**
+     * Build background components, invoked under {@link #initLock}.
+     */
+    private void doInit() {
         
         // Execution Context
         FlippingExecutionContext context = new FlippingExecutionContext();
@@ -883,6 +1232,9 @@ public class FF4j {
      */
     public void setPropertiesStore(PropertyStore pStore) {
         this.pStore = pStore;
+        if (propertyHandles != null) {
+            propertyHandles.setPropertyStore(getPropertyHandlesSource());
+        }
     }
     
     /**
@@ -932,6 +1284,9 @@ public class FF4j {
         if (this.eventPublisher != null && this.shutdownEventPublisher) {
             this.eventPublisher.stop();
         }
+        if (this.propertyHandles != null) {
+            this.propertyHandles.stopPolling();
+        }
     }
 
     /**
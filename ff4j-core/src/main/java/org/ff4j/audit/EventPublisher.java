@@ -20,6 +20,7 @@ package org.ff4j.audit;
  * #L%
  */
 
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -136,6 +137,22 @@ public class EventPublisher {
         }
     }
 
+    /**
+     * Publish several events to repository with a single worker.
+     * 
+     * @param events
+     *            events to save
+     */
+    public void publish(List<Event> events) {
+        try {
+            EventWorker ew = new EventWorker(events, repository);
+            final Future<Boolean> check = executor.submit(ew);
+            check.get(submitTimeout, TimeUnit.MILLISECONDS);
+        } catch (Exception e1) {
+            // Do not propagate error, it's monitoring (aside business logic)
+        }
+    }
+
     /**
      * Stops the event publisher. If we started an executor service, it will
      * be shutdown here.
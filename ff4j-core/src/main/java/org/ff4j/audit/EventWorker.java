@@ -20,6 +20,8 @@ package org.ff4j.audit;
  * #L%
  */
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import org.ff4j.audit.repository.EventRepository;
@@ -31,8 +33,8 @@ import org.ff4j.audit.repository.EventRepository;
  */
 public class EventWorker implements Callable<Boolean> {
 
-    /** Target event to insert. */
-    private Event event = null;
+    /** Target events to insert. */
+    private List<Event> events = null;
     
     /** current thread name if relevant. */
     private String name = null;
@@ -55,26 +57,44 @@ public class EventWorker implements Callable<Boolean> {
      *            event repository to store events
      */
     public EventWorker(Event e, EventRepository repo) {
-        this.event = e;
+        this.events = Collections.singletonList(e);
         this.eventRepository = repo;
         if (e != null) {
             this.name = e.getTimestamp() + "-" + e.getAction() + "-" + e.getName();
         }
     }
 
+    /**
+     * Worker constructor for a batch of events.
+     * 
+     * @param events
+     *            events
+     * @param repo
+     *            event repository to store events
+     */
+    public EventWorker(List<Event> events, EventRepository repo) {
+        this.events = events;
+        this.eventRepository = repo;
+        this.name = "batch-" + events.size();
+    }
+
     /** {@inheritDoc} */
     @Override
     public Boolean call() throws Exception {
-        boolean ok = false;
-        int retryCount = 0;
-        while (!ok && retryCount < MAX_RETRY) {
-            ok = eventRepository.saveEvent(event);
-            if (!ok) {
-                retryCount++;
-                Thread.sleep(RETRY_DELAY);
+        boolean allSaved = true;
+        for (Event event : events) {
+            boolean ok = false;
+            int retryCount = 0;
+            while (!ok && retryCount < MAX_RETRY) {
+                ok = eventRepository.saveEvent(event);
+                if (!ok) {
+                    retryCount++;
+                    Thread.sleep(RETRY_DELAY);
+                }
             }
+            allSaved &= ok;
         }
-        return ok;
+        return allSaved;
     }
 
     /**
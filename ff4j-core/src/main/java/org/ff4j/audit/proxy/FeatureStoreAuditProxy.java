@@ -40,6 +40,8 @@ import org.ff4j.audit.EventBuilder;
 import org.ff4j.audit.EventPublisher;
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
+import org.ff4j.store.AbstractFeatureStore;
 
 /**
  * Proxy to publish operation to audit.
@@ -218,6 +220,12 @@ public class FeatureStoreAuditProxy implements FeatureStore {
     public Map<String, Feature> readAll() {
         return target.readAll();
     }
+    
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        return target.readFeatures(featureUids);
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -240,13 +248,17 @@ public class FeatureStoreAuditProxy implements FeatureStore {
     /** {@inheritDoc} */
     @Override
     public void importFeatures(Collection<Feature> features) {
-        // Do not use target as the delete/create operation will be traced
+        importFeatures(features, AbstractFeatureStore.DEFAULT_IMPORT_BATCHSIZE, null);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public void importFeatures(Collection<Feature> features, int batchSize, ImportListener listener) {
+        // Bulk operation is delegated to target, a creation is traced for each feature
+        target.importFeatures(features, batchSize, listener);
         if (features != null) {
             for (Feature feature : features) {
-                if (exist(feature.getUid())) {
-                    delete(feature.getUid());
-                }
-                create(feature);
+                publish(builder(ACTION_CREATE).feature(feature.getUid()));
             }
         }
     }
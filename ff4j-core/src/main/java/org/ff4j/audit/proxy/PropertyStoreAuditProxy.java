@@ -36,7 +36,9 @@ import java.util.Set;
 import org.ff4j.FF4j;
 import org.ff4j.audit.EventBuilder;
 import org.ff4j.audit.EventPublisher;
+import org.ff4j.core.ImportListener;
 import org.ff4j.property.Property;
+import org.ff4j.property.store.AbstractPropertyStore;
 import org.ff4j.property.store.PropertyStore;
 
 /**
@@ -125,6 +127,11 @@ public class PropertyStoreAuditProxy implements PropertyStore {
     public Map<String, Property<?>> readAllProperties() {
         return target.readAllProperties();
     }
+    
+    /** {@inheritDoc} */
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        return target.readProperties(names);
+    }
 
     /** {@inheritDoc} */
     public Set<String> listPropertyNames() {
@@ -148,13 +155,16 @@ public class PropertyStoreAuditProxy implements PropertyStore {
     
     /** {@inheritDoc} */
     public void importProperties(Collection<Property<?>> properties) {
-        // Do not use target as the delete/create operation will be traced
+        importProperties(properties, AbstractPropertyStore.DEFAULT_IMPORT_BATCHSIZE, null);
+    }
+    
+    /** {@inheritDoc} */
+    public void importProperties(Collection<Property<?>> properties, int batchSize, ImportListener listener) {
+        // Bulk operation is delegated to target, a creation is traced for each property
+        target.importProperties(properties, batchSize, listener);
         if (properties != null) {
             for (Property<?> property : properties) {
-                if (existProperty(property.getName())) {
-                    deleteProperty(property.getName());
-                }
-                createProperty(property);
+                publish(builder(ACTION_CREATE).property(property.getName()).value(property.asString()));
             }
         }
     }
@@ -0,0 +1,58 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.Property;
+
+/**
+ * Optional capability of a {@link FF4JCacheManager} able to get many elements at once (single round trip),
+ * used by {@link FF4jCacheProxy} for bulk reads.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface BulkCacheReader {
+
+    /**
+     * Get features from cache, elements not in cache are not part of the result.
+     *
+     * @param featureIds
+     *      feature identifiers
+     * @return
+     *      cached features per identifier
+     */
+    Map<String, Feature> getFeatures(Collection<String> featureIds);
+
+    /**
+     * Get properties from cache, elements not in cache are not part of the result.
+     *
+     * @param propertyNames
+     *      property names
+     * @return
+     *      cached properties per name
+     */
+    Map<String, Property<?>> getProperties(Collection<String> propertyNames);
+
+}
@@ -0,0 +1,52 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.Property;
+
+/**
+ * Optional capability of a {@link FF4JCacheManager} able to put many elements at once (single round trip),
+ * used by {@link Store2CachePollingWorker} to fill the cache again.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface BulkCacheWriter {
+
+    /**
+     * Put features into cache.
+     *
+     * @param features
+     *      features to cache
+     */
+    void putFeatures(Collection<Feature> features);
+
+    /**
+     * Put properties into cache.
+     *
+     * @param properties
+     *      properties to cache
+     */
+    void putProperties(Collection<Property<?>> properties);
+
+}
@@ -0,0 +1,57 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Callback of {@link CacheChangeNotifier} invoked when entries of a distributed cache have been modified,
+ * by this node or another one.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface CacheChangeListener {
+
+    /**
+     * A feature has been updated, removed or has expired.
+     *
+     * @param featureId
+     *      feature identifier, null if unknown
+     */
+    void onFeatureChanged(String featureId);
+
+    /**
+     * A property has been updated, removed or has expired.
+     *
+     * @param propertyName
+     *      property name, null if unknown
+     */
+    void onPropertyChanged(String propertyName);
+
+    /**
+     * All features have been removed.
+     */
+    void onFeaturesCleared();
+
+    /**
+     * All properties have been removed.
+     */
+    void onPropertiesCleared();
+
+}
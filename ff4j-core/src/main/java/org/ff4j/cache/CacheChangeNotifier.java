@@ -0,0 +1,41 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Optional capability of a {@link FF4JCacheManager} able to notify modifications of its entries through the native
+ * event mechanism of the cache (entry listeners).
+ *
+ * Local copies of entries ({@link TwoTierCacheManager}) are then invalidated as soon as another node modifies them.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface CacheChangeNotifier {
+
+    /**
+     * Register a listener notified of modifications of cache entries.
+     *
+     * @param listener
+     *      callback
+     */
+    void addChangeListener(CacheChangeListener listener);
+
+}
@@ -0,0 +1,385 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Load elements from target store into cache for {@link FF4jCacheProxy}.
+ *
+ * <ul>
+ * <li>Concurrent misses on the same key share a single load from the target store (single-flight).</li>
+ * <li>With refresh-ahead, a value loaded more than 'refreshAheadDelay' ago is served while reloaded in background.</li>
+ * <li>With stale values, an expired value is served while reloaded in background, and the last good value is served
+ * when the target store fails.</li>
+ * <li>A value read from the target store before an invalidation of its key is not put in cache.</li>
+ * </ul>
+ *
+ * @param <T>
+ *      cached element
+ * @author Cedrick Lunven (@clunven)
+ */
+abstract class CacheLoader<T> {
+
+    /** Maximum number of last values kept, an arbitrary one is dropped when reached. */
+    private static final int MAX_LOADED_VALUES = 10000;
+
+    /** Number of invalidation counters, keys share counters by hash. */
+    private static final int VERSION_STRIPES = 256;
+
+    /** Loads in progress per key. */
+    private final ConcurrentMap<String, FutureTask<T>> loads = new ConcurrentHashMap<String, FutureTask<T>>();
+
+    /** Last value loaded per key, kept only when refresh-ahead or stale values are enabled. */
+    private final ConcurrentMap<String, LoadedValue<T>> lastLoaded = new ConcurrentHashMap<String, LoadedValue<T>>();
+
+    /** Invalidation counters, bounded whatever the number of keys. */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES + 1);
+
+    /**
+     * Read element from cache.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      cached element or null if not found or expired
+     */
+    protected abstract T getFromCache(String key);
+
+    /**
+     * Read element from target store.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      element, not found exception if it does not exist
+     */
+    protected abstract T readFromTarget(String key);
+
+    /**
+     * Put element into cache.
+     *
+     * @param key
+     *      element key
+     * @param value
+     *      element
+     */
+    protected abstract void putInCache(String key, T value);
+
+    /**
+     * Remove element from cache.
+     *
+     * @param key
+     *      element key
+     */
+    protected abstract void evictFromCache(String key);
+
+    /**
+     * Tell if the error of target store means that element does not exist.
+     *
+     * @param error
+     *      error raised by target store
+     * @return
+     *      if the element does not exist
+     */
+    protected abstract boolean isNotFound(RuntimeException error);
+
+    /**
+     * Executor of background loads.
+     *
+     * @return
+     *      executor
+     */
+    protected abstract Executor getExecutor();
+
+    /**
+     * Delay in milliseconds after which a cached value is reloaded in background, 0 to disable.
+     *
+     * @return
+     *      refresh-ahead delay
+     */
+    protected abstract long getRefreshAheadDelay();
+
+    /**
+     * Serve stale values while reloading and when target store fails.
+     *
+     * @return
+     *      if stale values are served
+     */
+    protected abstract boolean isServeStale();
+
+    /**
+     * Read element from cache, loading it from target store if needed.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      element
+     */
+    T get(String key) {
+        if (key == null) {
+            // Let target store validate
+            return readFromTarget(key);
+        }
+        T cached = getFromCache(key);
+        LoadedValue<T> last = lastLoaded.get(key);
+        if (cached != null) {
+            long refreshAheadDelay = getRefreshAheadDelay();
+            if (refreshAheadDelay > 0 && last != null
+                    && System.currentTimeMillis() - last.loadedAt >= refreshAheadDelay) {
+                refreshInBackground(key);
+            }
+            return cached;
+        }
+        if (isServeStale() && last != null) {
+            refreshInBackground(key);
+            return last.value;
+        }
+        return load(key);
+    }
+
+    /**
+     * Element has been put in cache outside of this loader.
+     *
+     * @param key
+     *      element key
+     * @param value
+     *      element
+     */
+    void loaded(String key, T value) {
+        if (isTracking()) {
+            if (lastLoaded.size() >= MAX_LOADED_VALUES && !lastLoaded.containsKey(key)) {
+                Iterator<String> keys = lastLoaded.keySet().iterator();
+                if (keys.hasNext()) {
+                    lastLoaded.remove(keys.next());
+                }
+            }
+            lastLoaded.put(key, new LoadedValue<T>(value));
+        }
+    }
+
+    /**
+     * Element has been modified or deleted, last value must not be served anymore. Must be called before the
+     * element is evicted from cache, so that a load in progress does not put it back.
+     *
+     * @param key
+     *      element key
+     */
+    void invalidate(String key) {
+        versions.incrementAndGet(stripe(key));
+        lastLoaded.remove(key);
+    }
+
+    /**
+     * Forget all last values.
+     */
+    void invalidateAll() {
+        versions.incrementAndGet(VERSION_STRIPES);
+        lastLoaded.clear();
+    }
+
+    /**
+     * Load element from target store, or wait for the load in progress.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      element
+     */
+    private T load(String key) {
+        FutureTask<T> loading = newLoad(key);
+        FutureTask<T> pending = loads.putIfAbsent(key, loading);
+        if (pending == null) {
+            try {
+                loading.run();
+            } finally {
+                loads.remove(key, loading);
+            }
+            pending = loading;
+        }
+        try {
+            return pending.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading '" + key + "'", ie);
+        } catch (ExecutionException ee) {
+            RuntimeException error = (ee.getCause() instanceof RuntimeException) ?
+                    (RuntimeException) ee.getCause() : new IllegalStateException(ee.getCause());
+            LoadedValue<T> last = lastLoaded.get(key);
+            if (isServeStale() && last != null && !isNotFound(error)) {
+                // Keep serving last good value
+                return last.value;
+            }
+            throw error;
+        }
+    }
+
+    /**
+     * Reload element in background if no load is already in progress.
+     *
+     * @param key
+     *      element key
+     */
+    private void refreshInBackground(final String key) {
+        final FutureTask<T> loading = newLoad(key);
+        if (loads.putIfAbsent(key, loading) != null) {
+            return;
+        }
+        try {
+            getExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        loading.run();
+                    } finally {
+                        loads.remove(key, loading);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            // Refreshed by a later access
+            loads.remove(key, loading);
+        }
+    }
+
+    /**
+     * Task reading the element from target store and filling cache.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      task
+     */
+    private FutureTask<T> newLoad(final String key) {
+        return new FutureTask<T>(new Callable<T>() {
+            @Override
+            public T call() {
+                long version = version(key);
+                T value;
+                try {
+                    value = readFromTarget(key);
+                } catch (RuntimeException error) {
+                    if (isNotFound(error)) {
+                        // Deleted in target store
+                        lastLoaded.remove(key);
+                        evictFromCache(key);
+                    }
+                    throw error;
+                }
+                putLoaded(key, value, version);
+                return value;
+            }
+        });
+    }
+
+    /**
+     * Put element read from target store into cache, unless its key has been invalidated since the read started.
+     * Bulk reads take the {@link #version(String)} of each key before accessing target store.
+     *
+     * @param key
+     *      element key
+     * @param value
+     *      element read from target store
+     * @param version
+     *      version of the key before the read
+     * @return
+     *      if the element is now cached
+     */
+    boolean putLoaded(String key, T value, long version) {
+        if (version != version(key)) {
+            // Invalidated while reading, value may be older than the modification
+            return false;
+        }
+        putInCache(key, value);
+        if (version != version(key)) {
+            // Invalidated while writing, eviction may have happened before the put
+            evictFromCache(key);
+            return false;
+        }
+        loaded(key, value);
+        return true;
+    }
+
+    /**
+     * Counter of invalidations of a key, including invalidation of all keys.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      current version
+     */
+    long version(String key) {
+        return versions.get(stripe(key)) + versions.get(VERSION_STRIPES);
+    }
+
+    /**
+     * Counter of a key.
+     *
+     * @param key
+     *      element key
+     * @return
+     *      index of the counter
+     */
+    private static int stripe(String key) {
+        return (key.hashCode() & 0x7fffffff) % VERSION_STRIPES;
+    }
+
+    /**
+     * Last values are only needed for refresh-ahead and stale values.
+     *
+     * @return
+     *      if last values are kept
+     */
+    private boolean isTracking() {
+        return getRefreshAheadDelay() > 0 || isServeStale();
+    }
+
+    /**
+     * Value with its loading date.
+     */
+    private static final class LoadedValue<T> {
+
+        /** loaded value. */
+        private final T value;
+
+        /** loading date. */
+        private final long loadedAt = System.currentTimeMillis();
+
+        /**
+         * Constructor.
+         *
+         * @param value
+         *      loaded value
+         */
+        private LoadedValue(T value) {
+            this.value = value;
+        }
+    }
+
+}
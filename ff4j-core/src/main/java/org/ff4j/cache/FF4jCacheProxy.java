@@ -1,6 +1,7 @@
 package org.ff4j.cache;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /*
  * #%L ff4j-core %% Copyright (C) 2013 Ff4J %% Licensed under the Apache License, Version 2.0 (the "License"); you may not use
@@ -13,13 +14,28 @@ import java.util.Collection;
  * governing permissions and limitations under the License. #L%
  */
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
+import org.ff4j.exception.FeatureNotFoundException;
+import org.ff4j.exception.GroupNotFoundException;
+import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.Property;
 import org.ff4j.property.store.PropertyStore;
+import org.ff4j.utils.Util;
 
 /**
  * Access to {@link FeatureStore} could generate some overhead and decrease performances. This is the reason why cache is provided
@@ -32,6 +48,9 @@ import org.ff4j.property.store.PropertyStore;
  */
 public class FF4jCacheProxy implements FeatureStore, PropertyStore {
 
+    /** Maximum number of absent keys remembered, beyond they are forgotten all at once. */
+    public static final int MAX_ABSENT_KEYS = 10000;
+
     /** Target feature store to be proxified to cache features. */
     private FeatureStore targetFeatureStore;
 
@@ -43,6 +62,57 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     
     /** Daemon to fetch data from target store to cache on a fixed delay basis. */
     private Store2CachePollingScheduler store2CachePoller = null;
+    
+    /** Notified each time the cache has been filled again from the target stores. */
+    private final List<Runnable> refreshListeners = new CopyOnWriteArrayList<Runnable>();
+    
+    /** Delay in milliseconds after which a cached element is reloaded in background (refresh-ahead), 0 to disable. */
+    private volatile long refreshAheadDelay = 0;
+    
+    /** Serve the last loaded element while reloading it and when target store fails. */
+    private volatile boolean serveStale = false;
+    
+    /** Executor for background loads, created on first use if not provided. */
+    private volatile Executor refreshExecutor;
+    
+    /** Time in milliseconds during which a key not found in target store is considered absent, 0 to disable. */
+    private volatile long negativeCacheTtl = 0;
+    
+    /** Features not found in target store with the expiry date of this information. */
+    private final ConcurrentMap<String, Long> absentFeatures = new ConcurrentHashMap<String, Long>();
+    
+    /** Properties not found in target store with the expiry date of this information. */
+    private final ConcurrentMap<String, Long> absentProperties = new ConcurrentHashMap<String, Long>();
+    
+    /** Uids of all features in target store, known once the poller filled the cache, null otherwise. */
+    private volatile Set<String> featureSnapshot;
+    
+    /** Names of all properties in target store, known once the poller filled the cache, null otherwise. */
+    private volatile Set<String> propertySnapshot;
+    
+    /** Loads features from target store (single-flight, refresh-ahead). */
+    private final CacheLoader<Feature> featureLoader = new CacheLoader<Feature>() {
+        protected Feature getFromCache(String key)            { return getCacheManager().getFeature(key);   }
+        protected Feature readFromTarget(String key)          { return getTargetFeatureStore().read(key);   }
+        protected void putInCache(String key, Feature value)  { getCacheManager().putFeature(value);        }
+        protected void evictFromCache(String key)             { getCacheManager().evictFeature(key);        }
+        protected boolean isNotFound(RuntimeException error)  { return error instanceof FeatureNotFoundException; }
+        protected Executor getExecutor()                      { return getRefreshExecutor();                }
+        protected long getRefreshAheadDelay()                 { return refreshAheadDelay;                   }
+        protected boolean isServeStale()                      { return serveStale;                          }
+    };
+    
+    /** Loads properties from target store (single-flight, refresh-ahead). */
+    private final CacheLoader<Property<?>> propertyLoader = new CacheLoader<Property<?>>() {
+        protected Property<?> getFromCache(String key)           { return getCacheManager().getProperty(key);        }
+        protected Property<?> readFromTarget(String key)         { return getTargetPropertyStore().readProperty(key); }
+        protected void putInCache(String key, Property<?> value) { getCacheManager().putProperty(value);             }
+        protected void evictFromCache(String key)                { getCacheManager().evictProperty(key);             }
+        protected boolean isNotFound(RuntimeException error)     { return error instanceof PropertyNotFoundException; }
+        protected Executor getExecutor()                         { return getRefreshExecutor();                     }
+        protected long getRefreshAheadDelay()                    { return refreshAheadDelay;                        }
+        protected boolean isServeStale()                         { return serveStale;                               }
+    };
 
     /**
      * Allow Ioc and defeine default constructor.
@@ -61,7 +131,44 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         this.cacheManager        = cache;
         this.targetFeatureStore  = fStore;
         this.targetPropertyStore = pStore;
-        this.store2CachePoller   = new Store2CachePollingScheduler(fStore, pStore, cache);
+        final Store2CachePollingScheduler poller = new Store2CachePollingScheduler(fStore, pStore, cache);
+        poller.setOnRefresh(new Runnable() {
+            @Override
+            public void run() {
+                cacheLoaded(poller.getLoadedFeatureUids(), poller.getLoadedPropertyNames());
+                fireCacheRefreshed();
+            }
+        });
+        this.store2CachePoller = poller;
+    }
+    
+    /**
+     * Register a listener invoked each time the poller has filled the cache again.
+     *
+     * @param listener
+     *      callback
+     */
+    public void addRefreshListener(Runnable listener) {
+        refreshListeners.add(listener);
+    }
+    
+    /**
+     * Remove a listener.
+     *
+     * @param listener
+     *      callback
+     */
+    public void removeRefreshListener(Runnable listener) {
+        refreshListeners.remove(listener);
+    }
+    
+    /**
+     * Notify listeners that the cache has been filled again from the target stores.
+     */
+    public void fireCacheRefreshed() {
+        for (Runnable listener : refreshListeners) {
+            listener.run();
+        }
     }
     
     /**
@@ -90,7 +197,7 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         // Reach target
         getTargetFeatureStore().enable(featureId);
         // Modification => flush cache
-        getCacheManager().evictFeature(featureId);
+        evictFeature(featureId);
     }
 
     /** {@inheritDoc} */
@@ -99,17 +206,30 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         // Reach target
         getTargetFeatureStore().disable(featureId);
         // Cache Operations : As modification, flush cache for this
-        getCacheManager().evictFeature(featureId);
+        evictFeature(featureId);
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean exist(String featureId) {
-        // not in cache but maybe created from last access
-        if (getCacheManager().getFeature(featureId) == null) {
-            return getTargetFeatureStore().exist(featureId);
+        if (getCacheManager().getFeature(featureId) != null) {
+            return true;
         }
-        return true;
+        Set<String> snapshot = featureSnapshot;
+        if (snapshot != null && featureId != null && snapshot.contains(featureId)) {
+            return true;
+        }
+        if (isMissing(absentFeatures, featureId)) {
+            return false;
+        }
+        // not in cache but maybe created from last access, even after the snapshot
+        boolean exist = getTargetFeatureStore().exist(featureId);
+        if (exist) {
+            addToSnapshot(snapshot, featureId);
+        } else {
+            markAbsent(absentFeatures, featureId);
+        }
+        return exist;
     }
     
     /** {@inheritDoc} */
@@ -126,32 +246,137 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     public void create(Feature fp) {
         getTargetFeatureStore().create(fp);
         getCacheManager().putFeature(fp);
+        absentFeatures.remove(fp.getUid());
+        Set<String> snapshot = featureSnapshot;
+        if (snapshot != null) {
+            snapshot.add(fp.getUid());
+        }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Read from cache, concurrent misses on the same feature share a single access to target store.
+     *
+     * {@inheritDoc}
+     */
     @Override
     public Feature read(String featureUid) {
-        Feature fp = getCacheManager().getFeature(featureUid);
-        // not in cache but may has been created from now
-        if (null == fp) {
-            fp = getTargetFeatureStore().read(featureUid);
-            getCacheManager().putFeature(fp);
+        if (isMissing(absentFeatures, featureUid)) {
+            throw new FeatureNotFoundException(featureUid);
+        }
+        Set<String> snapshot = featureSnapshot;
+        try {
+            // not in cache but may has been created from now, even after the snapshot
+            Feature fp = featureLoader.get(featureUid);
+            addToSnapshot(snapshot, featureUid);
+            return fp;
+        } catch (FeatureNotFoundException fnfe) {
+            if (snapshot != null) {
+                snapshot.remove(featureUid);
+            }
+            markAbsent(absentFeatures, featureUid);
+            throw fnfe;
         }
-        return fp;
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readAll() {
-        // Cannot be sure of whole cache - do not test any feature one-by-one : accessing FeatureStore
-        return getTargetFeatureStore().readAll();
+        Set<String> snapshot = featureSnapshot;
+        if (snapshot == null) {
+            // Cannot be sure of whole cache - do not test any feature one-by-one : accessing FeatureStore
+            return getTargetFeatureStore().readAll();
+        }
+        Map<String, Feature> features = getCachedFeatures(snapshot);
+        List<String> misses = new ArrayList<String>();
+        for (String uid : snapshot) {
+            if (!features.containsKey(uid)) {
+                misses.add(uid);
+            }
+        }
+        // Expired or evicted since the snapshot : single call to target
+        if (!misses.isEmpty()) {
+            Map<String, Long> versions = versions(featureLoader, misses);
+            Map<String, Feature> loaded = getTargetFeatureStore().readFeatures(misses);
+            for (String uid : misses) {
+                Feature fp = loaded.get(uid);
+                if (fp == null) {
+                    snapshot.remove(uid);
+                } else {
+                    featureLoader.putLoaded(uid, fp, versions.get(uid));
+                    features.put(uid, fp);
+                }
+            }
+        }
+        return features;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        Set<String> snapshot = featureSnapshot;
+        Map<String, Feature> found = getCachedFeatures(featureUids);
+        List<String> misses = new ArrayList<String>();
+        for (String uid : featureUids) {
+            if (!found.containsKey(uid) && !isMissing(absentFeatures, uid)) {
+                misses.add(uid);
+            }
+        }
+        // Only cache misses reach the target, in a single call
+        if (!misses.isEmpty()) {
+            Map<String, Long> versions = versions(featureLoader, misses);
+            Map<String, Feature> loaded = getTargetFeatureStore().readFeatures(misses);
+            for (String uid : misses) {
+                Feature fp = loaded.get(uid);
+                if (fp == null) {
+                    markAbsent(absentFeatures, uid);
+                } else {
+                    featureLoader.putLoaded(uid, fp, versions.get(uid));
+                    addToSnapshot(snapshot, uid);
+                    found.put(uid, fp);
+                }
+            }
+        }
+        return Util.keepRequestedOrder(featureUids, found);
+    }
+
+    /**
+     * Read features from cache, with a single call when the cache manager is a {@link BulkCacheReader}.
+     *
+     * @param featureUids
+     *      feature identifiers
+     * @return
+     *      cached features per identifier (mutable)
+     */
+    private Map<String, Feature> getCachedFeatures(Collection<String> featureUids) {
+        FF4JCacheManager cache = getCacheManager();
+        if (cache instanceof BulkCacheReader) {
+            return new HashMap<String, Feature>(((BulkCacheReader) cache).getFeatures(featureUids));
+        }
+        Map<String, Feature> cached = new HashMap<String, Feature>();
+        for (String uid : featureUids) {
+            Feature fp = cache.getFeature(uid);
+            if (fp != null) {
+                cached.put(uid, fp);
+            }
+        }
+        return cached;
     }
 
     /** {@inheritDoc} */
     @Override
     public Set<String> readAllGroups() {
-        // Cannot be sure of whole cache - do not test any feature one-by-one : accessing FeatureStore
-        return getTargetFeatureStore().readAllGroups();
+        if (featureSnapshot == null) {
+            // Cannot be sure of whole cache - do not test any feature one-by-one : accessing FeatureStore
+            return getTargetFeatureStore().readAllGroups();
+        }
+        Set<String> groups = new HashSet<String>();
+        for (Feature fp : readAll().values()) {
+            groups.add(fp.getGroup());
+        }
+        groups.remove(null);
+        groups.remove("");
+        return groups;
     }
 
     /** {@inheritDoc} */
@@ -160,28 +385,33 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         // Access target store
         getTargetFeatureStore().delete(featureId);
         // even is not present, evict won't failed
-        getCacheManager().evictFeature(featureId);
+        evictFeature(featureId);
+        Set<String> snapshot = featureSnapshot;
+        if (snapshot != null) {
+            snapshot.remove(featureId);
+        }
+        markAbsent(absentFeatures, featureId);
     }
 
     /** {@inheritDoc} */
     @Override
     public void update(Feature fp) {
         getTargetFeatureStore().update(fp);
-        getCacheManager().evictFeature(fp.getUid());
+        evictFeature(fp.getUid());
     }
 
     /** {@inheritDoc} */
     @Override
     public void grantRoleOnFeature(String featureId, String roleName) {
         getTargetFeatureStore().grantRoleOnFeature(featureId, roleName);
-        getCacheManager().evictFeature(featureId);
+        evictFeature(featureId);
     }
 
     /** {@inheritDoc} */
     @Override
     public void removeRoleFromFeature(String featureId, String roleName) {
         getTargetFeatureStore().removeRoleFromFeature(featureId, roleName);
-        getCacheManager().evictFeature(featureId);
+        evictFeature(featureId);
     }
 
     /** {@inheritDoc} */
@@ -189,7 +419,7 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     public void enableGroup(String groupName) {
         getTargetFeatureStore().enableGroup(groupName);
         // Cannot know wich feature to work with (exceptional event) : flush cache
-        getCacheManager().clearFeatures();
+        clearFeatures();
     }
 
     /** {@inheritDoc} */
@@ -197,36 +427,363 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     public void disableGroup(String groupName) {
         getTargetFeatureStore().disableGroup(groupName);
         // Cannot know wich feature to work with (exceptional event) : flush cache
-        getCacheManager().clearFeatures();
+        clearFeatures();
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean existGroup(String groupName) {
-        // Cache cannot help you
-        return getTargetFeatureStore().existGroup(groupName);
+        if (featureSnapshot == null) {
+            // Cache cannot help you
+            return getTargetFeatureStore().existGroup(groupName);
+        }
+        Util.assertHasLength(groupName);
+        return !readGroupFromSnapshot(groupName).isEmpty();
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readGroup(String groupName) {
-        // Cache cannot help you
-        return getTargetFeatureStore().readGroup(groupName);
+        if (featureSnapshot == null) {
+            // Cache cannot help you
+            return getTargetFeatureStore().readGroup(groupName);
+        }
+        Util.assertHasLength(groupName);
+        Map<String, Feature> features = readGroupFromSnapshot(groupName);
+        if (features.isEmpty()) {
+            throw new GroupNotFoundException(groupName);
+        }
+        return features;
+    }
+    
+    /**
+     * Features of a group from the cached features.
+     *
+     * @param groupName
+     *            target group
+     * @return
+     *            features of the group, empty if it does not exist
+     */
+    private Map<String, Feature> readGroupFromSnapshot(String groupName) {
+        Map<String, Feature> features = new HashMap<String, Feature>();
+        for (Feature fp : readAll().values()) {
+            if (groupName.equals(fp.getGroup())) {
+                features.put(fp.getUid(), fp);
+            }
+        }
+        return features;
     }
 
     /** {@inheritDoc} */
     @Override
     public void addToGroup(String featureId, String groupName) {
         getTargetFeatureStore().addToGroup(featureId, groupName);
-        getCacheManager().evictFeature(featureId);
+        evictFeature(featureId);
     }
 
     /** {@inheritDoc} */
     @Override
     public void removeFromGroup(String featureId, String groupName) {
         getTargetFeatureStore().removeFromGroup(featureId, groupName);
+        evictFeature(featureId);
+    }
+
+    /**
+     * Remove feature from cache, its last value is not served anymore.
+     *
+     * @param featureId
+     *            feature identifier
+     */
+    private void evictFeature(String featureId) {
+        // Invalidated first, a load in progress does not put the old value back
+        featureLoader.invalidate(featureId);
         getCacheManager().evictFeature(featureId);
     }
+    
+    /**
+     * Remove property from cache, its last value is not served anymore.
+     *
+     * @param propertyName
+     *            property name
+     */
+    private void evictProperty(String propertyName) {
+        propertyLoader.invalidate(propertyName);
+        getCacheManager().evictProperty(propertyName);
+    }
+    
+    /**
+     * Versions of keys taken before reading them from target store in bulk : an element invalidated during
+     * the read is not put in cache.
+     *
+     * @param loader
+     *            loader of the elements
+     * @param keys
+     *            keys about to be read
+     * @return
+     *            version per key
+     */
+    private static Map<String, Long> versions(CacheLoader<?> loader, Collection<String> keys) {
+        Map<String, Long> versions = new HashMap<String, Long>();
+        for (String key : keys) {
+            if (key != null) {
+                versions.put(key, loader.version(key));
+            }
+        }
+        return versions;
+    }
+    
+    /**
+     * Remove all features from cache.
+     */
+    private void clearFeatures() {
+        featureLoader.invalidateAll();
+        getCacheManager().clearFeatures();
+    }
+    
+    /**
+     * Remove all properties from cache.
+     */
+    private void clearProperties() {
+        propertyLoader.invalidateAll();
+        getCacheManager().clearProperties();
+    }
+    
+    /**
+     * Tell if a key is not in target store according to recent accesses. The snapshot is not used : a key created
+     * in target store by another node since the snapshot must still be found.
+     *
+     * @param absents
+     *            absent keys with expiry
+     * @param key
+     *            target key
+     * @return
+     *            if the key is known as missing
+     */
+    private boolean isMissing(ConcurrentMap<String, Long> absents, String key) {
+        if (key == null) {
+            // Let target store validate
+            return false;
+        }
+        return isAbsent(absents, key);
+    }
+    
+    /**
+     * Key found in target store is listed by {@link #readAll()} and {@link #listPropertyNames()} from now.
+     *
+     * @param snapshot
+     *            all keys of target store if known, or null
+     * @param key
+     *            key found in target store
+     */
+    private static void addToSnapshot(Set<String> snapshot, String key) {
+        if (snapshot != null && key != null) {
+            snapshot.add(key);
+        }
+    }
+    
+    /**
+     * Tell if a key has been found absent from target store recently.
+     *
+     * @param absents
+     *            absent keys with expiry
+     * @param key
+     *            target key
+     * @return
+     *            if the key is known as absent
+     */
+    private boolean isAbsent(ConcurrentMap<String, Long> absents, String key) {
+        Long expiry = absents.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() < expiry) {
+            return true;
+        }
+        absents.remove(key, expiry);
+        return false;
+    }
+    
+    /**
+     * Remember that a key does not exist in target store.
+     *
+     * @param absents
+     *            absent keys with expiry
+     * @param key
+     *            target key
+     */
+    private void markAbsent(ConcurrentMap<String, Long> absents, String key) {
+        long ttl = negativeCacheTtl;
+        if (ttl > 0) {
+            if (absents.size() >= MAX_ABSENT_KEYS) {
+                absents.clear();
+            }
+            absents.put(key, System.currentTimeMillis() + ttl);
+        }
+    }
+    
+    /**
+     * Target stores have been fully loaded in cache by the poller. The keys are kept to serve {@link #readAll()},
+     * groups and {@link #readAllProperties()} without accessing target stores. Single keys missing from the
+     * snapshot are still looked up in target stores.
+     *
+     * @param featureUids
+     *            uids of all features, null if not loaded
+     * @param propertyNames
+     *            names of all properties, null if not loaded
+     */
+    void cacheLoaded(Set<String> featureUids, Set<String> propertyNames) {
+        featureSnapshot  = newSnapshot(featureUids);
+        propertySnapshot = newSnapshot(propertyNames);
+        absentFeatures.clear();
+        absentProperties.clear();
+    }
+    
+    /**
+     * Copy loaded keys.
+     *
+     * @param keys
+     *            keys loaded in cache
+     * @return
+     *            modifiable snapshot of keys, null if not loaded
+     */
+    private static Set<String> newSnapshot(Set<String> keys) {
+        if (keys == null) {
+            return null;
+        }
+        Set<String> snapshot = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        snapshot.addAll(keys);
+        return snapshot;
+    }
+    
+    /**
+     * Forget everything known about keys of target stores (bulk modifications).
+     */
+    private void clearSnapshots() {
+        featureSnapshot  = null;
+        propertySnapshot = null;
+        absentFeatures.clear();
+        absentProperties.clear();
+    }
+    
+    /**
+     * Getter accessor for attribute 'negativeCacheTtl'.
+     *
+     * @return
+     *       current value of 'negativeCacheTtl'
+     */
+    public long getNegativeCacheTtl() {
+        return negativeCacheTtl;
+    }
+
+    /**
+     * Setter accessor for attribute 'negativeCacheTtl'. A feature or property not found in target store is
+     * then reported as absent during this time without accessing target store again, unless created through
+     * this proxy.
+     * 
+     * @param negativeCacheTtl
+     * 		new value for 'negativeCacheTtl ', in milliseconds, 0 to disable
+     */
+    public void setNegativeCacheTtl(long negativeCacheTtl) {
+        if (negativeCacheTtl <= 0) {
+            absentFeatures.clear();
+            absentProperties.clear();
+        }
+        this.negativeCacheTtl = negativeCacheTtl;
+    }
+
+    /**
+     * Enable refresh-ahead and stale values with a fraction of the time-to-live of cache entries.
+     * 
+     * <p>An element loaded more than 'fraction * timeToLive' ago is reloaded in background while the cached one is
+     * served, an expired element is served while reloaded, and the last loaded element is served if the target
+     * store fails. Accesses to target store are then bounded by the number of elements per time-to-live.</p>
+     *
+     * @param timeToLive
+     *            time-to-live of cache entries in milliseconds
+     * @param fraction
+     *            fraction of time-to-live triggering the reload, between 0 (excluded) and 1
+     */
+    public void setRefreshAhead(long timeToLive, double fraction) {
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Time-to-live must be positive");
+        }
+        if (fraction <= 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction of time-to-live must be in ]0, 1]");
+        }
+        this.refreshAheadDelay = Math.max(1, (long) (timeToLive * fraction));
+        this.serveStale = true;
+    }
+
+    /**
+     * Getter accessor for attribute 'refreshAheadDelay'.
+     *
+     * @return
+     *       current value of 'refreshAheadDelay'
+     */
+    public long getRefreshAheadDelay() {
+        return refreshAheadDelay;
+    }
+
+    /**
+     * Setter accessor for attribute 'refreshAheadDelay'.
+     * @param refreshAheadDelay
+     * 		new value for 'refreshAheadDelay ', in milliseconds, 0 to disable
+     */
+    public void setRefreshAheadDelay(long refreshAheadDelay) {
+        this.refreshAheadDelay = refreshAheadDelay;
+    }
+
+    /**
+     * Getter accessor for attribute 'serveStale'.
+     *
+     * @return
+     *       current value of 'serveStale'
+     */
+    public boolean isServeStale() {
+        return serveStale;
+    }
+
+    /**
+     * Setter accessor for attribute 'serveStale'.
+     * @param serveStale
+     * 		new value for 'serveStale '
+     */
+    public void setServeStale(boolean serveStale) {
+        this.serveStale = serveStale;
+    }
+
+    /**
+     * Getter accessor for attribute 'refreshExecutor', a daemon thread is created on first use if not provided.
+     *
+     * @return
+     *       current value of 'refreshExecutor'
+     */
+    public Executor getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            synchronized (refreshListeners) {
+                if (refreshExecutor == null) {
+                    refreshExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread t = new Thread(r, "FF4j_CacheRefresh");
+                            t.setDaemon(true);
+                            return t;
+                        }
+                    });
+                }
+            }
+        }
+        return refreshExecutor;
+    }
+
+    /**
+     * Setter accessor for attribute 'refreshExecutor'.
+     * @param refreshExecutor
+     * 		new value for 'refreshExecutor '
+     */
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
 
     /**
      * Getter accessor for attribute 'target'.
@@ -298,17 +855,108 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     /** {@inheritDoc} */
     @Override
     public Map<String, Property<?>> readAllProperties() {
-        return getTargetPropertyStore().readAllProperties();
+        Set<String> snapshot = propertySnapshot;
+        if (snapshot == null) {
+            return getTargetPropertyStore().readAllProperties();
+        }
+        Map<String, Property<?>> properties = getCachedProperties(snapshot);
+        List<String> misses = new ArrayList<String>();
+        for (String name : snapshot) {
+            if (!properties.containsKey(name)) {
+                misses.add(name);
+            }
+        }
+        // Expired or evicted since the snapshot : single call to target
+        if (!misses.isEmpty()) {
+            Map<String, Long> versions = versions(propertyLoader, misses);
+            Map<String, Property<?>> loaded = getTargetPropertyStore().readProperties(misses);
+            for (String name : misses) {
+                Property<?> fp = loaded.get(name);
+                if (fp == null) {
+                    snapshot.remove(name);
+                } else {
+                    propertyLoader.putLoaded(name, fp, versions.get(name));
+                    properties.put(name, fp);
+                }
+            }
+        }
+        return properties;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        Set<String> snapshot = propertySnapshot;
+        Map<String, Property<?>> found = getCachedProperties(names);
+        List<String> misses = new ArrayList<String>();
+        for (String name : names) {
+            if (!found.containsKey(name) && !isMissing(absentProperties, name)) {
+                misses.add(name);
+            }
+        }
+        // Only cache misses reach the target, in a single call
+        if (!misses.isEmpty()) {
+            Map<String, Long> versions = versions(propertyLoader, misses);
+            Map<String, Property<?>> loaded = getTargetPropertyStore().readProperties(misses);
+            for (String name : misses) {
+                Property<?> fp = loaded.get(name);
+                if (fp == null) {
+                    markAbsent(absentProperties, name);
+                } else {
+                    propertyLoader.putLoaded(name, fp, versions.get(name));
+                    addToSnapshot(snapshot, name);
+                    found.put(name, fp);
+                }
+            }
+        }
+        return Util.keepRequestedOrder(names, found);
+    }
+
+    /**
+     * Read properties from cache, with a single call when the cache manager is a {@link BulkCacheReader}.
+     *
+     * @param names
+     *      property names
+     * @return
+     *      cached properties per name (mutable)
+     */
+    private Map<String, Property<?>> getCachedProperties(Collection<String> names) {
+        FF4JCacheManager cache = getCacheManager();
+        if (cache instanceof BulkCacheReader) {
+            return new HashMap<String, Property<?>>(((BulkCacheReader) cache).getProperties(names));
+        }
+        Map<String, Property<?>> cached = new HashMap<String, Property<?>>();
+        for (String name : names) {
+            Property<?> fp = cache.getProperty(name);
+            if (fp != null) {
+                cached.put(name, fp);
+            }
+        }
+        return cached;
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean existProperty(String propertyName) {
-        // not in cache but maybe created from last access
-        if (getCacheManager().getProperty(propertyName) == null) {
-            return getTargetPropertyStore().existProperty(propertyName);
+        if (getCacheManager().getProperty(propertyName) != null) {
+            return true;
         }
-        return true;
+        Set<String> snapshot = propertySnapshot;
+        if (snapshot != null && propertyName != null && snapshot.contains(propertyName)) {
+            return true;
+        }
+        if (isMissing(absentProperties, propertyName)) {
+            return false;
+        }
+        // not in cache but maybe created from last access, even after the snapshot
+        boolean exist = getTargetPropertyStore().existProperty(propertyName);
+        if (exist) {
+            addToSnapshot(snapshot, propertyName);
+        } else {
+            markAbsent(absentProperties, propertyName);
+        }
+        return exist;
     }
 
     /** {@inheritDoc} */
@@ -316,23 +964,44 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     public <T> void createProperty(Property<T> property) {
         getTargetPropertyStore().createProperty(property);
         getCacheManager().putProperty(property);
+        absentProperties.remove(property.getName());
+        Set<String> snapshot = propertySnapshot;
+        if (snapshot != null) {
+            snapshot.add(property.getName());
+        }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Read from cache, concurrent misses on the same property share a single access to target store.
+     *
+     * {@inheritDoc}
+     */
     @Override
     public Property<?> readProperty(String name) {
-        Property<?> fp = getCacheManager().getProperty(name);
-        // not in cache but may has been created from now
-        if (null == fp) {
-            fp = getTargetPropertyStore().readProperty(name);
-            getCacheManager().putProperty(fp);
+        if (isMissing(absentProperties, name)) {
+            throw new PropertyNotFoundException(name);
+        }
+        Set<String> snapshot = propertySnapshot;
+        try {
+            // not in cache but may has been created from now, even after the snapshot
+            Property<?> fp = propertyLoader.get(name);
+            addToSnapshot(snapshot, name);
+            return fp;
+        } catch (PropertyNotFoundException pnfe) {
+            if (snapshot != null) {
+                snapshot.remove(name);
+            }
+            markAbsent(absentProperties, name);
+            throw pnfe;
         }
-        return fp;
     }
     
     /** {@inheritDoc} */
     @Override
     public Property<?> readProperty(String name, Property<?> defaultValue) {
+        if (isMissing(absentProperties, name)) {
+            return defaultValue;
+        }
         Property<?> fp = getCacheManager().getProperty(name);
         // Not in cache but may has been created from now
         // Or in cache but with different value that default
@@ -352,7 +1021,7 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         // Update value in target store
         getTargetPropertyStore().updateProperty(fp);
         // Remove from cache old value
-        getCacheManager().evictProperty(fp.getName());
+        evictProperty(fp.getName());
         // Add new value in the cache
         getCacheManager().putProperty(fp);
     }
@@ -363,7 +1032,7 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         // Update the property
         getTargetPropertyStore().updateProperty(propertyValue);
         // Update the cache accordirly
-        getCacheManager().evictProperty(propertyValue.getName());
+        evictProperty(propertyValue.getName());
         // Update the property in cache
         getCacheManager().putProperty(propertyValue);
     }
@@ -374,7 +1043,12 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
         // Access target store
         getTargetPropertyStore().deleteProperty(name);
         // even is not present, evict name failed
-        getCacheManager().evictProperty(name);
+        evictProperty(name);
+        Set<String> snapshot = propertySnapshot;
+        if (snapshot != null) {
+            snapshot.remove(name);
+        }
+        markAbsent(absentProperties, name);
     }
 
     /** {@inheritDoc} */
@@ -386,32 +1060,53 @@ public class FF4jCacheProxy implements FeatureStore, PropertyStore {
     /** {@inheritDoc} */
     @Override
     public Set<String> listPropertyNames() {
-        return getTargetPropertyStore().listPropertyNames();
+        Set<String> snapshot = propertySnapshot;
+        if (snapshot == null) {
+            return getTargetPropertyStore().listPropertyNames();
+        }
+        return new HashSet<String>(snapshot);
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
+        clearSnapshots();
         // Cache Operations : As modification, flush cache for this
-        getCacheManager().clearProperties();
+        clearProperties();
         getTargetPropertyStore().clear();
 
         // Cache Operations : As modification, flush cache for this
-        getCacheManager().clearFeatures();
+        clearFeatures();
         getTargetFeatureStore().clear();
     }
     
     /** {@inheritDoc} */
     public void importProperties(Collection<Property<?>> properties) {
-        getCacheManager().clearProperties();
+        clearSnapshots();
+        clearProperties();
         getTargetPropertyStore().importProperties(properties);
     }
 
     /** {@inheritDoc} */
     public void importFeatures(Collection<Feature> features) {
-        getCacheManager().clearFeatures();
+        clearSnapshots();
+        clearFeatures();
         getTargetFeatureStore().importFeatures(features);
     }
+    
+    /** {@inheritDoc} */
+    public void importProperties(Collection<Property<?>> properties, int batchSize, ImportListener listener) {
+        clearSnapshots();
+        clearProperties();
+        getTargetPropertyStore().importProperties(properties, batchSize, listener);
+    }
+
+    /** {@inheritDoc} */
+    public void importFeatures(Collection<Feature> features, int batchSize, ImportListener listener) {
+        clearSnapshots();
+        clearFeatures();
+        getTargetFeatureStore().importFeatures(features, batchSize, listener);
+    }
 
     /**
      * Setter accessor for attribute 'targetFeatureStore'.
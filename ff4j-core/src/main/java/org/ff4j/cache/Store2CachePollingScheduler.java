@@ -21,6 +21,7 @@ package org.ff4j.cache;
  */
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -105,6 +106,36 @@ public class Store2CachePollingScheduler implements Serializable{
         executor.scheduleWithFixedDelay(worker, initialDelay, pollingDelay, TimeUnit.MILLISECONDS);
     }
     
+    /**
+     * Callback invoked each time the cache has been filled from the stores.
+     *
+     * @param onRefresh
+     *      callback
+     */
+    public void setOnRefresh(Runnable onRefresh) {
+        worker.setOnRefresh(onRefresh);
+    }
+    
+    /**
+     * Uids of features read at last successful fetch.
+     *
+     * @return
+     *      uids of features, null if not fetched yet
+     */
+    public Set<String> getLoadedFeatureUids() {
+        return worker.getLoadedFeatureUids();
+    }
+    
+    /**
+     * Names of properties read at last successful fetch.
+     *
+     * @return
+     *      names of properties, null if not fetched yet
+     */
+    public Set<String> getLoadedPropertyNames() {
+        return worker.getLoadedPropertyNames();
+    }
+    
     /** Stop Polling. */
     public void stop() {
         if (executor != null) {
@@ -1,7 +1,9 @@
 package org.ff4j.cache;
 
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /*
  * #%L
@@ -50,6 +52,15 @@ public class Store2CachePollingWorker implements Runnable, Serializable {
     /** Cache proxy. */
     private FF4jCacheProxy ff4JCacheProxy;
     
+    /** Invoked after each successful fetch. */
+    private transient Runnable onRefresh;
+    
+    /** Uids of features read at last successful fetch. */
+    private transient volatile Set<String> loadedFeatureUids;
+    
+    /** Names of properties read at last successful fetch. */
+    private transient volatile Set<String> loadedPropertyNames;
+    
     /**
      * Parameterized constructor.
      *
@@ -96,9 +107,14 @@ public class Store2CachePollingWorker implements Runnable, Serializable {
                 // Clear cache
                 cacheManager.clearFeatures();
                 // Fill Cache
-                for (Feature f : mapOfFeatures.values()) {
-                    cacheManager.putFeature(f);
+                if (cacheManager instanceof BulkCacheWriter) {
+                    ((BulkCacheWriter) cacheManager).putFeatures(mapOfFeatures.values());
+                } else {
+                    for (Feature f : mapOfFeatures.values()) {
+                        cacheManager.putFeature(f);
+                    }
                 }
+                loadedFeatureUids = new HashSet<String>(mapOfFeatures.keySet());
             }
             
             if (sourcePropertyStore != null) {
@@ -107,13 +123,22 @@ public class Store2CachePollingWorker implements Runnable, Serializable {
                 // Clear cache
                 cacheManager.clearProperties();
                 // Fill Cache
-                for (Property<?> p : mapOfProperties.values()) {
-                    cacheManager.putProperty(p);
+                if (cacheManager instanceof BulkCacheWriter) {
+                    ((BulkCacheWriter) cacheManager).putProperties(mapOfProperties.values());
+                } else {
+                    for (Property<?> p : mapOfProperties.values()) {
+                        cacheManager.putProperty(p);
+                    }
                 }
+                loadedPropertyNames = new HashSet<String>(mapOfProperties.keySet());
             }
 
             if (ff4JCacheProxy!=null) {
                 ff4JCacheProxy.setCacheManager(cacheManager);
+                ff4JCacheProxy.cacheLoaded(loadedFeatureUids, loadedPropertyNames);
+                ff4JCacheProxy.fireCacheRefreshed();
+            } else if (onRefresh != null) {
+                onRefresh.run();
             }
             
         } catch (Exception ex) {
@@ -122,4 +147,33 @@ public class Store2CachePollingWorker implements Runnable, Serializable {
         }
     }
 
+    /**
+     * Setter accessor for attribute 'onRefresh'.
+     * @param onRefresh
+     * 		new value for 'onRefresh '
+     */
+    public void setOnRefresh(Runnable onRefresh) {
+        this.onRefresh = onRefresh;
+    }
+
+    /**
+     * Getter accessor for attribute 'loadedFeatureUids'.
+     *
+     * @return
+     *       uids of features read at last successful fetch, null if not fetched yet
+     */
+    public Set<String> getLoadedFeatureUids() {
+        return loadedFeatureUids;
+    }
+
+    /**
+     * Getter accessor for attribute 'loadedPropertyNames'.
+     *
+     * @return
+     *       names of properties read at last successful fetch, null if not fetched yet
+     */
+    public Set<String> getLoadedPropertyNames() {
+        return loadedPropertyNames;
+    }
+
 }
@@ -0,0 +1,469 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.Property;
+import org.ff4j.utils.Util;
+
+/**
+ * Small in-memory cache (L1) in front of a distributed {@link FF4JCacheManager} (L2).
+ *
+ * Most reads are served from local memory without network hop nor deserialization. Local entries live for a short
+ * time-to-live and the number of entries is bounded. Local entries are only filled by reads : modifications are
+ * written to the distributed cache and invalidate the local entry, so the asynchronous notification of our own write
+ * does not drop a fresh copy. When the distributed cache is a {@link CacheChangeNotifier} local entries are
+ * invalidated as soon as another node modifies them. Otherwise (or to plug another notification channel)
+ * {@link CacheChangeListener} methods can be invoked directly.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class TwoTierCacheManager implements FF4JCacheManager, BulkCacheWriter, BulkCacheReader, CacheChangeListener {
+
+    /** Default maximum number of local entries, per type. */
+    public static final int DEFAULT_LOCAL_SIZE = 1000;
+
+    /** Default time-to-live of local entries in seconds. */
+    public static final long DEFAULT_LOCAL_TTL = 5L;
+
+    /** Distributed cache (L2). */
+    private final FF4JCacheManager distributedCache;
+
+    /** Maximum number of local entries, per type. */
+    private final int localSize;
+
+    /** Time-to-live of local entries in seconds. */
+    private final long localTimeToLive;
+
+    /** Local features. */
+    private final ConcurrentMap<String, InMemoryCacheEntry<Feature>> localFeatures =
+            new ConcurrentHashMap<String, InMemoryCacheEntry<Feature>>();
+
+    /** Local properties. */
+    private final ConcurrentMap<String, InMemoryCacheEntry<Property<?>>> localProperties =
+            new ConcurrentHashMap<String, InMemoryCacheEntry<Property<?>>>();
+
+    /** Incremented on each feature invalidation, a value read from L2 before is not kept locally. */
+    private final AtomicLong featureChanges = new AtomicLong();
+
+    /** Incremented on each property invalidation, a value read from L2 before is not kept locally. */
+    private final AtomicLong propertyChanges = new AtomicLong();
+
+    /**
+     * Local cache with default size and time-to-live.
+     *
+     * @param distributedCache
+     *      distributed cache
+     */
+    public TwoTierCacheManager(FF4JCacheManager distributedCache) {
+        this(distributedCache, DEFAULT_LOCAL_SIZE, DEFAULT_LOCAL_TTL);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param distributedCache
+     *      distributed cache
+     * @param localSize
+     *      maximum number of local entries, per type
+     * @param localTimeToLive
+     *      time-to-live of local entries in seconds
+     */
+    public TwoTierCacheManager(FF4JCacheManager distributedCache, int localSize, long localTimeToLive) {
+        Util.assertNotNull(distributedCache);
+        if (localSize < 1) {
+            throw new IllegalArgumentException("Size of local cache must be positive");
+        }
+        if (localTimeToLive < 1) {
+            throw new IllegalArgumentException("Time-to-live of local cache must be positive");
+        }
+        this.distributedCache = distributedCache;
+        this.localSize        = localSize;
+        this.localTimeToLive  = localTimeToLive;
+        if (distributedCache instanceof CacheChangeNotifier) {
+            ((CacheChangeNotifier) distributedCache).addChangeListener(this);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCacheProviderName() {
+        return "InMemory+" + distributedCache.getCacheProviderName();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearFeatures() {
+        distributedCache.clearFeatures();
+        onFeaturesCleared();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearProperties() {
+        distributedCache.clearProperties();
+        onPropertiesCleared();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictFeature(String featureId) {
+        distributedCache.evictFeature(featureId);
+        onFeatureChanged(featureId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictProperty(String propertyName) {
+        distributedCache.evictProperty(propertyName);
+        onPropertyChanged(propertyName);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putFeature(Feature feat) {
+        distributedCache.putFeature(feat);
+        onFeatureChanged(feat.getUid());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putProperty(Property<?> prop) {
+        distributedCache.putProperty(prop);
+        onPropertyChanged(prop.getName());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putFeatures(Collection<Feature> features) {
+        if (distributedCache instanceof BulkCacheWriter) {
+            ((BulkCacheWriter) distributedCache).putFeatures(features);
+        } else {
+            for (Feature feat : features) {
+                distributedCache.putFeature(feat);
+            }
+        }
+        // Local copies are loaded again on access
+        for (Feature feat : features) {
+            onFeatureChanged(feat.getUid());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putProperties(Collection<Property<?>> properties) {
+        if (distributedCache instanceof BulkCacheWriter) {
+            ((BulkCacheWriter) distributedCache).putProperties(properties);
+        } else {
+            for (Property<?> prop : properties) {
+                distributedCache.putProperty(prop);
+            }
+        }
+        // Local copies are loaded again on access
+        for (Property<?> prop : properties) {
+            onPropertyChanged(prop.getName());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Feature getFeature(String featureId) {
+        if (featureId == null) {
+            return distributedCache.getFeature(featureId);
+        }
+        Feature local = getLocal(localFeatures, featureId);
+        if (local != null) {
+            return local;
+        }
+        long changes = featureChanges.get();
+        Feature fp = distributedCache.getFeature(featureId);
+        // Not invalidated while reading L2
+        if (fp != null && changes == featureChanges.get()) {
+            putLocal(localFeatures, featureId, fp);
+        }
+        return fp;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Property<?> getProperty(String propertyName) {
+        if (propertyName == null) {
+            return distributedCache.getProperty(propertyName);
+        }
+        Property<?> local = getLocal(localProperties, propertyName);
+        if (local != null) {
+            return local;
+        }
+        long changes = propertyChanges.get();
+        Property<?> prop = distributedCache.getProperty(propertyName);
+        // Not invalidated while reading L2
+        if (prop != null && changes == propertyChanges.get()) {
+            putLocal(localProperties, propertyName, prop);
+        }
+        return prop;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> getFeatures(Collection<String> featureIds) {
+        Util.assertNotNull(featureIds);
+        Map<String, Feature> features = new HashMap<String, Feature>();
+        List<String> misses = new ArrayList<String>();
+        for (String featureId : featureIds) {
+            Feature local = getLocal(localFeatures, featureId);
+            if (local != null) {
+                features.put(featureId, local);
+            } else {
+                misses.add(featureId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long changes = featureChanges.get();
+            Map<String, Feature> distributed = getDistributedFeatures(misses);
+            for (Map.Entry<String, Feature> entry : distributed.entrySet()) {
+                // Not invalidated while reading L2
+                if (changes == featureChanges.get()) {
+                    putLocal(localFeatures, entry.getKey(), entry.getValue());
+                }
+                features.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return features;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> getProperties(Collection<String> propertyNames) {
+        Util.assertNotNull(propertyNames);
+        Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+        List<String> misses = new ArrayList<String>();
+        for (String propertyName : propertyNames) {
+            Property<?> local = getLocal(localProperties, propertyName);
+            if (local != null) {
+                properties.put(propertyName, local);
+            } else {
+                misses.add(propertyName);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long changes = propertyChanges.get();
+            Map<String, Property<?>> distributed = getDistributedProperties(misses);
+            for (Map.Entry<String, Property<?>> entry : distributed.entrySet()) {
+                // Not invalidated while reading L2
+                if (changes == propertyChanges.get()) {
+                    putLocal(localProperties, entry.getKey(), entry.getValue());
+                }
+                properties.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Read features from L2, with a single call when it is a {@link BulkCacheReader}.
+     *
+     * @param featureIds
+     *      feature identifiers
+     * @return
+     *      features found in L2
+     */
+    private Map<String, Feature> getDistributedFeatures(Collection<String> featureIds) {
+        if (distributedCache instanceof BulkCacheReader) {
+            return ((BulkCacheReader) distributedCache).getFeatures(featureIds);
+        }
+        Map<String, Feature> features = new HashMap<String, Feature>();
+        for (String featureId : featureIds) {
+            Feature fp = distributedCache.getFeature(featureId);
+            if (fp != null) {
+                features.put(featureId, fp);
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Read properties from L2, with a single call when it is a {@link BulkCacheReader}.
+     *
+     * @param propertyNames
+     *      property names
+     * @return
+     *      properties found in L2
+     */
+    private Map<String, Property<?>> getDistributedProperties(Collection<String> propertyNames) {
+        if (distributedCache instanceof BulkCacheReader) {
+            return ((BulkCacheReader) distributedCache).getProperties(propertyNames);
+        }
+        Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+        for (String propertyName : propertyNames) {
+            Property<?> prop = distributedCache.getProperty(propertyName);
+            if (prop != null) {
+                properties.put(propertyName, prop);
+            }
+        }
+        return properties;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> listCachedFeatureNames() {
+        return distributedCache.listCachedFeatureNames();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> listCachedPropertyNames() {
+        return distributedCache.listCachedPropertyNames();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getFeatureNativeCache() {
+        return distributedCache.getFeatureNativeCache();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getPropertyNativeCache() {
+        return distributedCache.getPropertyNativeCache();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFeatureChanged(String featureId) {
+        featureChanges.incrementAndGet();
+        if (featureId == null) {
+            // Unknown element
+            localFeatures.clear();
+        } else {
+            localFeatures.remove(featureId);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onPropertyChanged(String propertyName) {
+        propertyChanges.incrementAndGet();
+        if (propertyName == null) {
+            // Unknown element
+            localProperties.clear();
+        } else {
+            localProperties.remove(propertyName);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFeaturesCleared() {
+        featureChanges.incrementAndGet();
+        localFeatures.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onPropertiesCleared() {
+        propertyChanges.incrementAndGet();
+        localProperties.clear();
+    }
+
+    /**
+     * Read local entry.
+     *
+     * @param local
+     *      local entries
+     * @param key
+     *      entry key
+     * @return
+     *      value or null if not found or expired
+     */
+    private <T> T getLocal(ConcurrentMap<String, InMemoryCacheEntry<T>> local, String key) {
+        InMemoryCacheEntry<T> entry = local.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.hasReachTimeToLive()) {
+            local.remove(key, entry);
+            return null;
+        }
+        return entry.getEntry();
+    }
+
+    /**
+     * Keep entry locally, an arbitrary entry is removed when the local cache is full.
+     *
+     * @param local
+     *      local entries
+     * @param key
+     *      entry key
+     * @param value
+     *      entry value
+     */
+    private <T> void putLocal(ConcurrentMap<String, InMemoryCacheEntry<T>> local, String key, T value) {
+        if (local.size() >= localSize && !local.containsKey(key)) {
+            Iterator<String> keys = local.keySet().iterator();
+            if (keys.hasNext()) {
+                local.remove(keys.next());
+            }
+        }
+        local.put(key, new InMemoryCacheEntry<T>(value, localTimeToLive));
+    }
+
+    /**
+     * Getter accessor for attribute 'distributedCache'.
+     *
+     * @return
+     *       current value of 'distributedCache'
+     */
+    public FF4JCacheManager getDistributedCache() {
+        return distributedCache;
+    }
+
+    /**
+     * Getter accessor for attribute 'localSize'.
+     *
+     * @return
+     *       current value of 'localSize'
+     */
+    public int getLocalSize() {
+        return localSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'localTimeToLive'.
+     *
+     * @return
+     *       current value of 'localTimeToLive' in seconds
+     */
+    public long getLocalTimeToLive() {
+        return localTimeToLive;
+    }
+
+}
@@ -20,9 +20,14 @@ package org.ff4j.conf;
  * #L%
  */
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -36,16 +41,19 @@ import java.util.TreeSet;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.ff4j.core.Feature;
+import org.ff4j.core.FeatureStore;
 import org.ff4j.core.FlippingStrategy;
 import org.ff4j.property.Property;
 import org.ff4j.property.PropertyString;
+import org.ff4j.property.store.PropertyStore;
+import org.ff4j.strategy.FlippingStrategyFactory;
 import org.ff4j.utils.MappingUtil;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.NodeList;
 
 /**
  * Allow to parse XML files to load {@link Feature}.
@@ -171,333 +179,500 @@ public final class XmlParser {
     private static final String END_FF4J = "</ff4j>\n\n";
     public static final String ERROR_SYNTAX_IN_CONFIGURATION_FILE = "Error syntax in configuration file : ";
 
-    /** Document Builder use to parse XML. */
-    private static DocumentBuilder builder = null;
-   
+    /** Factory for StAX readers, created per parser as factories are not guaranteed to be thread-safe. */
+    private XMLInputFactory xmlInputFactory;
+
     /**
      * Parsing of XML Configuration file.
      *
-     * @param file
-     *      target file
+     * @param in
+     *      target stream
      * @return
      *      features and properties find within file
      */
     public XmlConfig parseConfigurationFile(InputStream in) {
+        // Object to be build by parsing
+        final XmlConfig xmlConf = new XmlConfig();
+        parseConfigurationFile(in, new XmlParserListener() {
+            /** {@inheritDoc} */
+            public void onFeature(Feature feature) {
+                xmlConf.getFeatures().put(feature.getUid(), feature);
+            }
+            /** {@inheritDoc} */
+            public void onProperty(Property<?> property) {
+                xmlConf.getProperties().put(property.getName(), property);
+            }
+        });
+        return xmlConf;
+    }
+
+    /**
+     * Streaming parsing of XML Configuration file : features and properties are sent to the listener one after
+     * another and the document is never loaded in memory.
+     *
+     * @param in
+     *      target stream
+     * @param listener
+     *      callback invoked for each feature and property
+     */
+    public void parseConfigurationFile(InputStream in, XmlParserListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        XMLStreamReader reader = null;
         try {
-            
-            // Object to be build by parsing
-            XmlConfig xmlConf = new XmlConfig();
-                
-            // Load XML as a Document
-            Document ff4jDocument = getDocumentBuilder().parse(in);
-            
-            // Features Tag
-            NodeList fList = ff4jDocument.getElementsByTagName(FEATURES_TAG);
-            if (fList.getLength() > 1) {
-                throw new IllegalArgumentException("Root Tag is 'features' and must be unique, please check");
-            } else if (fList.getLength() == 1) {
-                xmlConf.setFeatures(parseFeaturesTag( (Element) fList.item(0)));
+            if (in == null) {
+                throw new IllegalArgumentException("Inputstream cannot be null");
             }
-            
-            // Properties Tag
-            NodeList pList = ff4jDocument.getElementsByTagName(PROPERTIES_TAG);
-            if (pList.getLength() > 1) {
-                throw new IllegalArgumentException("Root Tag is 'properties' and must be unique, please check");
-            } else if (pList.getLength() == 1) {
-               xmlConf.setProperties(parsePropertiesTag((Element) pList.item(0)));
+            reader = getXmlInputFactory().createXMLStreamReader(in);
+            boolean featuresTagFound   = false;
+            boolean propertiesTagFound = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.DTD) {
+                    // -- Prevent against XXE @see https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Processing
+                    throw new IllegalArgumentException("DOCTYPE is not allowed in configuration file");
+                }
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (FEATURES_TAG.equals(reader.getLocalName())) {
+                        if (featuresTagFound) {
+                            throw new IllegalArgumentException("Root Tag is 'features' and must be unique, please check");
+                        }
+                        featuresTagFound = true;
+                        parseFeaturesTag(reader, listener);
+                    } else if (PROPERTIES_TAG.equals(reader.getLocalName())) {
+                        if (propertiesTagFound) {
+                            throw new IllegalArgumentException("Root Tag is 'properties' and must be unique, please check");
+                        }
+                        propertiesTagFound = true;
+                        parsePropertiesTag(reader, listener, null);
+                    }
+                }
             }
-            
-            return xmlConf;
-            
         } catch (Exception e) {
             throw new IllegalArgumentException("Cannot parse XML data, please check file access ", e);
+        } finally {
+            closeQuietly(reader);
         }
     }
-    
+
     /**
-     * Load map of {@link Feature} from an inpustream (containing xml text).
-     * 
+     * Stream XML Configuration file to stores with their bulk import, at most one batch is hold in memory.
+     *
      * @param in
-     *            inpustream with XML text
-     * @return the sorted map of features
-     * @throws IOException
-     *             exception raised when reading inputstream
+     *      target stream
+     * @param featureStore
+     *      target feature store (features are ignored if null)
+     * @param propertyStore
+     *      target property store (properties are ignored if null)
+     * @param batchSize
+     *      number of elements sent to the store at once
      */
-    public Map<String, Feature> parseFeaturesTag(Element featuresTag) {
-        Map<String, Feature> xmlFeatures = new LinkedHashMap<String, Feature>();
-        NodeList firstLevelNodes = featuresTag.getChildNodes();
-        for (int i = 0; i < firstLevelNodes.getLength(); i++) {
-            if (firstLevelNodes.item(i) instanceof Element) {
-                Element currentCore = (Element) firstLevelNodes.item(i);
-                if (FEATURE_TAG.equals(currentCore.getNodeName())) {
-                    Feature singleFeature = parseFeatureTag(currentCore);
-                    xmlFeatures.put(singleFeature.getUid(), singleFeature);
-                } else if (FEATUREGROUP_TAG.equals(currentCore.getNodeName())) {
-                    xmlFeatures.putAll(parseFeatureGroupTag(currentCore));
-                } else {
-                    throw new IllegalArgumentException("Invalid XML Format, Features sub nodes are [feature,feature-group]");
+    public void importConfigurationFile(InputStream in, final FeatureStore featureStore, final PropertyStore propertyStore, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        final List<Feature> features     = new ArrayList<Feature>(batchSize);
+        final List<Property<?>> properties = new ArrayList<Property<?>>(batchSize);
+        parseConfigurationFile(in, new XmlParserListener() {
+            /** {@inheritDoc} */
+            public void onFeature(Feature feature) {
+                if (featureStore != null) {
+                    features.add(feature);
+                    if (features.size() == batchSize) {
+                        featureStore.importFeatures(features, batchSize, null);
+                        features.clear();
+                    }
                 }
             }
+            /** {@inheritDoc} */
+            public void onProperty(Property<?> property) {
+                if (propertyStore != null) {
+                    properties.add(property);
+                    if (properties.size() == batchSize) {
+                        propertyStore.importProperties(properties, batchSize, null);
+                        properties.clear();
+                    }
+                }
+            }
+        });
+        if (!features.isEmpty()) {
+            featureStore.importFeatures(features, batchSize, null);
+        }
+        if (!properties.isEmpty()) {
+            propertyStore.importProperties(properties, batchSize, null);
+        }
+    }
+
+    /**
+     * Parse TAG &lt;features&gt;, reader is positioned on the start tag and left on the end tag.
+     *
+     * @param reader
+     *      current reader
+     * @param listener
+     *      callback for features
+     * @throws XMLStreamException
+     *      error when reading XML
+     */
+    private void parseFeaturesTag(XMLStreamReader reader, XmlParserListener listener) throws XMLStreamException {
+        while (nextChildTag(reader)) {
+            if (FEATURE_TAG.equals(reader.getLocalName())) {
+                listener.onFeature(parseFeatureTag(reader));
+            } else if (FEATUREGROUP_TAG.equals(reader.getLocalName())) {
+                parseFeatureGroupTag(reader, listener);
+            } else {
+                throw new IllegalArgumentException("Invalid XML Format, Features sub nodes are [feature,feature-group]");
+            }
         }
-        return xmlFeatures;
     }
 
     /**
      * Parse TAG &lt;feature-group&gt;.
      * 
-     * @param featGroupTag
-     *            feature group tag
-     * @return map of features
+     * @param reader
+     *      current reader positioned on feature group tag
+     * @param listener
+     *      callback for features
+     * @throws XMLStreamException
+     *      error when reading XML
      */
-    private Map<String, Feature> parseFeatureGroupTag(Element featGroupTag) {
-        NamedNodeMap nnm = featGroupTag.getAttributes();
-        String groupName;
-        if (nnm.getNamedItem(FEATUREGROUP_ATTNAME) == null) {
+    private void parseFeatureGroupTag(XMLStreamReader reader, XmlParserListener listener) throws XMLStreamException {
+        String groupName = reader.getAttributeValue(null, FEATUREGROUP_ATTNAME);
+        if (groupName == null) {
             throw new IllegalArgumentException("Error syntax in configuration featuregroup : must have 'name' attribute");
         }
-        groupName = nnm.getNamedItem(FEATUREGROUP_ATTNAME).getNodeValue();
-
-        Map<String, Feature> groupFeatures = new HashMap<String, Feature>();
-        NodeList listOfFeat = featGroupTag.getElementsByTagName(FEATURE_TAG);
-        for (int k = 0; k < listOfFeat.getLength(); k++) {
-            Feature f = parseFeatureTag((Element) listOfFeat.item(k));
-            // Insert feature into group
-            f.setGroup(groupName);
-            groupFeatures.put(f.getUid(), f);
+        while (nextChildTag(reader)) {
+            if (FEATURE_TAG.equals(reader.getLocalName())) {
+                Feature f = parseFeatureTag(reader);
+                // Insert feature into group
+                f.setGroup(groupName);
+                listener.onFeature(f);
+            } else {
+                skipTag(reader);
+            }
         }
-        return groupFeatures;
     }
 
     /**
      * Build a Feature from XML TAG.
      * 
-     * @param featXmlTag
-     *            xml tag to nuild feature
+     * @param reader
+     *      current reader positioned on feature tag
      * @return current feature
+     * @throws XMLStreamException
+     *      error when reading XML
      */
-    private Feature parseFeatureTag(Element featXmlTag) {
-        NamedNodeMap nnm = featXmlTag.getAttributes();
+    private Feature parseFeatureTag(XMLStreamReader reader) throws XMLStreamException {
         // Identifier
-        String uid;
-        if (nnm.getNamedItem(FEATURE_ATT_UID) == null) {
+        String uid = reader.getAttributeValue(null, FEATURE_ATT_UID);
+        if (uid == null) {
             throw new IllegalArgumentException(ERROR_SYNTAX_IN_CONFIGURATION_FILE + "'uid' is required for each feature");
         }
-        uid = nnm.getNamedItem(FEATURE_ATT_UID).getNodeValue();
         // Enable
-        if (nnm.getNamedItem(FEATURE_ATT_ENABLE) == null) {
+        String enable = reader.getAttributeValue(null, FEATURE_ATT_ENABLE);
+        if (enable == null) {
             throw new IllegalArgumentException(ERROR_SYNTAX_IN_CONFIGURATION_FILE
                     + "'enable' is required for each feature (check " + uid + ")");
         }
-        boolean enable = Boolean.parseBoolean(nnm.getNamedItem(FEATURE_ATT_ENABLE).getNodeValue());
 
         // Create Feature with description
-        Feature f = new Feature(uid, enable, parseDescription(nnm));
-        
-        // Strategy
-        NodeList flipStrategies = featXmlTag.getElementsByTagName(FLIPSTRATEGY_TAG);
-        if (flipStrategies.getLength() > 0) {
-            f.setFlippingStrategy(parseFlipStrategy((Element) flipStrategies.item(0), f.getUid()));
-        }
-        
-        // Security
-        NodeList securities = featXmlTag.getElementsByTagName(SECURITY_TAG);
-        if (securities.getLength() > 0) {
-            f.setPermissions(parseListAuthorizations((Element) securities.item(0)));
-        }
-        
-        // Properties
-        NodeList properties = featXmlTag.getElementsByTagName(PROPERTIES_CUSTOM_TAG);
-        if (properties.getLength() > 0) {
-            f.setCustomProperties(parsePropertiesTag((Element) properties.item(0)));
+        Feature f = new Feature(uid, Boolean.parseBoolean(enable), reader.getAttributeValue(null, FEATURE_ATT_DESC));
+        boolean securityFound = false;
+        boolean propertiesFound = false;
+        while (nextChildTag(reader)) {
+            String tag = reader.getLocalName();
+            if (FLIPSTRATEGY_TAG.equals(tag) && f.getFlippingStrategy() == null) {
+                // Strategy
+                f.setFlippingStrategy(parseFlipStrategy(reader, uid));
+            } else if (SECURITY_TAG.equals(tag) && !securityFound) {
+                // Security
+                securityFound = true;
+                f.setPermissions(parseListAuthorizations(reader));
+            } else if (PROPERTIES_CUSTOM_TAG.equals(tag) && !propertiesFound) {
+                // Properties
+                propertiesFound = true;
+                f.setCustomProperties(parsePropertiesTag(reader, null, new LinkedHashMap<String, Property<?>>()));
+            } else {
+                skipTag(reader);
+            }
         }
-
         return f;
     }
     
     /**
-     * Parse Properties.
+     * Parse Properties, each property is given to the listener or put in target map.
      *
-     * @param properties tag
-     * @param uid
-     *      current featureid
+     * @param reader
+     *      current reader positioned on properties tag
+     * @param listener
+     *      callback for properties if not null
+     * @param properties
+     *      target map used if listener is null
      * @return
      *      properties map
+     * @throws XMLStreamException
+     *      error when reading XML
      */
-    private Map < String , Property<?>> parsePropertiesTag(Element propertiesTag) {
-        Map< String , Property<?>> properties = new HashMap<String, Property<?>>(); 
-        // <properties>
-        NodeList lisOfProperties = propertiesTag.getElementsByTagName(PROPERTY_TAG);
-        for (int k = 0; k < lisOfProperties.getLength(); k++) {
-            // <property name='' value='' (type='') >
-            Element propertyTag = (Element) lisOfProperties.item(k);
-            NamedNodeMap attMap = propertyTag.getAttributes();
-            if (attMap.getNamedItem(PROPERTY_PARAMNAME) == null) {
-                throw new IllegalArgumentException("Invalid XML Syntax, 'name' is a required attribute of 'property' TAG");
-            }
-            if (attMap.getNamedItem(PROPERTY_PARAMVALUE) == null) {
-                throw new IllegalArgumentException("Invalid XML Syntax, 'value' is a required attribute of 'property' TAG");
-            }
-            String name  = attMap.getNamedItem(PROPERTY_PARAMNAME).getNodeValue();
-            String value = attMap.getNamedItem(PROPERTY_PARAMVALUE).getNodeValue();
-            Property<?> ap = new PropertyString(name, value);
-            
-            // If specific type defined ?
-            if (null != attMap.getNamedItem(PROPERTY_PARAMTYPE)) {
-                String optionalType = attMap.getNamedItem(PROPERTY_PARAMTYPE).getNodeValue();
-               
-                // Substitution if relevant (e.g. 'int' -> 'org.ff4j.property.PropertyInt')
-                optionalType = MappingUtil.mapPropertyType(optionalType);
-                
-                try {
-                    // Constructor (String, String) is mandatory in Property interface
-                    Constructor<?> constr = Class.forName(optionalType).getConstructor(String.class, String.class);
-                    ap = (Property<?>) constr.newInstance(name, value);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Cannot instantiate '" + optionalType + "' check default constructor", e);
+    private Map < String , Property<?>> parsePropertiesTag(XMLStreamReader reader, XmlParserListener listener, Map < String , Property<?>> properties)
+    throws XMLStreamException {
+        while (nextChildTag(reader)) {
+            if (PROPERTY_TAG.equals(reader.getLocalName())) {
+                Property<?> ap = parsePropertyTag(reader);
+                if (listener != null) {
+                    listener.onProperty(ap);
+                } else {
+                    properties.put(ap.getName(), ap);
                 }
+            } else {
+                skipTag(reader);
             }
-            
-            if (null != attMap.getNamedItem(PROPERTY_PARAMDESCRIPTION)) {
-                ap.setDescription(attMap.getNamedItem(PROPERTY_PARAMDESCRIPTION).getNodeValue());
+        }
+        return properties;
+    }
+
+    /**
+     * Parse a property : &lt;property name='' value='' (type='') &gt;.
+     *
+     * @param reader
+     *      current reader positioned on property tag
+     * @return
+     *      property
+     * @throws XMLStreamException
+     *      error when reading XML
+     */
+    private Property<?> parsePropertyTag(XMLStreamReader reader) throws XMLStreamException {
+        String name  = reader.getAttributeValue(null, PROPERTY_PARAMNAME);
+        if (name == null) {
+            throw new IllegalArgumentException("Invalid XML Syntax, 'name' is a required attribute of 'property' TAG");
+        }
+        String value = reader.getAttributeValue(null, PROPERTY_PARAMVALUE);
+        if (value == null) {
+            throw new IllegalArgumentException("Invalid XML Syntax, 'value' is a required attribute of 'property' TAG");
+        }
+        Property<?> ap = new PropertyString(name, value);
+
+        // If specific type defined ?
+        String optionalType = reader.getAttributeValue(null, PROPERTY_PARAMTYPE);
+        if (null != optionalType) {
+            // Substitution if relevant (e.g. 'int' -> 'org.ff4j.property.PropertyInt')
+            optionalType = MappingUtil.mapPropertyType(optionalType);
+            try {
+                // Constructor (String, String) is mandatory in Property interface
+                Constructor<?> constr = Class.forName(optionalType).getConstructor(String.class, String.class);
+                ap = (Property<?>) constr.newInstance(name, value);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Cannot instantiate '" + optionalType + "' check default constructor", e);
             }
-            
-            // Is there any fixed Value ?
-            NodeList listOfFixedValue = propertyTag.getElementsByTagName(PROPERTY_PARAMFIXED_VALUES);
-            if (listOfFixedValue.getLength() != 0) {
-                Element fixedValueTag = (Element) listOfFixedValue.item(0);
-                NodeList listOfValues =  fixedValueTag.getElementsByTagName(PROPERTY_PARAMVALUE);
-                for (int l = 0; l < listOfValues.getLength(); l++) {
-                    Element valueTag = (Element) listOfValues.item(l);
-                    ap.add2FixedValueFromString(valueTag.getTextContent());
+        }
+
+        String description = reader.getAttributeValue(null, PROPERTY_PARAMDESCRIPTION);
+        if (null != description) {
+            ap.setDescription(description);
+        }
+
+        // Is there any fixed Value ?
+        boolean fixedValuesFound = false;
+        while (nextChildTag(reader)) {
+            if (PROPERTY_PARAMFIXED_VALUES.equals(reader.getLocalName()) && !fixedValuesFound) {
+                fixedValuesFound = true;
+                while (nextChildTag(reader)) {
+                    if (PROPERTY_PARAMVALUE.equals(reader.getLocalName())) {
+                        ap.add2FixedValueFromString(reader.getElementText());
+                    } else {
+                        skipTag(reader);
+                    }
                 }
+            } else {
+                skipTag(reader);
             }
-            
-            // Check fixed value
-            if (ap.getFixedValues() != null && !ap.getFixedValues().contains(ap.getValue())) {
-                throw new IllegalArgumentException("Cannot create property <" + ap.getName() + 
-                        "> invalid value <" + ap.getValue() + 
-                        "> expected one of " + ap.getFixedValues());
-            }
-            
-            properties.put(name, ap);
         }
-        return properties;
+
+        // Check fixed value
+        if (ap.getFixedValues() != null && !ap.getFixedValues().contains(ap.getValue())) {
+            throw new IllegalArgumentException("Cannot create property <" + ap.getName() + 
+                    "> invalid value <" + ap.getValue() + 
+                    "> expected one of " + ap.getFixedValues());
+        }
+        return ap;
     }
 
     /**
      * Parsing strategy TAG.
      * 
-     * @param nnm
-     *            current parend node
+     * @param reader
+     *      current reader positioned on flipstrategy tag
      * @param uid
-     *            current feature uid
+     *      current feature uid
      * @return flipstrategy related to current feature.
      */
-    private FlippingStrategy parseFlipStrategy(Element flipStrategyTag, String uid) {
-        NamedNodeMap nnm = flipStrategyTag.getAttributes();
-        FlippingStrategy flipStrategy;
-        if (nnm.getNamedItem(FLIPSTRATEGY_ATTCLASS) == null) {
+    private FlippingStrategy parseFlipStrategy(XMLStreamReader reader, String uid) {
+        String clazzName = reader.getAttributeValue(null, FLIPSTRATEGY_ATTCLASS);
+        if (clazzName == null) {
             throw new IllegalArgumentException("Error syntax in configuration file : '" + FLIPSTRATEGY_ATTCLASS
                     + "' is required for each flipstrategy (feature=" + uid + ")");
         }
 
         try {
-            // Attribute CLASS
-            String clazzName = nnm.getNamedItem(FLIPSTRATEGY_ATTCLASS).getNodeValue();
-            flipStrategy = (FlippingStrategy) Class.forName(clazzName).newInstance();
-
             // LIST OF PARAMS
             Map<String, String> parameters = new LinkedHashMap<String, String>();
-            NodeList initparamsNodes = flipStrategyTag.getElementsByTagName(FLIPSTRATEGY_PARAMTAG);
-            for (int k = 0; k < initparamsNodes.getLength(); k++) {
-                Element param = (Element) initparamsNodes.item(k);
-                NamedNodeMap nnmap = param.getAttributes();
+            while (nextChildTag(reader)) {
+                if (!FLIPSTRATEGY_PARAMTAG.equals(reader.getLocalName())) {
+                    skipTag(reader);
+                    continue;
+                }
                 // Check for required attribute name
-                String currentParamName;
-                if (nnmap.getNamedItem(FLIPSTRATEGY_PARAMNAME) == null) {
+                String currentParamName = reader.getAttributeValue(null, FLIPSTRATEGY_PARAMNAME);
+                if (currentParamName == null) {
                     throw new IllegalArgumentException(ERROR_SYNTAX_IN_CONFIGURATION_FILE
                             + "'name' is required for each param in flipstrategy(check " + uid + ")");
                 }
-                currentParamName = nnmap.getNamedItem(FLIPSTRATEGY_PARAMNAME).getNodeValue();
-                // Check for value attribute
-                if (nnmap.getNamedItem(FLIPSTRATEGY_PARAMVALUE) != null) {
-                    parameters.put(currentParamName, nnmap.getNamedItem(FLIPSTRATEGY_PARAMVALUE).getNodeValue());
-                } else if (param.getFirstChild() != null) {
-                    parameters.put(currentParamName, param.getFirstChild().getNodeValue());
+                // Check for value attribute, then body of the tag
+                String currentParamValue = reader.getAttributeValue(null, FLIPSTRATEGY_PARAMVALUE);
+                if (currentParamValue == null) {
+                    currentParamValue = reader.getElementText();
+                    if (currentParamValue.isEmpty()) {
+                        throw new IllegalArgumentException("Parameter '" + currentParamName + "' in feature '" + uid
+                                + "' has no value, please check XML");
+                    }
                 } else {
-                    throw new IllegalArgumentException("Parameter '" + currentParamName + "' in feature '" + uid
-                            + "' has no value, please check XML");
+                    skipTag(reader);
                 }
+                parameters.put(currentParamName, currentParamValue);
             }
-
-            flipStrategy.init(uid, parameters);
+            return FlippingStrategyFactory.getStrategy(uid, clazzName, parameters);
         } catch (Exception e) {
             throw new IllegalArgumentException("An error occurs during flipstrategy parsing TAG" + uid, e);
         }
-        return flipStrategy;
     }
 
     /**
-     * Parser target description.
+     * Parsing autorization tag.
      * 
-     * @param nnm
-     *            current working tag
-     * @return description of the feature
+     * @param reader
+     *      current reader positioned on security tag
+     * @return list of authorizations.
+     * @throws XMLStreamException
+     *      error when reading XML
      */
-    private static String parseDescription(NamedNodeMap nnm) {
-        String desc = null;
-        if (nnm.getNamedItem(FEATURE_ATT_DESC) != null) {
-            desc = nnm.getNamedItem(FEATURE_ATT_DESC).getNodeValue();
+    private static Set<String> parseListAuthorizations(XMLStreamReader reader) throws XMLStreamException {
+        Set<String> authorizations = new TreeSet<String>();
+        while (nextChildTag(reader)) {
+            if (SECURITY_ROLE_TAG.equals(reader.getLocalName())) {
+                String role = reader.getAttributeValue(null, SECURITY_ROLE_ATTNAME);
+                if (role == null) {
+                    throw new IllegalArgumentException(ERROR_SYNTAX_IN_CONFIGURATION_FILE + "'name' is required for each role");
+                }
+                authorizations.add(role);
+            }
+            skipTag(reader);
         }
-        return desc;
+        return authorizations;
     }
 
     /**
-     * Parsing autorization tag.
-     * 
-     * @param featXmlTag
-     *            current TAG
-     * @return list of authorizations.
+     * Move to next child of current tag.
+     *
+     * @param reader
+     *      reader positioned on start tag of parent or end tag of previous child
+     * @return
+     *      true if positioned on start of a child, false if positioned on end tag of parent
+     * @throws XMLStreamException
+     *      error when reading XML
      */
-    private static Set<String> parseListAuthorizations(Element securityTag) {
-        Set<String> authorizations = new TreeSet<String>();
-        NodeList lisOfAuth = securityTag.getElementsByTagName(SECURITY_ROLE_TAG);
-        for (int k = 0; k < lisOfAuth.getLength(); k++) {
-            Element role = (Element) lisOfAuth.item(k);
-            authorizations.add(role.getAttributes().getNamedItem(SECURITY_ROLE_ATTNAME).getNodeValue());
+    private static boolean nextChildTag(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
         }
-        return authorizations;
+        return false;
     }
 
     /**
-     * Build {@link DocumentBuilder} to parse XML.
+     * Skip current tag and its content.
+     *
+     * @param reader
+     *      reader positioned on a start tag, left on matching end tag
+     * @throws XMLStreamException
+     *      error when reading XML
+     */
+    private static void skipTag(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Close reader, errors are ignored.
+     *
+     * @param reader
+     *      current reader (can be null)
+     */
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nothing to do, stream is released by caller
+            }
+        }
+    }
+
+    /**
+     * Build {@link XMLInputFactory} to parse XML.
+     *
+     * @return
+     *      current factory
+     */
+    private XMLInputFactory getXmlInputFactory() {
+        if (xmlInputFactory == null) {
+            XMLInputFactory xif = XMLInputFactory.newInstance();
+            // -- Prevent against XXE @see https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Processing
+            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            xif.setProperty(XMLInputFactory.IS_COALESCING, true);
+            xmlInputFactory = xif;
+        }
+        return xmlInputFactory;
+    }
+
+    /**
+     * Build {@link DocumentBuilder} to parse XML, a new builder is created for each call as builders are not thread-safe.
      * 
      * @return current document builder.
      * @throws ParserConfigurationException
      *             error during initialization
      */
     public static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
-        if (builder == null) {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            // -- Prevent against XXE @see https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Processing
-            dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            // If you can't completely disable DTDs, then at least do the following:
-            // Xerces 1 - http://xerces.apache.org/xerces-j/features.html#external-general-entities
-            // Xerces 2 - http://xerces.apache.org/xerces2-j/features.html#external-general-entities
-            // JDK7+ - http://xml.org/sax/features/external-general-entities    
-            dbf.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            // Xerces 1 - http://xerces.apache.org/xerces-j/features.html#external-parameter-entities
-            // Xerces 2 - http://xerces.apache.org/xerces2-j/features.html#external-parameter-entities
-            // JDK7+ - http://xml.org/sax/features/external-parameter-entities    
-            dbf.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            // Disable external DTDs as well
-            dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            // and these as well, per Timothy Morgan's 2014 paper: "XML Schema, DTD, and Entity Attacks" (see reference below)
-            dbf.setXIncludeAware(false);
-            dbf.setExpandEntityReferences(false);
-            builder = dbf.newDocumentBuilder();
-            builder.setErrorHandler(new XmlParserErrorHandler());
-        }
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        // -- Prevent against XXE @see https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Processing
+        dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        // If you can't completely disable DTDs, then at least do the following:
+        // Xerces 1 - http://xerces.apache.org/xerces-j/features.html#external-general-entities
+        // Xerces 2 - http://xerces.apache.org/xerces2-j/features.html#external-general-entities
+        // JDK7+ - http://xml.org/sax/features/external-general-entities    
+        dbf.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        // Xerces 1 - http://xerces.apache.org/xerces-j/features.html#external-parameter-entities
+        // Xerces 2 - http://xerces.apache.org/xerces2-j/features.html#external-parameter-entities
+        // JDK7+ - http://xml.org/sax/features/external-parameter-entities    
+        dbf.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        // Disable external DTDs as well
+        dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        // and these as well, per Timothy Morgan's 2014 paper: "XML Schema, DTD, and Entity Attacks" (see reference below)
+        dbf.setXIncludeAware(false);
+        dbf.setExpandEntityReferences(false);
+        DocumentBuilder builder = dbf.newDocumentBuilder();
+        builder.setErrorHandler(new XmlParserErrorHandler());
         return builder;
     }
 
@@ -511,7 +686,26 @@ public final class XmlParser {
      *             error occurs when generating output
      */
     public InputStream exportFeatures(Map<String, Feature> mapOfFeatures) throws IOException {    
-        return new ByteArrayInputStream(exportFeaturesPart(mapOfFeatures).getBytes(ENCODING));
+        StringWriter sw = new StringWriter();
+        exportFeaturesPart(mapOfFeatures, sw);
+        return new ByteArrayInputStream(sw.toString().getBytes(ENCODING));
+    }
+    
+    /**
+     * Write XML for a map of {@link Feature} directly to target stream, features are written one after another
+     * and the document is never fully built in memory.
+     * 
+     * @param mapOfFeatures
+     *            map of features
+     * @param out
+     *            target stream (flushed, not closed)
+     * @throws IOException
+     *             error occurs when generating output
+     */
+    public void exportFeatures(Map<String, Feature> mapOfFeatures, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, ENCODING));
+        exportFeaturesPart(mapOfFeatures, writer);
+        writer.flush();
     }
     
     /**
@@ -524,7 +718,9 @@ public final class XmlParser {
      *             error occurs when generating output
      */
     public InputStream exportProperties(Map < String, Property<?>> mapOfProperties) throws IOException {   
-        return new ByteArrayInputStream(exportPropertiesPart(mapOfProperties).getBytes(ENCODING));
+        StringWriter sw = new StringWriter();
+        exportPropertiesPart(mapOfProperties, sw);
+        return new ByteArrayInputStream(sw.toString().getBytes(ENCODING));
     }
     
     /**
@@ -537,12 +733,27 @@ public final class XmlParser {
      *             error occurs when generating output
      */
     public InputStream exportAll(Map<String, Feature> mapOfFeatures, Map < String, Property<?>> mapOfProperties) throws IOException {   
-        // Create output
-        StringBuilder sb = new StringBuilder(XML_HEADER);
-        sb.append(exportFeaturesPart(mapOfFeatures));
-        sb.append(exportPropertiesPart(mapOfProperties));
-        sb.append(END_FF4J);
-        return new ByteArrayInputStream(sb.toString().getBytes(ENCODING));
+        StringWriter sw = new StringWriter();
+        exportAllPart(mapOfFeatures, mapOfProperties, sw);
+        return new ByteArrayInputStream(sw.toString().getBytes(ENCODING));
+    }
+    
+    /**
+     * Write XML with both {@link Feature} and {@link PropertyString} directly to target stream.
+     * 
+     * @param mapOfFeatures
+     *            map of features
+     * @param mapOfProperties
+     *            map of properties
+     * @param out
+     *            target stream (flushed, not closed)
+     * @throws IOException
+     *             error occurs when generating output
+     */
+    public void exportAll(Map<String, Feature> mapOfFeatures, Map < String, Property<?>> mapOfProperties, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, ENCODING));
+        exportAllPart(mapOfFeatures, mapOfProperties, writer);
+        writer.flush();
     }
     
     /**
@@ -559,24 +770,43 @@ public final class XmlParser {
         return exportAll(conf.getFeatures(), conf.getProperties());
     }
     
-    
+    /**
+     * Write the whole document.
+     *
+     * @param mapOfFeatures
+     *      target features
+     * @param mapOfProperties
+     *      target properties
+     * @param out
+     *      target writer
+     * @throws IOException
+     *      error during marshalling
+     */
+    private void exportAllPart(Map<String, Feature> mapOfFeatures, Map < String, Property<?>> mapOfProperties, Writer out) 
+    throws IOException {
+        out.write(XML_HEADER);
+        exportFeaturesPart(mapOfFeatures, out);
+        exportPropertiesPart(mapOfProperties, out);
+        out.write(END_FF4J);
+    }
     
     /**
      * Create dedicated output for Properties.
      *
      * @param mapOfProperties
      *      target properties
-     * @return
-     *      XML Flow     
+     * @param out
+     *      target writer
+     * @throws IOException
+     *      error during marshalling
      */
-    private String exportPropertiesPart(Map < String, Property<?>> mapOfProperties) {
-        // Create <features>
-        StringBuilder sb = new StringBuilder(BEGIN_PROPERTIES);
+    private void exportPropertiesPart(Map < String, Property<?>> mapOfProperties, Writer out) throws IOException {
+        // Create <properties>
+        out.write(BEGIN_PROPERTIES);
         if (mapOfProperties != null && !mapOfProperties.isEmpty()) {
-            sb.append(buildPropertiesPart(mapOfProperties));
+            buildPropertiesPart(mapOfProperties, out);
         }
-        sb.append(END_PROPERTIES);
-        return sb.toString();
+        out.write(END_PROPERTIES);
     }
     
     /**
@@ -584,13 +814,14 @@ public final class XmlParser {
      *
      * @param mapOfFeatures
      *      current map of feaures.
-     * 
-     * @return
-     *      all XML
+     * @param out
+     *      target writer
+     * @throws IOException
+     *      error during marshalling
      */
-    private String exportFeaturesPart(Map<String, Feature> mapOfFeatures) {
+    private void exportFeaturesPart(Map<String, Feature> mapOfFeatures, Writer out) throws IOException {
         // Create <features>
-        StringBuilder sb = new StringBuilder(BEGIN_FEATURES);
+        out.write(BEGIN_FEATURES);
         
         // Recreate Groups
         Map<String, List<Feature>> featuresPerGroup = new HashMap<String, List<Feature>>();
@@ -607,51 +838,50 @@ public final class XmlParser {
         for (Map.Entry<String,List<Feature>> groupName : featuresPerGroup.entrySet()) {
             /// Building featureGroup
             if (null != groupName.getKey() && !groupName.getKey().isEmpty()) {
-                sb.append(" <" + FEATUREGROUP_TAG + " " + FEATUREGROUP_ATTNAME + "=\"" + groupName.getKey() + "\" >\n\n");
+                out.write(" <" + FEATUREGROUP_TAG + " " + FEATUREGROUP_ATTNAME + "=\"" + groupName.getKey() + "\" >\n\n");
             }
             // Loop on feature
             for (Feature feat : groupName.getValue()) {
-                sb.append(MessageFormat.format(XML_FEATURE, feat.getUid(), feat.getDescription(), feat.isEnable()));
+                out.write(MessageFormat.format(XML_FEATURE, feat.getUid(), feat.getDescription(), feat.isEnable()));
                 // <security>
                 if (null != feat.getPermissions() && !feat.getPermissions().isEmpty()) {
-                    sb.append("   <" + SECURITY_TAG + ">\n");
+                    out.write("   <" + SECURITY_TAG + ">\n");
                     for (String auth : feat.getPermissions()) {
-                        sb.append(MessageFormat.format(XML_AUTH, auth));
+                        out.write(MessageFormat.format(XML_AUTH, auth));
                     }
-                    sb.append("   </" + SECURITY_TAG + ">\n");
+                    out.write("   </" + SECURITY_TAG + ">\n");
                 }
                 // <flipstrategy>
                 FlippingStrategy fs = feat.getFlippingStrategy();
                 if (null != fs) {
-                    sb.append("   <" + FLIPSTRATEGY_TAG + " class=\"" + fs.getClass().getName() + "\" >\n");
+                    out.write("   <" + FLIPSTRATEGY_TAG + " class=\"" + fs.getClass().getName() + "\" >\n");
                     for (String p : fs.getInitParams().keySet()) {
-                        sb.append("     <" + FLIPSTRATEGY_PARAMTAG + " " + FLIPSTRATEGY_PARAMNAME + "=\"");
-                        sb.append(p);
-                        sb.append("\" " + FLIPSTRATEGY_PARAMVALUE + "=\"");
+                        out.write("     <" + FLIPSTRATEGY_PARAMTAG + " " + FLIPSTRATEGY_PARAMNAME + "=\"");
+                        out.write(p);
+                        out.write("\" " + FLIPSTRATEGY_PARAMVALUE + "=\"");
                         // Escape special characters to build XML
                         // https://github.com/clun/ff4j/issues/63
                         String paramValue = fs.getInitParams().get(p);
-                        sb.append(escapeXML(paramValue));
-                        sb.append("\" />\n");
+                        out.write(String.valueOf(escapeXML(paramValue)));
+                        out.write("\" />\n");
                     }
-                    sb.append("   </" + FLIPSTRATEGY_TAG + ">\n");
+                    out.write("   </" + FLIPSTRATEGY_TAG + ">\n");
                 }
                 // <custom-properties>
                 Map < String, Property<?>> props = feat.getCustomProperties();
                 if (props != null && !props.isEmpty()) {
-                    sb.append(BEGIN_CUSTOMPROPERTIES);
-                    sb.append(buildPropertiesPart(feat.getCustomProperties()));
-                    sb.append(END_CUSTOMPROPERTIES);
+                    out.write(BEGIN_CUSTOMPROPERTIES);
+                    buildPropertiesPart(feat.getCustomProperties(), out);
+                    out.write(END_CUSTOMPROPERTIES);
                 }
-                sb.append(END_FEATURE);
+                out.write(END_FEATURE);
             }
             
             if (null != groupName.getKey() && !groupName.getKey().isEmpty()) {
-                sb.append(" </" + FEATUREGROUP_TAG + ">\n\n");
+                out.write(" </" + FEATUREGROUP_TAG + ">\n\n");
             }
         }
-        sb.append(END_FEATURES);
-        return sb.toString();
+        out.write(END_FEATURES);
     }
     
     /**
@@ -659,33 +889,34 @@ public final class XmlParser {
      *
      * @param props
      *      properties elements.
-     * @return
+     * @param out
+     *      target writer
+     * @throws IOException
+     *      error during marshalling
      */
-    private String buildPropertiesPart(Map < String, Property<?>> props) {
-        StringBuilder sb = new StringBuilder();
+    private void buildPropertiesPart(Map < String, Property<?>> props, Writer out) throws IOException {
         if (props != null && !props.isEmpty()) {
             // Loop over property
             for (Property<?> property : props.values()) {
-                sb.append("    <" + PROPERTY_TAG + " " + PROPERTY_PARAMNAME + "=\"" + property.getName() + "\" ");
-                sb.append(PROPERTY_PARAMVALUE + "=\"" + property.asString() + "\" ");
+                out.write("    <" + PROPERTY_TAG + " " + PROPERTY_PARAMNAME + "=\"" + property.getName() + "\" ");
+                out.write(PROPERTY_PARAMVALUE + "=\"" + property.asString() + "\" ");
                 if (!(property instanceof PropertyString)) {
-                    sb.append(PROPERTY_PARAMTYPE  + "=\"" + property.getClass().getName()  + "\"");
+                    out.write(PROPERTY_PARAMTYPE  + "=\"" + property.getClass().getName()  + "\"");
                 }
                 // Processing fixedValue is present
                 if (property.getFixedValues() != null && !property.getFixedValues().isEmpty()) {
-                    sb.append(">\n");
-                    sb.append("     <fixedValues>\n");
+                    out.write(">\n");
+                    out.write("     <fixedValues>\n");
                     for (Object o : property.getFixedValues()) {
-                        sb.append("      <value>" + o.toString() + "</value>\n");
+                        out.write("      <value>" + o.toString() + "</value>\n");
                     }
-                    sb.append("     </fixedValues>\n");
-                    sb.append("    </property>\n");
+                    out.write("     </fixedValues>\n");
+                    out.write("    </property>\n");
                 } else {
-                    sb.append("/>\n");
+                    out.write("/>\n");
                 }
             }
         }
-        return sb.toString();
     }
    
     /**
@@ -0,0 +1,49 @@
+package org.ff4j.conf;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.Property;
+
+/**
+ * Callback of {@link XmlParser} invoked for each element as soon as it has been read from the XML stream.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface XmlParserListener {
+
+    /**
+     * A feature has been read (with its group, strategy, permissions and custom properties).
+     *
+     * @param feature
+     *      current feature
+     */
+    void onFeature(Feature feature);
+
+    /**
+     * A property has been read from the 'properties' tag.
+     *
+     * @param property
+     *      current property
+     */
+    void onProperty(Property<?> property);
+
+}
@@ -12,18 +12,23 @@ package org.ff4j.core;
  */
 
 import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.Property;
 import org.ff4j.property.util.PropertyFactory;
+import org.ff4j.security.RoleDictionary;
+import org.ff4j.strategy.FlippingStrategyFactory;
 import org.ff4j.utils.JsonUtils;
-import org.ff4j.utils.MappingUtil;
 import org.ff4j.utils.Util;
 
 /**
@@ -60,6 +65,16 @@ public class Feature implements Serializable {
     /** if not empty and @see {@link org.ff4j.security.AuthorizationsManager} provided, limit usage to this roles. */
     private Set<String> permissions = new TreeSet<String>();
 
+    /** Permissions compiled over {@link RoleDictionary} with their version, replaced each time permissions are updated. */
+    private transient volatile PermissionsMask permissionsMask;
+
+    /** Mask and version are always published together, with a single compare-and-set. */
+    private static final AtomicReferenceFieldUpdater<Feature, PermissionsMask> PERMISSIONS_MASK =
+            AtomicReferenceFieldUpdater.newUpdater(Feature.class, PermissionsMask.class, "permissionsMask");
+
+    /** View on permissions tracking updates to reset the mask. */
+    private transient Set<String> permissionsView;
+
     /** Custom behaviour to define if feature if enable or not e.g. A/B Testing capabilities. */
     private FlippingStrategy flippingStrategy;
     
@@ -175,7 +190,7 @@ public class Feature implements Serializable {
         this.permissions.addAll(f.getPermissions());
         // Flipping Strategy
         if (f.getFlippingStrategy() != null) {
-            this.flippingStrategy = MappingUtil.instanceFlippingStrategy(f.getUid(),
+            this.flippingStrategy = FlippingStrategyFactory.newStrategy(f.getUid(),
                     f.getFlippingStrategy().getClass().getName(), 
                     f.getFlippingStrategy().getInitParams());
         }
@@ -349,7 +364,32 @@ public class Feature implements Serializable {
      * @return current value of 'permissions'
      */
     public Set<String> getPermissions() {
-        return permissions;
+        if (permissions == null) {
+            return null;
+        }
+        if (permissionsView == null) {
+            permissionsView = new PermissionsView();
+        }
+        return permissionsView;
+    }
+
+    /**
+     * Permissions compiled as a bitset over the {@link RoleDictionary}, computed once and kept until permissions change.
+     *
+     * @return
+     *      permissions bitset (empty if no permissions), null if {@link RoleDictionary} is full
+     */
+    public BitSet permissionsMask() {
+        PermissionsMask current = permissionsMask;
+        if (current != null && current.mask != null) {
+            return current.mask;
+        }
+        BitSet mask = RoleDictionary.compile(permissions);
+        if (mask != null) {
+            // Fails if permissions have been updated meanwhile : the stale mask is not kept
+            PERMISSIONS_MASK.compareAndSet(this, current, new PermissionsMask(versionOf(current), mask));
+        }
+        return mask;
     }
 
     /**
@@ -359,7 +399,11 @@ public class Feature implements Serializable {
      *            new value for 'permissions '
      */
     public void setPermissions(Set<String> permissions) {
+        if (permissions instanceof Feature.PermissionsView) {
+            permissions = new TreeSet<String>(permissions);
+        }
         this.permissions = permissions;
+        resetPermissionsMask();
     }
     
     /**
@@ -411,4 +455,119 @@ public class Feature implements Serializable {
         this.customProperties = customProperties;
     }
     
+    /**
+     * Permissions have been updated, mask will be compiled again on next access.
+     */
+    private void resetPermissionsMask() {
+        PermissionsMask current;
+        do {
+            current = permissionsMask;
+        } while (!PERMISSIONS_MASK.compareAndSet(this, current, new PermissionsMask(versionOf(current) + 1, null)));
+    }
+
+    /**
+     * Version of permissions for a mask.
+     *
+     * @param mask
+     *      current mask (null until first update or compilation)
+     * @return
+     *      version
+     */
+    private static int versionOf(PermissionsMask mask) {
+        return (mask == null) ? 0 : mask.version;
+    }
+
+    /**
+     * Immutable compiled mask with the version of permissions it has been compiled from.
+     */
+    private static final class PermissionsMask {
+
+        /** Version of permissions. */
+        private final int version;
+
+        /** Compiled permissions, null when not compiled yet for this version. */
+        private final BitSet mask;
+
+        /**
+         * Constructor.
+         *
+         * @param version
+         *      version of permissions
+         * @param mask
+         *      compiled permissions (could be null)
+         */
+        private PermissionsMask(int version, BitSet mask) {
+            this.version = version;
+            this.mask    = mask;
+        }
+    }
+
+    /**
+     * Live view on permissions resetting the compiled mask on each update.
+     */
+    private class PermissionsView extends AbstractSet<String> implements Serializable {
+
+        /** serial of the class. */
+        private static final long serialVersionUID = 2185043395960946543L;
+
+        /** {@inheritDoc} */
+        @Override
+        public Iterator<String> iterator() {
+            final Iterator<String> it = permissions.iterator();
+            return new Iterator<String>() {
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+                public String next() {
+                    return it.next();
+                }
+                public void remove() {
+                    it.remove();
+                    resetPermissionsMask();
+                }
+            };
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return permissions.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isEmpty() {
+            return permissions.isEmpty();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean contains(Object o) {
+            return permissions.contains(o);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean add(String e) {
+            boolean changed = permissions.add(e);
+            resetPermissionsMask();
+            return changed;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean remove(Object o) {
+            boolean changed = permissions.remove(o);
+            resetPermissionsMask();
+            return changed;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void clear() {
+            permissions.clear();
+            resetPermissionsMask();
+        }
+    }
+
 }
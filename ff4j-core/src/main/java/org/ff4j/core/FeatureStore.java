@@ -77,6 +77,15 @@ public interface FeatureStore {
      * @return all features
      */
     Map<String, Feature> readAll();
+    
+    /**
+     * Read several features in a single call, unknown identifiers are not part of the result.
+     * 
+     * @param featureUids
+     *            unique feature identifiers
+     * @return features per identifier
+     */
+    Map<String, Feature> readFeatures(Collection<String> featureUids);
 
     /**
      * Remove fliPoint from store.
@@ -181,6 +190,18 @@ public interface FeatureStore {
      */
     void importFeatures(Collection < Feature > features);
     
+    /**
+     * Import features by batches, existing features with same uid are replaced.
+     *
+     * @param features
+     *      list of features
+     * @param batchSize
+     *      number of features written in a single batch
+     * @param listener
+     *      notified after each batch (optional, can be null)
+     */
+    void importFeatures(Collection < Feature > features, int batchSize, ImportListener listener);
+    
     /**
      * Initialize the target database schema by creating expected structures.
      * 
@@ -0,0 +1,40 @@
+package org.ff4j.core;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Progress of a bulk import in {@link FeatureStore} or {@link org.ff4j.property.store.PropertyStore}.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface ImportListener {
+
+    /**
+     * Invoked after each batch has been written.
+     *
+     * @param imported
+     *      number of elements imported so far
+     * @param total
+     *      number of elements to import
+     */
+    void onBatch(int imported, int total);
+
+}
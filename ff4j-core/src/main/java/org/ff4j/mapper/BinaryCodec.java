@@ -0,0 +1,538 @@
+package org.ff4j.mapper;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.ff4j.core.Feature;
+import org.ff4j.core.FlippingStrategy;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyBigDecimal;
+import org.ff4j.property.PropertyBigInteger;
+import org.ff4j.property.PropertyBoolean;
+import org.ff4j.property.PropertyByte;
+import org.ff4j.property.PropertyCalendar;
+import org.ff4j.property.PropertyClass;
+import org.ff4j.property.PropertyDate;
+import org.ff4j.property.PropertyDouble;
+import org.ff4j.property.PropertyFloat;
+import org.ff4j.property.PropertyInstant;
+import org.ff4j.property.PropertyInt;
+import org.ff4j.property.PropertyLocalDateTime;
+import org.ff4j.property.PropertyLogLevel;
+import org.ff4j.property.PropertyLong;
+import org.ff4j.property.PropertyShort;
+import org.ff4j.property.PropertyString;
+import org.ff4j.property.util.PropertyFactory;
+import org.ff4j.strategy.BlackListStrategy;
+import org.ff4j.strategy.ClientFilterStrategy;
+import org.ff4j.strategy.DarkLaunchStrategy;
+import org.ff4j.strategy.FlippingStrategyFactory;
+import org.ff4j.strategy.PonderationStrategy;
+import org.ff4j.strategy.ServerFilterStrategy;
+import org.ff4j.strategy.WhiteListStrategy;
+import org.ff4j.strategy.el.ExpressionFlipStrategy;
+import org.ff4j.strategy.time.OfficeHourStrategy;
+import org.ff4j.strategy.time.ReleaseDateFlipStrategy;
+import org.ff4j.utils.MappingUtil;
+
+/**
+ * Compact binary format for {@link Feature}, {@link Property} and {@link FlippingStrategy}.
+ *
+ * <p>Payload starts with a format version byte, lengths and counts are varints, strings are UTF-8. Built-in strategies
+ * and property types are written as a small numeric identifier and created with <code>new</code>, other classes
+ * are written with their class name and created through {@link MappingUtil} and {@link PropertyFactory}.</p>
+ *
+ * <p>Identifiers below are part of the format: new types are appended, existing ones never change.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class BinaryCodec {
+
+    /** Current version of the format, first byte of each payload. */
+    public static final byte FORMAT_VERSION = 1;
+
+    /** No strategy. */
+    private static final int STRATEGY_NONE = 0;
+
+    /** Strategy or property type written with its class name. */
+    private static final int TYPE_BY_NAME = 1;
+
+    /** Built-in strategies, identifier is index + 2. */
+    private static final String[] STRATEGIES = {
+        PonderationStrategy.class.getName(),
+        BlackListStrategy.class.getName(),
+        WhiteListStrategy.class.getName(),
+        ClientFilterStrategy.class.getName(),
+        ServerFilterStrategy.class.getName(),
+        DarkLaunchStrategy.class.getName(),
+        ExpressionFlipStrategy.class.getName(),
+        ReleaseDateFlipStrategy.class.getName(),
+        OfficeHourStrategy.class.getName()
+    };
+
+    /** Built-in property types, identifier is index + 2. */
+    private static final String[] PROPERTY_TYPES = {
+        PropertyString.class.getName(),
+        PropertyBoolean.class.getName(),
+        PropertyInt.class.getName(),
+        PropertyLong.class.getName(),
+        PropertyDouble.class.getName(),
+        PropertyFloat.class.getName(),
+        PropertyShort.class.getName(),
+        PropertyByte.class.getName(),
+        PropertyBigDecimal.class.getName(),
+        PropertyBigInteger.class.getName(),
+        PropertyDate.class.getName(),
+        PropertyCalendar.class.getName(),
+        PropertyInstant.class.getName(),
+        PropertyLocalDateTime.class.getName(),
+        PropertyLogLevel.class.getName(),
+        PropertyClass.class.getName()
+    };
+
+    /** Class name to identifier for strategies. */
+    private static final Map < String, Integer > STRATEGY_IDS = indexOf(STRATEGIES);
+
+    /** Class name to identifier for property types. */
+    private static final Map < String, Integer > PROPERTY_TYPE_IDS = indexOf(PROPERTY_TYPES);
+
+    /**
+     * Hide constructor.
+     */
+    private BinaryCodec() {
+    }
+
+    /**
+     * Serialize feature.
+     *
+     * @param feature
+     *      current feature
+     * @return
+     *      binary payload
+     */
+    public static byte[] encodeFeature(Feature feature) {
+        if (feature == null) {
+            throw new IllegalArgumentException("Feature cannot be null");
+        }
+        Output out = new Output(64);
+        out.writeByte(FORMAT_VERSION);
+        writeFeature(out, feature);
+        return out.toByteArray();
+    }
+
+    /**
+     * Deserialize feature.
+     *
+     * @param payload
+     *      binary payload
+     * @return
+     *      feature
+     */
+    public static Feature decodeFeature(byte[] payload) {
+        Input in = new Input(payload);
+        readVersion(in);
+        return readFeature(in);
+    }
+
+    /**
+     * Tell if a payload has been written by this codec (JSON and XML text never start with a control character).
+     *
+     * @param payload
+     *      stored payload
+     * @return
+     *      if the payload is binary
+     */
+    public static boolean isBinary(byte[] payload) {
+        return payload != null && payload.length > 0 && payload[0] > 0 && payload[0] <= FORMAT_VERSION;
+    }
+
+    /**
+     * Serialize property.
+     *
+     * @param property
+     *      current property
+     * @return
+     *      binary payload
+     */
+    public static byte[] encodeProperty(Property<?> property) {
+        if (property == null) {
+            throw new IllegalArgumentException("Property cannot be null");
+        }
+        Output out = new Output(32);
+        out.writeByte(FORMAT_VERSION);
+        writeProperty(out, property);
+        return out.toByteArray();
+    }
+
+    /**
+     * Deserialize property.
+     *
+     * @param payload
+     *      binary payload
+     * @return
+     *      property
+     */
+    public static Property<?> decodeProperty(byte[] payload) {
+        Input in = new Input(payload);
+        readVersion(in);
+        return readProperty(in);
+    }
+
+    /**
+     * Serialize strategy alone (could be null).
+     *
+     * @param strategy
+     *      current strategy
+     * @return
+     *      binary payload
+     */
+    public static byte[] encodeFlippingStrategy(FlippingStrategy strategy) {
+        Output out = new Output(32);
+        out.writeByte(FORMAT_VERSION);
+        writeStrategy(out, strategy);
+        return out.toByteArray();
+    }
+
+    /**
+     * Deserialize strategy alone.
+     *
+     * @param uid
+     *      feature identifier used to initialize the strategy
+     * @param payload
+     *      binary payload
+     * @return
+     *      strategy (could be null)
+     */
+    public static FlippingStrategy decodeFlippingStrategy(String uid, byte[] payload) {
+        Input in = new Input(payload);
+        readVersion(in);
+        return readStrategy(in, uid);
+    }
+
+    private static void writeFeature(Output out, Feature feature) {
+        out.writeString(feature.getUid());
+        out.writeByte(feature.isEnable() ? 1 : 0);
+        out.writeNullableString(feature.getDescription());
+        out.writeNullableString(feature.getGroup());
+        Set < String > permissions = feature.getPermissions();
+        out.writeVarInt(permissions == null ? 0 : permissions.size());
+        if (permissions != null) {
+            for (String permission : permissions) {
+                out.writeString(permission);
+            }
+        }
+        writeStrategy(out, feature.getFlippingStrategy());
+        Map < String, Property<?> > customProperties = feature.getCustomProperties();
+        out.writeVarInt(customProperties == null ? 0 : customProperties.size());
+        if (customProperties != null) {
+            for (Property<?> property : customProperties.values()) {
+                writeProperty(out, property);
+            }
+        }
+    }
+
+    private static Feature readFeature(Input in) {
+        Feature feature = new Feature(in.readString(), in.readByte() == 1);
+        feature.setDescription(in.readNullableString());
+        feature.setGroup(in.readNullableString());
+        int permissionCount = in.readVarInt();
+        Set < String > permissions = new TreeSet<String>();
+        for (int i = 0; i < permissionCount; i++) {
+            permissions.add(in.readString());
+        }
+        feature.setPermissions(permissions);
+        feature.setFlippingStrategy(readStrategy(in, feature.getUid()));
+        int propertyCount = in.readVarInt();
+        Map < String, Property<?> > customProperties = new LinkedHashMap<String, Property<?>>();
+        for (int i = 0; i < propertyCount; i++) {
+            Property<?> property = readProperty(in);
+            customProperties.put(property.getName(), property);
+        }
+        feature.setCustomProperties(customProperties);
+        return feature;
+    }
+
+    private static void writeStrategy(Output out, FlippingStrategy strategy) {
+        if (strategy == null) {
+            out.writeVarInt(STRATEGY_NONE);
+            return;
+        }
+        String className = strategy.getClass().getName();
+        Integer id = STRATEGY_IDS.get(className);
+        if (id == null) {
+            out.writeVarInt(TYPE_BY_NAME);
+            out.writeString(className);
+        } else {
+            out.writeVarInt(id);
+        }
+        Map < String, String > initParams = strategy.getInitParams();
+        out.writeVarInt(initParams == null ? 0 : initParams.size());
+        if (initParams != null) {
+            for (Map.Entry<String, String> initParam : initParams.entrySet()) {
+                out.writeString(initParam.getKey());
+                out.writeNullableString(initParam.getValue());
+            }
+        }
+    }
+
+    private static FlippingStrategy readStrategy(Input in, String uid) {
+        int id = in.readVarInt();
+        if (id == STRATEGY_NONE) {
+            return null;
+        }
+        String className = (id == TYPE_BY_NAME) ? in.readString() : null;
+        int initParamCount = in.readVarInt();
+        Map < String, String > initParams = new LinkedHashMap<String, String>();
+        for (int i = 0; i < initParamCount; i++) {
+            initParams.put(in.readString(), in.readNullableString());
+        }
+        if (className != null) {
+            return MappingUtil.instanceFlippingStrategy(uid, className, initParams);
+        }
+        return FlippingStrategyFactory.getStrategy(uid, strategyClass(id), initParams);
+    }
+
+    private static Class<? extends FlippingStrategy> strategyClass(int id) {
+        switch (id) {
+            case 2:  return PonderationStrategy.class;
+            case 3:  return BlackListStrategy.class;
+            case 4:  return WhiteListStrategy.class;
+            case 5:  return ClientFilterStrategy.class;
+            case 6:  return ServerFilterStrategy.class;
+            case 7:  return DarkLaunchStrategy.class;
+            case 8:  return ExpressionFlipStrategy.class;
+            case 9:  return ReleaseDateFlipStrategy.class;
+            case 10: return OfficeHourStrategy.class;
+            default:
+                throw new IllegalArgumentException("Unknown strategy identifier " + id);
+        }
+    }
+
+    private static void writeProperty(Output out, Property<?> property) {
+        out.writeString(property.getName());
+        Integer typeId = PROPERTY_TYPE_IDS.get(property.getType());
+        if (typeId == null) {
+            out.writeVarInt(TYPE_BY_NAME);
+            out.writeString(property.getType());
+        } else {
+            out.writeVarInt(typeId);
+        }
+        out.writeNullableString(property.getDescription());
+        out.writeNullableString(property.asString());
+        Set<?> fixedValues = property.getFixedValues();
+        // 0 means null, otherwise size + 1
+        out.writeVarInt(fixedValues == null ? 0 : fixedValues.size() + 1);
+        if (fixedValues != null) {
+            for (Object fixedValue : fixedValues) {
+                out.writeString(fixedValue.toString());
+            }
+        }
+    }
+
+    private static Property<?> readProperty(Input in) {
+        String name = in.readString();
+        int typeId  = in.readVarInt();
+        String type = (typeId == TYPE_BY_NAME) ? in.readString() : null;
+        String description = in.readNullableString();
+        String value = in.readNullableString();
+        Property<?> property;
+        if (type != null) {
+            property = PropertyFactory.createProperty(name, type, value, null, null);
+        } else {
+            property = newProperty(typeId, name);
+            // Null value is kept, String constructors reject it
+            if (value != null) {
+                property.setValueFromString(value);
+            }
+        }
+        property.setDescription(description);
+        int fixedValueCount = in.readVarInt() - 1;
+        for (int i = 0; i < fixedValueCount; i++) {
+            property.add2FixedValueFromString(in.readString());
+        }
+        return property;
+    }
+
+    private static Property<?> newProperty(int id, String name) {
+        switch (id) {
+            case 2:  return new PropertyString(name);
+            case 3:  return new PropertyBoolean(name);
+            case 4:  return new PropertyInt(name);
+            case 5:  return new PropertyLong(name);
+            case 6:  return new PropertyDouble(name);
+            case 7:  return new PropertyFloat(name);
+            case 8:  return new PropertyShort(name);
+            case 9:  return new PropertyByte(name);
+            case 10: return new PropertyBigDecimal(name);
+            case 11: return new PropertyBigInteger(name);
+            case 12: return new PropertyDate(name);
+            case 13: return new PropertyCalendar(name);
+            case 14: return new PropertyInstant(name);
+            case 15: return new PropertyLocalDateTime(name);
+            case 16: return new PropertyLogLevel(name);
+            case 17: return new PropertyClass(name);
+            default:
+                throw new IllegalArgumentException("Unknown property type identifier " + id);
+        }
+    }
+
+    private static void readVersion(Input in) {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary format version " + version);
+        }
+    }
+
+    private static Map < String, Integer > indexOf(String[] classNames) {
+        Map < String, Integer > ids = new HashMap<String, Integer>();
+        for (int i = 0; i < classNames.length; i++) {
+            ids.put(classNames[i], i + 2);
+        }
+        return ids;
+    }
+
+    /**
+     * Growable output buffer.
+     */
+    private static final class Output {
+
+        /** Current buffer. */
+        private byte[] buffer;
+
+        /** Next write position. */
+        private int position;
+
+        private Output(int initialSize) {
+            this.buffer = new byte[initialSize];
+        }
+
+        private void ensure(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        private void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /** Length is shifted by one, 0 stands for null. */
+        private void writeNullableString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Reader over a payload.
+     */
+    private static final class Input {
+
+        /** Payload. */
+        private final byte[] buffer;
+
+        /** Next read position. */
+        private int position;
+
+        private Input(byte[] buffer) {
+            if (buffer == null || buffer.length == 0) {
+                throw new IllegalArgumentException("Binary payload cannot be null nor empty");
+            }
+            this.buffer = buffer;
+        }
+
+        private void require(int length) {
+            if (length < 0 || position + length > buffer.length) {
+                throw new IllegalArgumentException("Truncated binary payload");
+            }
+        }
+
+        private byte readByte() {
+            require(1);
+            return buffer[position++];
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in binary payload");
+        }
+
+        private String readString() {
+            return readUtf8(readVarInt());
+        }
+
+        private String readNullableString() {
+            int length = readVarInt();
+            return (length == 0) ? null : readUtf8(length - 1);
+        }
+
+        private String readUtf8(int length) {
+            require(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+}
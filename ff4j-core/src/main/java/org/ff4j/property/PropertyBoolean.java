@@ -88,4 +88,11 @@ public class PropertyBoolean extends Property< Boolean > {
         return new Boolean(v);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean asBoolean() {
+        // No string conversion for native type
+        return (value == null) ? super.asBoolean() : value.booleanValue();
+    }
+
 }
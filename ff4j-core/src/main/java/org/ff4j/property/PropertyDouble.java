@@ -82,4 +82,11 @@ public class PropertyDouble extends Property < Double > {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public double asDouble() {
+        // No string conversion for native type
+        return (value == null) ? super.asDouble() : value.doubleValue();
+    }
+
 }
@@ -102,6 +102,12 @@ public class PropertyInt extends Property< Integer > {
             throw new InvalidPropertyTypeException("Cannot cast " + v + "to expected " + Integer.class, nbe);
         }
     }
-    
+
+    /** {@inheritDoc} */
+    @Override
+    public int asInt() {
+        // No string conversion for native type
+        return (value == null) ? super.asInt() : value.intValue();
+    }
 
 }
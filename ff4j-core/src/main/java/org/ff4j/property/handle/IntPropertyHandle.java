@@ -0,0 +1,67 @@
+package org.ff4j.property.handle;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.property.Property;
+
+/**
+ * Handle on a property read as int.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class IntPropertyHandle extends PropertyHandle {
+
+    /** Current value. */
+    private volatile int value;
+
+    /**
+     * Initialization with property name.
+     *
+     * @param name
+     *      property name
+     */
+    public IntPropertyHandle(String name) {
+        super(name);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void update(Property<?> property) {
+        value = property.asInt();
+    }
+
+    /**
+     * Current value of the property.
+     *
+     * @return
+     *      current value
+     */
+    public int get() {
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getName() + "=" + value;
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.ff4j.property.handle;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyLong;
+
+/**
+ * Handle on a property read as long.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class LongPropertyHandle extends PropertyHandle {
+
+    /** Current value. */
+    private volatile long value;
+
+    /**
+     * Initialization with property name.
+     *
+     * @param name
+     *      property name
+     */
+    public LongPropertyHandle(String name) {
+        super(name);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void update(Property<?> property) {
+        if (property instanceof PropertyLong && property.getValue() != null) {
+            value = ((PropertyLong) property).getValue().longValue();
+        } else {
+            value = Long.parseLong(property.asString());
+        }
+    }
+
+    /**
+     * Current value of the property.
+     *
+     * @return
+     *      current value
+     */
+    public long get() {
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getName() + "=" + value;
+    }
+
+}
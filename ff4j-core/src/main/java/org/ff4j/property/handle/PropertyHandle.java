@@ -0,0 +1,64 @@
+package org.ff4j.property.handle;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.property.Property;
+
+/**
+ * Live view on a single property : the current value is held in a field and updated by {@link PropertyHandles}
+ * when the store changes, reading it does not reach the store nor convert the value.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public abstract class PropertyHandle {
+
+    /** Name of the property. */
+    private final String name;
+
+    /**
+     * Initialization with property name.
+     *
+     * @param name
+     *      property name
+     */
+    protected PropertyHandle(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Hold value of the property read from the store.
+     *
+     * @param property
+     *      current property
+     */
+    protected abstract void update(Property<?> property);
+
+    /**
+     * Getter accessor for attribute 'name'.
+     *
+     * @return
+     *       current value of 'name'
+     */
+    public String getName() {
+        return name;
+    }
+
+}
@@ -0,0 +1,306 @@
+package org.ff4j.property.handle;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.exception.InvalidPropertyTypeException;
+import org.ff4j.exception.PropertyNotFoundException;
+import org.ff4j.property.Property;
+import org.ff4j.property.store.PropertyChangeFeed;
+import org.ff4j.property.store.PropertyStore;
+import org.ff4j.utils.Util;
+
+/**
+ * Registry of {@link PropertyHandle} bound to a {@link PropertyStore}.
+ * 
+ * <p>Handles are created once per property name and updated by {@link #refresh()}. If the store implements
+ * {@link PropertyChangeFeed} a refresh without changes does not read the store and only handles of changed properties
+ * are read again, otherwise each handle is read again (expected to be cheap through a cache proxy). A property deleted
+ * from the store or with an invalid value keeps the last value read.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class PropertyHandles {
+
+    /** Store to read properties. */
+    private volatile PropertyStore propertyStore;
+
+    /** Handles per property name. */
+    private final ConcurrentMap<String, PropertyHandle> handles = new ConcurrentHashMap<String, PropertyHandle>();
+
+    /** Checkpoint of the change feed at last refresh. */
+    private long checkpoint = -1;
+
+    /** Scheduler for periodic refresh. */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Initialization with the store.
+     *
+     * @param propertyStore
+     *      store to read properties
+     */
+    public PropertyHandles(PropertyStore propertyStore) {
+        setPropertyStore(propertyStore);
+    }
+
+    /**
+     * Handle on property read as int.
+     *
+     * @param name
+     *      property name
+     * @return
+     *      handle holding current value
+     */
+    public IntPropertyHandle intProperty(String name) {
+        return register(IntPropertyHandle.class, new IntPropertyHandle(name));
+    }
+
+    /**
+     * Handle on property read as long.
+     *
+     * @param name
+     *      property name
+     * @return
+     *      handle holding current value
+     */
+    public LongPropertyHandle longProperty(String name) {
+        return register(LongPropertyHandle.class, new LongPropertyHandle(name));
+    }
+
+    /**
+     * Handle on property read as double.
+     *
+     * @param name
+     *      property name
+     * @return
+     *      handle holding current value
+     */
+    public DoublePropertyHandle doubleProperty(String name) {
+        return register(DoublePropertyHandle.class, new DoublePropertyHandle(name));
+    }
+
+    /**
+     * Handle on property read as boolean.
+     *
+     * @param name
+     *      property name
+     * @return
+     *      handle holding current value
+     */
+    public BooleanPropertyHandle booleanProperty(String name) {
+        return register(BooleanPropertyHandle.class, new BooleanPropertyHandle(name));
+    }
+
+    /**
+     * Handle on property read as String.
+     *
+     * @param name
+     *      property name
+     * @return
+     *      handle holding current value
+     */
+    public StringPropertyHandle stringProperty(String name) {
+        return register(StringPropertyHandle.class, new StringPropertyHandle(name));
+    }
+
+    /**
+     * Update handles of properties changed in the store.
+     */
+    public synchronized void refresh() {
+        if (handles.isEmpty()) {
+            return;
+        }
+        Collection<String> names = null;
+        if (propertyStore instanceof PropertyChangeFeed) {
+            PropertyChangeFeed feed = (PropertyChangeFeed) propertyStore;
+            long current = feed.getCheckpoint();
+            if (current == checkpoint) {
+                return;
+            }
+            names = (checkpoint < 0) ? null : feed.changedSince(checkpoint);
+            checkpoint = current;
+        }
+        if (names == null) {
+            names = handles.keySet();
+        }
+        for (String name : names) {
+            PropertyHandle handle = handles.get(name);
+            if (handle != null) {
+                load(handle, false);
+            }
+        }
+    }
+
+    /**
+     * Update handle of a property if it exists.
+     *
+     * @param name
+     *      property name
+     */
+    public void refresh(String name) {
+        PropertyHandle handle = handles.get(name);
+        if (handle != null) {
+            load(handle, false);
+        }
+    }
+
+    /**
+     * Refresh handles on a fixed delay basis.
+     *
+     * @param delay
+     *      delay between refresh in milliseconds
+     */
+    public synchronized void startPolling(long delay) {
+        if (executor != null) {
+            throw new IllegalStateException("Polling of property handles has already been started");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "FF4j_PropertyHandlesRefresh");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    refresh();
+                } catch (RuntimeException ex) {
+                    // Work in background failed 'silently', handles keep last values
+                    ex.printStackTrace();
+                }
+            }
+        }, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop periodic refresh.
+     */
+    public synchronized void stopPolling() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Names of properties with a handle.
+     *
+     * @return
+     *      property names
+     */
+    public Set<String> getNames() {
+        return handles.keySet();
+    }
+
+    /**
+     * Register handle if not already existing for this property.
+     *
+     * @param type
+     *      expected type of handle
+     * @param handle
+     *      new handle
+     * @return
+     *      the handle of this property
+     */
+    private <H extends PropertyHandle> H register(Class<H> type, H handle) {
+        Util.assertHasLength(handle.getName());
+        PropertyHandle existing = handles.get(handle.getName());
+        if (existing == null) {
+            synchronized (this) {
+                existing = handles.get(handle.getName());
+                if (existing == null) {
+                    // Fail fast if property does not exist or cannot be converted
+                    load(handle, true);
+                    handles.put(handle.getName(), handle);
+                    return handle;
+                }
+            }
+        }
+        if (!type.isInstance(existing)) {
+            throw new IllegalArgumentException("Property '" + handle.getName() + "' already has a handle of type "
+                    + existing.getClass().getSimpleName());
+        }
+        return type.cast(existing);
+    }
+
+    /**
+     * Read property from store and update handle.
+     *
+     * @param handle
+     *      current handle
+     * @param failIfInvalid
+     *      raise error if the property does not exist or has invalid value, else keep last value
+     */
+    private void load(PropertyHandle handle, boolean failIfInvalid) {
+        try {
+            Property<?> property = propertyStore.readProperty(handle.getName());
+            try {
+                handle.update(property);
+            } catch (NumberFormatException nbe) {
+                throw new InvalidPropertyTypeException("Cannot create " + handle.getClass().getSimpleName()
+                        + " from " + property.asString(), nbe);
+            }
+        } catch (PropertyNotFoundException pnf) {
+            if (failIfInvalid) {
+                throw pnf;
+            }
+        } catch (InvalidPropertyTypeException ipt) {
+            if (failIfInvalid) {
+                throw ipt;
+            }
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'propertyStore'.
+     *
+     * @return
+     *       current value of 'propertyStore'
+     */
+    public PropertyStore getPropertyStore() {
+        return propertyStore;
+    }
+
+    /**
+     * Setter accessor for attribute 'propertyStore', existing handles are read from the new store.
+     * @param propertyStore
+     * 		new value for 'propertyStore '
+     */
+    public synchronized void setPropertyStore(PropertyStore propertyStore) {
+        Util.assertNotNull(propertyStore);
+        this.propertyStore = propertyStore;
+        this.checkpoint    = -1;
+        refresh();
+    }
+
+}
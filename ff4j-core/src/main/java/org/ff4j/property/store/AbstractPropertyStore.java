@@ -1,12 +1,16 @@
 package org.ff4j.property.store;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.ff4j.conf.XmlConfig;
 import org.ff4j.conf.XmlParser;
+import org.ff4j.core.ImportListener;
 import org.ff4j.exception.PropertyAlreadyExistException;
 import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.Property;
@@ -39,6 +43,9 @@ import org.ff4j.utils.Util;
  */
 public abstract class AbstractPropertyStore implements PropertyStore {
     
+    /** Default number of properties written in a single batch when importing. */
+    public static final int DEFAULT_IMPORT_BATCHSIZE = 100;
+    
     /**
      * Initialize store from XML Configuration File.
      *
@@ -60,12 +67,7 @@ public abstract class AbstractPropertyStore implements PropertyStore {
         Map<String, Property<?>> properties = conf.getProperties();
 
         // Override existing configuration within database
-        for (Map.Entry<String,Property<?>> featureName : properties.entrySet()) {
-            if (existProperty(featureName.getKey())) {
-                deleteProperty(featureName.getKey());
-            }
-            createProperty(featureName.getValue());
-        }
+        importProperties(properties.values());
         return properties;
     }
     
@@ -157,15 +159,78 @@ public abstract class AbstractPropertyStore implements PropertyStore {
     /** {@inheritDoc} */
     @Override
     public void importProperties(Collection<Property<?>> properties) {
-        // Do not use target as the delete/create operation will be traced
-        if (properties != null) {
-            for (Property<?> property : properties) {
-                if (existProperty(property.getName())) {
-                    deleteProperty(property.getName());
+        importProperties(properties, DEFAULT_IMPORT_BATCHSIZE, null);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public void importProperties(Collection<Property<?>> properties, int batchSize, ImportListener listener) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        if (properties == null) {
+            return;
+        }
+        List<Property<?>> batch = new ArrayList<Property<?>>(Math.min(batchSize, properties.size()));
+        int imported = 0;
+        for (Property<?> property : properties) {
+            assertPropertyNotNull(property);
+            batch.add(property);
+            if (batch.size() == batchSize) {
+                importPropertiesBatch(batch);
+                imported += batch.size();
+                batch.clear();
+                if (listener != null) {
+                    listener.onBatch(imported, properties.size());
                 }
-                createProperty(property);
             }
         }
+        if (!batch.isEmpty()) {
+            importPropertiesBatch(batch);
+            imported += batch.size();
+            if (listener != null) {
+                listener.onBatch(imported, properties.size());
+            }
+        }
+    }
+    
+    /**
+     * Write a batch of properties, existing properties are replaced. Default implementation
+     * performs exist/delete/create for each property, stores override it with a native bulk operation.
+     *
+     * @param properties
+     *      properties of the batch (not null, size lower or equal to batch size)
+     */
+    protected void importPropertiesBatch(List<Property<?>> properties) {
+        for (Property<?> property : properties) {
+            if (existProperty(property.getName())) {
+                deleteProperty(property.getName());
+            }
+            createProperty(property);
+        }
+    }
+    
+    /**
+     * Read several properties. Default implementation reads properties one by one, stores override it with a native
+     * bulk read.
+     *
+     * @param names
+     *      property names
+     * @return
+     *      properties per name
+     */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        Map<String, Property<?>> result = new LinkedHashMap<String, Property<?>>();
+        for (String name : names) {
+            try {
+                result.put(name, readProperty(name));
+            } catch (PropertyNotFoundException pnf) {
+                // Unknown properties are not part of the result
+            }
+        }
+        return result;
     }
     
     /** {@inheritDoc} */
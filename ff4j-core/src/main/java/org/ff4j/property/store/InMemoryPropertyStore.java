@@ -21,9 +21,12 @@ package org.ff4j.property.store;
  */
 
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.ff4j.conf.XmlParser;
 import org.ff4j.property.Property;
@@ -34,13 +37,25 @@ import org.ff4j.utils.Util;
  *
  * @author Cedrick Lunven (@clunven)
  */
-public class InMemoryPropertyStore extends AbstractPropertyStore {
+public class InMemoryPropertyStore extends AbstractPropertyStore implements PropertyChangeFeed {
+
+    /** Number of changes kept for {@link #changedSince(long)}. */
+    public static final int CHANGELOG_SIZE = 1000;
 
     /** InMemory Feature Map */
     private Map<String, Property<?>> properties = new LinkedHashMap<String, Property<?>>();
 
     /** FileName used to retrieve properties. */
     private String fileName;
+
+    /** Last changes, checkpoint to property name, guarded by itself with the checkpoints. */
+    private final TreeMap<Long, String> changeLog = new TreeMap<Long, String>();
+
+    /** Sequence of changes, a checkpoint is visible only once its change is logged. */
+    private long checkpoint = 0;
+
+    /** Changes up to this checkpoint are not available anymore. */
+    private long oldestCheckpoint = 0;
     
     /**
      * Default Constructor 
@@ -103,6 +118,7 @@ public class InMemoryPropertyStore extends AbstractPropertyStore {
             throw new IllegalArgumentException("Cannot parse stream with properties");
         }
         this.properties = new XmlParser().parseConfigurationFile(xmlIN).getProperties();
+        changedAll();
     }
     
     /** {@inheritDoc} */
@@ -120,6 +136,7 @@ public class InMemoryPropertyStore extends AbstractPropertyStore {
         assertPropertyNotExist(value.getName());
         // Create
         properties.put(value.getName(), value);
+        changed(value.getName());
     }
 
     /** {@inheritDoc} */
@@ -135,6 +152,7 @@ public class InMemoryPropertyStore extends AbstractPropertyStore {
         assertPropertyExist(name);
         // Delete
         properties.remove(name);
+        changed(name);
     }
     
     /** {@inheritDoc} */
@@ -152,6 +170,7 @@ public class InMemoryPropertyStore extends AbstractPropertyStore {
         if (properties != null) {
             properties.clear();
         }
+        changedAll();
     }
     
     /** {@inheritDoc} */
@@ -159,6 +178,67 @@ public class InMemoryPropertyStore extends AbstractPropertyStore {
     public Map<String, Property<?>> readAllProperties() {
        return properties;
     }
+    
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        Map<String, Property<?>> result = new LinkedHashMap<String, Property<?>>();
+        if (properties != null) {
+            for (String name : names) {
+                Property<?> property = properties.get(name);
+                if (property != null) {
+                    result.put(name, property);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCheckpoint() {
+        synchronized (changeLog) {
+            return checkpoint;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> changedSince(long since) {
+        synchronized (changeLog) {
+            if (since < oldestCheckpoint || since > checkpoint) {
+                return null;
+            }
+            return new HashSet<String>(changeLog.tailMap(since, false).values());
+        }
+    }
+
+    /**
+     * Record a change on a property, must be invoked after the update of the map.
+     *
+     * @param name
+     *      property name
+     */
+    private void changed(String name) {
+        synchronized (changeLog) {
+            changeLog.put(++checkpoint, name);
+            if (checkpoint > CHANGELOG_SIZE) {
+                oldestCheckpoint = Math.max(oldestCheckpoint, checkpoint - CHANGELOG_SIZE);
+                changeLog.headMap(oldestCheckpoint, true).clear();
+            }
+        }
+    }
+
+    /**
+     * Whole map has been replaced: consumers must read all properties.
+     */
+    private void changedAll() {
+        synchronized (changeLog) {
+            oldestCheckpoint = ++checkpoint;
+            changeLog.clear();
+        }
+    }
 
     /**
      * Setter accessor for attribute 'properties'.
@@ -167,6 +247,7 @@ public class InMemoryPropertyStore extends AbstractPropertyStore {
      */
     public void setProperties(Map<String, Property<?>> properties) {
         this.properties = properties;
+        changedAll();
     }
     
     /**
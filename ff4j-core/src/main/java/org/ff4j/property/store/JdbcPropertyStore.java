@@ -20,19 +20,26 @@ package org.ff4j.property.store;
  * #L%
  */
 import static org.ff4j.store.JdbcStoreConstants.COL_PROPERTY_ID;
+import static org.ff4j.store.JdbcStoreConstants.SQL_MAX_IN_VALUES;
 import static org.ff4j.utils.JdbcUtils.buildStatement;
 import static org.ff4j.utils.JdbcUtils.closeConnection;
 import static org.ff4j.utils.JdbcUtils.closeResultSet;
 import static org.ff4j.utils.JdbcUtils.closeStatement;
 import static org.ff4j.utils.JdbcUtils.executeUpdate;
 import static org.ff4j.utils.JdbcUtils.isTableExist;
+import static org.ff4j.utils.JdbcUtils.rollback;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -128,16 +135,7 @@ public class JdbcPropertyStore extends AbstractPropertyStore {
                 throw new PropertyAlreadyExistException(ap.getName());
             }
             ps = sqlConn.prepareStatement(getQueryBuilder().createProperty());
-            ps.setString(1, ap.getName());
-            ps.setString(2, ap.getType());
-            ps.setString(3, ap.asString());
-            ps.setString(4, ap.getDescription());
-            if (ap.getFixedValues() != null && !ap.getFixedValues().isEmpty()) {
-                String fixedValues = ap.getFixedValues().toString();
-                ps.setString(5, fixedValues.substring(1, fixedValues.length() - 1));
-            } else {
-                ps.setString(5, null);
-            }
+            setPropertyParameters(ps, ap);
             ps.executeUpdate();
         } catch (SQLException sqlEX) {
             throw new PropertyAccessException("Cannot update properties database, SQL ERROR", sqlEX);
@@ -248,6 +246,42 @@ public class JdbcPropertyStore extends AbstractPropertyStore {
         return properties;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        List<String> propertyNames = new ArrayList<String>(new LinkedHashSet<String>(names));
+        Map<String, Property<?>> found = new HashMap<String, Property<?>>();
+        Connection   sqlConn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            if (!propertyNames.isEmpty()) {
+                sqlConn = getDataSource().getConnection();
+            }
+            for (int from = 0; from < propertyNames.size(); from += SQL_MAX_IN_VALUES) {
+                Object[] chunk = propertyNames.subList(from, Math.min(from + SQL_MAX_IN_VALUES, propertyNames.size())).toArray();
+                ps = buildStatement(sqlConn, getQueryBuilder().getProperties(chunk.length), chunk);
+                rs = ps.executeQuery();
+                while (rs.next()) {
+                    Property<?> ap = JDBC_MAPPER.map(rs);
+                    found.put(ap.getName(), ap);
+                }
+                closeResultSet(rs);
+                rs = null;
+                closeStatement(ps);
+                ps = null;
+            }
+        } catch (SQLException sqlEX) {
+            throw new PropertyAccessException("Cannot read properties within database, SQL ERROR", sqlEX);
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+            closeConnection(sqlConn);
+        }
+        return Util.keepRequestedOrder(propertyNames, found);
+    }
+    
     /** {@inheritDoc} */
     public Set<String> listPropertyNames() {
         Set < String > propertyNames = new HashSet<String>();
@@ -287,6 +321,77 @@ public class JdbcPropertyStore extends AbstractPropertyStore {
         }
     }
 
+    /**
+     * Replace a batch of properties within a single transaction with JDBC batches.
+     *
+     * @param properties
+     *      properties of the batch
+     */
+    @Override
+    protected void importPropertiesBatch(List<Property<?>> properties) {
+        Connection sqlConn = null;
+        PreparedStatement ps = null;
+        Boolean previousAutoCommit = null;
+        try {
+            sqlConn = getDataSource().getConnection();
+            
+            // Begin TX
+            previousAutoCommit = sqlConn.getAutoCommit();
+            sqlConn.setAutoCommit(false);
+            
+            // Delete existing properties
+            ps = sqlConn.prepareStatement(getQueryBuilder().deleteProperty());
+            for (Property<?> ap : properties) {
+                ps.setString(1, ap.getName());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            closeStatement(ps);
+            ps = null;
+            
+            // Create properties
+            ps = sqlConn.prepareStatement(getQueryBuilder().createProperty());
+            for (Property<?> ap : properties) {
+                setPropertyParameters(ps, ap);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            
+            // Commit
+            sqlConn.commit();
+            
+        } catch (SQLException sqlEX) {
+            rollback(sqlConn);
+            throw new PropertyAccessException("Cannot import properties, SQL ERROR", sqlEX);
+        } finally {
+            closeStatement(ps);
+            closeConnection(sqlConn, previousAutoCommit);
+        }
+    }
+    
+    /**
+     * Bind parameters of property creation query.
+     *
+     * @param ps
+     *      statement built from {@link JdbcQueryBuilder#createProperty()}
+     * @param ap
+     *      current property
+     * @throws SQLException
+     *      error during sql operation
+     */
+    private void setPropertyParameters(PreparedStatement ps, Property<?> ap) throws SQLException {
+        ps.setString(1, ap.getName());
+        ps.setString(2, ap.getType());
+        ps.setString(3, ap.asString());
+        ps.setString(4, ap.getDescription());
+        if (ap.getFixedValues() != null && !ap.getFixedValues().isEmpty()) {
+            String fixedValues = ap.getFixedValues().toString();
+            ps.setString(5, fixedValues.substring(1, fixedValues.length() - 1));
+        } else {
+            ps.setString(5, null);
+        }
+    }
+
     /**
      * Getter accessor for attribute 'dataSource'.
      *
@@ -0,0 +1,58 @@
+package org.ff4j.property.store;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2015 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Set;
+
+/**
+ * Optional capability of a {@link PropertyStore} able to tell which properties changed since a checkpoint.
+ *
+ * Consumers polling the store (bridges to other configuration frameworks) can then read only the
+ * modified properties instead of the whole store.
+ *
+ * Consumers must read the checkpoint <b>before</b> reading properties : a change done while they read is
+ * then after the kept checkpoint and returned again by next {@link #changedSince(long)}, at worst read twice
+ * but never lost.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface PropertyChangeFeed {
+
+    /**
+     * Checkpoint of the last change, to be given back to {@link #changedSince(long)}, read before properties.
+     *
+     * @return
+     *      current checkpoint
+     */
+    long getCheckpoint();
+
+    /**
+     * Names of properties created, updated or deleted after the checkpoint.
+     *
+     * @param checkpoint
+     *      checkpoint returned by {@link #getCheckpoint()}
+     * @return
+     *      names of changed properties, or null if changes are not available anymore for this checkpoint
+     *      (the consumer must then read all properties)
+     */
+    Set<String> changedSince(long checkpoint);
+
+}
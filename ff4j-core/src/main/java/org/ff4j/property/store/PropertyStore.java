@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
+import org.ff4j.core.ImportListener;
 import org.ff4j.property.Property;
 
 /*
@@ -107,6 +108,16 @@ public interface PropertyStore {
      */
     Map<String, Property<?> > readAllProperties();
     
+    /**
+     * Read several properties in a single call, unknown names are not part of the result.
+     *
+     * @param names
+     *      property names
+     * @return
+     *      properties per name
+     */
+    Map<String, Property<?> > readProperties(Collection<String> names);
+    
     /**
      * List all property names.
      *
@@ -136,6 +147,18 @@ public interface PropertyStore {
      */
     void importProperties(Collection<Property<?>> properties);
     
+    /**
+     * Import properties by batches, existing properties with same name are replaced.
+     *
+     * @param properties
+     *      a set of properties
+     * @param batchSize
+     *      number of properties written in a single batch
+     * @param listener
+     *      notified after each batch (optional, can be null)
+     */
+    void importProperties(Collection<Property<?>> properties, int batchSize, ImportListener listener);
+    
     /**
      * Initialize target database with expected schema if needed.
      */
@@ -20,6 +20,7 @@ package org.ff4j.security;
  * #L%
  */
 
+import java.util.BitSet;
 import java.util.Set;
 
 /**
@@ -29,6 +30,17 @@ import java.util.Set;
  */
 public abstract class AbstractAuthorizationManager implements AuthorizationsManager {
 
+    /**
+     * Current user permissions matched over the {@link RoleDictionary}. Implementations able to memoize
+     * the user permissions should override to also memoize the mask (while {@link RoleDictionary#size()} is unchanged).
+     *
+     * @return
+     *      bitset of current user permissions
+     */
+    public BitSet currentUserPermissionsMask() {
+        return RoleDictionary.match(getCurrentUserPermissions());
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -0,0 +1,138 @@
+package org.ff4j.security;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Global dictionary assigning a stable index to each role name.
+ *
+ * <p>Sets of roles (feature permissions, current user authorities) can then be compiled as {@link BitSet}
+ * and matched with {@link BitSet#intersects(BitSet)} without any allocation.</p>
+ *
+ * <p>Only roles required by features are registered ({@link #compile(Collection)}), roles of users are matched
+ * against known roles ({@link #match(Collection)}) : the dictionary does not grow with users. It is also bounded by
+ * {@link #MAX_ROLES}, when full new roles cannot be compiled and callers fall back to sets of names.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class RoleDictionary {
+
+    /** Maximum number of roles in the dictionary. */
+    public static final int MAX_ROLES = 4096;
+
+    /** Index of each known role. */
+    private static final ConcurrentMap < String, Integer > INDEXES = new ConcurrentHashMap<String, Integer>();
+
+    /**
+     * Hide default constructor.
+     */
+    private RoleDictionary() {
+    }
+
+    /**
+     * Retrieve index of a role, registering it if needed.
+     *
+     * @param role
+     *      role name
+     * @return
+     *      stable index of the role, -1 if the dictionary is full
+     */
+    public static int indexOf(String role) {
+        Integer idx = INDEXES.get(role);
+        if (idx != null) {
+            return idx;
+        }
+        synchronized (INDEXES) {
+            idx = INDEXES.get(role);
+            if (idx == null) {
+                if (INDEXES.size() >= MAX_ROLES) {
+                    return -1;
+                }
+                // Entries are never removed, size is the next index
+                idx = INDEXES.size();
+                INDEXES.put(role, idx);
+            }
+        }
+        return idx;
+    }
+
+    /**
+     * Compile a set of roles as a bitset, registering roles if needed.
+     *
+     * @param roles
+     *      roles names (could be null)
+     * @return
+     *      bitset where each role index is set, null if a role cannot be registered (dictionary is full)
+     */
+    public static BitSet compile(Collection < String > roles) {
+        BitSet mask = new BitSet();
+        if (roles != null) {
+            for (String role : roles) {
+                if (role != null) {
+                    int idx = indexOf(role);
+                    if (idx < 0) {
+                        return null;
+                    }
+                    mask.set(idx);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Compile a set of roles as a bitset without registering them : unknown roles are required by no feature
+     * compiled so far and are ignored.
+     *
+     * @param roles
+     *      roles names (could be null)
+     * @return
+     *      bitset where index of each known role is set
+     */
+    public static BitSet match(Collection < String > roles) {
+        BitSet mask = new BitSet();
+        if (roles != null) {
+            for (String role : roles) {
+                Integer idx = (role == null) ? null : INDEXES.get(role);
+                if (idx != null) {
+                    mask.set(idx);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Number of roles registered so far, a mask built with {@link #match(Collection)} is up to date
+     * as long as this size does not change.
+     *
+     * @return
+     *      size of the dictionary
+     */
+    public static int size() {
+        return INDEXES.size();
+    }
+
+}
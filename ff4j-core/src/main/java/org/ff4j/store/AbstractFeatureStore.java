@@ -21,9 +21,12 @@ package org.ff4j.store;
  */
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,6 +34,7 @@ import org.ff4j.conf.XmlConfig;
 import org.ff4j.conf.XmlParser;
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
 import org.ff4j.exception.FeatureAlreadyExistException;
 import org.ff4j.exception.FeatureNotFoundException;
 import org.ff4j.exception.GroupNotFoundException;
@@ -43,6 +47,9 @@ import org.ff4j.utils.Util;
  * @author Cedrick Lunven (@clunven)
  */
 public abstract class AbstractFeatureStore implements FeatureStore {
+    
+    /** Default number of features written in a single batch when importing. */
+    public static final int DEFAULT_IMPORT_BATCHSIZE = 100;
 
     /**
      * Initialize store from XML Configuration File.
@@ -212,20 +219,84 @@ public abstract class AbstractFeatureStore implements FeatureStore {
         return;
     }
     
+    /**
+     * Read several features. Default implementation reads features one by one, stores override it with a native
+     * bulk read.
+     *
+     * @param featureUids
+     *      unique feature identifiers
+     * @return
+     *      features per identifier
+     */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        Map<String, Feature> features = new LinkedHashMap<String, Feature>();
+        for (String uid : featureUids) {
+            try {
+                features.put(uid, read(uid));
+            } catch (FeatureNotFoundException fnf) {
+                // Unknown features are not part of the result
+            }
+        }
+        return features;
+    }
+    
     /**
      * Import features from a set of feature.
      *
      * @param features
      */
     public void importFeatures(Collection < Feature > features) {
-        if (features != null) {
-            for (Feature feature : features) {
-                if (exist(feature.getUid())) {
-                    delete(feature.getUid());
+        importFeatures(features, DEFAULT_IMPORT_BATCHSIZE, null);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public void importFeatures(Collection < Feature > features, int batchSize, ImportListener listener) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        if (features == null) {
+            return;
+        }
+        List < Feature > batch = new ArrayList<Feature>(Math.min(batchSize, features.size()));
+        int imported = 0;
+        for (Feature feature : features) {
+            assertFeatureNotNull(feature);
+            batch.add(feature);
+            if (batch.size() == batchSize) {
+                importFeaturesBatch(batch);
+                imported += batch.size();
+                batch.clear();
+                if (listener != null) {
+                    listener.onBatch(imported, features.size());
                 }
-                create(feature);
             }
         }
+        if (!batch.isEmpty()) {
+            importFeaturesBatch(batch);
+            imported += batch.size();
+            if (listener != null) {
+                listener.onBatch(imported, features.size());
+            }
+        }
+    }
+    
+    /**
+     * Write a batch of features, existing features are replaced. Default implementation
+     * performs exist/delete/create for each feature, stores override it with a native bulk operation.
+     *
+     * @param features
+     *      features of the batch (not null, size lower or equal to batch size)
+     */
+    protected void importFeaturesBatch(List < Feature > features) {
+        for (Feature feature : features) {
+            if (exist(feature.getUid())) {
+                delete(feature.getUid());
+            }
+            create(feature);
+        }
     }
     
     /** {@inheritDoc} */
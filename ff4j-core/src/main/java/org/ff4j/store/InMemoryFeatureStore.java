@@ -1,6 +1,7 @@
 package org.ff4j.store;
 
 import static org.ff4j.utils.Util.assertHasLength;
+import static org.ff4j.utils.Util.assertNotNull;
 
 /*
  * #%L ff4j-core $Id:$ $HeadURL:$ %% Copyright (C) 2013 Ff4J %% Licensed under the Apache License, Version 2.0 (the "License");
@@ -14,6 +15,7 @@ import static org.ff4j.utils.Util.assertHasLength;
  */
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -270,6 +272,20 @@ public class InMemoryFeatureStore extends AbstractFeatureStore {
     public Map<String, Feature> readAll() {
         return featuresMap;
     }
+    
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        assertNotNull(featureUids);
+        Map<String, Feature> features = new LinkedHashMap<String, Feature>();
+        for (String uid : featureUids) {
+            Feature feature = featuresMap.get(uid);
+            if (feature != null) {
+                features.put(uid, feature);
+            }
+        }
+        return features;
+    }
 
     /** {@inheritDoc} */
     @Override
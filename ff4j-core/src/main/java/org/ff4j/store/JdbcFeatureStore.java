@@ -1,8 +1,10 @@
 package org.ff4j.store;
 
 import static org.ff4j.store.JdbcStoreConstants.COL_FEAT_GROUPNAME;
+import static org.ff4j.store.JdbcStoreConstants.COL_PROPERTY_FEATID;
 import static org.ff4j.store.JdbcStoreConstants.COL_ROLE_FEATID;
 import static org.ff4j.store.JdbcStoreConstants.COL_ROLE_ROLENAME;
+import static org.ff4j.store.JdbcStoreConstants.SQL_MAX_IN_VALUES;
 import static org.ff4j.utils.JdbcUtils.buildStatement;
 
 /*
@@ -37,9 +39,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -349,6 +355,69 @@ public class JdbcFeatureStore extends AbstractFeatureStore {
         update(getQueryBuilder().deleteFeatureRole(), uid, roleName);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        List<String> uids = new ArrayList<String>(new LinkedHashSet<String>(featureUids));
+        Map<String, Feature> found = new HashMap<String, Feature>();
+        Connection sqlConn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            if (!uids.isEmpty()) {
+                sqlConn = getDataSource().getConnection();
+            }
+            // Features, roles and properties with 3 requests for each chunk of the IN clause
+            for (int from = 0; from < uids.size(); from += SQL_MAX_IN_VALUES) {
+                Object[] chunk = uids.subList(from, Math.min(from + SQL_MAX_IN_VALUES, uids.size())).toArray();
+                ps = buildStatement(sqlConn, getQueryBuilder().getFeatures(chunk.length), chunk);
+                rs = ps.executeQuery();
+                while (rs.next()) {
+                    Feature f = JDBC_FEATURE_MAPPER.mapFeature(rs);
+                    found.put(f.getUid(), f);
+                }
+                closeResultSet(rs);
+                rs = null;
+                closeStatement(ps);
+                ps = null;
+
+                ps = buildStatement(sqlConn, getQueryBuilder().getRolesOfFeatures(chunk.length), chunk);
+                rs = ps.executeQuery();
+                while (rs.next()) {
+                    Feature f = found.get(rs.getString(COL_ROLE_FEATID));
+                    if (f != null) {
+                        f.getPermissions().add(rs.getString(COL_ROLE_ROLENAME));
+                    }
+                }
+                closeResultSet(rs);
+                rs = null;
+                closeStatement(ps);
+                ps = null;
+
+                ps = buildStatement(sqlConn, getQueryBuilder().getPropertiesOfFeatures(chunk.length), chunk);
+                rs = ps.executeQuery();
+                while (rs.next()) {
+                    Feature f = found.get(rs.getString(COL_PROPERTY_FEATID));
+                    if (f != null) {
+                        f.addProperty(JDBC_PROPERTY_MAPPER.map(rs));
+                    }
+                }
+                closeResultSet(rs);
+                rs = null;
+                closeStatement(ps);
+                ps = null;
+            }
+        } catch (SQLException sqlEX) {
+            throw new FeatureAccessException(CANNOT_CHECK_FEATURE_EXISTENCE_ERROR_RELATED_TO_DATABASE, sqlEX);
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+            closeConnection(sqlConn);
+        }
+        return Util.keepRequestedOrder(uids, found);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readAll() {
@@ -530,6 +599,106 @@ public class JdbcFeatureStore extends AbstractFeatureStore {
         }
     }
 
+    /**
+     * Replace a batch of features within a single transaction with JDBC batches: existing
+     * features are deleted then features, roles and custom properties are inserted.
+     *
+     * @param features
+     *      features of the batch
+     */
+    @Override
+    protected void importFeaturesBatch(List < Feature > features) {
+        Connection sqlConn = null;
+        PreparedStatement ps = null;
+        Boolean previousAutoCommit = null;
+        try {
+            sqlConn = getDataSource().getConnection();
+
+            // Begin TX
+            previousAutoCommit = sqlConn.getAutoCommit();
+            sqlConn.setAutoCommit(false);
+
+            // Delete existing features (properties and roles first)
+            for (String deleteQuery : new String[] { 
+                    getQueryBuilder().deleteAllFeatureCustomProperties(),
+                    getQueryBuilder().deleteRoles(), 
+                    getQueryBuilder().deleteFeature() }) {
+                ps = sqlConn.prepareStatement(deleteQuery);
+                for (Feature fp : features) {
+                    ps.setString(1, fp.getUid());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                closeStatement(ps);
+                ps = null;
+            }
+
+            // Create features
+            ps = sqlConn.prepareStatement(getQueryBuilder().createFeature());
+            for (Feature fp : features) {
+                ps.setString(1, fp.getUid());
+                ps.setInt(2, fp.isEnable() ? 1 : 0);
+                ps.setString(3, fp.getDescription());
+                String strategyColumn = null;
+                String expressionColumn = null;
+                if (fp.getFlippingStrategy() != null) {
+                    strategyColumn   = fp.getFlippingStrategy().getClass().getName();
+                    expressionColumn = MappingUtil.fromMap(fp.getFlippingStrategy().getInitParams());
+                }
+                ps.setString(4, strategyColumn);
+                ps.setString(5, expressionColumn);
+                ps.setString(6, fp.getGroup());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            closeStatement(ps);
+            ps = null;
+
+            // Create roles
+            int rows = 0;
+            ps = sqlConn.prepareStatement(getQueryBuilder().addRoleToFeature());
+            for (Feature fp : features) {
+                for (String role : fp.getPermissions()) {
+                    ps.setString(1, fp.getUid());
+                    ps.setString(2, role);
+                    ps.addBatch();
+                    rows++;
+                }
+            }
+            if (rows > 0) {
+                ps.executeBatch();
+            }
+            closeStatement(ps);
+            ps = null;
+
+            // Create custom properties
+            rows = 0;
+            ps = sqlConn.prepareStatement(getQueryBuilder().createFeatureProperty());
+            for (Feature fp : features) {
+                if (fp.getCustomProperties() != null) {
+                    for (Property<?> pp : fp.getCustomProperties().values()) {
+                        setCustomPropertyParameters(ps, fp.getUid(), pp);
+                        ps.addBatch();
+                        rows++;
+                    }
+                }
+            }
+            if (rows > 0) {
+                ps.executeBatch();
+            }
+
+            // Commit
+            sqlConn.commit();
+
+        } catch (SQLException sqlEX) {
+            rollback(sqlConn);
+            throw new FeatureAccessException(CANNOT_UPDATE_FEATURES_DATABASE_SQL_ERROR, sqlEX);
+        } finally {
+            closeStatement(ps);
+            closeConnection(sqlConn, previousAutoCommit);
+        }
+    }
+
     /**
      * Ease creation of properties in Database.
      *
@@ -589,6 +758,25 @@ public class JdbcFeatureStore extends AbstractFeatureStore {
     private PreparedStatement createCustomProperty(Connection sqlConn, String featureId, Property<?> pp)
     throws SQLException {
         PreparedStatement ps = sqlConn.prepareStatement(getQueryBuilder().createFeatureProperty());
+        setCustomPropertyParameters(ps, featureId, pp);
+        ps.executeUpdate();
+        return ps;
+    }
+
+    /**
+     * Bind parameters of custom property creation query.
+     *
+     * @param ps
+     *      statement built from {@link JdbcQueryBuilder#createFeatureProperty()}
+     * @param featureId
+     *      current unique feature identifier
+     * @param pp
+     *      pojo property
+     * @throws SQLException
+     *      error during sql operation
+     */
+    private void setCustomPropertyParameters(PreparedStatement ps, String featureId, Property<?> pp)
+    throws SQLException {
         ps.setString(1, pp.getName());
         ps.setString(2, pp.getType());
         ps.setString(3, pp.asString());
@@ -600,8 +788,6 @@ public class JdbcFeatureStore extends AbstractFeatureStore {
             ps.setString(5, null);
         }
         ps.setString(6, featureId);
-        ps.executeUpdate();
-        return ps;
     }
 
     /** {@inheritDoc} */
@@ -290,6 +290,16 @@ public class JdbcQueryBuilder {
 		return sb.toString();
 	}
 	
+	public String getFeatures(int count) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("SELECT FEAT_UID,ENABLE,DESCRIPTION,STRATEGY,EXPRESSION,GROUPNAME FROM ");
+		sb.append(getSchemaPattern());
+		sb.append(getTableNameFeatures());
+		sb.append(" WHERE FEAT_UID");
+		sb.append(inClause(count));
+		return sb.toString();
+	}
+	
 	public String existFeature() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("SELECT COUNT(FEAT_UID) FROM ");
@@ -425,6 +435,16 @@ public class JdbcQueryBuilder {
 		return sb.toString();
 	}
 	
+	public String getRolesOfFeatures(int count) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("SELECT FEAT_UID,ROLE_NAME FROM ");
+		sb.append(getSchemaPattern());
+		sb.append(getTableNameRoles());
+		sb.append(" WHERE FEAT_UID");
+		sb.append(inClause(count));
+		return sb.toString();
+	}
+	
 	public String getAllRoles() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("SELECT FEAT_UID,ROLE_NAME FROM ");
@@ -444,6 +464,16 @@ public class JdbcQueryBuilder {
 		return sb.toString();
 	}
 	
+	public String getPropertiesOfFeatures(int count) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("SELECT PROPERTY_ID,CLAZZ,CURRENTVALUE,DESCRIPTION,FIXEDVALUES,FEAT_UID FROM ");
+		sb.append(getSchemaPattern());
+		sb.append(getTableNameCustomProperties());
+		sb.append(" WHERE FEAT_UID");
+		sb.append(inClause(count));
+		return sb.toString();
+	}
+	
 	public String getFeatureProperty() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("SELECT PROPERTY_ID,CLAZZ,CURRENTVALUE,FIXEDVALUES,FEAT_UID FROM ");
@@ -548,6 +578,33 @@ public class JdbcQueryBuilder {
 		return sb.toString();
 	}
 	
+	public String getProperties(int count) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("SELECT PROPERTY_ID,CLAZZ,CURRENTVALUE,DESCRIPTION,FIXEDVALUES FROM ");
+		sb.append(getSchemaPattern());
+		sb.append(getTableNameProperties());
+		sb.append(" WHERE PROPERTY_ID");
+		sb.append(inClause(count));
+		return sb.toString();
+	}
+	
+	/**
+	 * IN clause with expected number of parameters.
+	 *
+	 * @param count
+	 *     number of values (at least 1)
+	 * @return
+	 *     sql fragment ' IN (?,?)'
+	 */
+	private String inClause(int count) {
+		StringBuilder sb = new StringBuilder(" IN (?");
+		for (int i = 1; i < count; i++) {
+			sb.append(",?");
+		}
+		sb.append(")");
+		return sb.toString();
+	}
+	
 	public String updateProperty() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("UPDATE ");
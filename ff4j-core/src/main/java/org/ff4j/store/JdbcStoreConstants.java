@@ -250,6 +250,9 @@ public class JdbcStoreConstants {
     
     /** sql column name from table FF4J_PROPERTIES. */
     public static final String COL_PROPERTY_DESCRIPTION = "DESCRIPTION";
+    
+    /** Maximum number of values in a single IN clause when reading several elements. */
+    public static final int SQL_MAX_IN_VALUES = 500;
 
     private JdbcStoreConstants() {}
 }
@@ -0,0 +1,258 @@
+package org.ff4j.strategy;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.ff4j.core.FlippingStrategy;
+import org.ff4j.exception.FeatureAccessException;
+
+/**
+ * Create {@link FlippingStrategy} instances for stores and parsers.
+ * 
+ * <p>Resolved classes are kept. Strategies marked as {@link ImmutableFlippingStrategy} are interned by (feature, class,
+ * init parameters) : reading the same feature again (readAll, cache refill) returns the already initialized strategy
+ * instead of building and initializing a new one. The feature uid is part of the key as strategies may depend on it.
+ * An interned strategy whose parameters have been modified since is replaced. Other strategies may be modified by
+ * their owner ({@link PonderationStrategy#setWeight(double)}, {@link org.ff4j.strategy.el.ExpressionFlipStrategy}) and
+ * are never shared.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class FlippingStrategyFactory {
+
+    /** Maximum number of interned strategies, least recently used are discarded. */
+    public static final int MAX_INTERNED = 10000;
+
+    /** Resolved strategy classes per class name. */
+    private static final ConcurrentMap<String, Class<? extends FlippingStrategy>> CLASSES =
+            new ConcurrentHashMap<String, Class<? extends FlippingStrategy>>();
+
+    /** Initialized strategies, access ordered to discard least recently used. */
+    private static final Map<StrategyKey, FlippingStrategy> INTERNED =
+            new LinkedHashMap<StrategyKey, FlippingStrategy>(256, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<StrategyKey, FlippingStrategy> eldest) {
+                    return size() > MAX_INTERNED;
+                }
+            };
+
+    /** Class loader to resolve classes, default is Class.forName. */
+    private static volatile ClassLoader classLoader;
+
+    /**
+     * Hide default constructor.
+     */
+    private FlippingStrategyFactory() {
+    }
+
+    /**
+     * Initialized strategy from its class name, shared only if it is an {@link ImmutableFlippingStrategy}.
+     *
+     * @param uid
+     *      feature unique identifier
+     * @param className
+     *      strategy class name
+     * @param initParams
+     *      init parameters
+     * @return
+     *      initialized strategy
+     */
+    public static FlippingStrategy getStrategy(String uid, String className, Map<String, String> initParams) {
+        return getStrategy(uid, resolveClass(className), initParams);
+    }
+
+    /**
+     * Initialized strategy from its class, shared only if it is an {@link ImmutableFlippingStrategy}.
+     *
+     * @param uid
+     *      feature unique identifier
+     * @param clazz
+     *      strategy class
+     * @param initParams
+     *      init parameters
+     * @return
+     *      initialized strategy
+     */
+    public static FlippingStrategy getStrategy(String uid, Class<? extends FlippingStrategy> clazz, Map<String, String> initParams) {
+        if (!ImmutableFlippingStrategy.class.isAssignableFrom(clazz)) {
+            return newStrategy(uid, clazz, initParams);
+        }
+        StrategyKey key = new StrategyKey(uid, clazz, initParams);
+        FlippingStrategy strategy;
+        synchronized (INTERNED) {
+            strategy = INTERNED.get(key);
+        }
+        // Parameters of the shared instance must not have been altered
+        if (strategy != null && key.sameParams(strategy.getInitParams())) {
+            return strategy;
+        }
+        strategy = newStrategy(uid, clazz, initParams);
+        synchronized (INTERNED) {
+            INTERNED.put(key, strategy);
+        }
+        return strategy;
+    }
+
+    /**
+     * New initialized strategy from its class name, not shared.
+     *
+     * @param uid
+     *      feature unique identifier
+     * @param className
+     *      strategy class name
+     * @param initParams
+     *      init parameters
+     * @return
+     *      initialized strategy
+     */
+    public static FlippingStrategy newStrategy(String uid, String className, Map<String, String> initParams) {
+        return newStrategy(uid, resolveClass(className), initParams);
+    }
+
+    /**
+     * New initialized strategy from its class, not shared.
+     *
+     * @param uid
+     *      feature unique identifier
+     * @param clazz
+     *      strategy class
+     * @param initParams
+     *      init parameters
+     * @return
+     *      initialized strategy
+     */
+    public static FlippingStrategy newStrategy(String uid, Class<? extends FlippingStrategy> clazz, Map<String, String> initParams) {
+        try {
+            FlippingStrategy flipStrategy = clazz.newInstance();
+            // Strategy keeps its own copy, caller may reuse the map
+            flipStrategy.init(uid, (initParams == null) ? null : new HashMap<String, String>(initParams));
+            return flipStrategy;
+        } catch (Exception ie) {
+            throw new FeatureAccessException("Cannot instantiate Strategy, no default constructor available", ie);
+        }
+    }
+
+    /**
+     * Resolve strategy class from its name, once.
+     *
+     * @param className
+     *      strategy class name
+     * @return
+     *      strategy class
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends FlippingStrategy> resolveClass(String className) {
+        Class<? extends FlippingStrategy> clazz = CLASSES.get(className);
+        if (clazz == null) {
+            try {
+                ClassLoader cl = classLoader;
+                clazz = (Class<? extends FlippingStrategy>) (cl == null ? Class.forName(className) : cl.loadClass(className));
+            } catch (Exception ie) {
+                throw new FeatureAccessException("Cannot instantiate Strategy, no default constructor available", ie);
+            }
+            CLASSES.put(className, clazz);
+        }
+        return clazz;
+    }
+
+    /**
+     * Discard resolved classes and interned strategies.
+     */
+    public static void clear() {
+        CLASSES.clear();
+        synchronized (INTERNED) {
+            INTERNED.clear();
+        }
+    }
+
+    /**
+     * Class loader used to resolve classes, resolved classes are discarded.
+     *
+     * @param cl
+     *      class loader, null for Class.forName
+     */
+    public static void setClassLoader(ClassLoader cl) {
+        classLoader = cl;
+        clear();
+    }
+
+    /** Key of interned strategies. */
+    private static final class StrategyKey {
+
+        /** Feature uid. */
+        private final String uid;
+
+        /** Strategy class. */
+        private final Class<?> clazz;
+
+        /** Copy of init parameters. */
+        private final Map<String, String> initParams;
+
+        /** Precomputed hash. */
+        private final int hash;
+
+        private StrategyKey(String uid, Class<?> clazz, Map<String, String> initParams) {
+            this.uid        = uid;
+            this.clazz      = clazz;
+            this.initParams = (initParams == null) ? new HashMap<String, String>() : new HashMap<String, String>(initParams);
+            int h = (uid == null) ? 0 : uid.hashCode();
+            h = 31 * h + clazz.hashCode();
+            this.hash = 31 * h + this.initParams.hashCode();
+        }
+
+        /**
+         * Compare with parameters of a strategy.
+         *
+         * @param params
+         *      current parameters of the strategy
+         * @return
+         *      if parameters are the same as the key
+         */
+        private boolean sameParams(Map<String, String> params) {
+            return (params == null) ? initParams.isEmpty() : initParams.equals(params);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StrategyKey)) {
+                return false;
+            }
+            StrategyKey other = (StrategyKey) obj;
+            return hash == other.hash && clazz == other.clazz
+                    && (uid == null ? other.uid == null : uid.equals(other.uid))
+                    && initParams.equals(other.initParams);
+        }
+    }
+
+}
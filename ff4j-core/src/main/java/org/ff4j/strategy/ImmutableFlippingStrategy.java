@@ -0,0 +1,35 @@
+package org.ff4j.strategy;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.core.FlippingStrategy;
+
+/**
+ * Marker of a {@link FlippingStrategy} whose state is only set by {@link FlippingStrategy#init(String, java.util.Map)}
+ * and never modified afterwards (no setter, evaluation does not alter fields nor init parameters).
+ *
+ * <p>Only such strategies are shared by {@link FlippingStrategyFactory#getStrategy(String, Class, java.util.Map)}, other
+ * strategies get a new instance on each read.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public interface ImmutableFlippingStrategy extends FlippingStrategy {
+}
@@ -32,6 +32,7 @@ import java.util.Map;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.core.FlippingExecutionContext;
 import org.ff4j.strategy.AbstractFlipStrategy;
+import org.ff4j.strategy.ImmutableFlippingStrategy;
 
 /**
  * Implemenetation of an office hour strategy.
@@ -40,7 +41,7 @@ import org.ff4j.strategy.AbstractFlipStrategy;
  *
  * @author Cedrick Lunven (@clunven)
  */
-public class OfficeHourStrategy extends AbstractFlipStrategy {
+public class OfficeHourStrategy extends AbstractFlipStrategy implements ImmutableFlippingStrategy {
     
     /** Serial. */
     private static final long serialVersionUID = -4384808702026232747L;
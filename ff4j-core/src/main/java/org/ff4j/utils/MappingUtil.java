@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.ff4j.core.FlippingStrategy;
-import org.ff4j.exception.FeatureAccessException;
 import org.ff4j.property.PropertyString;
 import org.ff4j.property.PropertyBigDecimal;
 import org.ff4j.property.PropertyBigInteger;
@@ -41,6 +40,7 @@ import org.ff4j.property.PropertyInt;
 import org.ff4j.property.PropertyLogLevel;
 import org.ff4j.property.PropertyLong;
 import org.ff4j.property.PropertyShort;
+import org.ff4j.strategy.FlippingStrategyFactory;
 
 /**
  * Utility class to work with parameters.
@@ -55,8 +55,6 @@ public class MappingUtil {
     /** Primitive mapping. */
     private static Map < String, String > PROPERTY_TYPES;
 
-    private static ClassLoader classLoader;
-
     /**
      * Hiding default constructor for utility class.
      */
@@ -170,26 +168,19 @@ public class MappingUtil {
     }
     
     /**
-     * Instanciate flipping strategy from its class name.
+     * Instanciate flipping strategy from its class name, initialized strategies are shared
+     * (see {@link FlippingStrategyFactory}).
      *
      * @param className
      *      current class name
      * @return
      *      the flipping strategy
      */
-    @SuppressWarnings("unchecked")
-	public static FlippingStrategy instanceFlippingStrategy(String uid, String className,  Map<String, String> initparams) {
-        try {
-            Class<FlippingStrategy> clazz = (Class<FlippingStrategy>) (classLoader == null ? Class.forName(className) : classLoader.loadClass(className));
-            FlippingStrategy flipStrategy = clazz.newInstance();
-            flipStrategy.init(uid, initparams);
-            return flipStrategy;
-        } catch (Exception ie) {
-            throw new FeatureAccessException("Cannot instantiate Strategy, no default constructor available", ie);
-        } 
+    public static FlippingStrategy instanceFlippingStrategy(String uid, String className,  Map<String, String> initparams) {
+        return FlippingStrategyFactory.getStrategy(uid, className, initparams);
     }
 
     public static void setClassLoader(ClassLoader classLoader) {
-        MappingUtil.classLoader = classLoader;
+        FlippingStrategyFactory.setClassLoader(classLoader);
     }
 }
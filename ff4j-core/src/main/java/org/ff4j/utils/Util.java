@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -452,4 +453,24 @@ public class Util {
         return null;
     }
 
+    /**
+     * Values found for requested keys, in requested order : keys without value are not part of the result.
+     *
+     * @param keys
+     *      requested keys
+     * @param found
+     *      values found per key (any order)
+     * @return
+     *      values per key in requested order
+     */
+    public static <T, E> Map<T, E> keepRequestedOrder(Collection<T> keys, Map<T, ? extends E> found) {
+        Map<T, E> result = new LinkedHashMap<T, E>();
+        for (T key : keys) {
+            if (found.containsKey(key)) {
+                result.put(key, found.get(key));
+            }
+        }
+        return result;
+    }
+
 }
@@ -110,6 +110,15 @@ public class FF4jWebConstants {
     
     /** nb of points in the curve. */
     public static final String PARAM_NBPOINTS = "nbpoints";
+    
+    /** paging, index of first element to return. */
+    public static final String PARAM_OFFSET = "offset";
+    
+    /** paging, maximum number of elements to return. */
+    public static final String PARAM_LIMIT = "limit";
+    
+    /** projection, comma separated list of attributes to return. */
+    public static final String PARAM_FIELDS = "fields";
 
     /** security role. */
     public static final String ROLE_READ = "READ";
@@ -123,6 +132,9 @@ public class FF4jWebConstants {
     /** HTTP Header. */
     public static final String HEADER_AUTHORIZATION = "Authorization";
     
+    /** HTTP Header, total number of elements when list is paged. */
+    public static final String HEADER_TOTAL_COUNT = "X-Total-Count";
+    
     /** Manifest File. */
     public static final String MANIFEST_FILE = "/META-INF/MANIFEST.MF";
 
@@ -29,6 +29,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.ff4j.FF4j;
 import org.ff4j.audit.Event;
@@ -222,6 +228,31 @@ public class FF4jTest extends AbstractFf4jTest {
         assertTrue(ff4j.exist("autoCreatedFeature"));
     }
 
+    @Test
+    public void autoCreateConcurrentChecks() throws Exception {
+        final FF4j ff4j = new FF4j().autoCreate(true);
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+        for (int i = 0; i < 400; i++) {
+            final String uid = "concurrent" + (i % 10);
+            results.add(executor.submit(new Callable<Boolean>() {
+                public Boolean call() throws Exception {
+                    start.await();
+                    return ff4j.check(uid);
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertFalse(result.get());
+        }
+        executor.shutdown();
+        assertEquals(10, ff4j.getFeatures().size());
+        ff4j.enable("concurrent1");
+        assertTrue(ff4j.check("concurrent1"));
+    }
+
     @Test
     public void workingWithFeature() {
         // Initialize with empty store
@@ -291,6 +322,64 @@ public class FF4jTest extends AbstractFf4jTest {
         ff4j.setAuthManager("something");
     }
     
+    @Test
+    public void testCheckAll() {
+        FF4j ff4j = new FF4j("ff4j.xml");
+        Map<String, Boolean> flags = ff4j.checkAll(Arrays.asList("second", F1, "AwesomeFeature", F1));
+        Assert.assertEquals(Arrays.asList("second", F1, "AwesomeFeature"), new ArrayList<String>(flags.keySet()));
+        for (Map.Entry<String, Boolean> flag : flags.entrySet()) {
+            Assert.assertEquals(ff4j.check(flag.getKey()), flag.getValue());
+        }
+        Assert.assertTrue(ff4j.checkAll(new ArrayList<String>()).isEmpty());
+    }
+    
+    @Test
+    public void testCheckAllSecured() {
+        FF4j ff4j = new FF4j("ff4j.xml");
+        ff4j.setAuthorizationsManager(new DefinedPermissionSecurityManager(Util.set("USER")));
+        Map<String, Boolean> flags = ff4j.checkAll(Arrays.asList(F1, "forth", "AwesomeFeature"));
+        Assert.assertTrue(flags.get(F1));
+        Assert.assertFalse(flags.get("forth"));
+        Assert.assertTrue(flags.get("AwesomeFeature"));
+        
+        ff4j.setAuthorizationsManager(mockAuthManager);
+        flags = ff4j.checkAll(Arrays.asList(F1, "AwesomeFeature"));
+        Assert.assertFalse(flags.get(F1));
+        Assert.assertTrue(flags.get("AwesomeFeature"));
+    }
+    
+    @Test
+    public void testCheckAllAuditAsBatch() {
+        final List<Event> saved = new ArrayList<Event>();
+        FF4j ff4j = new FF4j("ff4j.xml");
+        ff4j.setEventRepository(new InMemoryEventRepository() {
+            @Override
+            public boolean saveEvent(Event e) {
+                saved.add(e);
+                return super.saveEvent(e);
+            }
+        });
+        ff4j.audit(true);
+        FlippingExecutionContext ctx = new FlippingExecutionContext();
+        ff4j.checkAll(Arrays.asList(F1, "second", "forth"), ctx);
+        Assert.assertEquals(3, saved.size());
+        Assert.assertEquals(EventConstants.ACTION_CHECK_OK, saved.get(0).getAction());
+        Assert.assertEquals(EventConstants.ACTION_CHECK_OFF, saved.get(1).getAction());
+        Assert.assertSame(ctx, ff4j.getCurrentContext());
+    }
+    
+    @Test(expected = FeatureNotFoundException.class)
+    public void testCheckAllNotFound() {
+        new FF4j("ff4j.xml").checkAll(Arrays.asList(F1, "i-dont-exist"));
+    }
+    
+    @Test
+    public void testCheckAllAutocreate() {
+        FF4j ff4j = new FF4j("ff4j.xml").autoCreate(true);
+        Assert.assertFalse(ff4j.checkAll(Arrays.asList(F1, "i-dont-exist")).get("i-dont-exist"));
+        Assert.assertTrue(ff4j.exist("i-dont-exist"));
+    }
+    
     @Test
     public void testOverrideStrategy() {
         FF4j ff4j = new FF4j();
@@ -17,11 +17,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.ff4j.core.Feature;
 import org.ff4j.core.FlippingExecutionContext;
 import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.PropertyString;
+import org.ff4j.security.RoleDictionary;
 import org.ff4j.strategy.PonderationStrategy;
 import org.ff4j.utils.Util;
 import org.junit.Assert;
@@ -242,5 +244,53 @@ public class FeatureTest {
         // When
         feat.addProperty(null);
     }
+    
+    @Test
+    public void testPermissionsMaskFollowsUpdates() {
+        // Given
+        Feature feat = new Feature("abc", true);
+        Assert.assertTrue(feat.permissionsMask().isEmpty());
+        // When
+        feat.getPermissions().add("ROLE_A");
+        // Then
+        Assert.assertTrue(feat.permissionsMask().get(RoleDictionary.indexOf("ROLE_A")));
+        // When
+        feat.getPermissions().remove("ROLE_A");
+        feat.getPermissions().add("ROLE_B");
+        // Then
+        Assert.assertFalse(feat.permissionsMask().get(RoleDictionary.indexOf("ROLE_A")));
+        Assert.assertTrue(feat.permissionsMask().get(RoleDictionary.indexOf("ROLE_B")));
+        // When
+        feat.setPermissions(new HashSet<String>(feat.getPermissions()));
+        feat.getPermissions().clear();
+        // Then
+        Assert.assertTrue(feat.permissionsMask().isEmpty());
+    }
+    
+    @Test
+    public void testPermissionsMaskNotStaleUnderConcurrentReads() throws InterruptedException {
+        // Given
+        final Feature feat = new Feature("abc", true);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        Thread reader = new Thread(new Runnable() {
+            public void run() {
+                while (running.get()) {
+                    feat.permissionsMask();
+                }
+            }
+        });
+        reader.start();
+        // When
+        for (int i = 0; i < 10000; i++) {
+            feat.getPermissions().add("ROLE_A");
+            feat.getPermissions().remove("ROLE_A");
+        }
+        feat.getPermissions().add("ROLE_B");
+        running.set(false);
+        reader.join();
+        // Then
+        Assert.assertFalse(feat.permissionsMask().get(RoleDictionary.indexOf("ROLE_A")));
+        Assert.assertTrue(feat.permissionsMask().get(RoleDictionary.indexOf("ROLE_B")));
+    }
 }
 
@@ -20,10 +20,14 @@ package org.ff4j.test.audit;
  * #L%
  */
 
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.ff4j.FF4j;
 import org.ff4j.audit.proxy.FeatureStoreAuditProxy;
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
 import org.ff4j.store.InMemoryFeatureStore;
 import org.ff4j.test.store.CoreFeatureStoreTestSupport;
 import org.ff4j.utils.Util;
@@ -59,5 +63,25 @@ public class FeatureStoreAuditProxyTest extends CoreFeatureStoreTestSupport {
         testedStore.importFeatures(Util.list(fx1, fx2));
         
     }
+    
+    @Test
+    public void testImportFeaturesDelegatedAsBatch() {
+        final AtomicInteger batchImports = new AtomicInteger();
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public void importFeatures(Collection<Feature> features, int batchSize, ImportListener listener) {
+                batchImports.incrementAndGet();
+                super.importFeatures(features, batchSize, listener);
+            }
+        };
+        target.create(new Feature("fx1", false));
+        FF4j ff4j = new FF4j();
+        ff4j.setFeatureStore(target);
+        FeatureStoreAuditProxy proxy = new FeatureStoreAuditProxy(ff4j, target);
+        proxy.importFeatures(Util.list(new Feature("fx1", true), new Feature("fx2", true)));
+        Assert.assertEquals(1, batchImports.get());
+        Assert.assertTrue(target.read("fx1").isEnable());
+        Assert.assertTrue(target.exist("fx2"));
+    }
 
 }
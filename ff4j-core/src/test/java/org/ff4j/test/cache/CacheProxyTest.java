@@ -1,13 +1,29 @@
 package org.ff4j.test.cache;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.ff4j.FF4j;
+import org.ff4j.cache.BulkCacheReader;
 import org.ff4j.cache.FF4JCacheManager;
 import org.ff4j.cache.FF4jCacheProxy;
 import org.ff4j.cache.InMemoryCacheManager;
 import org.ff4j.core.Feature;
+import org.ff4j.exception.FeatureNotFoundException;
 import org.ff4j.property.Property;
 import org.ff4j.property.PropertyLogLevel;
 import org.ff4j.property.PropertyLogLevel.LogLevel;
@@ -118,6 +134,375 @@ public class CacheProxyTest {
         proxy.readProperty("p1", new PropertyString("p3"));
     }
     
+    @Test
+    public void testCacheProxyReadFeaturesOnlyMisses() {
+        final List<Collection<String>> targetCalls = new ArrayList<Collection<String>>();
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+                targetCalls.add(new ArrayList<String>(featureUids));
+                return super.readFeatures(featureUids);
+            }
+        };
+        target.create(new Feature("f1"));
+        target.create(new Feature("f2"));
+        target.create(new Feature("f3"));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        proxy.read("f2");
+        
+        Map<String, Feature> features = proxy.readFeatures(Arrays.asList("f3", "f2", "unknown", "f1"));
+        Assert.assertEquals(Arrays.asList("f3", "f2", "f1"), new ArrayList<String>(features.keySet()));
+        Assert.assertEquals(1, targetCalls.size());
+        Assert.assertEquals(Arrays.asList("f3", "unknown", "f1"), targetCalls.get(0));
+        
+        // Everything found is now cached, only the unknown identifier goes to the target
+        Assert.assertEquals(3, proxy.readFeatures(Arrays.asList("f1", "f2", "f3", "unknown")).size());
+        Assert.assertEquals(Arrays.asList("unknown"), targetCalls.get(1));
+    }
+    
+    @Test
+    public void testCacheProxyReadFeaturesOverlappingUpdate() {
+        final AtomicReference<FF4jCacheProxy> proxyRef = new AtomicReference<FF4jCacheProxy>();
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+                Map<String, Feature> features = super.readFeatures(featureUids);
+                // Updated while reading
+                proxyRef.get().update(new Feature("f1", true));
+                return features;
+            }
+        };
+        target.create(new Feature("f1", false));
+        target.create(new Feature("f2", false));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        proxyRef.set(proxy);
+        Assert.assertEquals(2, proxy.readFeatures(Arrays.asList("f1", "f2")).size());
+        // Old value not put in cache, untouched one is
+        Assert.assertNull(proxy.getCacheManager().getFeature("f1"));
+        Assert.assertNotNull(proxy.getCacheManager().getFeature("f2"));
+        Assert.assertTrue(proxy.read("f1").isEnable());
+    }
+    
+    @Test
+    public void testCacheProxyReadProperties() {
+        InMemoryPropertyStore target = new InMemoryPropertyStore();
+        target.createProperty(new PropertyString("p1", "v1"));
+        target.createProperty(new PropertyString("p2", "v2"));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(new InMemoryFeatureStore(), target, new InMemoryCacheManager());
+        Map<String, Property<?>> properties = proxy.readProperties(Arrays.asList("p2", "unknown", "p1"));
+        Assert.assertEquals(Arrays.asList("p2", "p1"), new ArrayList<String>(properties.keySet()));
+        Assert.assertEquals("v1", properties.get("p1").asString());
+        Assert.assertNotNull(proxy.getCacheManager().getProperty("p2"));
+    }
+    
+    @Test
+    public void testCacheProxyBulkReadFromCache() {
+        final AtomicInteger singleReads = new AtomicInteger();
+        final List<Collection<String>> bulkReads = new ArrayList<Collection<String>>();
+        class BulkCache extends InMemoryCacheManager implements BulkCacheReader {
+            @Override
+            public Feature getFeature(String featureId) {
+                singleReads.incrementAndGet();
+                return super.getFeature(featureId);
+            }
+            @Override
+            public Property<?> getProperty(String name) {
+                singleReads.incrementAndGet();
+                return super.getProperty(name);
+            }
+            public Map<String, Feature> getFeatures(Collection<String> featureIds) {
+                bulkReads.add(new ArrayList<String>(featureIds));
+                Map<String, Feature> features = new HashMap<String, Feature>();
+                for (String uid : featureIds) {
+                    if (super.getFeature(uid) != null) {
+                        features.put(uid, super.getFeature(uid));
+                    }
+                }
+                return features;
+            }
+            public Map<String, Property<?>> getProperties(Collection<String> propertyNames) {
+                bulkReads.add(new ArrayList<String>(propertyNames));
+                Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+                for (String name : propertyNames) {
+                    if (super.getProperty(name) != null) {
+                        properties.put(name, super.getProperty(name));
+                    }
+                }
+                return properties;
+            }
+        }
+        InMemoryFeatureStore target = new InMemoryFeatureStore();
+        target.create(new Feature("f1"));
+        target.create(new Feature("f2"));
+        InMemoryPropertyStore targetProperties = new InMemoryPropertyStore();
+        targetProperties.createProperty(new PropertyString("p1", "v1"));
+        BulkCache cache = new BulkCache();
+        cache.putFeature(new Feature("f2"));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, targetProperties, cache);
+        
+        Map<String, Feature> features = proxy.readFeatures(Arrays.asList("f2", "f1"));
+        Assert.assertEquals(Arrays.asList("f2", "f1"), new ArrayList<String>(features.keySet()));
+        Assert.assertEquals("v1", proxy.readProperties(Arrays.asList("p1")).get("p1").asString());
+        // One call to the cache per bulk read, no lookup one by one
+        Assert.assertEquals(0, singleReads.get());
+        Assert.assertEquals(Arrays.asList("f2", "f1"), bulkReads.get(0));
+        Assert.assertEquals(Arrays.asList("p1"), bulkReads.get(1));
+    }
+    
+    @Test
+    public void testCacheProxySingleFlight() throws InterruptedException {
+        final AtomicInteger targetReads = new AtomicInteger();
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public Feature read(String uid) {
+                targetReads.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(uid);
+            }
+        };
+        target.create(new Feature("f1", true));
+        final FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger found = new AtomicInteger();
+        List<Thread> readers = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            Thread t = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                        if (proxy.read("f1").isEnable()) {
+                            found.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            t.start();
+            readers.add(t);
+        }
+        start.countDown();
+        for (Thread t : readers) {
+            t.join();
+        }
+        Assert.assertEquals(8, found.get());
+        Assert.assertEquals(1, targetReads.get());
+    }
+    
+    @Test
+    public void testCacheProxyServeStaleWhenTargetFails() {
+        final AtomicBoolean down = new AtomicBoolean(false);
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public Feature read(String uid) {
+                if (down.get()) {
+                    throw new IllegalStateException("Target store is down");
+                }
+                return super.read(uid);
+            }
+        };
+        target.create(new Feature("f1", true));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        proxy.setServeStale(true);
+        proxy.setRefreshExecutor(new DirectExecutor());
+        Assert.assertTrue(proxy.read("f1").isEnable());
+        // Expired from cache while target is unavailable
+        proxy.getCacheManager().evictFeature("f1");
+        down.set(true);
+        Assert.assertTrue(proxy.read("f1").isEnable());
+        // Target is back, stale value served and cache filled again
+        down.set(false);
+        Assert.assertTrue(proxy.read("f1").isEnable());
+        Assert.assertNotNull(proxy.getCacheManager().getFeature("f1"));
+        // Deleted element is not served anymore
+        proxy.delete("f1");
+        try {
+            proxy.read("f1");
+            Assert.fail();
+        } catch (FeatureNotFoundException fnfe) {
+            Assert.assertFalse(proxy.exist("f1"));
+        }
+    }
+    
+    @Test
+    public void testCacheProxyRefreshAhead() throws InterruptedException {
+        InMemoryFeatureStore target = new InMemoryFeatureStore();
+        target.create(new Feature("f1", false));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        proxy.setRefreshAheadDelay(1);
+        proxy.setRefreshExecutor(new DirectExecutor());
+        Assert.assertFalse(proxy.read("f1").isEnable());
+        // Updated without the proxy
+        target.update(new Feature("f1", true));
+        Thread.sleep(10);
+        // Cached value served, reload triggered
+        Assert.assertFalse(proxy.read("f1").isEnable());
+        Assert.assertTrue(proxy.read("f1").isEnable());
+    }
+    
+    @Test
+    public void testCacheProxyRefreshOverlappingUpdate() throws InterruptedException {
+        final AtomicBoolean slow = new AtomicBoolean(false);
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public Feature read(String uid) {
+                Feature fp = super.read(uid);
+                if (slow.get()) {
+                    reading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return fp;
+            }
+        };
+        target.create(new Feature("f1", false));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        proxy.setRefreshAheadDelay(1);
+        proxy.setRefreshExecutor(executor);
+        Assert.assertFalse(proxy.read("f1").isEnable());
+        Thread.sleep(10);
+        // Background reload reads the old value
+        slow.set(true);
+        Assert.assertFalse(proxy.read("f1").isEnable());
+        Assert.assertTrue(reading.await(5, TimeUnit.SECONDS));
+        slow.set(false);
+        // Updated while reloading
+        proxy.update(new Feature("f1", true));
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        // Old value not put back in cache
+        Assert.assertTrue(proxy.read("f1").isEnable());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testCacheProxyRefreshAheadInvalidFraction() {
+        new FF4jCacheProxy().setRefreshAhead(1000, 1.5);
+    }
+    
+    /** Run background loads in caller thread. */
+    private static final class DirectExecutor implements Executor {
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+    
+    @Test
+    public void testCacheProxyNegativeCache() {
+        final AtomicInteger targetCalls = new AtomicInteger();
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public boolean exist(String uid) {
+                targetCalls.incrementAndGet();
+                return super.exist(uid);
+            }
+            @Override
+            public Feature read(String uid) {
+                targetCalls.incrementAndGet();
+                return super.read(uid);
+            }
+        };
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, new InMemoryPropertyStore(), new InMemoryCacheManager());
+        proxy.setNegativeCacheTtl(60000);
+        Assert.assertFalse(proxy.exist("optional"));
+        Assert.assertFalse(proxy.exist("optional"));
+        try {
+            proxy.read("optional");
+            Assert.fail();
+        } catch (FeatureNotFoundException fnfe) {
+            Assert.assertEquals(1, targetCalls.get());
+        }
+        Assert.assertTrue(proxy.readFeatures(Arrays.asList("optional")).isEmpty());
+        Assert.assertEquals(1, targetCalls.get());
+        // Created through the proxy
+        proxy.create(new Feature("optional", true));
+        Assert.assertTrue(proxy.exist("optional"));
+        Assert.assertTrue(proxy.read("optional").isEnable());
+    }
+    
+    @Test
+    public void testCacheProxyCompleteSnapshot() throws InterruptedException {
+        final AtomicInteger targetCalls = new AtomicInteger();
+        InMemoryFeatureStore target = new InMemoryFeatureStore() {
+            @Override
+            public Map<String, Feature> readAll() {
+                targetCalls.incrementAndGet();
+                return super.readAll();
+            }
+            @Override
+            public boolean exist(String uid) {
+                targetCalls.incrementAndGet();
+                return super.exist(uid);
+            }
+            @Override
+            public Set<String> readAllGroups() {
+                targetCalls.incrementAndGet();
+                return super.readAllGroups();
+            }
+        };
+        Feature f1 = new Feature("f1", true);
+        f1.setGroup("g1");
+        target.create(f1);
+        target.create(new Feature("f2", false));
+        InMemoryPropertyStore targetProperties = new InMemoryPropertyStore();
+        targetProperties.createProperty(new PropertyString("p1", "v1"));
+        FF4jCacheProxy proxy = new FF4jCacheProxy(target, targetProperties, new InMemoryCacheManager());
+        // Cannot be sure of whole cache before polling
+        targetCalls.set(0);
+        proxy.readAll();
+        Assert.assertEquals(1, targetCalls.get());
+        
+        // Full load by poller
+        final CountDownLatch loaded = new CountDownLatch(1);
+        proxy.addRefreshListener(new Runnable() {
+            public void run() {
+                loaded.countDown();
+            }
+        });
+        proxy.startPolling(60000);
+        Assert.assertTrue(loaded.await(5, TimeUnit.SECONDS));
+        proxy.stopPolling();
+        targetCalls.set(0);
+        
+        Assert.assertEquals(2, proxy.readAll().size());
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("g1")), proxy.readAllGroups());
+        Assert.assertEquals(1, proxy.readGroup("g1").size());
+        Assert.assertTrue(proxy.existGroup("g1"));
+        Assert.assertFalse(proxy.existGroup("g2"));
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("p1")), proxy.listPropertyNames());
+        Assert.assertEquals(0, targetCalls.get());
+        // Single keys missing from the snapshot may have been created since the poll
+        Assert.assertFalse(proxy.exist("unknown"));
+        Assert.assertFalse(proxy.existProperty("unknown"));
+        Assert.assertEquals(1, targetCalls.get());
+        
+        // Writes through the proxy keep the snapshot complete
+        proxy.create(new Feature("f3", true));
+        proxy.delete("f2");
+        proxy.enable("f1");
+        targetCalls.set(0);
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("f1", "f3")), proxy.readAll().keySet());
+        Assert.assertTrue(proxy.readAll().get("f1").isEnable());
+        Assert.assertEquals(0, targetCalls.get());
+        
+        // Import : keys unknown again
+        proxy.importFeatures(new ArrayList<Feature>());
+        targetCalls.set(0);
+        proxy.readAll();
+        Assert.assertEquals(1, targetCalls.get());
+    }
+    
     @Test
     public void testCacheProxy() {
         FF4j myFF4J = new FF4j();
@@ -31,8 +31,10 @@ import org.ff4j.cache.FF4JCacheManager;
 import org.ff4j.cache.FF4jCacheProxy;
 import org.ff4j.cache.InMemoryCacheManager;
 import org.ff4j.cache.Store2CachePollingScheduler;
+import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
 import org.ff4j.property.store.InMemoryPropertyStore;
 import org.ff4j.property.store.PropertyStore;
 import org.ff4j.store.InMemoryFeatureStore;
@@ -73,6 +75,32 @@ public class CacheProxyWithPollingTest {
     }
     
     
+    @Test
+    public void testCreatedInTargetAfterPoll() throws InterruptedException {
+        // Given
+        FeatureStore  fs     = new InMemoryFeatureStore("ff4j.xml");
+        PropertyStore ps     = new InMemoryPropertyStore("ff4j.xml");
+        FF4jCacheProxy proxy = new FF4jCacheProxy(fs, ps, new InMemoryCacheManager());
+        // Single poll, next one is far away
+        proxy.startPolling(60000);
+        Thread.sleep(200);
+
+        // When (created through another node)
+        fs.create(new Feature("createdAfterPoll", true));
+        ps.createProperty(new PropertyString("propertyAfterPoll", "v1"));
+
+        // Then (read succeeds and is listed from now)
+        Assert.assertTrue(proxy.exist("createdAfterPoll"));
+        Assert.assertTrue(proxy.read("createdAfterPoll").isEnable());
+        Assert.assertTrue(proxy.readAll().containsKey("createdAfterPoll"));
+        Assert.assertTrue(proxy.existProperty("propertyAfterPoll"));
+        Assert.assertEquals("v1", proxy.readProperty("propertyAfterPoll").asString());
+        Assert.assertTrue(proxy.listPropertyNames().contains("propertyAfterPoll"));
+        // Unknown keys still reach target
+        Assert.assertFalse(proxy.exist("neverCreated"));
+        proxy.stopPolling();
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testStartCacheProxy() {
         FF4jCacheProxy proxy = new FF4jCacheProxy();
@@ -0,0 +1,203 @@
+package org.ff4j.test.cache;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ff4j.cache.CacheChangeListener;
+import org.ff4j.cache.CacheChangeNotifier;
+import org.ff4j.cache.FF4jCacheProxy;
+import org.ff4j.cache.InMemoryCacheManager;
+import org.ff4j.cache.TwoTierCacheManager;
+import org.ff4j.core.Feature;
+import org.ff4j.core.FeatureStore;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
+import org.ff4j.property.store.InMemoryPropertyStore;
+import org.ff4j.store.InMemoryFeatureStore;
+import org.ff4j.test.store.CoreFeatureStoreTestSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Local cache in front of a distributed cache.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class TwoTierCacheTest extends CoreFeatureStoreTestSupport {
+
+    /** {@inheritDoc} */
+    @Override
+    public FeatureStore initStore() {
+        return new FF4jCacheProxy(
+                new InMemoryFeatureStore("ff4j.xml"),
+                new InMemoryPropertyStore("ff4j.xml"),
+                new TwoTierCacheManager(new InMemoryCacheManager()));
+    }
+
+    @Test
+    public void testReadsServedLocally() {
+        DistributedCache l2 = new DistributedCache();
+        l2.putFeature(new Feature("f1", true));
+        l2.putProperty(new PropertyString("p1", "v1"));
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2);
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        Assert.assertEquals("v1", cache.getProperty("p1").asString());
+        Assert.assertEquals("v1", cache.getProperty("p1").asString());
+        Assert.assertEquals(1, l2.featureReads.get());
+        Assert.assertEquals(1, l2.propertyReads.get());
+        Assert.assertNull(cache.getFeature("unknown"));
+    }
+
+    @Test
+    public void testBulkReadsServedLocally() {
+        DistributedCache l2 = new DistributedCache();
+        l2.putFeature(new Feature("f1", true));
+        l2.putFeature(new Feature("f2", false));
+        l2.putProperty(new PropertyString("p1", "v1"));
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2);
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        Map<String, Feature> features = cache.getFeatures(Arrays.asList("f1", "f2", "unknown"));
+        Assert.assertEquals(2, features.size());
+        Assert.assertFalse(features.get("f2").isEnable());
+        // Only local misses reach the distributed cache
+        Assert.assertEquals(3, l2.featureReads.get());
+        Assert.assertEquals(2, cache.getFeatures(Arrays.asList("f1", "f2")).size());
+        Assert.assertEquals(3, l2.featureReads.get());
+        Assert.assertEquals("v1", cache.getProperties(Arrays.asList("p1", "unknown")).get("p1").asString());
+        Assert.assertEquals("v1", cache.getProperties(Arrays.asList("p1")).get("p1").asString());
+        Assert.assertEquals(2, l2.propertyReads.get());
+    }
+
+    @Test
+    public void testWritesReachBothTiers() {
+        DistributedCache l2 = new DistributedCache();
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2);
+        cache.putFeature(new Feature("f1", true));
+        Assert.assertNotNull(l2.getFeature("f1"));
+        cache.evictFeature("f1");
+        Assert.assertNull(l2.getFeature("f1"));
+        Assert.assertNull(cache.getFeature("f1"));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        cache.clearProperties();
+        Assert.assertNull(l2.getProperty("p1"));
+        Assert.assertNull(cache.getProperty("p1"));
+    }
+
+    @Test
+    public void testInvalidatedByOtherNodes() {
+        DistributedCache l2 = new DistributedCache();
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2);
+        Assert.assertSame(cache, l2.listener);
+        cache.putFeature(new Feature("f1", true));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+
+        // Modified through another node
+        l2.putFeature(new Feature("f1", false));
+        l2.listener.onFeatureChanged("f1");
+        Assert.assertFalse(cache.getFeature("f1").isEnable());
+        l2.clearProperties();
+        l2.listener.onPropertiesCleared();
+        Assert.assertNull(cache.getProperty("p1"));
+    }
+
+    @Test
+    public void testOwnWriteNotificationKeepsLocalReads() {
+        DistributedCache l2 = new DistributedCache();
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2);
+        cache.putFeature(new Feature("f1", true));
+        Assert.assertEquals(0, l2.featureReads.get());
+        // Notification of our own write received asynchronously
+        l2.listener.onFeatureChanged("f1");
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        Assert.assertEquals(1, l2.featureReads.get());
+    }
+
+    @Test
+    public void testLocalSizeBounded() {
+        DistributedCache l2 = new DistributedCache();
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2, 2, 60);
+        cache.putFeature(new Feature("f1", true));
+        cache.putFeature(new Feature("f2", true));
+        cache.putFeature(new Feature("f3", true));
+        for (String uid : new String[] {"f1", "f2", "f3"}) {
+            Assert.assertNotNull(cache.getFeature(uid));
+        }
+        Assert.assertTrue(l2.featureReads.get() >= 1);
+    }
+
+    @Test
+    public void testBulkWritesInvalidateLocal() {
+        DistributedCache l2 = new DistributedCache();
+        TwoTierCacheManager cache = new TwoTierCacheManager(l2);
+        cache.putFeature(new Feature("f1", true));
+        cache.putFeatures(Arrays.asList(new Feature("f1", false), new Feature("f2", true)));
+        Assert.assertFalse(cache.getFeature("f1").isEnable());
+        Assert.assertTrue(cache.getFeature("f2").isEnable());
+        Assert.assertNotNull(l2.getFeature("f2"));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        cache.putProperties(Arrays.<Property<?>>asList(new PropertyString("p1", "v2")));
+        Assert.assertEquals("v2", cache.getProperty("p1").asString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLocalSize() {
+        new TwoTierCacheManager(new InMemoryCacheManager(), 0, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistributedCacheRequired() {
+        new TwoTierCacheManager(null);
+    }
+
+    /** Distributed cache counting reads and keeping its listener. */
+    private static class DistributedCache extends InMemoryCacheManager implements CacheChangeNotifier {
+
+        private final AtomicInteger featureReads = new AtomicInteger();
+
+        private final AtomicInteger propertyReads = new AtomicInteger();
+
+        private CacheChangeListener listener;
+
+        @Override
+        public void addChangeListener(CacheChangeListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public Feature getFeature(String featureId) {
+            featureReads.incrementAndGet();
+            return super.getFeature(featureId);
+        }
+
+        @Override
+        public Property<?> getProperty(String name) {
+            propertyReads.incrementAndGet();
+            return super.getProperty(name);
+        }
+    }
+
+}
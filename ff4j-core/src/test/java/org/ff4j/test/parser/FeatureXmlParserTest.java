@@ -23,17 +23,23 @@ package org.ff4j.test.parser;
  */
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.ff4j.conf.XmlConfig;
 import org.ff4j.conf.XmlParser;
 import org.ff4j.conf.XmlParserErrorHandler;
+import org.ff4j.conf.XmlParserListener;
 import org.ff4j.core.Feature;
 import org.ff4j.property.Property;
 import org.ff4j.property.PropertyLogLevel;
 import org.ff4j.property.PropertyLogLevel.LogLevel;
+import org.ff4j.property.store.InMemoryPropertyStore;
+import org.ff4j.store.InMemoryFeatureStore;
 import org.junit.Assert;
 import org.junit.Test;
 import org.xml.sax.SAXException;
@@ -128,6 +134,20 @@ public class FeatureXmlParserTest {
         Assert.assertEquals(features.size(), features2.size());
     }
     
+    @Test
+    public void exportFeaturesToStream() throws IOException {
+        // Given
+        XmlParser parser = new XmlParser();
+        InputStream in = getClass().getClassLoader().getResourceAsStream("ff4j-parser-all.xml");
+        Map<String, Feature> features = parser.parseConfigurationFile(in).getFeatures();
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parser.exportFeatures(features, out);
+        // Then
+        Map<String, Feature> features2 = parser.parseConfigurationFile(new ByteArrayInputStream(out.toByteArray())).getFeatures();
+        Assert.assertEquals(features.size(), features2.size());
+    }
+    
     @Test
     public void importThenExportALL() throws IOException {
         // Given
@@ -221,6 +241,51 @@ public class FeatureXmlParserTest {
         Assert.assertNotNull(properties);
     }
     
+    @Test
+    public void testStreamingParsing() {
+        // Given
+        XmlParser parser = new XmlParser();
+        XmlConfig conf = parser.parseConfigurationFile(getClass().getClassLoader().getResourceAsStream("ff4j-parser-all.xml"));
+        final List<Feature> features = new ArrayList<Feature>();
+        final List<Property<?>> properties = new ArrayList<Property<?>>();
+        // When
+        parser.parseConfigurationFile(getClass().getClassLoader().getResourceAsStream("ff4j-parser-all.xml"), new XmlParserListener() {
+            public void onFeature(Feature feature) {
+                features.add(feature);
+            }
+            public void onProperty(Property<?> property) {
+                properties.add(property);
+            }
+        });
+        // Then
+        Assert.assertEquals(conf.getFeatures().size(), features.size());
+        Assert.assertEquals(conf.getProperties().size(), properties.size());
+        for (Feature f : features) {
+            Assert.assertEquals(conf.getFeatures().get(f.getUid()).toJson(), f.toJson());
+        }
+    }
+    
+    @Test
+    public void testImportConfigurationFile() {
+        // Given
+        InMemoryFeatureStore featureStore = new InMemoryFeatureStore();
+        InMemoryPropertyStore propertyStore = new InMemoryPropertyStore();
+        // When
+        new XmlParser().importConfigurationFile(
+                getClass().getClassLoader().getResourceAsStream("test-featureXmlParserTest-ok.xml"), featureStore, propertyStore, 2);
+        // Then
+        Assert.assertEquals(7, featureStore.readAll().size());
+        Assert.assertEquals("group3", featureStore.read("f0").getGroup());
+        Assert.assertEquals(2, featureStore.read("f0").getPermissions().size());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoctypeIsRejected() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE ff4j [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+                + "<ff4j><features><feature uid=\"&xxe;\" enable=\"true\" /></features></ff4j>";
+        new XmlParser().parseConfigurationFile(new ByteArrayInputStream(xml.getBytes()));
+    }
+    
     @Test(expected = SAXParseException.class)
     public void testErrorHandler() throws SAXException {
         XmlParserErrorHandler eh = new XmlParserErrorHandler();
@@ -3,6 +3,8 @@ package org.ff4j.test.property;
 import java.io.InputStream;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.ff4j.FF4j;
 import org.ff4j.property.Property;
@@ -164,6 +166,35 @@ public class InMemoryPropertiesStoreTest extends AbstractPropertyStoreJunitTest
         f.importPropertiesFromXmlFile("ff4j.xml");
     }
     
+    @Test
+    public void testChangesPolledWhileWriting() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            final InMemoryPropertyStore store = new InMemoryPropertyStore();
+            final int changes = InMemoryPropertyStore.CHANGELOG_SIZE / 2;
+            Thread writer = new Thread() {
+                public void run() {
+                    for (int i = 0; i < changes; i++) {
+                        store.createProperty(new PropertyString("P" + i, "v" + i));
+                    }
+                }
+            };
+            writer.start();
+            // Poll as consumers do : checkpoint first, then changes since the previous checkpoint
+            Set<String> polled = new HashSet<String>();
+            long since = 0;
+            boolean written = false;
+            while (!written) {
+                written = !writer.isAlive();
+                long checkpoint = store.getCheckpoint();
+                polled.addAll(store.changedSince(since));
+                since = checkpoint;
+            }
+            writer.join();
+            Assert.assertEquals(changes, polled.size());
+            Assert.assertTrue(store.changedSince(since).isEmpty());
+        }
+    }
+    
     
 
 }
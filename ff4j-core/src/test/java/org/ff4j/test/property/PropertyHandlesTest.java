@@ -0,0 +1,201 @@
+package org.ff4j.test.property;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.ff4j.FF4j;
+import org.ff4j.cache.FF4jCacheProxy;
+import org.ff4j.cache.InMemoryCacheManager;
+import org.ff4j.exception.InvalidPropertyTypeException;
+import org.ff4j.exception.PropertyNotFoundException;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyBoolean;
+import org.ff4j.property.PropertyDouble;
+import org.ff4j.property.PropertyInt;
+import org.ff4j.property.PropertyLong;
+import org.ff4j.property.PropertyString;
+import org.ff4j.property.handle.IntPropertyHandle;
+import org.ff4j.property.handle.PropertyHandles;
+import org.ff4j.property.store.AbstractPropertyStore;
+import org.ff4j.property.store.InMemoryPropertyStore;
+import org.ff4j.store.InMemoryFeatureStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Typed handles on properties.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class PropertyHandlesTest {
+
+    @Test
+    public void testTypedHandles() {
+        FF4j ff4j = new FF4j();
+        ff4j.createProperty(new PropertyInt("pool.size", 10));
+        ff4j.createProperty(new PropertyLong("timeout", 1000L));
+        ff4j.createProperty(new PropertyDouble("ratio", 0.5));
+        ff4j.createProperty(new PropertyBoolean("enabled", true));
+        ff4j.createProperty(new PropertyString("label", "hello"));
+        Assert.assertEquals(10, ff4j.intProperty("pool.size").get());
+        Assert.assertEquals(1000L, ff4j.longProperty("timeout").get());
+        Assert.assertEquals(0.5, ff4j.doubleProperty("ratio").get(), 0);
+        Assert.assertTrue(ff4j.booleanProperty("enabled").get());
+        Assert.assertEquals("hello", ff4j.stringProperty("label").get());
+        Assert.assertSame(ff4j.intProperty("pool.size"), ff4j.intProperty("pool.size"));
+    }
+
+    @Test
+    public void testHandleFollowsStore() {
+        FF4j ff4j = new FF4j();
+        ff4j.createProperty(new PropertyInt("pool.size", 10));
+        IntPropertyHandle poolSize = ff4j.intProperty("pool.size");
+        // Written directly in store, visible on refresh
+        ff4j.getPropertiesStore().updateProperty("pool.size", "20");
+        Assert.assertEquals(10, poolSize.get());
+        ff4j.refreshPropertyHandles();
+        Assert.assertEquals(20, poolSize.get());
+        // Deleted property keeps last value
+        ff4j.deleteProperty("pool.size");
+        Assert.assertEquals(20, poolSize.get());
+        ff4j.createProperty(new PropertyInt("pool.size", 30));
+        Assert.assertEquals(30, poolSize.get());
+    }
+
+    @Test
+    public void testOnlyChangedPropertiesAreRead() {
+        final int[] reads = {0};
+        InMemoryPropertyStore store = new InMemoryPropertyStore() {
+            @Override
+            public Property<?> readProperty(String name) {
+                reads[0]++;
+                return super.readProperty(name);
+            }
+        };
+        store.createProperty(new PropertyInt("a", 1));
+        store.createProperty(new PropertyInt("b", 2));
+        PropertyHandles handles = new PropertyHandles(store);
+        IntPropertyHandle a = handles.intProperty("a");
+        handles.intProperty("b");
+        handles.refresh();
+        reads[0] = 0;
+        handles.refresh();
+        Assert.assertEquals(0, reads[0]);
+        store.updateProperty("a", "5");
+        handles.refresh();
+        Assert.assertEquals(5, a.get());
+        Assert.assertTrue(reads[0] <= 2);
+    }
+
+    @Test
+    public void testWithoutChangeFeed() {
+        InMemoryPropertyStore store = new InMemoryPropertyStore() {
+            @Override
+            public Set<String> changedSince(long since) {
+                return null;
+            }
+        };
+        store.createProperty(new PropertyInt("a", 1));
+        PropertyHandles handles = new PropertyHandles(store);
+        IntPropertyHandle a = handles.intProperty("a");
+        store.updateProperty("a", "2");
+        handles.refresh();
+        Assert.assertEquals(2, a.get());
+    }
+
+    @Test
+    public void testCacheRefreshUpdatesHandles() {
+        MapPropertyStore store = new MapPropertyStore();
+        store.createProperty(new PropertyInt("a", 1));
+        InMemoryCacheManager cache = new InMemoryCacheManager();
+        FF4jCacheProxy proxy = new FF4jCacheProxy(new InMemoryFeatureStore(), store, cache);
+        FF4j ff4j = new FF4j();
+        ff4j.setFeatureStore(proxy);
+        ff4j.setPropertiesStore(proxy);
+        IntPropertyHandle a = ff4j.intProperty("a");
+        store.updateProperty("a", "2");
+        cache.evictProperty("a");
+        proxy.fireCacheRefreshed();
+        Assert.assertEquals(2, a.get());
+    }
+
+    @Test(expected = PropertyNotFoundException.class)
+    public void testUnknownProperty() {
+        new FF4j().intProperty("unknown");
+    }
+
+    /** Store without change feed. */
+    private static class MapPropertyStore extends AbstractPropertyStore {
+
+        private final Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+
+        public boolean existProperty(String name) {
+            return properties.containsKey(name);
+        }
+
+        public <T> void createProperty(Property<T> value) {
+            properties.put(value.getName(), value);
+        }
+
+        public Property<?> readProperty(String name) {
+            if (!existProperty(name)) {
+                throw new PropertyNotFoundException(name);
+            }
+            return properties.get(name);
+        }
+
+        public void deleteProperty(String name) {
+            properties.remove(name);
+        }
+
+        public Map<String, Property<?>> readAllProperties() {
+            return new HashMap<String, Property<?>>(properties);
+        }
+
+        public Set<String> listPropertyNames() {
+            return new HashSet<String>(properties.keySet());
+        }
+
+        public void clear() {
+            properties.clear();
+        }
+    }
+
+    @Test(expected = InvalidPropertyTypeException.class)
+    public void testInvalidValue() {
+        FF4j ff4j = new FF4j();
+        ff4j.createProperty(new PropertyString("label", "hello"));
+        ff4j.intProperty("label");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHandleTypeMismatch() {
+        FF4j ff4j = new FF4j();
+        ff4j.createProperty(new PropertyInt("a", 1));
+        ff4j.intProperty("a");
+        ff4j.longProperty("a");
+    }
+
+}
@@ -11,6 +11,7 @@ package org.ff4j.test.store;
  * governing permissions and limitations under the License. #L%
  */
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
@@ -99,6 +100,37 @@ public abstract class CoreFeatureStoreTestSupport implements TestConstantsFF4j {
         assertFf4j.assertThatFeatureIsInGroup(F4, G1);
     }
 
+    /**
+     * TDD.
+     */
+    @Test
+    public void testReadFeatures() {
+        // Given
+        assertFf4j.assertThatFeatureExist(F4);
+        assertFf4j.assertThatFeatureExist(F1);
+        assertFf4j.assertThatFeatureDoesNotExist("does-not-exist");
+        // When
+        Map<String, Feature> features = testedStore.readFeatures(Arrays.asList(F4, "does-not-exist", F1, F4));
+        // Then, unknown identifiers are omitted and requested order is kept
+        Assert.assertEquals(Arrays.asList(F4, F1), new ArrayList<String>(features.keySet()));
+        Feature f = features.get(F4);
+        Assert.assertTrue(f.getPermissions().contains(ROLE_ADMIN));
+        Assert.assertEquals(G1, f.getGroup());
+        Assert.assertEquals(testedStore.read(F4).getCustomProperties().keySet(), f.getCustomProperties().keySet());
+        Assert.assertTrue(testedStore.readFeatures(new ArrayList<String>()).isEmpty());
+    }
+
+    /**
+     * TDD.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFeaturesNull() {
+        // Given
+        // When
+        testedStore.readFeatures(null);
+        // Then, expected error...
+    }
+
     /**
      * TDD.
      */
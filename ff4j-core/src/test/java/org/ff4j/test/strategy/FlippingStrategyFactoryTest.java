@@ -0,0 +1,109 @@
+package org.ff4j.test.strategy;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.ff4j.core.Feature;
+import org.ff4j.core.FlippingStrategy;
+import org.ff4j.exception.FeatureAccessException;
+import org.ff4j.strategy.ClientFilterStrategy;
+import org.ff4j.strategy.FlippingStrategyFactory;
+import org.ff4j.strategy.PonderationStrategy;
+import org.ff4j.strategy.el.ExpressionFlipStrategy;
+import org.ff4j.strategy.time.OfficeHourStrategy;
+import org.ff4j.utils.MappingUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Interning of strategies by {@link FlippingStrategyFactory}.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class FlippingStrategyFactoryTest {
+
+    private static Map<String, String> params(String key, String value) {
+        Map<String, String> params = new HashMap<String, String>();
+        params.put(key, value);
+        return params;
+    }
+
+    @Test
+    public void testSameParametersShareInstance() {
+        String className = OfficeHourStrategy.class.getName();
+        FlippingStrategy s1 = MappingUtil.instanceFlippingStrategy("f1", className, params("monday", "08:00-12:00"));
+        FlippingStrategy s2 = MappingUtil.instanceFlippingStrategy("f1", className, params("monday", "08:00-12:00"));
+        FlippingStrategy s3 = MappingUtil.instanceFlippingStrategy("f1", className, params("monday", "08:00-13:00"));
+        FlippingStrategy s4 = MappingUtil.instanceFlippingStrategy("f2", className, params("monday", "08:00-12:00"));
+        Assert.assertSame(s1, s2);
+        Assert.assertNotSame(s1, s3);
+        Assert.assertNotSame(s1, s4);
+    }
+
+    @Test
+    public void testMutableStrategiesNotShared() {
+        String className = ClientFilterStrategy.class.getName();
+        FlippingStrategy s1 = MappingUtil.instanceFlippingStrategy("f1", className, params("grantedClients", "a,b"));
+        FlippingStrategy s2 = MappingUtil.instanceFlippingStrategy("f1", className, params("grantedClients", "a,b"));
+        Assert.assertNotSame(s1, s2);
+        PonderationStrategy p1 = (PonderationStrategy) FlippingStrategyFactory.getStrategy("f1",
+                PonderationStrategy.class, params("weight", "0.5"));
+        p1.setWeight(0.2);
+        FlippingStrategy p2 = FlippingStrategyFactory.getStrategy("f1", PonderationStrategy.class, params("weight", "0.5"));
+        Assert.assertNotSame(p1, p2);
+        Assert.assertEquals("0.5", p2.getInitParams().get("weight"));
+        Assert.assertNotSame(FlippingStrategyFactory.getStrategy("f1", ExpressionFlipStrategy.class, params("expression", "A|B")),
+                FlippingStrategyFactory.getStrategy("f1", ExpressionFlipStrategy.class, params("expression", "A|B")));
+    }
+
+    @Test
+    public void testCallerMapIsNotShared() {
+        Map<String, String> params = params("expression", "A|B");
+        FlippingStrategy s1 = FlippingStrategyFactory.getStrategy("f1", ExpressionFlipStrategy.class, params);
+        params.put("expression", "A&B");
+        Assert.assertEquals("A|B", s1.getInitParams().get("expression"));
+        Assert.assertNotSame(s1, FlippingStrategyFactory.getStrategy("f1", ExpressionFlipStrategy.class, params));
+    }
+
+    @Test
+    public void testAlteredInstanceIsReplaced() {
+        FlippingStrategy s1 = FlippingStrategyFactory.getStrategy("f1", OfficeHourStrategy.class, params("monday", "08:00-12:00"));
+        s1.getInitParams().put("monday", "08:00-18:00");
+        FlippingStrategy s2 = FlippingStrategyFactory.getStrategy("f1", OfficeHourStrategy.class, params("monday", "08:00-12:00"));
+        Assert.assertNotSame(s1, s2);
+        Assert.assertEquals("08:00-12:00", s2.getInitParams().get("monday"));
+    }
+
+    @Test
+    public void testCopyIsNotShared() {
+        Feature f = new Feature("f1", true);
+        f.setFlippingStrategy(FlippingStrategyFactory.getStrategy("f1", OfficeHourStrategy.class, params("monday", "08:00-12:00")));
+        Assert.assertNotSame(f.getFlippingStrategy(), new Feature(f).getFlippingStrategy());
+    }
+
+    @Test(expected = FeatureAccessException.class)
+    public void testUnknownClass() {
+        FlippingStrategyFactory.getStrategy("f1", "org.ff4j.strategy.Unknown", null);
+    }
+
+}
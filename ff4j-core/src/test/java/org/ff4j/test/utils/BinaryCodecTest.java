@@ -0,0 +1,99 @@
+package org.ff4j.test.utils;
+
+/*
+ * #%L
+ * ff4j-core
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import org.ff4j.FF4j;
+import org.ff4j.core.Feature;
+import org.ff4j.mapper.BinaryCodec;
+import org.ff4j.mapper.BinaryFeatureMapper;
+import org.ff4j.mapper.BinaryPropertyMapper;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
+import org.ff4j.strategy.PonderationStrategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Round trips through {@link BinaryCodec}.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class BinaryCodecTest {
+
+    /** Features and properties with strategies. */
+    private final FF4j ff4j = new FF4j("ff4j-parser-all.xml");
+
+    @Test
+    public void testFeatureRoundTrip() {
+        BinaryFeatureMapper mapper = new BinaryFeatureMapper();
+        for (Feature f : ff4j.getFeatures().values()) {
+            byte[] payload = mapper.toStore(f);
+            Assert.assertTrue(payload.length < f.toJson().length());
+            Assert.assertEquals(f.toJson(), mapper.fromStore(payload).toJson());
+        }
+    }
+
+    @Test
+    public void testPropertyRoundTrip() {
+        BinaryPropertyMapper mapper = new BinaryPropertyMapper();
+        for (Property<?> p : ff4j.getProperties().values()) {
+            Assert.assertEquals(p.toJson(), mapper.fromStore(mapper.toStore(p)).toJson());
+        }
+    }
+
+    @Test
+    public void testCustomClassesAndNulls() {
+        Feature f = new Feature("f1", false);
+        f.setFlippingStrategy(new CustomStrategy());
+        f.addProperty(new PropertyString("p1"));
+        Feature f2 = BinaryCodec.decodeFeature(BinaryCodec.encodeFeature(f));
+        Assert.assertNull(f2.getDescription());
+        Assert.assertNull(f2.getGroup());
+        Assert.assertEquals(f.getFlippingStrategy().getClass(), f2.getFlippingStrategy().getClass());
+        Assert.assertNull(f2.getProperty("p1").getValue());
+    }
+
+    @Test
+    public void testIsBinary() {
+        Assert.assertTrue(BinaryCodec.isBinary(BinaryCodec.encodeFeature(new Feature("f1"))));
+        Assert.assertTrue(BinaryCodec.isBinary(BinaryCodec.encodeProperty(new PropertyString("p1", "v1"))));
+        Assert.assertFalse(BinaryCodec.isBinary(new Feature("f1").toJson().getBytes()));
+        Assert.assertFalse(BinaryCodec.isBinary(new byte[0]));
+        Assert.assertFalse(BinaryCodec.isBinary(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedVersion() {
+        BinaryCodec.decodeFeature(new Feature("f1").toJson().getBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedPayload() {
+        byte[] payload = BinaryCodec.encodeFeature(new Feature("f1", true, "some description"));
+        BinaryCodec.decodeFeature(Arrays.copyOf(payload, payload.length - 3));
+    }
+
+    /** Strategy outside of built-in identifiers. */
+    public static class CustomStrategy extends PonderationStrategy {
+    }
+}
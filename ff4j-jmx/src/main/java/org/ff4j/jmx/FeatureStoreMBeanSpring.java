@@ -6,6 +6,7 @@ import java.util.Set;
 
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
 import org.springframework.jmx.export.annotation.ManagedOperation;
 import org.springframework.jmx.export.annotation.ManagedOperationParameter;
 import org.springframework.jmx.export.annotation.ManagedOperationParameters;
@@ -82,6 +83,12 @@ public class FeatureStoreMBeanSpring implements FeatureStore {
         return internalStore.read(feature_UID);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        return internalStore.readFeatures(featureUids);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readAll() {
@@ -180,6 +187,13 @@ public class FeatureStoreMBeanSpring implements FeatureStore {
         
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void importFeatures(Collection<Feature> features, int batchSize, ImportListener listener) {
+        // TODO Auto-generated method stub
+        
+    }
+
     /** {@inheritDoc} */
     @Override
     public void createSchema() {
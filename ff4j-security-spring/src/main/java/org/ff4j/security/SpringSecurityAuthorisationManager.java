@@ -12,6 +12,9 @@ package org.ff4j.security;
  * governing permissions and limitations under the License. #L%
  */
 
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -28,16 +31,49 @@ import org.springframework.security.core.context.SecurityContextHolder;
  */
 public class SpringSecurityAuthorisationManager extends AbstractAuthorizationManager {
 
+    /**
+     * Permissions resolved for the last {@link Authentication} seen by current thread. The authentication is only
+     * weakly referenced so that pooled threads do not keep it alive, entry is removed when there is no authentication.
+     */
+    private final ThreadLocal<ResolvedPermissions> resolvedPermissions = new ThreadLocal<ResolvedPermissions>();
+
     /** {@inheritDoc} */
     public Set<String> getCurrentUserPermissions() {
-        Set<String> listOfRoles = new LinkedHashSet<String>();
+        return resolvePermissions().roles;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BitSet currentUserPermissionsMask() {
+        return resolvePermissions().getMask();
+    }
+
+    /**
+     * Authorities are read once per {@link Authentication} instance : as long as the security context
+     * holds the same authentication the previous resolution is reused.
+     *
+     * @return
+     *      permissions of current user
+     */
+    private ResolvedPermissions resolvePermissions() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (!(auth instanceof AnonymousAuthenticationToken)) {
-            for (GrantedAuthority grantedAuthority : auth.getAuthorities()) {
-                listOfRoles.add(grantedAuthority.getAuthority());
+        if (auth == null) {
+            // End of request or unauthenticated thread, nothing to keep
+            resolvedPermissions.remove();
+            return ResolvedPermissions.NONE;
+        }
+        ResolvedPermissions resolved = resolvedPermissions.get();
+        if (resolved == null || resolved.authentication.get() != auth) {
+            Set<String> listOfRoles = new LinkedHashSet<String>();
+            if (!(auth instanceof AnonymousAuthenticationToken)) {
+                for (GrantedAuthority grantedAuthority : auth.getAuthorities()) {
+                    listOfRoles.add(grantedAuthority.getAuthority());
+                }
             }
+            resolved = new ResolvedPermissions(auth, listOfRoles);
+            resolvedPermissions.set(resolved);
         }
-        return listOfRoles;
+        return resolved;
     }
 
     /** {@inheritDoc} */
@@ -54,4 +90,47 @@ public class SpringSecurityAuthorisationManager extends AbstractAuthorizationMan
         return "anonymous";
     }   
 
-}
\ No newline at end of file
+    /**
+     * Roles of an authentication, as names and as bitset over the {@link RoleDictionary}.
+     */
+    private static final class ResolvedPermissions {
+
+        /** No authentication. */
+        private static final ResolvedPermissions NONE = new ResolvedPermissions(null, new LinkedHashSet<String>());
+
+        /** Authentication used to resolve (compared by identity). */
+        private final WeakReference<Authentication> authentication;
+
+        /** Role names. */
+        private final Set<String> roles;
+
+        /** Roles as bitset. */
+        private volatile BitSet mask;
+
+        /** Size of the dictionary when mask has been matched. */
+        private volatile int dictionarySize = -1;
+
+        private ResolvedPermissions(Authentication authentication, Set<String> roles) {
+            this.authentication = new WeakReference<Authentication>(authentication);
+            this.roles = Collections.unmodifiableSet(roles);
+        }
+
+        /**
+         * Roles as bitset, matched again when roles have been registered since (new feature permissions).
+         *
+         * @return
+         *      roles as bitset
+         */
+        private BitSet getMask() {
+            int size = RoleDictionary.size();
+            BitSet current = mask;
+            if (current == null || dictionarySize != size) {
+                current = RoleDictionary.match(roles);
+                mask = current;
+                dictionarySize = size;
+            }
+            return current;
+        }
+    }
+
+}
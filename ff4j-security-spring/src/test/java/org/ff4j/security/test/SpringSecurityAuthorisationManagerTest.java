@@ -0,0 +1,105 @@
+package org.ff4j.security.test;
+
+/*
+ * #%L SpringSecurityAuthorisationManagerTest.java (ff4j-security-spring) by Cedrick LUNVEN %% Copyright (C) 2013 Ff4J %% Licensed
+ * under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may
+ * obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License. #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ff4j.security.RoleDictionary;
+import org.ff4j.security.SpringSecurityAuthorisationManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+/**
+ * Memoization of permissions in {@link SpringSecurityAuthorisationManager}.
+ *
+ * @author clunven
+ */
+public class SpringSecurityAuthorisationManagerTest {
+
+    /** Security context. */
+    private SecurityContext securityCtx;
+
+    /** Tested manager. */
+    private SpringSecurityAuthorisationManager authManager;
+
+    @Before
+    public void setUp() {
+        securityCtx = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(new SecurityContextImpl());
+        authManager = new SpringSecurityAuthorisationManager();
+    }
+
+    @After
+    public void tearDown() {
+        SecurityContextHolder.setContext(securityCtx);
+    }
+
+    @Test
+    public void testPermissionsMemoizedPerAuthentication() {
+        authenticate("user1", "ROLE_USER");
+        Assert.assertTrue(authManager.getCurrentUserPermissions().contains("ROLE_USER"));
+        // Same authentication, same resolution
+        Assert.assertSame(authManager.getCurrentUserPermissions(), authManager.getCurrentUserPermissions());
+
+        authenticate("user2", "ROLE_ADMIN");
+        Assert.assertFalse(authManager.getCurrentUserPermissions().contains("ROLE_USER"));
+        Assert.assertTrue(authManager.getCurrentUserPermissions().contains("ROLE_ADMIN"));
+    }
+
+    @Test
+    public void testNoAuthentication() {
+        authenticate("user1", "ROLE_USER");
+        Assert.assertFalse(authManager.getCurrentUserPermissions().isEmpty());
+        SecurityContextHolder.getContext().setAuthentication(null);
+        Assert.assertTrue(authManager.getCurrentUserPermissions().isEmpty());
+        Assert.assertTrue(authManager.currentUserPermissionsMask().isEmpty());
+    }
+
+    @Test
+    public void testMaskFollowsNewFeatureRoles() {
+        authenticate("user1", "ROLE_MEMO_A", "ROLE_MEMO_B");
+        RoleDictionary.compile(Arrays.asList("ROLE_MEMO_A"));
+        Assert.assertTrue(authManager.currentUserPermissionsMask().get(RoleDictionary.indexOf("ROLE_MEMO_A")));
+        // Role registered by a feature after first resolution is matched as well
+        int idxB = RoleDictionary.indexOf("ROLE_MEMO_B");
+        Assert.assertTrue(authManager.currentUserPermissionsMask().get(idxB));
+    }
+
+    @Test
+    public void testUserRolesNotRegistered() {
+        int size = RoleDictionary.size();
+        authenticate("user1", "ROLE_ONLY_USER");
+        Assert.assertTrue(authManager.currentUserPermissionsMask().isEmpty());
+        Assert.assertEquals(size, RoleDictionary.size());
+    }
+
+    private void authenticate(String user, String... roles) {
+        List<GrantedAuthority> listOfRoles = new ArrayList<GrantedAuthority>();
+        for (String role : roles) {
+            listOfRoles.add(new SimpleGrantedAuthority(role));
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, user, listOfRoles));
+    }
+
+}
@@ -23,9 +23,12 @@ package org.ff4j.archaius;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.configuration.Configuration;
+import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.Property;
+import org.ff4j.property.store.PropertyChangeFeed;
 import org.ff4j.property.store.PropertyStore;
 
 import com.netflix.config.PollResult;
@@ -36,6 +39,11 @@ import com.netflix.config.PolledConfigurationSource;
  * 
  * Archaius polling InMemoru
  * 
+ * <p>The first poll returns all properties, next polls return only added, changed and deleted properties
+ * ({@link PollResult#createIncremental(Map, Map, Map, Object)}). When the store implements {@link PropertyChangeFeed}
+ * only the properties changed since the last poll are read, otherwise all properties are read and compared
+ * with the values published previously.</p>
+ * 
  * @author Cedrick Lunven (@clunven)</a>
  */
 public class FF4jPolledConfigurationSource implements PolledConfigurationSource {
@@ -45,6 +53,12 @@ public class FF4jPolledConfigurationSource implements PolledConfigurationSource
      */
     private PropertyStore ff4jStore;
     
+    /** Values published to Archaius by last polls, null before first poll. */
+    private Map<String, String> published;
+    
+    /** Checkpoint of change feed at last poll. */
+    private long checkpoint;
+    
     /**
      * Default constructor.
      */
@@ -63,17 +77,101 @@ public class FF4jPolledConfigurationSource implements PolledConfigurationSource
     
     /** {@inheritDoc} */
     @Override
-    public PollResult poll(boolean check, Object arg1) throws Exception {
+    public synchronized PollResult poll(boolean initial, Object checkPoint) throws Exception {
         if (getFf4jStore() == null) {
             throw new IllegalStateException("PropertyStore should not be null (to poll it !)");
         }
-        // Cannot convert to Map < String, Object >
-        Map < String, Object > properties = new HashMap<String, Object>();
+        PropertyChangeFeed feed = (getFf4jStore() instanceof PropertyChangeFeed) ? (PropertyChangeFeed) getFf4jStore() : null;
+        long current = (feed == null) ? 0 : feed.getCheckpoint();
+        if (initial || published == null) {
+            published = readAll();
+            checkpoint = current;
+            return PollResult.createFull(new HashMap<String, Object>(published));
+        }
+        Map<String, Object> added   = new HashMap<String, Object>();
+        Map<String, Object> changed = new HashMap<String, Object>();
+        Map<String, Object> deleted = new HashMap<String, Object>();
+        Set<String> changedNames = (feed == null) ? null : feed.changedSince(checkpoint);
+        if (changedNames == null) {
+            Map<String, String> properties = readAll();
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                diff(property.getKey(), property.getValue(), added, changed);
+            }
+            for (String name : published.keySet()) {
+                if (!properties.containsKey(name)) {
+                    deleted.put(name, published.get(name));
+                }
+            }
+        } else {
+            for (String name : changedNames) {
+                String value = readValue(name);
+                if (value != null) {
+                    diff(name, value, added, changed);
+                } else if (published.containsKey(name)) {
+                    deleted.put(name, published.get(name));
+                }
+            }
+        }
+        for (String name : deleted.keySet()) {
+            published.remove(name);
+        }
+        checkpoint = current;
+        return PollResult.createIncremental(added, changed, deleted, current);
+    }
+    
+    /**
+     * Compare value with the one published and register as added or changed.
+     *
+     * @param name
+     *      property name
+     * @param value
+     *      current value in store
+     * @param added
+     *      properties not published yet
+     * @param changed
+     *      properties published with another value
+     */
+    private void diff(String name, String value, Map<String, Object> added, Map<String, Object> changed) {
+        String previous = published.put(name, value);
+        if (previous == null) {
+            added.put(name, value);
+        } else if (!previous.equals(value)) {
+            changed.put(name, value);
+        }
+    }
+    
+    /**
+     * Read all properties of the store.
+     *
+     * @return
+     *      values as String (all properties are String in commons-configuration)
+     */
+    private Map<String, String> readAll() {
+        Map < String, String > properties = new HashMap<String, String>();
         for(Map.Entry<String, Property<?>> property : getFf4jStore().readAllProperties().entrySet()) {
-            // All properties are String in commons-configuration
-            properties.put(property.getKey(), property.getValue().asString());   
+            // Null values cannot be published to commons-configuration
+            String value = property.getValue().asString();
+            if (value != null) {
+                properties.put(property.getKey(), value);
+            }
+        }
+        return properties;
+    }
+    
+    /**
+     * Read a single property of the store.
+     *
+     * @param name
+     *      property name
+     * @return
+     *      value as String or null if property does not exist anymore
+     */
+    private String readValue(String name) {
+        try {
+            return getFf4jStore().readProperty(name).asString();
+        } catch (PropertyNotFoundException pnf) {
+            return null;
         }
-        return PollResult.createFull(properties);
     }
 
     /**
@@ -91,8 +189,9 @@ public class FF4jPolledConfigurationSource implements PolledConfigurationSource
      * @param ff4jStore
      * 		new value for 'ff4jStore '
      */
-    public void setFf4jStore(PropertyStore ff4jStore) {
+    public synchronized void setFf4jStore(PropertyStore ff4jStore) {
         this.ff4jStore = ff4jStore;
+        this.published = null;
     }
    
 }
@@ -0,0 +1,111 @@
+package org.ff4j.archaius;
+
+/*
+ * #%L
+ * ff4j-archaius
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Set;
+
+import org.ff4j.property.PropertyString;
+import org.ff4j.property.store.InMemoryPropertyStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.netflix.config.PollResult;
+
+/**
+ * Incremental polling of {@link FF4jPolledConfigurationSource}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class FF4jPolledConfigurationSourceTest {
+
+    @Test
+    public void testIncrementalWithChangeFeed() throws Exception {
+        InMemoryPropertyStore store = new InMemoryPropertyStore();
+        store.createProperty(new PropertyString("a", "1"));
+        store.createProperty(new PropertyString("b", "2"));
+        FF4jPolledConfigurationSource source = new FF4jPolledConfigurationSource(store);
+
+        PollResult first = source.poll(true, null);
+        Assert.assertFalse(first.isIncremental());
+        Assert.assertEquals(2, first.getComplete().size());
+
+        store.updateProperty("a", "10");
+        store.deleteProperty("b");
+        store.createProperty(new PropertyString("c", "3"));
+        assertIncremental(source.poll(false, first.getCheckPoint()));
+
+        PollResult nothing = source.poll(false, null);
+        Assert.assertTrue(nothing.isIncremental());
+        Assert.assertTrue(nothing.getAdded().isEmpty());
+        Assert.assertTrue(nothing.getChanged().isEmpty());
+        Assert.assertTrue(nothing.getDeleted().isEmpty());
+    }
+
+    @Test
+    public void testIncrementalWithoutChangeFeed() throws Exception {
+        InMemoryPropertyStore store = new InMemoryPropertyStore() {
+            @Override
+            public Set<String> changedSince(long since) {
+                return null;
+            }
+        };
+        store.createProperty(new PropertyString("a", "1"));
+        store.createProperty(new PropertyString("b", "2"));
+        FF4jPolledConfigurationSource source = new FF4jPolledConfigurationSource(store);
+        source.poll(true, null);
+
+        store.updateProperty("a", "10");
+        store.deleteProperty("b");
+        store.createProperty(new PropertyString("c", "3"));
+        assertIncremental(source.poll(false, null));
+    }
+
+    @Test
+    public void testChangeLogTruncated() throws Exception {
+        InMemoryPropertyStore store = new InMemoryPropertyStore();
+        store.createProperty(new PropertyString("a", "1"));
+        FF4jPolledConfigurationSource source = new FF4jPolledConfigurationSource(store);
+        source.poll(true, null);
+
+        for (int i = 0; i <= InMemoryPropertyStore.CHANGELOG_SIZE; i++) {
+            store.updateProperty("a", String.valueOf(i));
+        }
+        PollResult result = source.poll(false, null);
+        Assert.assertTrue(result.isIncremental());
+        Assert.assertEquals(String.valueOf(InMemoryPropertyStore.CHANGELOG_SIZE), result.getChanged().get("a"));
+
+        store.clear();
+        result = source.poll(false, null);
+        Assert.assertTrue(result.isIncremental());
+        Assert.assertTrue(result.getDeleted().containsKey("a"));
+    }
+
+    private void assertIncremental(PollResult result) {
+        Assert.assertTrue(result.isIncremental());
+        Assert.assertEquals(1, result.getAdded().size());
+        Assert.assertEquals("3", result.getAdded().get("c"));
+        Assert.assertEquals(1, result.getChanged().size());
+        Assert.assertEquals("10", result.getChanged().get("a"));
+        Assert.assertEquals(1, result.getDeleted().size());
+        Assert.assertTrue(result.getDeleted().containsKey("b"));
+    }
+
+}
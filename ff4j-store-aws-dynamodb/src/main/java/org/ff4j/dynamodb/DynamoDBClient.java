@@ -2,8 +2,11 @@ package org.ff4j.dynamodb;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.amazonaws.services.dynamodbv2.model.BillingMode;
 import org.ff4j.utils.Util;
@@ -29,19 +32,40 @@ import org.ff4j.utils.Util;
  */
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.document.BatchGetItemOutcome;
+import com.amazonaws.services.dynamodbv2.document.BatchWriteItemOutcome;
 import com.amazonaws.services.dynamodbv2.document.DynamoDB;
 import com.amazonaws.services.dynamodbv2.document.Item;
 import com.amazonaws.services.dynamodbv2.document.KeyAttribute;
 import com.amazonaws.services.dynamodbv2.document.PrimaryKey;
 import com.amazonaws.services.dynamodbv2.document.Table;
+import com.amazonaws.services.dynamodbv2.document.TableKeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.document.TableWriteItems;
 import com.amazonaws.services.dynamodbv2.document.spec.GetItemSpec;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
 import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 
 /**
  * @author <a href="mailto:jeromevdl@gmail.com">Jerome VAN DER LINDEN</a>
  */
 public abstract class DynamoDBClient<T> {
 
+    /** Maximum number of items in a single BatchWriteItem request. */
+    protected static final int BATCH_WRITE_MAX_ITEMS = 25;
+
+    /** Maximum number of keys in a single BatchGetItem request. */
+    protected static final int BATCH_GET_MAX_KEYS = 100;
+
+    /** Maximum number of requests sending unprocessed items again before failing. */
+    protected static final int BATCH_MAX_RETRIES = 10;
+
+    /** Initial delay in milliseconds before sending unprocessed items again, doubled at each attempt. */
+    protected static final long BATCH_RETRY_BASE_DELAY = 50;
+
+    /** Maximum delay in milliseconds before sending unprocessed items again. */
+    protected static final long BATCH_RETRY_MAX_DELAY = 5000;
+
     private final AmazonDynamoDB amazonDynamoDB;
     protected final DynamoDB dynamoDB;
     protected String tableName;
@@ -74,6 +98,78 @@ public abstract class DynamoDBClient<T> {
         table.deleteItem(new KeyAttribute(key, id));
     }
 
+    /**
+     * Put items with BatchWriteItem (25 items per request), unprocessed items are sent again after a backoff.
+     *
+     * @param items
+     *      items to write
+     */
+    protected void batchPutItems(List<Item> items) {
+        for (int from = 0; from < items.size(); from += BATCH_WRITE_MAX_ITEMS) {
+            List<Item> chunk = items.subList(from, Math.min(from + BATCH_WRITE_MAX_ITEMS, items.size()));
+            BatchWriteItemOutcome outcome = dynamoDB.batchWriteItem(
+                    new TableWriteItems(tableName).withItemsToPut(chunk));
+            Map<String, List<WriteRequest>> unprocessed = outcome.getUnprocessedItems();
+            for (int attempt = 0; unprocessed != null && !unprocessed.isEmpty(); attempt++) {
+                waitBeforeRetry(attempt, "BatchWriteItem");
+                outcome = dynamoDB.batchWriteItemUnprocessed(unprocessed);
+                unprocessed = outcome.getUnprocessedItems();
+            }
+        }
+    }
+
+    /**
+     * Get items with BatchGetItem (100 keys per request), unprocessed keys are requested again after a backoff.
+     *
+     * @param ids
+     *      distinct identifiers of items
+     * @return
+     *      existing items (in no particular order)
+     */
+    protected List<Item> batchGetItems(List<String> ids) {
+        List<Item> items = new ArrayList<Item>(ids.size());
+        for (int from = 0; from < ids.size(); from += BATCH_GET_MAX_KEYS) {
+            List<String> chunk = ids.subList(from, Math.min(from + BATCH_GET_MAX_KEYS, ids.size()));
+            BatchGetItemOutcome outcome = dynamoDB.batchGetItem(
+                    new TableKeysAndAttributes(tableName).addHashOnlyPrimaryKeys(key, chunk.toArray()));
+            for (int attempt = 0; ; attempt++) {
+                List<Item> chunkItems = outcome.getTableItems().get(tableName);
+                if (chunkItems != null) {
+                    items.addAll(chunkItems);
+                }
+                Map<String, KeysAndAttributes> unprocessed = outcome.getUnprocessedKeys();
+                if (unprocessed == null || unprocessed.isEmpty()) {
+                    break;
+                }
+                waitBeforeRetry(attempt, "BatchGetItem");
+                outcome = dynamoDB.batchGetItemUnprocessed(unprocessed);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Exponential backoff with full jitter before sending unprocessed items again (throttled table).
+     *
+     * @param attempt
+     *      number of previous retries
+     * @param operation
+     *      batch operation, for error message
+     */
+    protected void waitBeforeRetry(int attempt, String operation) {
+        if (attempt >= BATCH_MAX_RETRIES) {
+            throw new IllegalStateException(operation + " on table '" + tableName
+                    + "' still has unprocessed items after " + BATCH_MAX_RETRIES + " retries");
+        }
+        long maxDelay = Math.min(BATCH_RETRY_MAX_DELAY, BATCH_RETRY_BASE_DELAY << attempt);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying " + operation + " on table '" + tableName + "'", e);
+        }
+    }
+
     public Item getItem(String id) {
         Util.assertHasLength(id);
 
@@ -64,12 +64,28 @@ public class FeatureDynamoDBClient extends DynamoDBClient<Feature> {
         table.putItem(FEATURE_MAPPER.toStore(feature));
     }
 
+    void putAll(Collection<Feature> features) {
+        List<Item> items = new ArrayList<Item>(features.size());
+        for (Feature feature : features) {
+            items.add(FEATURE_MAPPER.toStore(feature));
+        }
+        batchPutItems(items);
+    }
+
     @Override
     protected Feature get(String featureUid) {
         Item item = getItem(featureUid);
         return FEATURE_MAPPER.fromStore(item);
     }
 
+    Map<String, Feature> getFeatures(List<String> featureUids) {
+        Map<String, Feature> map = new HashMap<String, Feature>();
+        for (Item item : batchGetItems(featureUids)) {
+            map.put(item.getString(FEATURE_UID), FEATURE_MAPPER.fromStore(item));
+        }
+        return map;
+    }
+
     @Override
     protected Map<String, Feature> getAll() {
         ItemCollection<ScanOutcome> items = table.scan(new ScanSpec().withSelect(Select.ALL_ATTRIBUTES));
@@ -30,6 +30,10 @@ import org.ff4j.utils.Util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -190,6 +194,16 @@ public class FeatureStoreDynamoDB extends AbstractFeatureStore {
         LOGGER.info("Feature " + feature.getUid() + " created");
     }
 
+    /**
+     * Items are replaced with BatchWriteItem, no need to delete them first.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void importFeaturesBatch(List<Feature> features) {
+        getClient().putAll(features);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -218,6 +232,17 @@ public class FeatureStoreDynamoDB extends AbstractFeatureStore {
         return getClient().get(featureUid);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        List<String> uids = new ArrayList<String>(new LinkedHashSet<String>(featureUids));
+        Map<String, Feature> found = getClient().getFeatures(uids);
+        return Util.keepRequestedOrder(uids, found);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -10,8 +10,11 @@ import static org.ff4j.dynamodb.DynamoDBConstants.PROPERTY_NAME;
 import static org.ff4j.dynamodb.DynamoDBConstants.PROPERTY_TABLE_NAME;
 import static org.ff4j.dynamodb.DynamoDBConstants.PROPERTY_VALUE;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -82,12 +85,28 @@ class PropertyDynamoDBClient extends DynamoDBClient<Property<?>> {
         table.putItem(PROPERTY_MAPPER.toStore(property));
     }
 
+    void putAll(Collection<Property<?>> properties) {
+        List<Item> items = new ArrayList<Item>(properties.size());
+        for (Property<?> property : properties) {
+            items.add(PROPERTY_MAPPER.toStore(property));
+        }
+        batchPutItems(items);
+    }
+
     @Override
     protected Property<?> get(String name) {
         Item item = getItem(name);
         return PROPERTY_MAPPER.fromStore(item);
     }
 
+    Map<String, Property<?>> getProperties(List<String> names) {
+        Map<String, Property<?>> map = new HashMap<String, Property<?>>();
+        for (Item item : batchGetItems(names)) {
+            map.put(item.getString(PROPERTY_NAME), PROPERTY_MAPPER.fromStore(item));
+        }
+        return map;
+    }
+
     @Override
     protected Map<String, Property<?>> getAll() {
         ItemCollection<ScanOutcome> items = table.scan(new ScanSpec().withSelect(Select.ALL_ATTRIBUTES));
@@ -2,6 +2,10 @@ package org.ff4j.dynamodb.property;
 
 import static org.ff4j.dynamodb.DynamoDBConstants.PROPERTY_TABLE_NAME;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -163,6 +167,16 @@ public class PropertyStoreDynamoDB extends AbstractPropertyStore {
         getClient().put(property);
     }
 
+    /**
+     * Items are replaced with BatchWriteItem, no need to delete them first.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void importPropertiesBatch(List<Property<?>> properties) {
+        getClient().putAll(properties);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -185,6 +199,17 @@ public class PropertyStoreDynamoDB extends AbstractPropertyStore {
         return getClient().get(name);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        List<String> propertyNames = new ArrayList<String>(new LinkedHashSet<String>(names));
+        Map<String, Property<?>> found = getClient().getProperties(propertyNames);
+        return Util.keepRequestedOrder(propertyNames, found);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -34,18 +34,60 @@ import org.ff4j.utils.Util;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation of {@link PropertyStore} with Amazon Web Services SSM Parameter Store.
  * (<a href="https://docs.aws.amazon.com/systems-manager/latest/userguide/systems-manager-paramstore.html">SSM Parameter Store</a>)
  *
+ * <p>Parameters of the path are kept in a local snapshot: reads are served from memory and the snapshot is
+ * refreshed every {@link #getRefreshInterval()} milliseconds. The refresh lists parameter versions
+ * (<code>DescribeParameters</code>) and only fetches values of new or modified parameters by batches of 10
+ * (<code>GetParameters</code>). Writes done through this store update the snapshot immediately.</p>
+ *
+ * <p>Only the first load blocks the callers. Then a stale snapshot is still served while a single background
+ * refresh is running; if it fails the current snapshot is kept for another interval.</p>
+ *
  * @author <a href="mailto:jeromevdl@gmail.com">Jerome VAN DER LINDEN</a>
  */
 public class PropertyStoreAwsSSM extends AbstractPropertyStore {
 
+    /** Maximum number of names for GetParameters and DeleteParameters. */
+    public static final int BATCH_SIZE = 10;
+
+    /** Maximum page size of GetParametersByPath. */
+    private static final int PAGE_SIZE_BY_PATH = 10;
+
+    /** Maximum page size of DescribeParameters. */
+    private static final int PAGE_SIZE_DESCRIBE = 50;
+
+    /** Default refresh interval (milliseconds). */
+    public static final long DEFAULT_REFRESH_INTERVAL = 30000;
+
     private AWSSimpleSystemsManagement client;
     private String path;
 
+    /** Snapshot refresh interval in milliseconds, 0 to always read from SSM. */
+    private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+    /** Parameters of the path by property name, null until first load. */
+    private volatile Map<String, Parameter> snapshot;
+
+    /** Last load or refresh of snapshot. */
+    private volatile long snapshotTime;
+
+    /** A background refresh is pending or running. */
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /** Background refreshes, thread released when idle. */
+    private final ThreadPoolExecutor refreshExecutor;
+
     /**
      * Default constructor with default AWS configuration. <br />
      * If you need more control on AWS connection (credentials, proxy, ...), use {@link #PropertyStoreAwsSSM(AWSSimpleSystemsManagement, String)}
@@ -68,17 +110,30 @@ public class PropertyStoreAwsSSM extends AbstractPropertyStore {
         }
         this.path = path;
         this.client = client;
+        this.refreshExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "ff4j-awsssm-refresh");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean existProperty(String name) {
-        try {
-            readProperty(name);
-            return true;
-        } catch (PropertyNotFoundException e) {
-            return false;
+        Util.assertHasLength(name);
+        if (refreshInterval <= 0) {
+            try {
+                readProperty(name);
+                return true;
+            } catch (PropertyNotFoundException e) {
+                return false;
+            }
         }
+        return getSnapshot().containsKey(name);
     }
 
     /** {@inheritDoc} */
@@ -91,14 +146,21 @@ public class PropertyStoreAwsSSM extends AbstractPropertyStore {
     @Override
     public Property<?> readProperty(String name) {
         Util.assertHasLength(name);
-        try {
-            GetParameterResult result = client.getParameter(new GetParameterRequest().withName(path + "/" + name));
-            return new PropertyString(name, result.getParameter().getValue());
-        } catch (ParameterNotFoundException e) {
-            throw new PropertyNotFoundException(name);
-        } catch (ParameterVersionNotFoundException e) {
+        if (refreshInterval <= 0) {
+            try {
+                GetParameterResult result = client.getParameter(new GetParameterRequest().withName(path + "/" + name));
+                return new PropertyString(name, result.getParameter().getValue());
+            } catch (ParameterNotFoundException e) {
+                throw new PropertyNotFoundException(name);
+            } catch (ParameterVersionNotFoundException e) {
+                throw new PropertyNotFoundException(name);
+            }
+        }
+        Parameter parameter = getSnapshot().get(name);
+        if (parameter == null) {
             throw new PropertyNotFoundException(name);
         }
+        return new PropertyString(name, parameter.getValue());
     }
 
     /** {@inheritDoc} */
@@ -115,17 +177,20 @@ public class PropertyStoreAwsSSM extends AbstractPropertyStore {
             client.deleteParameter(new DeleteParameterRequest().withName(path + "/" + name));
         } catch (ParameterNotFoundException e) {
             throw new PropertyNotFoundException(name);
+        } finally {
+            Map<String, Parameter> current = snapshot;
+            if (current != null) {
+                current.remove(name);
+            }
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, Property<?>> readAllProperties() {
-        List<Parameter> parameters = getParameters();
-
         Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
-        for (Parameter parameter : parameters) {
-            properties.put(parameter.getName().replace(path + "/", ""), new PropertyString(parameter.getValue()));
+        for (Map.Entry<String, Parameter> parameter : getParameters().entrySet()) {
+            properties.put(parameter.getKey(), new PropertyString(parameter.getKey(), parameter.getValue().getValue()));
         }
         return properties;
     }
@@ -133,22 +198,23 @@ public class PropertyStoreAwsSSM extends AbstractPropertyStore {
     /** {@inheritDoc} */
     @Override
     public Set<String> listPropertyNames() {
-        List<Parameter> parameters = getParameters();
-
-        Set<String> propertyNames = new HashSet<String>();
-        for (Parameter parameter : parameters) {
-            propertyNames.add(parameter.getName().replace(path + "/", ""));
-        }
-        return propertyNames;
+        return new HashSet<String>(getParameters().keySet());
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
-        Set<String> names = listPropertyFullNames();
-        if (!Util.isEmpty(names)) {
-            client.deleteParameters(new DeleteParametersRequest().withNames(names));
+        List<String> names = new ArrayList<String>();
+        for (Parameter parameter : getParameters().values()) {
+            names.add(parameter.getName());
         }
+        // DeleteParameters accepts at most 10 names
+        for (int from = 0; from < names.size(); from += BATCH_SIZE) {
+            List<String> batch = names.subList(from, Math.min(from + BATCH_SIZE, names.size()));
+            client.deleteParameters(new DeleteParametersRequest().withNames(batch));
+        }
+        snapshot     = new ConcurrentHashMap<String, Parameter>();
+        snapshotTime = System.currentTimeMillis();
     }
 
     /**
@@ -177,37 +243,196 @@ public class PropertyStoreAwsSSM extends AbstractPropertyStore {
         }
     }
 
+    /**
+     * Refresh the snapshot now: only parameters with a new version are fetched.
+     */
+    public synchronized void refresh() {
+        Map<String, Parameter> current = snapshot;
+        if (current == null) {
+            snapshot     = loadAll();
+            snapshotTime = System.currentTimeMillis();
+            return;
+        }
+        Map<String, Long> versions = describeAll();
+        Map<String, Parameter> refreshed = new ConcurrentHashMap<String, Parameter>();
+        List<String> changed = new ArrayList<String>();
+        for (Map.Entry<String, Long> version : versions.entrySet()) {
+            Parameter known = current.get(version.getKey());
+            if (known != null && known.getVersion() != null && known.getVersion().equals(version.getValue())) {
+                refreshed.put(version.getKey(), known);
+            } else {
+                changed.add(path + "/" + version.getKey());
+            }
+        }
+        for (int from = 0; from < changed.size(); from += BATCH_SIZE) {
+            List<String> batch = changed.subList(from, Math.min(from + BATCH_SIZE, changed.size()));
+            for (Parameter parameter : client.getParameters(new GetParametersRequest().withNames(batch)).getParameters()) {
+                refreshed.put(toPropertyName(parameter.getName()), parameter);
+            }
+        }
+        snapshot     = refreshed;
+        snapshotTime = System.currentTimeMillis();
+    }
+
     private <T> void createOrUpdate(Property<T> property, boolean overwrite) {
         Util.assertNotNull(property);
         Util.assertHasLength(property.getName());
         if (overwrite && !existProperty(property.getName())) {
             throw new PropertyNotFoundException(property.getName());
         }
+        String value = property.asString();
+        PutParameterResult result;
         try {
-            client.putParameter(new PutParameterRequest()
+            result = client.putParameter(new PutParameterRequest()
                     .withName(path + "/" + property.getName())
                     .withType(ParameterType.String)
-                    .withValue(property.asString())
+                    .withValue(value)
                     .withOverwrite(overwrite)
                     .withDescription(property.getDescription()));
         } catch (ParameterAlreadyExistsException pae) {
             throw new PropertyAlreadyExistException(property.getName());
         }
+        Map<String, Parameter> current = snapshot;
+        if (current != null) {
+            current.put(property.getName(), new Parameter()
+                    .withName(path + "/" + property.getName())
+                    .withType(ParameterType.String)
+                    .withValue(value)
+                    .withVersion(result == null ? null : result.getVersion()));
+        }
+    }
+
+    /**
+     * Parameters of the path, from snapshot or from SSM when snapshot is disabled.
+     *
+     * @return
+     *      parameters by property name
+     */
+    private Map<String, Parameter> getParameters() {
+        return (refreshInterval <= 0) ? loadAll() : getSnapshot();
     }
 
-    private Set<String> listPropertyFullNames() {
-        List<Parameter> parameters = getParameters();
+    /**
+     * Access snapshot, loaded on first access. A stale snapshot is returned while it is refreshed in background.
+     *
+     * @return
+     *      parameters by property name
+     */
+    private Map<String, Parameter> getSnapshot() {
+        Map<String, Parameter> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                return snapshot;
+            }
+        }
+        if (System.currentTimeMillis() - snapshotTime > refreshInterval) {
+            refreshInBackground();
+        }
+        return current;
+    }
 
-        Set<String> propertyNames = new HashSet<String>();
-        for (Parameter parameter : parameters) {
-            propertyNames.add(parameter.getName());
+    /**
+     * Start a refresh unless one is already pending or running.
+     */
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(new Runnable() {
+                public void run() {
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        // Keep current snapshot, next attempt after another interval
+                        snapshotTime = System.currentTimeMillis();
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            refreshing.set(false);
         }
-        return propertyNames;
     }
 
-    private List<Parameter> getParameters() {
-        GetParametersByPathResult result = client.getParametersByPath(new GetParametersByPathRequest().withPath(path).withRecursive(false));
-        return result.getParameters();
+    /**
+     * Read all parameters of the path, following pagination.
+     *
+     * @return
+     *      parameters by property name
+     */
+    private Map<String, Parameter> loadAll() {
+        Map<String, Parameter> parameters = new ConcurrentHashMap<String, Parameter>();
+        String nextToken = null;
+        do {
+            GetParametersByPathResult result = client.getParametersByPath(new GetParametersByPathRequest()
+                    .withPath(path)
+                    .withRecursive(false)
+                    .withMaxResults(PAGE_SIZE_BY_PATH)
+                    .withNextToken(nextToken));
+            for (Parameter parameter : result.getParameters()) {
+                parameters.put(toPropertyName(parameter.getName()), parameter);
+            }
+            nextToken = result.getNextToken();
+        } while (nextToken != null);
+        return parameters;
+    }
+
+    /**
+     * List versions of parameters of the path (no value), following pagination.
+     *
+     * @return
+     *      versions by property name
+     */
+    private Map<String, Long> describeAll() {
+        Map<String, Long> versions = new HashMap<String, Long>();
+        String nextToken = null;
+        do {
+            DescribeParametersResult result = client.describeParameters(new DescribeParametersRequest()
+                    .withParameterFilters(new ParameterStringFilter().withKey("Path").withOption("OneLevel").withValues(path))
+                    .withMaxResults(PAGE_SIZE_DESCRIBE)
+                    .withNextToken(nextToken));
+            for (ParameterMetadata metadata : result.getParameters()) {
+                versions.put(toPropertyName(metadata.getName()), metadata.getVersion());
+            }
+            nextToken = result.getNextToken();
+        } while (nextToken != null);
+        return versions;
+    }
+
+    /**
+     * Remove path from parameter name.
+     *
+     * @param parameterName
+     *      full parameter name
+     * @return
+     *      property name
+     */
+    private String toPropertyName(String parameterName) {
+        return parameterName.substring(path.length() + 1);
+    }
+
+    /**
+     * Getter accessor for attribute 'refreshInterval'.
+     *
+     * @return
+     *       current value of 'refreshInterval'
+     */
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Setter accessor for attribute 'refreshInterval', 0 disables the snapshot.
+     * @param refreshInterval
+     * 		new value for 'refreshInterval ' in milliseconds
+     */
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
     }
 
 }
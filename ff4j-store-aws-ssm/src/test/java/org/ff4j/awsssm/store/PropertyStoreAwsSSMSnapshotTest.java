@@ -0,0 +1,303 @@
+package org.ff4j.awsssm.store;
+
+/*
+ * #%L
+ * ff4j-store-aws-ssm
+ * %%
+ * Copyright (C) 2013 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.ff4j.property.PropertyString;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.services.simplesystemsmanagement.AbstractAWSSimpleSystemsManagement;
+import com.amazonaws.services.simplesystemsmanagement.model.DeleteParameterRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.DeleteParameterResult;
+import com.amazonaws.services.simplesystemsmanagement.model.DeleteParametersRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.DeleteParametersResult;
+import com.amazonaws.services.simplesystemsmanagement.model.DescribeParametersRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.DescribeParametersResult;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParameterRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParameterResult;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParametersByPathRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParametersByPathResult;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParametersRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.GetParametersResult;
+import com.amazonaws.services.simplesystemsmanagement.model.Parameter;
+import com.amazonaws.services.simplesystemsmanagement.model.ParameterAlreadyExistsException;
+import com.amazonaws.services.simplesystemsmanagement.model.ParameterMetadata;
+import com.amazonaws.services.simplesystemsmanagement.model.ParameterNotFoundException;
+import com.amazonaws.services.simplesystemsmanagement.model.PutParameterRequest;
+import com.amazonaws.services.simplesystemsmanagement.model.PutParameterResult;
+
+/**
+ * Pagination, batches and snapshot of {@link PropertyStoreAwsSSM} against a stubbed SSM.
+ */
+public class PropertyStoreAwsSSMSnapshotTest {
+
+    private static final String PATH = "/Dev/ff4j";
+
+    private StubSSM ssm;
+
+    private PropertyStoreAwsSSM store;
+
+    @Before
+    public void setUp() {
+        ssm = new StubSSM();
+        for (int i = 0; i < 25; i++) {
+            ssm.set(PATH + "/p" + i, "v" + i);
+        }
+        store = new PropertyStoreAwsSSM(ssm, PATH);
+    }
+
+    @Test
+    public void readAllFollowsPagination() {
+        Assert.assertEquals(25, store.readAllProperties().size());
+        Assert.assertEquals("v24", store.readAllProperties().get("p24").asString());
+        Assert.assertEquals(3, ssm.byPathCalls);
+    }
+
+    @Test
+    public void hotReadsDoNotCallSSM() {
+        store.listPropertyNames();
+        int calls = ssm.totalCalls();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals("v3", store.readProperty("p3").asString());
+            Assert.assertTrue(store.existProperty("p3"));
+            Assert.assertFalse(store.existProperty("unknown"));
+        }
+        Assert.assertEquals(calls, ssm.totalCalls());
+    }
+
+    @Test
+    public void refreshOnlyFetchesNewVersions() {
+        store.listPropertyNames();
+        ssm.set(PATH + "/p1", "changed");
+        ssm.set(PATH + "/new", "created");
+        ssm.parameters.remove(PATH + "/p2");
+        store.refresh();
+        Assert.assertEquals(1, ssm.getParametersCalls);
+        Assert.assertEquals(2, ssm.lastBatchSize);
+        Assert.assertEquals("changed", store.readProperty("p1").asString());
+        Assert.assertEquals("created", store.readProperty("new").asString());
+        Assert.assertFalse(store.existProperty("p2"));
+        Assert.assertEquals(25, store.listPropertyNames().size());
+    }
+
+    @Test
+    public void writesUpdateSnapshot() {
+        store.listPropertyNames();
+        store.createProperty(new PropertyString("x", "1"));
+        store.updateProperty("p0", "updated");
+        store.deleteProperty("p5");
+        int calls = ssm.totalCalls();
+        Assert.assertEquals("1", store.readProperty("x").asString());
+        Assert.assertEquals("updated", store.readProperty("p0").asString());
+        Assert.assertFalse(store.existProperty("p5"));
+        Assert.assertEquals(calls, ssm.totalCalls());
+        // Unchanged versions after own writes: nothing fetched
+        store.refresh();
+        Assert.assertEquals(0, ssm.getParametersCalls);
+    }
+
+    @Test
+    public void clearDeletesByBatches() {
+        store.clear();
+        Assert.assertEquals(3, ssm.deleteParametersCalls);
+        Assert.assertTrue(ssm.parameters.isEmpty());
+        Assert.assertTrue(store.listPropertyNames().isEmpty());
+    }
+
+    @Test
+    public void noSnapshot() {
+        store.setRefreshInterval(0);
+        Assert.assertEquals("v7", store.readProperty("p7").asString());
+        Assert.assertEquals(1, ssm.getParameterCalls);
+        Assert.assertEquals(25, store.readAllProperties().size());
+        Assert.assertEquals(3, ssm.byPathCalls);
+    }
+
+    @Test(timeout = 10000)
+    public void staleSnapshotServedDuringRefresh() throws InterruptedException {
+        store.setRefreshInterval(1);
+        store.listPropertyNames();
+        ssm.set(PATH + "/p1", "changed");
+        ssm.describeStarted = new CountDownLatch(1);
+        ssm.describeGate    = new CountDownLatch(1);
+        Thread.sleep(5);
+
+        // Refresh blocked in SSM, readers are not
+        Assert.assertEquals("v1", store.readProperty("p1").asString());
+        Assert.assertTrue(ssm.describeStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals("v1", store.readProperty("p1").asString());
+        }
+        // Single refresh in flight
+        Assert.assertEquals(1, ssm.describeCalls);
+
+        ssm.describeGate.countDown();
+        long end = System.currentTimeMillis() + 5000;
+        while (!"changed".equals(store.readProperty("p1").asString()) && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("changed", store.readProperty("p1").asString());
+    }
+
+    @Test(timeout = 10000)
+    public void failedRefreshKeepsSnapshot() throws InterruptedException {
+        store.setRefreshInterval(1);
+        store.listPropertyNames();
+        ssm.describeError   = new IllegalStateException("throttled");
+        ssm.describeStarted = new CountDownLatch(1);
+        Thread.sleep(5);
+        Assert.assertEquals("v1", store.readProperty("p1").asString());
+        Assert.assertTrue(ssm.describeStarted.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("v1", store.readProperty("p1").asString());
+        Assert.assertEquals(25, store.listPropertyNames().size());
+    }
+
+    /** In memory SSM with the paging limits of the real service. */
+    private static class StubSSM extends AbstractAWSSimpleSystemsManagement {
+
+        private final Map<String, Parameter> parameters = new TreeMap<String, Parameter>();
+
+        private volatile int byPathCalls, describeCalls, getParameterCalls, getParametersCalls, deleteParametersCalls, lastBatchSize;
+
+        /** Counted down when DescribeParameters is invoked, if defined. */
+        private volatile CountDownLatch describeStarted;
+
+        /** DescribeParameters waits for this latch, if defined. */
+        private volatile CountDownLatch describeGate;
+
+        /** Error raised by DescribeParameters, if defined. */
+        private volatile RuntimeException describeError;
+
+        private int totalCalls() {
+            return byPathCalls + describeCalls + getParameterCalls + getParametersCalls;
+        }
+
+        private long set(String name, String value) {
+            Parameter previous = parameters.get(name);
+            long version = (previous == null) ? 1 : previous.getVersion() + 1;
+            parameters.put(name, new Parameter().withName(name).withValue(value).withVersion(version));
+            return version;
+        }
+
+        private List<Parameter> page(String token, int size) {
+            List<Parameter> all = new ArrayList<Parameter>(parameters.values());
+            int from = (token == null) ? 0 : Integer.parseInt(token);
+            return all.subList(from, Math.min(from + size, all.size()));
+        }
+
+        private String nextToken(String token, int size) {
+            int next = ((token == null) ? 0 : Integer.parseInt(token)) + size;
+            return next < parameters.size() ? String.valueOf(next) : null;
+        }
+
+        @Override
+        public GetParametersByPathResult getParametersByPath(GetParametersByPathRequest request) {
+            byPathCalls++;
+            Assert.assertTrue(request.getMaxResults() <= 10);
+            return new GetParametersByPathResult()
+                    .withParameters(page(request.getNextToken(), request.getMaxResults()))
+                    .withNextToken(nextToken(request.getNextToken(), request.getMaxResults()));
+        }
+
+        @Override
+        public DescribeParametersResult describeParameters(DescribeParametersRequest request) {
+            describeCalls++;
+            if (describeStarted != null) {
+                describeStarted.countDown();
+            }
+            if (describeError != null) {
+                throw describeError;
+            }
+            if (describeGate != null) {
+                try {
+                    describeGate.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Assert.assertTrue(request.getMaxResults() <= 50);
+            List<ParameterMetadata> metadata = new ArrayList<ParameterMetadata>();
+            for (Parameter p : page(request.getNextToken(), request.getMaxResults())) {
+                metadata.add(new ParameterMetadata().withName(p.getName()).withVersion(p.getVersion()));
+            }
+            return new DescribeParametersResult().withParameters(metadata)
+                    .withNextToken(nextToken(request.getNextToken(), request.getMaxResults()));
+        }
+
+        @Override
+        public GetParametersResult getParameters(GetParametersRequest request) {
+            getParametersCalls++;
+            lastBatchSize = request.getNames().size();
+            Assert.assertTrue(lastBatchSize <= 10);
+            List<Parameter> result = new ArrayList<Parameter>();
+            for (String name : request.getNames()) {
+                if (parameters.containsKey(name)) {
+                    result.add(parameters.get(name));
+                }
+            }
+            return new GetParametersResult().withParameters(result);
+        }
+
+        @Override
+        public GetParameterResult getParameter(GetParameterRequest request) {
+            getParameterCalls++;
+            if (!parameters.containsKey(request.getName())) {
+                throw new ParameterNotFoundException(request.getName());
+            }
+            return new GetParameterResult().withParameter(parameters.get(request.getName()));
+        }
+
+        @Override
+        public PutParameterResult putParameter(PutParameterRequest request) {
+            if (!Boolean.TRUE.equals(request.getOverwrite()) && parameters.containsKey(request.getName())) {
+                throw new ParameterAlreadyExistsException(request.getName());
+            }
+            return new PutParameterResult().withVersion(set(request.getName(), request.getValue()));
+        }
+
+        @Override
+        public DeleteParameterResult deleteParameter(DeleteParameterRequest request) {
+            if (parameters.remove(request.getName()) == null) {
+                throw new ParameterNotFoundException(request.getName());
+            }
+            return new DeleteParameterResult();
+        }
+
+        @Override
+        public DeleteParametersResult deleteParameters(DeleteParametersRequest request) {
+            deleteParametersCalls++;
+            Assert.assertTrue(request.getNames().size() <= 10);
+            for (String name : request.getNames()) {
+                parameters.remove(name);
+            }
+            return new DeleteParametersResult().withDeletedParameters(request.getNames());
+        }
+    }
+
+}
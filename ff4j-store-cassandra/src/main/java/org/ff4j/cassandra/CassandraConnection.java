@@ -4,9 +4,13 @@ import static org.ff4j.cassandra.CassandraConstants.CQL_CREATEKEYSPACE;
 import static org.ff4j.cassandra.CassandraConstants.DEFAULT_HOST;
 import static org.ff4j.cassandra.CassandraConstants.DEFAULT_KEYSPACE;
 import static org.ff4j.cassandra.CassandraConstants.DEFAULT_REPLICATION_FACTOR;
+import static org.ff4j.cassandra.CassandraConstants.MAX_ASYNC_STATEMENTS;
 import static org.ff4j.cassandra.CassandraConstants.PORT_CQL_NATIVE;
 
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 
 import org.ff4j.utils.Util;
 
@@ -39,7 +43,9 @@ import com.datastax.driver.core.Cluster.Builder;
 import com.datastax.driver.core.Host;
 import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.TableMetadata;
 
 /**
@@ -165,6 +171,7 @@ public class CassandraConnection {
     public void dropSchema() {
         CassandraQueryBuilder cqb = new CassandraQueryBuilder(this);
         getSession().execute(cqb.cqlDropAudit());
+        getSession().execute(cqb.cqlDropAuditHits());
         getSession().execute(cqb.cqlDropFeatures());
         getSession().execute(cqb.cqlDropProperties());
     }
@@ -183,6 +190,26 @@ public class CassandraConnection {
         this.createKeySpace();
     }
     
+    /**
+     * Execute statements on distinct partitions asynchronously, at most {@link CassandraConstants#MAX_ASYNC_STATEMENTS}
+     * at a time. A multi-partition batch would make a single coordinator (and the batch log) handle every row.
+     *
+     * @param statements
+     *      statements to execute, each one is applied on its own
+     */
+    public void executeAll(List<? extends Statement> statements) {
+        Deque<ResultSetFuture> inFlight = new ArrayDeque<ResultSetFuture>();
+        for (Statement statement : statements) {
+            if (inFlight.size() >= MAX_ASYNC_STATEMENTS) {
+                inFlight.poll().getUninterruptibly();
+            }
+            inFlight.add(getSession().executeAsync(statement));
+        }
+        while (!inFlight.isEmpty()) {
+            inFlight.poll().getUninterruptibly();
+        }
+    }
+    
     /**
      * Check existence of a table in Cassandra.
      *
@@ -193,6 +220,9 @@ public class CassandraConnection {
      */
     public boolean isColumnFamilyExist(String columnName) {
         KeyspaceMetadata ks = getCluster().getMetadata().getKeyspace(getKeySpace());
+        if (ks == null) {
+            return false;
+        }
         TableMetadata table = ks.getTable(columnName);
         return table != null;
     }
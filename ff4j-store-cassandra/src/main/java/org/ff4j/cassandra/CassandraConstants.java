@@ -61,6 +61,9 @@ public class CassandraConstants {
     /** Default keySpace. */
     public static final int DEFAULT_REPLICATION_FACTOR = 3;
     
+    /** Maximum number of statements executed concurrently when writing many partitions. */
+    public static final int MAX_ASYNC_STATEMENTS = 32;
+    
     // ------- AUDIT -------------
 
     /** column Family. */
@@ -102,6 +105,27 @@ public class CassandraConstants {
     /** sql column name for table FF4J_AUDIT. */
     public static final String COL_EVENT_KEYS = "KEYS";
     
+    /** column Family with hit counters (feature usage) per hour and minute. */
+    public static final String COLUMN_FAMILY_AUDIT_HITS = "audit_hits";
+    
+    /** column name for table audit_hits : counted attribute (NAME, USER, HOSTNAME, SOURCE). */
+    public static final String COL_HITS_DIMENSION = "DIMENSION";
+    
+    /** column name for table audit_hits : start of the hour (epoch millis). */
+    public static final String COL_HITS_BUCKET = "BUCKET";
+    
+    /** column name for table audit_hits : minute in the hour, {@link #HITS_HOUR_TOTAL} for the whole hour. */
+    public static final String COL_HITS_MINUTE = "MINUTE";
+    
+    /** column name for table audit_hits : value of the attribute. */
+    public static final String COL_HITS_KEY = "KEY";
+    
+    /** column name for table audit_hits : counter. */
+    public static final String COL_HITS_COUNT = "HITS";
+    
+    /** value of column MINUTE holding the total of the hour. */
+    public static final int HITS_HOUR_TOTAL = 60;
+    
     // -----  Features ---------
     
     /** column Family. */
@@ -2,6 +2,7 @@ package org.ff4j.cassandra;
 
 import static org.ff4j.audit.EventConstants.ACTION_CHECK_OK;
 import static org.ff4j.cassandra.CassandraConstants.COLUMN_FAMILY_AUDIT;
+import static org.ff4j.cassandra.CassandraConstants.COLUMN_FAMILY_AUDIT_HITS;
 
 /*
  * #%L
@@ -37,6 +38,11 @@ import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_TYPE;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_UID;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_USER;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_VALUE;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_BUCKET;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_COUNT;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_DIMENSION;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_KEY;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_MINUTE;
 import static org.ff4j.cassandra.CassandraConstants.COL_FEAT_CUSTOMPROPERTIES;
 import static org.ff4j.cassandra.CassandraConstants.COL_FEAT_DESCRIPTION;
 import static org.ff4j.cassandra.CassandraConstants.COL_FEAT_ENABLE;
@@ -51,6 +57,7 @@ import static org.ff4j.cassandra.CassandraConstants.COL_PROPERTY_ID;
 import static org.ff4j.cassandra.CassandraConstants.COL_PROPERTY_VALUE;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 
@@ -86,6 +93,10 @@ public class CassandraQueryBuilder {
         return "DROP TABLE IF EXISTS "+ connection.getKeySpace() + "." + COLUMN_FAMILY_AUDIT;
     }
     
+    public String cqlDropAuditHits() {
+        return "DROP TABLE IF EXISTS "+ connection.getKeySpace() + "." + COLUMN_FAMILY_AUDIT_HITS;
+    }
+    
     public String cqlDropFeatures() {
         return "DROP TABLE IF EXISTS "+ connection.getKeySpace() + "." + COLUMN_FAMILY_FEATURES;
     }
@@ -170,6 +181,11 @@ public class CassandraQueryBuilder {
         return QueryBuilder.select().all().from(connection.getKeySpace(), COLUMN_FAMILY_FEATURES);
     }
     
+    public Statement selectFeatures(Collection<String> uids) {
+        return QueryBuilder.select().all().from(connection.getKeySpace(), COLUMN_FAMILY_FEATURES)
+                .where(QueryBuilder.in(COL_FEAT_UID, new ArrayList<Object>(uids)));
+    }
+    
     public String cqlGrantRoleOnFeature(String roleName) {
         return "UPDATE "  + connection.getKeySpace() + "." + COLUMN_FAMILY_FEATURES + 
                 " SET "   + COL_FEAT_ROLES + " = " + COL_FEAT_ROLES + " + {'" + roleName + "'}" +
@@ -269,6 +285,11 @@ public class CassandraQueryBuilder {
         return QueryBuilder.select().all().from(connection.getKeySpace(), COLUMN_FAMILY_PROPERTIES);
     }
     
+    public Statement selectProperties(Collection<String> names) {
+        return QueryBuilder.select().all().from(connection.getKeySpace(), COLUMN_FAMILY_PROPERTIES)
+                .where(QueryBuilder.in(COL_PROPERTY_ID, new ArrayList<Object>(names)));
+    }
+    
     public String cqlPropertyNames() {
         return "SELECT " + COL_PROPERTY_ID + 
                 " FROM " + connection.getKeySpace() + "." + COLUMN_FAMILY_PROPERTIES;
@@ -318,6 +339,43 @@ public class CassandraQueryBuilder {
         return query;
     }
     
+    /**
+     * Counters of feature usage : one partition per attribute and hour, clustered by minute so that
+     * hour totals and minute ranges are read with a single slice.
+     */
+    public String cqlCreateColumnFamilyAuditHits() {
+        return "CREATE TABLE " + connection.getKeySpace() + "." + 
+                COLUMN_FAMILY_AUDIT_HITS + " ( " + 
+                COL_HITS_DIMENSION  + " varchar, "      + 
+                COL_HITS_BUCKET     + " bigint, "       +
+                COL_HITS_MINUTE     + " int, "          +
+                COL_HITS_KEY        + " varchar, "      +
+                COL_HITS_COUNT      + " counter, "      +
+                "PRIMARY KEY ((" + COL_HITS_DIMENSION + ", " + COL_HITS_BUCKET + "), " + 
+                COL_HITS_MINUTE + ", " + COL_HITS_KEY + ")) ";
+    }
+    
+    public String cqlIncrementHits() {
+        return "UPDATE " + connection.getKeySpace() + "." + COLUMN_FAMILY_AUDIT_HITS + 
+                " SET "   + COL_HITS_COUNT + " = " + COL_HITS_COUNT + " + 1" + 
+                " WHERE " + COL_HITS_DIMENSION + " = ? AND " + COL_HITS_BUCKET + " = ?" +
+                " AND "   + COL_HITS_MINUTE + " = ? AND " + COL_HITS_KEY + " = ?";
+    }
+    
+    /**
+     * Counters of several hours, hours are bound as a list.
+     */
+    public String cqlReadHits() {
+        return "SELECT " + COL_HITS_BUCKET + ", " + COL_HITS_MINUTE + ", " + COL_HITS_KEY + ", " + COL_HITS_COUNT + 
+                " FROM "  + connection.getKeySpace() + "." + COLUMN_FAMILY_AUDIT_HITS + 
+                " WHERE " + COL_HITS_DIMENSION + " = ? AND " + COL_HITS_BUCKET + " IN ?" +
+                " AND "   + COL_HITS_MINUTE + " >= ? AND " + COL_HITS_MINUTE + " < ?";
+    }
+    
+    public String cqlTruncateAuditHits() {
+        return "TRUNCATE TABLE " + connection.getKeySpace() + "." + COLUMN_FAMILY_AUDIT_HITS;
+    }
+    
     public String cqlGetEventById() {
       return "SELECT * FROM " + connection.getKeySpace() + "." + COLUMN_FAMILY_AUDIT + 
               " WHERE " + COL_EVENT_UID + " = ? ALLOW FILTERING";
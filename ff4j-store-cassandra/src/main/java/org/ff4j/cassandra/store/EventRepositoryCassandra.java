@@ -1,5 +1,6 @@
 package org.ff4j.cassandra.store;
 
+import static org.ff4j.audit.EventConstants.ACTION_CHECK_OK;
 import static org.ff4j.audit.EventConstants.ACTION_CLEAR;
 import static org.ff4j.audit.EventConstants.ACTION_CREATE;
 import static org.ff4j.audit.EventConstants.ACTION_DELETE;
@@ -7,17 +8,30 @@ import static org.ff4j.audit.EventConstants.ACTION_DISCONNECT;
 import static org.ff4j.audit.EventConstants.ACTION_TOGGLE_OFF;
 import static org.ff4j.audit.EventConstants.ACTION_TOGGLE_ON;
 import static org.ff4j.audit.EventConstants.ACTION_UPDATE;
+import static org.ff4j.audit.EventConstants.TARGET_FEATURE;
 import static org.ff4j.cassandra.CassandraConstants.COLUMN_FAMILY_AUDIT;
+import static org.ff4j.cassandra.CassandraConstants.COLUMN_FAMILY_AUDIT_HITS;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_HOSTNAME;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_NAME;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_SOURCE;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_USER;
 import static org.ff4j.cassandra.CassandraConstants.COL_EVENT_ACTION;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_BUCKET;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_COUNT;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_KEY;
+import static org.ff4j.cassandra.CassandraConstants.COL_HITS_MINUTE;
+import static org.ff4j.cassandra.CassandraConstants.HITS_HOUR_TOTAL;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 /*
@@ -53,13 +67,24 @@ import org.ff4j.utils.Util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 
 /**
  * Implementation of audit into Cassandra DB
  *
- * @Abstract as note implemented yet.
+ * <p>Feature usage is also counted in column family {@link org.ff4j.cassandra.CassandraConstants#COLUMN_FAMILY_AUDIT_HITS}
+ * (per feature, user, host and source, for each hour and minute). Raw events (expiring with TTL) remain for audit
+ * trail and for queries counters cannot answer.</p>
+ *
+ * <p>Only events saved after counters are enabled are counted : counters are read once
+ * {@link #setHitCountersReadFrom(long)} defines when every node started to count, for queries starting after this
+ * time. Counters then give hits of the whole minutes within the query window.</p>
  * 
  * @author Cedrick LUNVEN (@clunven)
  */
@@ -68,9 +93,41 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
     /** logger for this store. */
     private static Logger LOGGER = LoggerFactory.getLogger(EventRepositoryCassandra.class);
     
+    /** One hour in millis. */
+    private static final long HOUR = 1000 * 60 * 60;
+    
+    /** One minute in millis. */
+    private static final long MINUTE = 1000 * 60;
+    
+    /** Maximum number of hours (partitions) read by a single query. */
+    private static final int MAX_HOURS_PER_QUERY = 24;
+    
+    /** Attributes of an event with hit counters. */
+    private static final String[] HITS_DIMENSIONS = { COL_EVENT_NAME, COL_EVENT_USER, COL_EVENT_HOSTNAME, COL_EVENT_SOURCE };
+    
+    /** Log failures of asynchronous counter updates. */
+    private static final FutureCallback<ResultSet> LOG_HITS_FAILURE = new FutureCallback<ResultSet>() {
+        public void onSuccess(ResultSet result) {}
+        public void onFailure(Throwable t) {
+            LOGGER.warn("Cannot update hit counters", t);
+        }
+    };
+    
     /** TTL to working with ' expiring columns' if positive number in SECONDS. */
     private int ttl = -1;
     
+    /** Maintain hit counters. */
+    private boolean hitCounters = true;
+    
+    /** Counters are read for queries starting from this time (epoch millis), never read if negative. */
+    private long hitCountersReadFrom = -1;
+    
+    /** Prepared statement to increment counters, null if counters do not exist. */
+    private volatile PreparedStatement psIncrementHits;
+    
+    /** Prepared statement to read counters, null if counters do not exist. */
+    private volatile PreparedStatement psReadHits;
+    
     /** Connection to store Cassandra. */
     private CassandraQueryBuilder builder;
             
@@ -91,6 +148,7 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
      */
     public EventRepositoryCassandra(CassandraConnection conn) {
         this.conn = conn;
+        prepareHitsStatements();
     }
 
     /** {@inheritDoc} */
@@ -100,6 +158,21 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
            conn.getSession().execute(getBuilder().cqlCreateColumnFamilyAudit());
            LOGGER.debug("Column Family '{}' created", COLUMN_FAMILY_AUDIT);
        }
+       if (hitCounters && !conn.isColumnFamilyExist(COLUMN_FAMILY_AUDIT_HITS)) {
+           conn.getSession().execute(getBuilder().cqlCreateColumnFamilyAuditHits());
+           LOGGER.debug("Column Family '{}' created", COLUMN_FAMILY_AUDIT_HITS);
+       }
+       prepareHitsStatements();
+    }
+    
+    /**
+     * Prepare statements on counters once, if their column family exists.
+     */
+    private void prepareHitsStatements() {
+        if (conn != null && conn.isColumnFamilyExist(COLUMN_FAMILY_AUDIT_HITS)) {
+            psIncrementHits = conn.getSession().prepare(getBuilder().cqlIncrementHits());
+            psReadHits      = conn.getSession().prepare(getBuilder().cqlReadHits());
+        }
     }
     
     /** {@inheritDoc} */
@@ -112,8 +185,171 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
                 e.getType(), e.getName(), e.getAction(),
                 e.getHostName(), e.getSource(), e.getDuration(),
                 e.getUser(), e.getValue(), e.getCustomKeys());
+        if (hitCounters && psIncrementHits != null 
+                && TARGET_FEATURE.equals(e.getType()) && ACTION_CHECK_OK.equals(e.getAction())) {
+            incrementHits(e);
+        }
         return true;
-    }   
+    }
+    
+    /**
+     * Increment counters of hour and minute for each attribute of the event, without waiting for Cassandra.
+     *
+     * @param e
+     *      feature usage event
+     */
+    private void incrementHits(Event e) {
+        long bucket = e.getTimestamp() - e.getTimestamp() % HOUR;
+        int minute  = (int) ((e.getTimestamp() % HOUR) / MINUTE);
+        String[] keys = { e.getName(), e.getUser(), e.getHostName(), e.getSource() };
+        BatchStatement batch = new BatchStatement(BatchStatement.Type.COUNTER);
+        for (int i = 0; i < HITS_DIMENSIONS.length; i++) {
+            if (keys[i] != null && !keys[i].isEmpty()) {
+                batch.add(psIncrementHits.bind(HITS_DIMENSIONS[i], bucket, minute, keys[i]));
+                batch.add(psIncrementHits.bind(HITS_DIMENSIONS[i], bucket, HITS_HOUR_TOTAL, keys[i]));
+            }
+        }
+        Futures.addCallback(conn.getSession().executeAsync(batch), LOG_HITS_FAILURE);
+    }
+    
+    /**
+     * Counters can answer a query if they were maintained during the whole window, if it only concerns feature usage
+     * and filters at most on the counted attribute.
+     *
+     * @param query
+     *      current query
+     * @param keyFilter
+     *      filter of the query on the counted attribute
+     * @return
+     *      if counters can be used
+     */
+    private boolean isAnsweredByHits(EventQueryDefinition query, Set<String> keyFilter) {
+        if (psReadHits == null || hitCountersReadFrom < 0 || query.getFrom() < hitCountersReadFrom) {
+            return false;
+        }
+        for (String action : query.getActionFilters()) {
+            if (!ACTION_CHECK_OK.equals(action)) {
+                return false;
+            }
+        }
+        return isEmptyOrSame(query.getNamesFilter(), keyFilter) 
+                && isEmptyOrSame(query.getHostFilters(), keyFilter) 
+                && isEmptyOrSame(query.getSourceFilters(), keyFilter);
+    }
+    
+    private static boolean isEmptyOrSame(Set<String> filter, Set<String> keyFilter) {
+        return filter.isEmpty() || filter == keyFilter;
+    }
+    
+    /**
+     * Read counters of an attribute : hour totals for hours fully in the period, minutes for the first and last hours.
+     * Hours sharing the same minutes are read with a single query.
+     *
+     * @param query
+     *      time window
+     * @param dimension
+     *      counted attribute
+     * @param perMinute
+     *      read minutes even for full hours
+     * @return
+     *      pending reads of rows with hour, minute, key and hits
+     */
+    private List<ResultSetFuture> readHits(EventQueryDefinition query, String dimension, boolean perMinute) {
+        List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>();
+        for (HitsRange range : getHitsRanges(query.getFrom(), query.getTo(), perMinute)) {
+            futures.add(conn.getSession().executeAsync(
+                    psReadHits.bind(dimension, range.hours, range.minuteFrom, range.minuteTo)));
+        }
+        return futures;
+    }
+    
+    /**
+     * Split a time window into ranges of counters. Only whole minutes within the window are counted.
+     *
+     * @param from
+     *      start of window (included)
+     * @param to
+     *      end of window (excluded)
+     * @param perMinute
+     *      read minutes even for full hours
+     * @return
+     *      ranges of counters
+     */
+    static List<HitsRange> getHitsRanges(long from, long to, boolean perMinute) {
+        List<HitsRange> ranges = new ArrayList<HitsRange>();
+        long start = (from % MINUTE == 0) ? from : from - from % MINUTE + MINUTE;
+        long end   = to - to % MINUTE;
+        List<Long> fullHours = new ArrayList<Long>();
+        for (long hour = start - start % HOUR; hour < end; hour += HOUR) {
+            int minuteFrom = (int) ((Math.max(start, hour) - hour) / MINUTE);
+            int minuteTo   = (int) ((Math.min(end, hour + HOUR) - hour) / MINUTE);
+            if (minuteFrom == 0 && minuteTo == HITS_HOUR_TOTAL) {
+                fullHours.add(hour);
+            } else {
+                ranges.add(new HitsRange(Arrays.asList(hour), minuteFrom, minuteTo));
+            }
+        }
+        int minuteFrom = perMinute ? 0 : HITS_HOUR_TOTAL;
+        int minuteTo   = perMinute ? HITS_HOUR_TOTAL : HITS_HOUR_TOTAL + 1;
+        for (int i = 0; i < fullHours.size(); i += MAX_HOURS_PER_QUERY) {
+            List<Long> hours = fullHours.subList(i, Math.min(i + MAX_HOURS_PER_QUERY, fullHours.size()));
+            ranges.add(new HitsRange(new ArrayList<Long>(hours), minuteFrom, minuteTo));
+        }
+        return ranges;
+    }
+    
+    /**
+     * Hit count of an attribute from counters.
+     *
+     * @param query
+     *      time window
+     * @param dimension
+     *      counted attribute
+     * @param keyFilter
+     *      expected values of attribute (all if empty)
+     * @return
+     *      hits per value
+     */
+    private Map<String, MutableHitCount> getHitCountFromHits(EventQueryDefinition query, String dimension, Set<String> keyFilter) {
+        Map < String, MutableHitCount > hitCount = new HashMap<String, MutableHitCount>();
+        for (ResultSetFuture future : readHits(query, dimension, false)) {
+            for (Row row : future.getUninterruptibly()) {
+                String key = row.getString(COL_HITS_KEY);
+                if (keyFilter.isEmpty() || keyFilter.contains(key)) {
+                    if (!hitCount.containsKey(key)) {
+                        hitCount.put(key, new MutableHitCount());
+                    }
+                    hitCount.get(key).incBy((int) row.getLong(COL_HITS_COUNT));
+                }
+            }
+        }
+        return hitCount;
+    }
+    
+    /**
+     * Hit count of an attribute by reading raw events.
+     *
+     * @param cqlQuery
+     *      query on audit
+     * @param column
+     *      counted attribute
+     * @return
+     *      hits per value
+     */
+    private Map<String, MutableHitCount> getHitCountFromEvents(String cqlQuery, String column) {
+        LOGGER.debug("Query " + cqlQuery);
+        ResultSet rs = conn.getSession().execute(cqlQuery);
+        Map < String, MutableHitCount > hitCount = new HashMap<String, MutableHitCount>();
+        for (Row row : rs) {
+            String key = row.getString(column);
+            if (hitCount.containsKey(key)) {
+                hitCount.get(key).inc();
+            } else {
+                hitCount.put(key, new MutableHitCount(1));
+            }
+        }
+        return hitCount;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -125,73 +361,37 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getFeatureUsageHitCount(EventQueryDefinition query) {
-        String cqlQuery = getBuilder().cqlFeatureUsageHitCount(query);
-        LOGGER.debug("Query " + cqlQuery);
-        ResultSet rs = conn.getSession().execute(cqlQuery);
-        Map < String, MutableHitCount > hitCount = new HashMap<String, MutableHitCount>();
-        for (Row row : rs.all()) {
-            String featureName = row.getString(COL_EVENT_NAME);
-            if (hitCount.containsKey(featureName)) {
-                hitCount.get(featureName).inc();
-            } else {
-                hitCount.put(featureName, new MutableHitCount(1));
-            }
+        if (isAnsweredByHits(query, query.getNamesFilter())) {
+            return getHitCountFromHits(query, COL_EVENT_NAME, query.getNamesFilter());
         }
-        return hitCount;
+        return getHitCountFromEvents(getBuilder().cqlFeatureUsageHitCount(query), COL_EVENT_NAME);
     }
     
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getUserHitCount(EventQueryDefinition query) {
-        String cqlQuery = getBuilder().cqlUserHitCount(query);
-        LOGGER.debug("Query " + cqlQuery);
-        ResultSet rs = conn.getSession().execute(cqlQuery);
-        Map < String, MutableHitCount > hitCount = new HashMap<String, MutableHitCount>();
-        for (Row row : rs.all()) {
-            String user = row.getString(COL_EVENT_USER);
-            if (hitCount.containsKey(user)) {
-                hitCount.get(user).inc();
-            } else {
-                hitCount.put(user, new MutableHitCount(1));
-            }
+        if (isAnsweredByHits(query, Collections.<String>emptySet())) {
+            return getHitCountFromHits(query, COL_EVENT_USER, Collections.<String>emptySet());
         }
-        return hitCount;
+        return getHitCountFromEvents(getBuilder().cqlUserHitCount(query), COL_EVENT_USER);
     }
     
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getHostHitCount(EventQueryDefinition query) {
-        String cqlQuery = getBuilder().cqlHostHitCount(query);
-        LOGGER.debug("Query " + cqlQuery);
-        ResultSet rs = conn.getSession().execute(cqlQuery);
-        Map < String, MutableHitCount > hitCount = new HashMap<String, MutableHitCount>();
-        for (Row row : rs.all()) {
-            String hostName = row.getString(COL_EVENT_HOSTNAME);
-            if (hitCount.containsKey(hostName)) {
-                hitCount.get(hostName).inc();
-            } else {
-                hitCount.put(hostName, new MutableHitCount(1));
-            }
+        if (isAnsweredByHits(query, query.getHostFilters())) {
+            return getHitCountFromHits(query, COL_EVENT_HOSTNAME, query.getHostFilters());
         }
-        return hitCount;
+        return getHitCountFromEvents(getBuilder().cqlHostHitCount(query), COL_EVENT_HOSTNAME);
     }    
 
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getSourceHitCount(EventQueryDefinition query) {
-        String cqlQuery = getBuilder().cqlSourceHitCount(query);
-        LOGGER.debug("Query " + cqlQuery);
-        ResultSet rs = conn.getSession().execute(cqlQuery);
-        Map < String, MutableHitCount > hitCount = new HashMap<String, MutableHitCount>();
-        for (Row row : rs.all()) {
-            String source = row.getString(COL_EVENT_SOURCE);
-            if (hitCount.containsKey(source)) {
-                hitCount.get(source).inc();
-            } else {
-                hitCount.put(source, new MutableHitCount(1));
-            }
+        if (isAnsweredByHits(query, query.getSourceFilters())) {
+            return getHitCountFromHits(query, COL_EVENT_SOURCE, query.getSourceFilters());
         }
-        return hitCount;
+        return getHitCountFromEvents(getBuilder().cqlSourceHitCount(query), COL_EVENT_SOURCE);
     }
 
     /** {@inheritDoc} */
@@ -223,6 +423,9 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
     public void purgeAuditTrail(EventQueryDefinition query) {
         LOGGER.warn("All audit will be purged, cannot filter");
         conn.getSession().execute(getBuilder().cqlTruncateAudit());
+        if (hitCounters) {
+            conn.getSession().execute(getBuilder().cqlTruncateAuditHits());
+        }
     }
     
     /** {@inheritDoc} */
@@ -243,6 +446,29 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
     public TimeSeriesChart getFeatureUsageHistory(EventQueryDefinition query, TimeUnit units) {
         // Create the interval depending on units
         TimeSeriesChart tsc = new TimeSeriesChart(query.getFrom(), query.getTo(), units);
+        boolean slotsOfMinutes = (units == TimeUnit.MINUTES || units == TimeUnit.HOURS || units == TimeUnit.DAYS);
+        if (slotsOfMinutes && isAnsweredByHits(query, query.getNamesFilter())) {
+            // Hour totals fit in slots only if local time is shifted by whole hours
+            boolean perMinute = (units == TimeUnit.MINUTES) || (TimeZone.getDefault().getOffset(query.getFrom()) % HOUR != 0);
+            for (ResultSetFuture future : readHits(query, COL_EVENT_NAME, perMinute)) {
+                for (Row row : future.getUninterruptibly()) {
+                    String featureName = row.getString(COL_HITS_KEY);
+                    if (!query.getNamesFilter().isEmpty() && !query.getNamesFilter().contains(featureName)) {
+                        continue;
+                    }
+                    if (!tsc.getSeries().containsKey(featureName)) {
+                        tsc.createNewSerie(featureName);
+                    }
+                    int minute = row.getInt(COL_HITS_MINUTE);
+                    long slotTime = row.getLong(COL_HITS_BUCKET) + (minute == HITS_HOUR_TOTAL ? 0 : minute * MINUTE);
+                    MutableHitCount mhc = tsc.getSeries().get(featureName).getValue().get(tsc.getSdf().format(new Date(slotTime)));
+                    if (mhc != null) {
+                        mhc.incBy((int) row.getLong(COL_HITS_COUNT));
+                    }
+                }
+            }
+            return tsc;
+        }
         // Search All events
         Iterator<Event> iterEvent = searchFeatureUsageEvents(query).iterator();
         // Dispatch events into time slots
@@ -252,6 +478,25 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
         return tsc;
     }      
 
+    /** Counters of some hours, between two minutes. */
+    static final class HitsRange {
+        
+        /** Start of hours. */
+        final List<Long> hours;
+        
+        /** First minute (included). */
+        final int minuteFrom;
+        
+        /** Last minute (excluded). */
+        final int minuteTo;
+        
+        HitsRange(List<Long> hours, int minuteFrom, int minuteTo) {
+            this.hours      = hours;
+            this.minuteFrom = minuteFrom;
+            this.minuteTo   = minuteTo;
+        }
+    }
+
     /**
      * Getter accessor for attribute 'builder'.
      *
@@ -293,6 +538,45 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
         this.ttl = ttl;
     }
     
+    /**
+     * Getter accessor for attribute 'hitCounters'.
+     *
+     * @return
+     *       current value of 'hitCounters'
+     */
+    public boolean isHitCounters() {
+        return hitCounters;
+    }
+
+    /**
+     * Setter accessor for attribute 'hitCounters'.
+     * @param hitCounters
+     *      new value for 'hitCounters '
+     */
+    public void setHitCounters(boolean hitCounters) {
+        this.hitCounters = hitCounters;
+    }
+    
+    /**
+     * Getter accessor for attribute 'hitCountersReadFrom'.
+     *
+     * @return
+     *       current value of 'hitCountersReadFrom'
+     */
+    public long getHitCountersReadFrom() {
+        return hitCountersReadFrom;
+    }
+
+    /**
+     * Setter accessor for attribute 'hitCountersReadFrom' : time (epoch millis) from which every node maintains
+     * counters, queries starting earlier read raw events. Negative to never read counters.
+     * @param hitCountersReadFrom
+     *      new value for 'hitCountersReadFrom '
+     */
+    public void setHitCountersReadFrom(long hitCountersReadFrom) {
+        this.hitCountersReadFrom = hitCountersReadFrom;
+    }
+    
     /**
      * Getter accessor for attribute 'conn'.
      *
@@ -310,6 +594,7 @@ public class EventRepositoryCassandra extends AbstractEventRepository {
      */
     public void setConn(CassandraConnection conn) {
         this.conn = conn;
+        prepareHitsStatements();
     }
    
 }
@@ -23,8 +23,12 @@ import static org.ff4j.cassandra.CassandraConstants.COLUMN_FAMILY_FEATURES;
 import static org.ff4j.cassandra.CassandraConstants.COL_FEAT_GROUPNAME;
 import static org.ff4j.cassandra.CassandraConstants.COL_FEAT_UID;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +44,8 @@ import org.ff4j.utils.Util;
 
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * Implementation of {@link FeatureStore} to work with Cassandra Storage.
@@ -129,6 +135,34 @@ public class FeatureStoreCassandra extends AbstractFeatureStore {
     public void create(Feature fp) {
         assertFeatureNotNull(fp);
         assertFeatureNotExist(fp.getUid());
+        conn.getSession().execute(getBuilder().cqlCreateFeature(), createFeatureValues(fp));
+    }
+    
+    /**
+     * Replace a batch of features (INSERT is an upsert), each row with its own statement as rows are on distinct
+     * partitions.
+     *
+     * @param features
+     *      features of the batch
+     */
+    @Override
+    protected void importFeaturesBatch(List<Feature> features) {
+        List<Statement> statements = new ArrayList<Statement>();
+        for (Feature fp : features) {
+            statements.add(new SimpleStatement(getBuilder().cqlCreateFeature(), createFeatureValues(fp)));
+        }
+        conn.executeAll(statements);
+    }
+    
+    /**
+     * Values of the insert statement for a feature.
+     *
+     * @param fp
+     *      current feature
+     * @return
+     *      values for {@link CassandraQueryBuilder#cqlCreateFeature()}
+     */
+    private Object[] createFeatureValues(Feature fp) {
         // Convert map<String, Property> to map<String, String>, structure in DB
         Map < String, String > mapOfProperties = new HashMap<String, String>();  
         if (fp.getCustomProperties() != null && !fp.getCustomProperties().isEmpty()) {
@@ -138,12 +172,11 @@ public class FeatureStoreCassandra extends AbstractFeatureStore {
                 }
             }
         }
-        conn.getSession().execute(getBuilder().cqlCreateFeature(), 
-                fp.getUid(),
+        return new Object[] { fp.getUid(),
                 fp.isEnable() ? 1 : 0, 
                 fp.getDescription(), 
                 JsonUtils.flippingStrategyAsJson(fp.getFlippingStrategy()),
-                fp.getGroup(), fp.getPermissions(), mapOfProperties);
+                fp.getGroup(), fp.getPermissions(), mapOfProperties };
     }
     
     /** {@inheritDoc} */
@@ -161,6 +194,22 @@ public class FeatureStoreCassandra extends AbstractFeatureStore {
         return CassandraMapper.mapFeature(rs.one());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        Set<String> uids = new LinkedHashSet<String>(featureUids);
+        Map < String, Feature> found = new HashMap<String, Feature>();
+        if (!uids.isEmpty()) {
+            ResultSet resultSet = conn.getSession().execute(getBuilder().selectFeatures(uids));
+            for (Row row : resultSet.all()) {
+                Feature f = CassandraMapper.mapFeature(row);
+                found.put(f.getUid(), f);
+            }
+        }
+        return Util.keepRequestedOrder(uids, found);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readAll() {
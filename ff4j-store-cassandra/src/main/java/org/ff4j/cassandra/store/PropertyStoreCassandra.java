@@ -3,8 +3,12 @@ package org.ff4j.cassandra.store;
 import static org.ff4j.cassandra.CassandraConstants.COLUMN_FAMILY_PROPERTIES;
 import static org.ff4j.cassandra.CassandraConstants.COL_PROPERTY_ID;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 /*
  * #%L
@@ -40,6 +44,8 @@ import org.ff4j.utils.Util;
 
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * Implements of {@link PropertyStore} for sotre Cassandra.
@@ -94,18 +100,45 @@ public class PropertyStoreCassandra extends AbstractPropertyStore {
     public <T> void createProperty(Property<T> prop) {
         assertPropertyNotNull(prop);
         assertPropertyNotExist(prop.getName());
+        conn.getSession().execute(getBuilder().cqlCreateProperty(), createPropertyValues(prop));
+    }
+    
+    /**
+     * Replace a batch of properties (INSERT is an upsert), each row with its own statement as rows are on distinct
+     * partitions.
+     *
+     * @param properties
+     *      properties of the batch
+     */
+    @Override
+    protected void importPropertiesBatch(List<Property<?>> properties) {
+        List<Statement> statements = new ArrayList<Statement>();
+        for (Property<?> prop : properties) {
+            statements.add(new SimpleStatement(getBuilder().cqlCreateProperty(), createPropertyValues(prop)));
+        }
+        conn.executeAll(statements);
+    }
+    
+    /**
+     * Values of the insert statement for a property.
+     *
+     * @param prop
+     *      current property
+     * @return
+     *      values for {@link CassandraQueryBuilder#cqlCreateProperty()}
+     */
+    private Object[] createPropertyValues(Property<?> prop) {
         Set < String > fixedValues = new HashSet<String>();
         if (prop.getFixedValues() != null) {
-            for (T fixedValue : prop.getFixedValues()) {
+            for (Object fixedValue : prop.getFixedValues()) {
                 fixedValues.add(fixedValue.toString());
             }
         }
-        conn.getSession().execute(getBuilder().cqlCreateProperty(), 
-                prop.getName(),
+        return new Object[] { prop.getName(),
                 prop.getType(),
                 prop.asString(),
                 prop.getDescription(),
-                fixedValues);
+                fixedValues };
     }
 
     /** {@inheritDoc} */
@@ -116,6 +149,22 @@ public class PropertyStoreCassandra extends AbstractPropertyStore {
         return CassandraMapper.mapProperty(rs.one());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        Set<String> propertyNames = new LinkedHashSet<String>(names);
+        Map<String, Property<?>> found = new HashMap<String, Property<?>>();
+        if (!propertyNames.isEmpty()) {
+            ResultSet resultSet = conn.getSession().execute(getBuilder().selectProperties(propertyNames));
+            for (Row row : resultSet.all()) {
+                Property<?> p = CassandraMapper.mapProperty(row);
+                found.put(p.getName(), p);
+            }
+        }
+        return Util.keepRequestedOrder(propertyNames, found);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void deleteProperty(String name) {
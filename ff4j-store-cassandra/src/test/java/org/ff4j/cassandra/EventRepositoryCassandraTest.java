@@ -22,9 +22,19 @@ import org.cassandraunit.utils.EmbeddedCassandraServerHelper;
  * #L%
  */
 
+import static org.ff4j.audit.EventConstants.ACTION_CHECK_OK;
+import static org.ff4j.audit.EventConstants.SOURCE_JAVA;
+import static org.ff4j.audit.EventConstants.TARGET_FEATURE;
+
+import java.util.Map;
+
+import org.ff4j.audit.Event;
+import org.ff4j.audit.EventQueryDefinition;
+import org.ff4j.audit.MutableHitCount;
 import org.ff4j.audit.repository.EventRepository;
 import org.ff4j.cassandra.store.EventRepositoryCassandra;
 import org.ff4j.test.audit.EventRepositoryTestSupport;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -38,6 +48,12 @@ import org.junit.Test;
 @Ignore
 public class EventRepositoryCassandraTest extends EventRepositoryTestSupport {
 
+    /** One minute in millis. */
+    private static final long MINUTE = 60 * 1000;
+    
+    /** One hour in millis. */
+    private static final long HOUR = 60 * MINUTE;
+    
     /** Reuse the embedded server. */
     protected static CassandraConnection conn;
     
@@ -66,5 +82,91 @@ public class EventRepositoryCassandraTest extends EventRepositoryTestSupport {
         repoCassandra.setBuilder(repoCassandra.getBuilder());
         new EventRepositoryCassandra();
     }
+    
+    @Test
+    public void testHitCountersWrittenAndRead() throws InterruptedException {
+        EventRepositoryCassandra repoCassandra = new EventRepositoryCassandra(conn);
+        repoCassandra.createSchema();
+        repoCassandra.purgeAuditTrail(new EventQueryDefinition());
+        long now  = System.currentTimeMillis();
+        long base = now - now % HOUR - 2 * HOUR;
+        saveCheck(repoCassandra, "f1", base + 10 * MINUTE + 5000);
+        saveCheck(repoCassandra, "f1", base + 10 * MINUTE + 6000);
+        saveCheck(repoCassandra, "f1", base + HOUR + 30 * MINUTE);
+        saveCheck(repoCassandra, "f2", base + 70 * MINUTE);
+        saveCheck(repoCassandra, "f1", base + 2 * HOUR + 5 * MINUTE);
+        
+        // Counters read once every node maintains them
+        repoCassandra.setHitCountersReadFrom(base);
+        Map<String, MutableHitCount> hits = waitForHits(repoCassandra, "f1", 3, base, base + 2 * HOUR);
+        Assert.assertEquals(3, hits.get("f1").get());
+        Assert.assertEquals(1, hits.get("f2").get());
+        
+        // Same counts from raw events
+        repoCassandra.setHitCountersReadFrom(-1);
+        hits = repoCassandra.getFeatureUsageHitCount(new EventQueryDefinition(base, base + 2 * HOUR));
+        Assert.assertEquals(3, hits.get("f1").get());
+        Assert.assertEquals(1, hits.get("f2").get());
+    }
+    
+    @Test
+    public void testHitCountersBeforeCutOver() throws InterruptedException {
+        EventRepositoryCassandra repoCassandra = new EventRepositoryCassandra(conn);
+        repoCassandra.createSchema();
+        repoCassandra.purgeAuditTrail(new EventQueryDefinition());
+        long now  = System.currentTimeMillis();
+        long base = now - now % HOUR - HOUR;
+        // Saved before counters
+        repoCassandra.setHitCounters(false);
+        saveCheck(repoCassandra, "f1", base + 5 * MINUTE);
+        repoCassandra.setHitCounters(true);
+        saveCheck(repoCassandra, "f1", base + 20 * MINUTE);
+        
+        // Window starting before cut-over reads raw events
+        repoCassandra.setHitCountersReadFrom(base + 10 * MINUTE);
+        Map<String, MutableHitCount> hits = repoCassandra.getFeatureUsageHitCount(new EventQueryDefinition(base, base + HOUR));
+        Assert.assertEquals(2, hits.get("f1").get());
+        // Window after cut-over reads counters
+        hits = waitForHits(repoCassandra, "f1", 1, base + 10 * MINUTE, base + HOUR);
+        Assert.assertEquals(1, hits.get("f1").get());
+    }
+    
+    @Test
+    public void testHitCountersExcludeHitsAfterWindow() throws InterruptedException {
+        EventRepositoryCassandra repoCassandra = new EventRepositoryCassandra(conn);
+        repoCassandra.createSchema();
+        repoCassandra.purgeAuditTrail(new EventQueryDefinition());
+        long now  = System.currentTimeMillis();
+        long base = now - now % HOUR - HOUR;
+        saveCheck(repoCassandra, "f1", base + 5 * MINUTE);
+        saveCheck(repoCassandra, "f1", base + 10 * MINUTE + 5000);
+        repoCassandra.setHitCountersReadFrom(base);
+        waitForHits(repoCassandra, "f1", 2, base, base + HOUR);
+        // Hit at 10:05 is after the window ending at 10:03
+        Map<String, MutableHitCount> hits = repoCassandra.getFeatureUsageHitCount(
+                new EventQueryDefinition(base, base + 10 * MINUTE + 3000));
+        Assert.assertEquals(1, hits.get("f1").get());
+    }
+    
+    private static void saveCheck(EventRepositoryCassandra repo, String uid, long timestamp) {
+        Event evt = new Event(SOURCE_JAVA, TARGET_FEATURE, uid, ACTION_CHECK_OK);
+        evt.setTimestamp(timestamp);
+        repo.saveEvent(evt);
+    }
+    
+    /** Counters are incremented asynchronously. */
+    private static Map<String, MutableHitCount> waitForHits(EventRepositoryCassandra repo, String uid, int expected, long from, long to)
+    throws InterruptedException {
+        long end = System.currentTimeMillis() + 5000;
+        Map<String, MutableHitCount> hits;
+        do {
+            hits = repo.getFeatureUsageHitCount(new EventQueryDefinition(from, to));
+            if (hits.containsKey(uid) && hits.get(uid).get() >= expected) {
+                return hits;
+            }
+            Thread.sleep(50);
+        } while (System.currentTimeMillis() < end);
+        return hits;
+    }
 
 }
@@ -0,0 +1,96 @@
+package org.ff4j.cassandra.store;
+
+/*
+ * #%L
+ * ff4j-store-cassandra
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.ff4j.cassandra.store.EventRepositoryCassandra.HitsRange;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Split of a time window into counters read by {@link EventRepositoryCassandra}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class HitsRangeTest {
+
+    private static final long MINUTE = 60 * 1000;
+
+    private static final long HOUR = 60 * MINUTE;
+
+    /** Some hour. */
+    private static final long H0 = 400000 * HOUR;
+
+    @Test
+    public void testFullHoursReadTogether() {
+        List<HitsRange> ranges = EventRepositoryCassandra.getHitsRanges(H0, H0 + 3 * HOUR, false);
+        Assert.assertEquals(1, ranges.size());
+        Assert.assertEquals(Arrays.asList(H0, H0 + HOUR, H0 + 2 * HOUR), ranges.get(0).hours);
+        Assert.assertEquals(60, ranges.get(0).minuteFrom);
+        Assert.assertEquals(61, ranges.get(0).minuteTo);
+
+        ranges = EventRepositoryCassandra.getHitsRanges(H0, H0 + 3 * HOUR, true);
+        Assert.assertEquals(1, ranges.size());
+        Assert.assertEquals(0, ranges.get(0).minuteFrom);
+        Assert.assertEquals(60, ranges.get(0).minuteTo);
+    }
+
+    @Test
+    public void testEdgesReadPerMinute() {
+        // 10:15 -> 12:30
+        List<HitsRange> ranges = EventRepositoryCassandra.getHitsRanges(H0 + 15 * MINUTE, H0 + 2 * HOUR + 30 * MINUTE, false);
+        Assert.assertEquals(3, ranges.size());
+        assertRange(ranges.get(0), Arrays.asList(H0), 15, 60);
+        assertRange(ranges.get(1), Arrays.asList(H0 + 2 * HOUR), 0, 30);
+        assertRange(ranges.get(2), Arrays.asList(H0 + HOUR), 60, 61);
+    }
+
+    @Test
+    public void testOnlyWholeMinutesCounted() {
+        // 10:15:20 -> 10:30:40 : minutes 16 to 29
+        List<HitsRange> ranges = EventRepositoryCassandra.getHitsRanges(
+                H0 + 15 * MINUTE + 20000, H0 + 30 * MINUTE + 40000, false);
+        Assert.assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), Arrays.asList(H0), 16, 30);
+
+        // Window within a minute
+        Assert.assertTrue(EventRepositoryCassandra.getHitsRanges(H0 + 1000, H0 + 2000, false).isEmpty());
+        Assert.assertTrue(EventRepositoryCassandra.getHitsRanges(H0 + HOUR, H0, false).isEmpty());
+    }
+
+    @Test
+    public void testHoursPerQueryBounded() {
+        List<HitsRange> ranges = EventRepositoryCassandra.getHitsRanges(H0, H0 + 50 * HOUR, false);
+        Assert.assertEquals(3, ranges.size());
+        Assert.assertEquals(24, ranges.get(0).hours.size());
+        Assert.assertEquals(24, ranges.get(1).hours.size());
+        Assert.assertEquals(2, ranges.get(2).hours.size());
+    }
+
+    private static void assertRange(HitsRange range, List<Long> hours, int minuteFrom, int minuteTo) {
+        Assert.assertEquals(hours, range.hours);
+        Assert.assertEquals(minuteFrom, range.minuteFrom);
+        Assert.assertEquals(minuteTo, range.minuteTo);
+    }
+
+}
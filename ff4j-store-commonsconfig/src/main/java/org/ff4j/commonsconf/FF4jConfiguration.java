@@ -25,18 +25,24 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.configuration.AbstractConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.ff4j.exception.InvalidPropertyTypeException;
+import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.Property;
 import org.ff4j.property.store.InMemoryPropertyStore;
+import org.ff4j.property.store.PropertyChangeFeed;
 import org.ff4j.property.store.PropertyStore;
 import org.ff4j.property.util.PropertyFactory;
 import org.ff4j.utils.Util;
@@ -44,6 +50,11 @@ import org.ff4j.utils.Util;
 /**
  * Bridge from {@link PropertyStore} to commons configuration {@link Configuration}.
  * 
+ * <p>Reads are served from a sorted view of the store : prefix queries are a range of the view and typed values
+ * are converted once. The view is reloaded when the store changes if it implements {@link PropertyChangeFeed}
+ * (only changed properties are read again), otherwise after each write through this configuration and when older
+ * than {@link #getRefreshInterval()}.</p>
+ * 
  * @author Cedrick Lunven (@clunven)</a>
  */
 public class FF4jConfiguration extends AbstractConfiguration {
@@ -51,11 +62,20 @@ public class FF4jConfiguration extends AbstractConfiguration {
     /** Target delimiter for multivalued. */
     private static final String DELIMITER = ",";
     
+    /** Default refresh interval of the view for stores without change feed (milliseconds). */
+    public static final long DEFAULT_REFRESH_INTERVAL = 10000;
+    
     /**
      * Source
      */
     private PropertyStore ff4jStore;
     
+    /** Refresh interval of the view for stores without change feed, never expires if not positive. */
+    private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+    
+    /** Current view of the store, null if it must be loaded. */
+    private volatile PropertyView view;
+    
     /**
      * Default constructor.
      */
@@ -75,12 +95,9 @@ public class FF4jConfiguration extends AbstractConfiguration {
     /** {@inheritDoc} */
     @Override
     public Configuration subset(String prefix) {
-        Map < String, Property<?>> myProps = ff4jStore().readAllProperties();
         PropertyStore ps = new InMemoryPropertyStore();
-        for (Map.Entry< String, Property<?>>  prop : myProps.entrySet()) {
-            if (prop.getKey().startsWith(prefix)) {
-                ps.createProperty(prop.getValue());
-            }
+        for (ViewEntry entry : withPrefix(prefix).values()) {
+            ps.createProperty(entry.property);
         }
         return new FF4jConfiguration(ps);
     }  
@@ -90,11 +107,8 @@ public class FF4jConfiguration extends AbstractConfiguration {
     public Properties getProperties(String key) {
         Properties props = new Properties();
         if (key == null) return props;
-        Map < String, Property<?>> myProps = ff4jStore().readAllProperties();
-        for (Map.Entry< String, Property<?>>  prop : myProps.entrySet()) {
-            if (prop.getKey().startsWith(key)) {
-                props.put(prop.getKey(), prop.getValue().getValue());
-            }
+        for (ViewEntry entry : withPrefix(key).values()) {
+            props.put(entry.property.getName(), entry.property.getValue());
         }
         return props;
     }
@@ -102,26 +116,28 @@ public class FF4jConfiguration extends AbstractConfiguration {
     /** {@inheritDoc} */
     @Override
     public boolean isEmpty() {
-        return ff4jStore().isEmpty();
+        return getView().entries.isEmpty();
     }
     
     /** {@inheritDoc} */
     @Override
     public boolean containsKey(String key) {
         if (key == null) return false;
-        return ff4jStore().existProperty(key);
+        return getView().entries.containsKey(key);
     }
     
     /** {@inheritDoc} */
     @Override
     public void addProperty(String key, Object value) {
         ff4jStore().createProperty(PropertyFactory.createProperty(key, value));
+        refresh();
     }
     
     /** {@inheritDoc} */
     @Override
     protected void addPropertyDirect(String key, Object value) {
         ff4jStore().createProperty(PropertyFactory.createProperty(key, value));
+        refresh();
     }
     
     /** {@inheritDoc} */
@@ -134,39 +150,33 @@ public class FF4jConfiguration extends AbstractConfiguration {
         Property<Object> ap = (Property<Object>) ff4jStore().readProperty(key);
         ap.setValue(String.valueOf(value));
         ff4jStore().updateProperty(ap);
+        refresh();
     }
     
     /** {@inheritDoc} */
     @Override
     public void clearProperty(String key) {
         ff4jStore().deleteProperty(key);
+        refresh();
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
         ff4jStore().clear();
+        refresh();
     }
 
     /** {@inheritDoc} */
     @Override
     public Object getProperty(String key) {
-        return ff4jStore().readProperty(key).getValue();
+        return getEntry(key).property.getValue();
     }
 
     /** {@inheritDoc} */
     @Override
     public Iterator<String> getKeys(String prefix) {
-        Set< String > setOfNames = ff4jStore().listPropertyNames();
-        Set< String > results = new HashSet<String>();
-        if (setOfNames != null && setOfNames.size() > 0) {
-            for (String name : setOfNames) {
-                if (name.startsWith(prefix)) {
-                    results.add(name);
-                }
-            }
-        }
-        return results.iterator();
+        return Collections.unmodifiableSet(withPrefix(prefix).keySet()).iterator();
     }
     
     /**
@@ -178,16 +188,13 @@ public class FF4jConfiguration extends AbstractConfiguration {
      *      property value
      */
     private Object getValue(String key) {
-        Util.assertHasLength(key);
-        return ff4jStore().readProperty(key).asString();
+        return getEntry(key).value;
     }
 
     /** {@inheritDoc} */
     @Override
     public Iterator<String> getKeys() {
-        Set< String > init = new HashSet<String>();
-        Set < String > result = ff4jStore().listPropertyNames();
-        return (result == null) ? init.iterator() : result.iterator();
+        return Collections.unmodifiableSet(getView().entries.keySet()).iterator();
     }    
     
     /**
@@ -199,190 +206,151 @@ public class FF4jConfiguration extends AbstractConfiguration {
      */
     @Override
     public boolean getBoolean(String key) {
-        String value = (String) getValue(key);
-        if (!Boolean.TRUE.toString().equals(value.toLowerCase()) &&
-            !Boolean.FALSE.toString().equals(value.toLowerCase()) ) {
-            throw new InvalidPropertyTypeException("Cannot create Boolean from " + value);
-        }
-        return new Boolean(value).booleanValue();
+        return (Boolean) getTyped(key, Boolean.class);
     }
     
     /** {@inheritDoc} */
     @Override
     public Boolean getBoolean(String key, Boolean defaultValue) {
-        return ff4jStore().existProperty(key) ? getBoolean(key) : defaultValue;
+        return containsKey(key) ? getBoolean(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean getBoolean(String key, boolean defaultValue) {
-        return ff4jStore().existProperty(key) ? getBoolean(key) : defaultValue;
+        return containsKey(key) ? getBoolean(key) : defaultValue;
     }    
 
     /** {@inheritDoc} */
     @Override
     public byte getByte(String key) {
-        String value = null;
-        try {
-            value = (String) getValue(key);
-            return Byte.parseByte(value);
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create Byte from " + value, nbe);
-        }
+        return (Byte) getTyped(key, Byte.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public byte getByte(String key, byte defaultValue) {
-        return ff4jStore().existProperty(key) ? getByte(key) : defaultValue;
+        return containsKey(key) ? getByte(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public Byte getByte(String key, Byte defaultValue) {
-        return ff4jStore().existProperty(key) ? getByte(key) : defaultValue;
+        return containsKey(key) ? getByte(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public double getDouble(String key) {
-        try {
-            return new Double((String) getValue(key)).doubleValue();
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create Double from " + getValue(key), nbe);
-        }
+        return (Double) getTyped(key, Double.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public double getDouble(String key, double defaultValue) {
-        return ff4jStore().existProperty(key) ? getDouble(key) : defaultValue;
+        return containsKey(key) ? getDouble(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public Double getDouble(String key, Double defaultValue) {
-        return ff4jStore().existProperty(key) ? getDouble(key) : defaultValue;
+        return containsKey(key) ? getDouble(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public float getFloat(String key) {
-        try {
-            return new Float((String) getValue(key)).floatValue();
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create Float from " + getValue(key), nbe);
-        }
+        return (Float) getTyped(key, Float.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public float getFloat(String key, float defaultValue) {
-        return ff4jStore().existProperty(key) ? getFloat(key) : defaultValue;
+        return containsKey(key) ? getFloat(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public Float getFloat(String key, Float defaultValue) {
-        return ff4jStore().existProperty(key) ? getFloat(key) : defaultValue;
+        return containsKey(key) ? getFloat(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public int getInt(String key) {
-        try {
-            return new Integer((String) getValue(key)).intValue();
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create Integer from " + getValue(key), nbe);
-        }
+        return (Integer) getTyped(key, Integer.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public int getInt(String key, int defaultValue) {
-        return ff4jStore().existProperty(key) ? getInt(key) : defaultValue;
+        return containsKey(key) ? getInt(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public Integer getInteger(String key, Integer defaultValue) {
-        return ff4jStore().existProperty(key) ? getInt(key) : defaultValue;
+        return containsKey(key) ? getInt(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public long getLong(String key) {
-        try {
-            return new Long((String) getValue(key)).longValue();
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create Long from " + getValue(key), nbe);
-        }
+        return (Long) getTyped(key, Long.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public Long getLong(String key, Long defaultValue) {
-        return ff4jStore().existProperty(key) ? getLong(key) : defaultValue;
+        return containsKey(key) ? getLong(key) : defaultValue;
     }
     
     /** {@inheritDoc} */
     @Override
     public long getLong(String key, long defaultValue) {
-        return ff4jStore().existProperty(key) ? getLong(key) : defaultValue;
+        return containsKey(key) ? getLong(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public short getShort(String key) {
-        try {
-            return new Short((String) getValue(key)).shortValue();
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create Short from " + getValue(key), nbe);
-        }
+        return (Short) getTyped(key, Short.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public short getShort(String key, short defaultValue) {
-        return ff4jStore().existProperty(key) ? getShort(key) : defaultValue;
+        return containsKey(key) ? getShort(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public Short getShort(String key, Short defaultValue) {
-        return ff4jStore().existProperty(key) ? getShort(key) : defaultValue;
+        return containsKey(key) ? getShort(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public BigDecimal getBigDecimal(String key) {
-        try {
-            return new BigDecimal((String) getValue(key));
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create BigDecimal from " + getValue(key), nbe);
-        }
+        return (BigDecimal) getTyped(key, BigDecimal.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public BigDecimal getBigDecimal(String key, BigDecimal defaultValue) {
-        return ff4jStore().existProperty(key) ? getBigDecimal(key) : defaultValue;
+        return containsKey(key) ? getBigDecimal(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public BigInteger getBigInteger(String key) {
-        try {
-            return new BigInteger((String) getValue(key));
-        } catch(NumberFormatException nbe) {
-            throw new InvalidPropertyTypeException("Cannot create BigInteger from " + getValue(key), nbe);
-        }
+        return (BigInteger) getTyped(key, BigInteger.class);
     }
 
     /** {@inheritDoc} */
     @Override
     public BigInteger getBigInteger(String key, BigInteger defaultValue) {
-        return ff4jStore().existProperty(key) ? getBigInteger(key) : defaultValue;
+        return containsKey(key) ? getBigInteger(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
@@ -394,21 +362,19 @@ public class FF4jConfiguration extends AbstractConfiguration {
     /** {@inheritDoc} */
     @Override
     public String getString(String key, String defaultValue) {
-        return ff4jStore().existProperty(key) ? getString(key) : defaultValue;
+        return containsKey(key) ? getString(key) : defaultValue;
     }
 
     /** {@inheritDoc} */
     @Override
     public List<Object> getList(String key) {
-        return new ArrayList<Object>(
-                Arrays.asList(
-                        ((String) getValue(key)).split(DELIMITER)));
+        return new ArrayList<Object>((List<?>) getTyped(key, List.class));
     }
     
     /** {@inheritDoc} */
     @Override
     public List<Object> getList(String key, List<?> defaultValue) {
-        if (ff4jStore().existProperty(key)) return getList(key);
+        if (containsKey(key)) return getList(key);
         return new ArrayList<Object>(defaultValue);
     }
     
@@ -418,6 +384,213 @@ public class FF4jConfiguration extends AbstractConfiguration {
         return getList(key).toArray(new String[0]);
     }
     
+    /**
+     * Discard current view, next read loads the store again (or changes only with a change feed).
+     */
+    public void refresh() {
+        if (!(ff4jStore() instanceof PropertyChangeFeed)) {
+            view = null;
+        }
+    }
+    
+    /**
+     * Properties whose name starts with prefix, read as a range of the sorted view.
+     *
+     * @param prefix
+     *      expected prefix
+     * @return
+     *      sorted properties
+     */
+    private NavigableMap<String, ViewEntry> withPrefix(String prefix) {
+        NavigableMap<String, ViewEntry> entries = getView().entries;
+        NavigableMap<String, ViewEntry> result = new TreeMap<String, ViewEntry>();
+        for (Map.Entry<String, ViewEntry> entry : entries.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+    
+    /**
+     * Read property from view.
+     *
+     * @param key
+     *      current property name
+     * @return
+     *      entry of the view
+     */
+    private ViewEntry getEntry(String key) {
+        Util.assertHasLength(key);
+        ViewEntry entry = getView().entries.get(key);
+        if (entry == null) {
+            throw new PropertyNotFoundException(key);
+        }
+        return entry;
+    }
+    
+    /**
+     * Value converted to expected type, conversion is done once for each property and type.
+     *
+     * @param key
+     *      current property name
+     * @param type
+     *      expected type
+     * @return
+     *      converted value
+     */
+    private Object getTyped(String key, Class<?> type) {
+        ViewEntry entry = getEntry(key);
+        Object typed = entry.typedValues.get(type);
+        if (typed == null) {
+            typed = convert(entry.value, type);
+            entry.typedValues.put(type, typed);
+        }
+        return typed;
+    }
+    
+    /**
+     * Conversion of string value.
+     *
+     * @param value
+     *      property value as string
+     * @param type
+     *      expected type
+     * @return
+     *      converted value
+     */
+    private static Object convert(String value, Class<?> type) {
+        if (type == Boolean.class) {
+            if (!Boolean.TRUE.toString().equals(value.toLowerCase()) &&
+                !Boolean.FALSE.toString().equals(value.toLowerCase()) ) {
+                throw new InvalidPropertyTypeException("Cannot create Boolean from " + value);
+            }
+            return Boolean.valueOf(value);
+        }
+        if (type == List.class) {
+            return Collections.unmodifiableList(Arrays.asList(value.split(DELIMITER)));
+        }
+        try {
+            if (type == Byte.class) {
+                return Byte.valueOf(value);
+            } else if (type == Double.class) {
+                return Double.valueOf(value);
+            } else if (type == Float.class) {
+                return Float.valueOf(value);
+            } else if (type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == Long.class) {
+                return Long.valueOf(value);
+            } else if (type == Short.class) {
+                return Short.valueOf(value);
+            } else if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            } else if (type == BigInteger.class) {
+                return new BigInteger(value);
+            }
+        } catch(NumberFormatException nbe) {
+            throw new InvalidPropertyTypeException("Cannot create " + type.getSimpleName() + " from " + value, nbe);
+        }
+        throw new IllegalArgumentException("Unsupported type " + type.getName());
+    }
+    
+    /**
+     * Current view of the store, reloaded if the store has changed or if expired.
+     *
+     * @return
+     *      current view
+     */
+    private PropertyView getView() {
+        PropertyStore store = ff4jStore();
+        PropertyView current = view;
+        if (current != null) {
+            if (store instanceof PropertyChangeFeed) {
+                if (current.checkpoint == ((PropertyChangeFeed) store).getCheckpoint()) {
+                    return current;
+                }
+            } else if (refreshInterval <= 0 || System.currentTimeMillis() - current.loadedAt < refreshInterval) {
+                return current;
+            }
+        }
+        return loadView(store);
+    }
+    
+    /**
+     * Load view from store : full read, or only changed properties if the store has a change feed.
+     *
+     * @param store
+     *      current store
+     * @return
+     *      new view
+     */
+    private synchronized PropertyView loadView(PropertyStore store) {
+        PropertyChangeFeed feed = (store instanceof PropertyChangeFeed) ? (PropertyChangeFeed) store : null;
+        long checkpoint = (feed == null) ? 0 : feed.getCheckpoint();
+        PropertyView current = view;
+        if (current != null && feed != null && current.checkpoint == checkpoint) {
+            return current;
+        }
+        Set<String> changedNames = (current == null || feed == null) ? null : feed.changedSince(current.checkpoint);
+        NavigableMap<String, ViewEntry> entries;
+        if (changedNames == null) {
+            entries = new TreeMap<String, ViewEntry>();
+            Map<String, Property<?>> properties = store.readAllProperties();
+            if (properties != null) {
+                for (Property<?> property : properties.values()) {
+                    entries.put(property.getName(), new ViewEntry(property));
+                }
+            }
+        } else {
+            entries = new TreeMap<String, ViewEntry>(current.entries);
+            for (String name : changedNames) {
+                if (store.existProperty(name)) {
+                    entries.put(name, new ViewEntry(store.readProperty(name)));
+                } else {
+                    entries.remove(name);
+                }
+            }
+        }
+        view = new PropertyView(Collections.unmodifiableNavigableMap(entries), checkpoint);
+        return view;
+    }
+    
+    /** Sorted and immutable copy of the store. */
+    private static final class PropertyView {
+        
+        /** Properties per name. */
+        private final NavigableMap<String, ViewEntry> entries;
+        
+        /** Checkpoint of the change feed. */
+        private final long checkpoint;
+        
+        /** Loading time. */
+        private final long loadedAt = System.currentTimeMillis();
+        
+        private PropertyView(NavigableMap<String, ViewEntry> entries, long checkpoint) {
+            this.entries    = entries;
+            this.checkpoint = checkpoint;
+        }
+    }
+    
+    /** Property of the view with its converted values. */
+    private static final class ViewEntry {
+        
+        /** Property read from store. */
+        private final Property<?> property;
+        
+        /** Value as string. */
+        private final String value;
+        
+        /** Value converted per target type. */
+        private final ConcurrentMap<Class<?>, Object> typedValues = new ConcurrentHashMap<Class<?>, Object>();
+        
+        private ViewEntry(Property<?> property) {
+            this.property = property;
+            this.value    = property.asString();
+        }
+    }
+    
     /** 
      * Read FF4J Store from its attribute.
      * 
@@ -448,6 +621,26 @@ public class FF4jConfiguration extends AbstractConfiguration {
      */
     public void setFf4jStore(PropertyStore ff4jStore) {
         this.ff4jStore = ff4jStore;
+        this.view = null;
+    }
+
+    /**
+     * Getter accessor for attribute 'refreshInterval'.
+     *
+     * @return
+     *       current value of 'refreshInterval'
+     */
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Setter accessor for attribute 'refreshInterval'.
+     * @param refreshInterval
+     * 		new value for 'refreshInterval '
+     */
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
     }
    
 }
@@ -5,6 +5,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /*
  * #%L
@@ -27,11 +28,14 @@ import java.util.List;
  */
 
 import java.util.Properties;
+import java.util.Set;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.commons.configuration.ConfigurationException;
 import org.ff4j.exception.InvalidPropertyTypeException;
 import org.ff4j.exception.PropertyNotFoundException;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
 import org.ff4j.property.store.InMemoryPropertyStore;
 import org.ff4j.property.store.PropertyStore;
 import org.ff4j.utils.Util;
@@ -510,4 +514,60 @@ public class FF4JConfigurationTest {
         new FF4jConfiguration().ff4jStore();
     }
     
+    @Test
+    public void testPrefixViewIsSorted() {
+        PropertyStore store = new InMemoryPropertyStore();
+        store.createProperty(new PropertyString("a.c", "3"));
+        store.createProperty(new PropertyString("a.a", "1"));
+        store.createProperty(new PropertyString("ab", "2"));
+        store.createProperty(new PropertyString("b", "4"));
+        FF4jConfiguration conf = new FF4jConfiguration(store);
+        Iterator<String> keys = conf.getKeys("a.");
+        Assert.assertEquals("a.a", keys.next());
+        Assert.assertEquals("a.c", keys.next());
+        Assert.assertFalse(keys.hasNext());
+        Assert.assertEquals(3, conf.getProperties("a").size());
+        Assert.assertFalse(conf.getKeys("c").hasNext());
+    }
+    
+    @Test
+    public void testViewFollowsChangeFeed() {
+        PropertyStore store = new InMemoryPropertyStore();
+        store.createProperty(new PropertyString("p1", "1"));
+        FF4jConfiguration conf = new FF4jConfiguration(store);
+        Assert.assertEquals(1, conf.getInt("p1"));
+        store.updateProperty("p1", "2");
+        store.createProperty(new PropertyString("p2", "3"));
+        Assert.assertEquals(2, conf.getInt("p1"));
+        Assert.assertEquals(3, conf.getInt("p2"));
+        store.deleteProperty("p2");
+        Assert.assertFalse(conf.containsKey("p2"));
+    }
+    
+    @Test
+    public void testViewWithoutChangeFeed() {
+        final int[] reads = {0};
+        PropertyStore store = new InMemoryPropertyStore() {
+            @Override
+            public Map<String, Property<?>> readAllProperties() {
+                reads[0]++;
+                return super.readAllProperties();
+            }
+            @Override
+            public Set<String> changedSince(long since) {
+                return null;
+            }
+        };
+        store.createProperty(new PropertyString("p1", "1"));
+        FF4jConfiguration conf = new FF4jConfiguration(store);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(1, conf.getInt("p1"));
+            Assert.assertTrue(conf.getKeys("p").hasNext());
+        }
+        Assert.assertEquals(1, reads[0]);
+        conf.setProperty("p1", "2");
+        Assert.assertEquals(2, conf.getInt("p1"));
+        Assert.assertEquals(2, reads[0]);
+    }
+    
 }
@@ -21,8 +21,11 @@ package org.ff4j.consul;
  */
 
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.ff4j.audit.Event;
@@ -35,6 +38,8 @@ import com.orbitz.consul.AgentClient;
 import com.orbitz.consul.Consul;
 import com.orbitz.consul.HealthClient;
 import com.orbitz.consul.KeyValueClient;
+import com.orbitz.consul.model.kv.Value;
+import com.orbitz.consul.option.ImmutablePutOptions;
 
 /**
  * Wrapping connection to consul to use it in different classes.
@@ -68,6 +73,9 @@ public class ConsulConnection implements KeyValueDriver< String, String > {
     /** Repository. */
     private static final String DICTIONARY_SEPARATOR = ",";
     
+    /** Maximum number of check-and-set attempts on dictionaries. */
+    private static final int MAX_CAS_ATTEMPTS = 10;
+    
     /** audit key. */
     private static final SimpleDateFormat KDF = new SimpleDateFormat("yyyyMMdd");
     
@@ -180,6 +188,83 @@ public class ConsulConnection implements KeyValueDriver< String, String > {
         getKeyValueClient().putValue(key, value);
     }
     
+    /**
+     * Read all values under a prefix with a single recursive query, folders are skipped.
+     *
+     * @param prefix
+     *      key prefix
+     * @return
+     *      values by key
+     */
+    public Map < String, String > getValues(String prefix) {
+        Map < String, String > values = new HashMap<>();
+        List < Value > kvs = getKeyValueClient().getValues(prefix);
+        if (kvs != null) {
+            for (Value kv : kvs) {
+                Optional < String > value = kv.getValueAsString();
+                if (value.isPresent() && !kv.getKey().endsWith("/")) {
+                    values.put(kv.getKey(), value.get());
+                }
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Add or remove a name in a dictionary with check-and-set, concurrent updates are retried
+     * on latest value instead of being overwritten.
+     *
+     * @param dictionaryKey
+     *      dictionary key
+     * @param name
+     *      name to add or remove
+     * @param add
+     *      add or remove
+     */
+    private void updateDictionary(String dictionaryKey, String name, boolean add) {
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            Optional < Value > current = getKeyValueClient().getValue(dictionaryKey);
+            // 0 means the key must not exist yet
+            long modifyIndex = 0L;
+            Set < String > names = new LinkedHashSet<>();
+            if (current.isPresent()) {
+                modifyIndex = current.get().getModifyIndex();
+                names = parseDictionary(current.get().getValueAsString());
+            }
+            boolean changed = add ? names.add(name) : names.remove(name);
+            if (!changed) {
+                return;
+            }
+            if (getKeyValueClient().putValue(dictionaryKey, String.join(DICTIONARY_SEPARATOR, names), 0L,
+                    ImmutablePutOptions.builder().cas(modifyIndex).build())) {
+                return;
+            }
+            LOGGER.debug("Dictionary '{}' modified concurrently, retrying", dictionaryKey);
+        }
+        throw new IllegalStateException("Cannot update dictionary '" + dictionaryKey 
+                + "' after " + MAX_CAS_ATTEMPTS + " attempts (concurrent modifications)");
+    }
+    
+    /**
+     * Read dictionary content.
+     *
+     * @param dictionary
+     *      value of dictionary key
+     * @return
+     *      names
+     */
+    private Set < String > parseDictionary(Optional < String > dictionary) {
+        Set < String > names = new LinkedHashSet<>();
+        if (dictionary.isPresent()) {
+            for (String name : dictionary.get().split(DICTIONARY_SEPARATOR)) {
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+    
     // -- Features --
     
     /** {@inheritDoc} */
@@ -196,27 +281,19 @@ public class ConsulConnection implements KeyValueDriver< String, String > {
     /** {@inheritDoc} */
     @Override
     public Set<String> getFeatureList() {
-        Optional < String> listFeatures = getKeyValueClient().getValueAsString(KEY_DICTIONARY_FEATURE);
-        if (!listFeatures.isPresent()) return new HashSet<>();
-        return new HashSet<>(Arrays.asList(listFeatures.get().split(DICTIONARY_SEPARATOR)));
+        return new HashSet<>(parseDictionary(getKeyValueClient().getValueAsString(KEY_DICTIONARY_FEATURE)));
     }
     
     /** {@inheritDoc} */
     @Override
     public void registerFeature(String featureName) {
-        Set < String > featureList = getFeatureList();
-        featureList.add(featureName);
-        getKeyValueClient().putValue(KEY_DICTIONARY_FEATURE, 
-                String.join(DICTIONARY_SEPARATOR, featureList));
+        updateDictionary(KEY_DICTIONARY_FEATURE, featureName, true);
     }
 
     /** {@inheritDoc} */
     @Override
     public void unregisterFeature(String featureName) {
-        Set < String > featureList = getFeatureList();
-        featureList.remove(featureName);
-        getKeyValueClient().putValue(KEY_DICTIONARY_FEATURE, 
-                String.join(DICTIONARY_SEPARATOR, featureList));
+        updateDictionary(KEY_DICTIONARY_FEATURE, featureName, false);
     }
 
     // -- Properties --
@@ -235,28 +312,19 @@ public class ConsulConnection implements KeyValueDriver< String, String > {
     /** {@inheritDoc} */
     @Override
     public Set<String> getPropertyList() {
-        Optional < String> listProperties = getKeyValueClient().getValueAsString(KEY_DICTIONARY_PROPERTY);
-        if (!listProperties.isPresent())  return new HashSet<>();
-        return new HashSet<>(Arrays.asList(
-                listProperties.get().split(DICTIONARY_SEPARATOR)));
+        return new HashSet<>(parseDictionary(getKeyValueClient().getValueAsString(KEY_DICTIONARY_PROPERTY)));
     }
     
     /** {@inheritDoc} */
     @Override
     public void registerProperty(String propertyName) {
-        Set < String > propertyList = getPropertyList();
-        propertyList.add(propertyName);
-        getKeyValueClient().putValue(KEY_DICTIONARY_PROPERTY, 
-                String.join(DICTIONARY_SEPARATOR, propertyList));
+        updateDictionary(KEY_DICTIONARY_PROPERTY, propertyName, true);
     }
     
     /** {@inheritDoc} */
     @Override
     public void unregisterProperty(String propertyName) {
-        Set < String > propertyList = getPropertyList();
-        propertyList.remove(propertyName);
-        getKeyValueClient().putValue(KEY_DICTIONARY_PROPERTY, 
-                String.join(DICTIONARY_SEPARATOR, propertyList));
+        updateDictionary(KEY_DICTIONARY_PROPERTY, propertyName, false);
     }
     
     // Audit
@@ -0,0 +1,429 @@
+package org.ff4j.consul.cache;
+
+/*
+ * #%L
+ * ff4j-store-consul
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.ff4j.cache.FF4JCacheManager;
+import org.ff4j.cache.FF4jCacheProxy;
+import org.ff4j.consul.ConsulConstants;
+import org.ff4j.utils.mapping.JsonStringFeatureMapper;
+import org.ff4j.utils.mapping.JsonStringPropertyMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Watch features and properties keys in Consul with blocking queries and push changes
+ * into the local {@link FF4JCacheManager}.
+ *
+ * <p>Each prefix is read recursively with <code>?recurse&amp;index=X&amp;wait=Ys</code>, the request is held
+ * by Consul until something changes under the prefix (or wait time is reached) and the
+ * <code>X-Consul-Index</code> header of the response is used for the next request. Only the keys whose
+ * <code>ModifyIndex</code> changed are decoded and put in cache, missing keys are evicted.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class ConsulBlockingQueryWatcher {
+
+    /** logger for this class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsulBlockingQueryWatcher.class);
+
+    /** Index of the data returned by Consul. */
+    public static final String HEADER_CONSUL_INDEX = "X-Consul-Index";
+
+    /** Key/Value endpoint. */
+    private static final String KV_API = "/v1/kv/";
+
+    /** Parse Consul responses. */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Values of features keys. */
+    private static final JsonStringFeatureMapper FMAPPER = new JsonStringFeatureMapper();
+
+    /** Values of properties keys. */
+    private static final JsonStringPropertyMapper PMAPPER = new JsonStringPropertyMapper();
+
+    /** Consul HTTP API url like http://localhost:8500. */
+    private final String consulUrl;
+
+    /** Target cache, null when working with a proxy. */
+    private final FF4JCacheManager cacheManager;
+
+    /** Cache proxy (could be null). */
+    private final FF4jCacheProxy cacheProxy;
+
+    /** Maximum duration of a blocking query in seconds. */
+    private int waitSeconds = 30;
+
+    /** delay before next query after an error. */
+    private long retryDelay = 1000;
+
+    /** Watchers are running. */
+    private volatile boolean running = false;
+
+    /** Thread for each prefix. */
+    private ExecutorService executor;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param consulUrl
+     *      Consul HTTP API url
+     * @param cp
+     *      current cache manager
+     */
+    public ConsulBlockingQueryWatcher(String consulUrl, FF4JCacheManager cp) {
+        if (cp == null) {
+            throw new IllegalArgumentException("Cache manager cannot be null");
+        }
+        this.consulUrl    = assertUrl(consulUrl);
+        this.cacheManager = cp;
+        this.cacheProxy   = null;
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param consulUrl
+     *      Consul HTTP API url
+     * @param fcp
+     *      cache proxy
+     */
+    public ConsulBlockingQueryWatcher(String consulUrl, FF4jCacheProxy fcp) {
+        if (fcp == null) {
+            throw new IllegalArgumentException("Cache proxy cannot be null");
+        }
+        this.consulUrl    = assertUrl(consulUrl);
+        this.cacheManager = null;
+        this.cacheProxy   = fcp;
+    }
+
+    /**
+     * Remove trailing slash.
+     *
+     * @param url
+     *      Consul url
+     * @return
+     *      url without trailing slash
+     */
+    private static String assertUrl(String url) {
+        if (url == null || url.isEmpty()) {
+            throw new IllegalArgumentException("Consul url cannot be null nor empty");
+        }
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Start watching features and properties.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running  = true;
+        executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "FF4j_ConsulBlockingQueryWatcher");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        executor.submit(new PrefixWatch(true));
+        executor.submit(new PrefixWatch(false));
+    }
+
+    /**
+     * Stop watching, pending queries are abandoned.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Cache to update, the proxy can replace its cache manager when polling.
+     *
+     * @return
+     *      current cache manager
+     */
+    private FF4JCacheManager getTargetCache() {
+        return (cacheProxy != null) ? cacheProxy.getCacheManager() : cacheManager;
+    }
+
+    /**
+     * Watch keys under one prefix.
+     */
+    private class PrefixWatch implements Runnable {
+
+        /** Features or properties. */
+        private final boolean features;
+
+        /** Watched prefix. */
+        private final String prefix;
+
+        /** Last index returned by Consul, 0 to read current state. */
+        private long index = 0;
+
+        /** Modify index of each key in cache. */
+        private final Map < String, Long > modifyIndexes = new HashMap<>();
+
+        /**
+         * Constructor.
+         *
+         * @param features
+         *      watch features keys
+         */
+        private PrefixWatch(boolean features) {
+            this.features = features;
+            this.prefix   = features ? ConsulConstants.FF4J_PREFIXKEY_FEATURES : ConsulConstants.FF4J_PREFIXKEY_PROPERTIES;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            while (running && !Thread.currentThread().isInterrupted()) {
+                try {
+                    query();
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("Cannot watch Consul keys '{}' : {}", prefix, e.getMessage());
+                    try {
+                        Thread.sleep(retryDelay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Execute one blocking query.
+         *
+         * @throws IOException
+         *      error when requesting Consul
+         */
+        private void query() throws IOException {
+            URL url = new URL(consulUrl + KV_API + prefix + "?recurse&index=" + index + "&wait=" + waitSeconds + "s");
+            HttpURLConnection http = (HttpURLConnection) url.openConnection();
+            http.setConnectTimeout(5000);
+            // Consul adds up to wait/16 of jitter to the wait time
+            http.setReadTimeout((waitSeconds + waitSeconds / 16 + 5) * 1000);
+            int status = http.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK && status != HttpURLConnection.HTTP_NOT_FOUND) {
+                close(http.getErrorStream());
+                throw new IOException("Unexpected HTTP status " + status);
+            }
+            long newIndex = parseIndex(http.getHeaderField(HEADER_CONSUL_INDEX));
+            Map < String, JsonNode > entries = new HashMap<>();
+            if (status == HttpURLConnection.HTTP_OK) {
+                try (InputStream in = http.getInputStream()) {
+                    for (JsonNode entry : MAPPER.readTree(in)) {
+                        if (entry.hasNonNull("Value") && !entry.get("Key").asText().endsWith("/")) {
+                            entries.put(entry.get("Key").asText(), entry);
+                        }
+                    }
+                }
+            } else {
+                // No key under prefix
+                close(http.getErrorStream());
+            }
+            if (newIndex < index) {
+                // Consul state has been reset, read everything again
+                index = 0;
+                return;
+            }
+            if (index == 0 || newIndex != index) {
+                apply(entries, index == 0);
+            }
+            // Index must be at least 1 to block
+            index = Math.max(newIndex, 1);
+        }
+
+        /**
+         * Update cache with keys changed since last query.
+         *
+         * @param entries
+         *      current keys
+         * @param full
+         *      entries are the first snapshot
+         */
+        private void apply(Map < String, JsonNode > entries, boolean full) {
+            FF4JCacheManager cache = getTargetCache();
+            if (full) {
+                if (features) {
+                    cache.clearFeatures();
+                } else {
+                    cache.clearProperties();
+                }
+                modifyIndexes.clear();
+            }
+            Set < String > deletedKeys = new HashSet<>(modifyIndexes.keySet());
+            deletedKeys.removeAll(entries.keySet());
+            for (String key : deletedKeys) {
+                evict(cache, key);
+                modifyIndexes.remove(key);
+            }
+            for (Map.Entry < String, JsonNode > entry : entries.entrySet()) {
+                Long modifyIndex = entry.getValue().path("ModifyIndex").asLong();
+                if (modifyIndex.equals(modifyIndexes.get(entry.getKey()))) {
+                    continue;
+                }
+                try {
+                    String json = new String(Base64.getDecoder().decode(entry.getValue().get("Value").asText()), StandardCharsets.UTF_8);
+                    if (features) {
+                        cache.putFeature(FMAPPER.fromStore(json));
+                    } else {
+                        cache.putProperty(PMAPPER.fromStore(json));
+                    }
+                    modifyIndexes.put(entry.getKey(), modifyIndex);
+                } catch (IllegalArgumentException iae) {
+                    LOGGER.warn("Cannot read value of key '{}' : {}", entry.getKey(), iae.getMessage());
+                    evict(cache, entry.getKey());
+                    modifyIndexes.remove(entry.getKey());
+                }
+            }
+        }
+
+        /**
+         * Remove key from cache.
+         *
+         * @param cache
+         *      target cache
+         * @param key
+         *      Consul key
+         */
+        private void evict(FF4JCacheManager cache, String key) {
+            String name = key.substring(prefix.length());
+            if (features) {
+                cache.evictFeature(name);
+            } else {
+                cache.evictProperty(name);
+            }
+        }
+
+        /**
+         * Read index header.
+         *
+         * @param header
+         *      header value
+         * @return
+         *      index
+         * @throws IOException
+         *      header is missing or invalid
+         */
+        private long parseIndex(String header) throws IOException {
+            if (header == null) {
+                throw new IOException("Missing header " + HEADER_CONSUL_INDEX);
+            }
+            try {
+                return Long.parseLong(header.trim());
+            } catch (NumberFormatException nfe) {
+                throw new IOException("Invalid header " + HEADER_CONSUL_INDEX + " : " + header, nfe);
+            }
+        }
+
+        /**
+         * Consume and close stream to reuse connection.
+         *
+         * @param in
+         *      stream (could be null)
+         */
+        private void close(InputStream in) {
+            if (in != null) {
+                try {
+                    while (in.read() != -1) {
+                        // drain
+                    }
+                    in.close();
+                } catch (IOException ioe) {
+                    // Connection will not be reused
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if keys are watched.
+     *
+     * @return
+     *      if keys are watched
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Getter accessor for attribute 'waitSeconds'.
+     *
+     * @return
+     *       current value of 'waitSeconds'
+     */
+    public int getWaitSeconds() {
+        return waitSeconds;
+    }
+
+    /**
+     * Setter accessor for attribute 'waitSeconds'.
+     * @param waitSeconds
+     * 		new value for 'waitSeconds '
+     */
+    public void setWaitSeconds(int waitSeconds) {
+        this.waitSeconds = waitSeconds;
+    }
+
+    /**
+     * Getter accessor for attribute 'retryDelay'.
+     *
+     * @return
+     *       current value of 'retryDelay'
+     */
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Setter accessor for attribute 'retryDelay'.
+     * @param retryDelay
+     * 		new value for 'retryDelay '
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+}
@@ -20,8 +20,12 @@ package org.ff4j.consul.store;
  * #L%
  */
 
+import java.util.HashMap;
+import java.util.Map;
 
 import org.ff4j.consul.ConsulConnection;
+import org.ff4j.consul.ConsulConstants;
+import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.store.kv.KeyValueFeatureStore;
 import org.ff4j.utils.mapping.JsonStringFeatureMapper;
@@ -49,5 +53,20 @@ public class FeatureStoreConsul extends KeyValueFeatureStore < String > {
         super(connection, new JsonStringFeatureMapper());
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readAll() {
+        if (!(getDriver() instanceof ConsulConnection)) {
+            return super.readAll();
+        }
+        // Single recursive query instead of one query per feature
+        Map < String, Feature> mapOfFeatures = new HashMap<String, Feature>();
+        ConsulConnection connection = (ConsulConnection) getDriver();
+        for (String value : connection.getValues(ConsulConstants.FF4J_PREFIXKEY_FEATURES).values()) {
+            Feature currF = getFeatureMapper().fromStore(value);
+            mapOfFeatures.put(currF.getUid(), currF);
+        }
+        return mapOfFeatures;
+    }
     
 }
@@ -21,7 +21,12 @@ package org.ff4j.consul.store;
  */
 
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.ff4j.consul.ConsulConnection;
+import org.ff4j.consul.ConsulConstants;
+import org.ff4j.property.Property;
 import org.ff4j.property.store.PropertyStore;
 import org.ff4j.store.kv.KeyValuePropertyStore;
 import org.ff4j.utils.mapping.JsonStringPropertyMapper;
@@ -48,5 +53,21 @@ public class PropertyStoreConsul extends KeyValuePropertyStore < String > {
     public PropertyStoreConsul(ConsulConnection connection) {
         super(connection, new JsonStringPropertyMapper());
     }
+    
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readAllProperties() {
+        if (!(getDriver() instanceof ConsulConnection)) {
+            return super.readAllProperties();
+        }
+        // Single recursive query instead of one query per property
+        Map < String, Property<?>> mapOfProperties = new HashMap<String, Property<?>>();
+        ConsulConnection connection = (ConsulConnection) getDriver();
+        for (String value : connection.getValues(ConsulConstants.FF4J_PREFIXKEY_PROPERTIES).values()) {
+            Property<?> currP = getPropertyMapper().fromStore(value);
+            mapOfProperties.put(currP.getName(), currP);
+        }
+        return mapOfProperties;
+    }
 
 }
@@ -0,0 +1,152 @@
+package org.ff4j.cache.store;
+
+/*
+ * #%L
+ * ff4j-store-consul
+ * %%
+ * Copyright (C) 2013 - 2017 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.ff4j.cache.InMemoryCacheManager;
+import org.ff4j.consul.ConsulConstants;
+import org.ff4j.consul.cache.ConsulBlockingQueryWatcher;
+import org.ff4j.core.Feature;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test blocking queries against a stubbed Consul HTTP API.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ConsulBlockingQueryWatcherTest {
+
+    /** Stub of Consul. */
+    private HttpServer consul;
+
+    /** Current state of features prefix. */
+    private volatile String features = "[]";
+
+    /** Current index of features prefix. */
+    private volatile long featuresIndex = 10;
+
+    @Before
+    public void startConsul() throws IOException {
+        consul = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        consul.createContext("/v1/kv/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String query = exchange.getRequestURI().getQuery();
+                long requested = Long.parseLong(query.replaceAll(".*index=(\\d+).*", "$1"));
+                if (exchange.getRequestURI().getPath().endsWith(ConsulConstants.FF4J_PREFIXKEY_FEATURES)) {
+                    // Block until something changes (short wait for tests)
+                    for (int i = 0; i < 20 && requested == featuresIndex; i++) {
+                        pause(50);
+                    }
+                    reply(exchange, 200, featuresIndex, features);
+                } else {
+                    if (requested > 0) {
+                        pause(500);
+                    }
+                    reply(exchange, 404, 5, "");
+                }
+            }
+        });
+        consul.start();
+    }
+
+    @After
+    public void stopConsul() {
+        consul.stop(0);
+    }
+
+    @Test
+    public void testChangesArePushedToCache() throws Exception {
+        features = entries(new Feature("f1", false), 7);
+        InMemoryCacheManager cache = new InMemoryCacheManager();
+        cache.putFeature(new Feature("stale", true));
+        ConsulBlockingQueryWatcher watcher = new ConsulBlockingQueryWatcher(
+                "http://localhost:" + consul.getAddress().getPort(), cache);
+        watcher.start();
+        try {
+            // Initial state
+            waitFor(cache, "f1", false);
+            Assert.assertNull(cache.getFeature("stale"));
+
+            // Toggle
+            features = entries(new Feature("f1", true), 11);
+            featuresIndex = 11;
+            waitFor(cache, "f1", true);
+
+            // Delete
+            features = "[]";
+            featuresIndex = 12;
+            for (int i = 0; i < 100 && cache.getFeature("f1") != null; i++) {
+                pause(20);
+            }
+            Assert.assertNull(cache.getFeature("f1"));
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private void waitFor(InMemoryCacheManager cache, String uid, boolean enable) {
+        for (int i = 0; i < 100; i++) {
+            Feature f = cache.getFeature(uid);
+            if (f != null && f.isEnable() == enable) {
+                return;
+            }
+            pause(20);
+        }
+        Assert.fail("Feature " + uid + " has not been updated in cache");
+    }
+
+    private static String entries(Feature f, long modifyIndex) {
+        String value = Base64.getEncoder().encodeToString(f.toJson().getBytes(StandardCharsets.UTF_8));
+        return "[{\"Key\":\"" + ConsulConstants.FF4J_PREFIXKEY_FEATURES + f.getUid() + "\","
+                + "\"ModifyIndex\":" + modifyIndex + ",\"Value\":\"" + value + "\"}]";
+    }
+
+    private static void reply(HttpExchange exchange, int status, long index, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add(ConsulBlockingQueryWatcher.HEADER_CONSUL_INDEX, String.valueOf(index));
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
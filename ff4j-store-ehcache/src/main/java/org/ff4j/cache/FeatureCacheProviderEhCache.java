@@ -22,7 +22,9 @@ import org.slf4j.LoggerFactory;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
 import net.sf.ehcache.Element;
+import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.config.Configuration;
+import net.sf.ehcache.event.CacheEventListenerAdapter;
 
 import static org.ff4j.ehcache.FF4JEhCacheConstants.*;
 
@@ -35,7 +37,7 @@ import static org.ff4j.ehcache.FF4JEhCacheConstants.*;
  * * Warn : DO NOT USE THIS CACHE WHEN WORKING WITH EXTERNAL FEATURESTORE (as Database) and cluster application : EACH NODE GOT
  * ITS MEMORY AND AN MODIFICATION IN STORE WON'T REFRESH THIS CACHE. Please use REDIS/MEMCACHED implementations.
  */
-public class FeatureCacheProviderEhCache implements FF4JCacheManager {
+public class FeatureCacheProviderEhCache implements FF4JCacheManager, CacheChangeNotifier {
 
     /** Logger for the class. */
     private static final Logger LOG = LoggerFactory.getLogger(FF4jCacheProxy.class);
@@ -97,13 +99,13 @@ public class FeatureCacheProviderEhCache implements FF4JCacheManager {
     /** {@inheritDoc} */
     @Override
     public void clearFeatures() {
-        getCacheFeatures().flush();
+        getCacheFeatures().removeAll();
     }
 
     /** {@inheritDoc} */
     @Override
     public void clearProperties() {
-        getCacheProperties().flush();
+        getCacheProperties().removeAll();
     }
 
     /** {@inheritDoc} */
@@ -157,6 +159,13 @@ public class FeatureCacheProviderEhCache implements FF4JCacheManager {
         return new HashSet<String>(getCacheProperties().getKeys());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeListener(CacheChangeListener listener) {
+        getCacheFeatures().getCacheEventNotificationService().registerListener(new EhCacheChangeAdapter(listener, true));
+        getCacheProperties().getCacheEventNotificationService().registerListener(new EhCacheChangeAdapter(listener, false));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Object getFeatureNativeCache() {
@@ -247,4 +256,85 @@ public class FeatureCacheProviderEhCache implements FF4JCacheManager {
         this.cacheManager = cacheManager;
     }   
 
+    /**
+     * Forward EhCache events (local or replicated) to a {@link CacheChangeListener}.
+     */
+    private static final class EhCacheChangeAdapter extends CacheEventListenerAdapter {
+
+        /** Notified listener. */
+        private final CacheChangeListener listener;
+
+        /** Listen features or properties cache. */
+        private final boolean features;
+
+        /**
+         * Constructor.
+         *
+         * @param listener
+         *      notified listener
+         * @param features
+         *      listen features cache if true, properties cache otherwise
+         */
+        private EhCacheChangeAdapter(CacheChangeListener listener, boolean features) {
+            this.listener = listener;
+            this.features = features;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void notifyElementPut(Ehcache cache, Element element) {
+            changed(element);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void notifyElementUpdated(Ehcache cache, Element element) {
+            changed(element);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void notifyElementRemoved(Ehcache cache, Element element) {
+            changed(element);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void notifyElementExpired(Ehcache cache, Element element) {
+            changed(element);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void notifyElementEvicted(Ehcache cache, Element element) {
+            changed(element);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void notifyRemoveAll(Ehcache cache) {
+            if (features) {
+                listener.onFeaturesCleared();
+            } else {
+                listener.onPropertiesCleared();
+            }
+        }
+
+        /**
+         * Forward modification of an element.
+         *
+         * @param element
+         *      modified element
+         */
+        private void changed(Element element) {
+            Object key = (element == null) ? null : element.getObjectKey();
+            String name = (key == null) ? null : key.toString();
+            if (features) {
+                listener.onFeatureChanged(name);
+            } else {
+                listener.onPropertyChanged(name);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,98 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-store-ehcache
+ * %%
+ * Copyright (C) 2013 - 2015 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.PropertyString;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Local entries of {@link TwoTierCacheManager} evicted by EhCache events raised by another writer.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class EhCacheChangeListenerTest {
+
+    /** Local cache over EhCache. */
+    private TwoTierCacheManager cache;
+
+    /** Other writer on same EhCache caches. */
+    private FeatureCacheProviderEhCache otherNode;
+
+    @Before
+    public void setUp() {
+        FeatureCacheProviderEhCache ehcache = new FeatureCacheProviderEhCache();
+        ehcache.clearFeatures();
+        ehcache.clearProperties();
+        // Long time-to-live, local entries can only be evicted by events
+        cache     = new TwoTierCacheManager(ehcache, 100, 3600);
+        otherNode = new FeatureCacheProviderEhCache();
+    }
+
+    @Test
+    public void testExternalPutEvictsLocal() {
+        cache.putFeature(new Feature("f1", true));
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        otherNode.putFeature(new Feature("f1", false));
+        Assert.assertFalse(cache.getFeature("f1").isEnable());
+
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertEquals("v1", cache.getProperty("p1").asString());
+        otherNode.putProperty(new PropertyString("p1", "v2"));
+        Assert.assertEquals("v2", cache.getProperty("p1").asString());
+    }
+
+    @Test
+    public void testExternalRemoveEvictsLocal() {
+        cache.putFeature(new Feature("f1", true));
+        Assert.assertNotNull(cache.getFeature("f1"));
+        otherNode.evictFeature("f1");
+        Assert.assertNull(cache.getFeature("f1"));
+
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertNotNull(cache.getProperty("p1"));
+        otherNode.evictProperty("p1");
+        Assert.assertNull(cache.getProperty("p1"));
+    }
+
+    @Test
+    public void testExternalClearEvictsLocal() {
+        cache.putFeature(new Feature("f1", true));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertNotNull(cache.getFeature("f1"));
+        Assert.assertNotNull(cache.getProperty("p1"));
+        otherNode.clearFeatures();
+        otherNode.clearProperties();
+        Assert.assertNull(cache.getFeature("f1"));
+        Assert.assertNull(cache.getProperty("p1"));
+    }
+
+    @Test
+    public void testOwnWriteKeptOnRead() {
+        cache.putFeature(new Feature("f1", true));
+        cache.putFeature(new Feature("f1", false));
+        Assert.assertFalse(cache.getFeature("f1").isEnable());
+        Assert.assertFalse(cache.getFeature("f1").isEnable());
+    }
+
+}
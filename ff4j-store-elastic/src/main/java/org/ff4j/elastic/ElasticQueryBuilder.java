@@ -20,6 +20,8 @@ package org.ff4j.elastic;
  * #L%
  */
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +39,7 @@ import org.ff4j.core.Feature;
 import org.ff4j.property.Property;
 
 import io.searchbox.client.JestResult;
+import io.searchbox.core.Bulk;
 import io.searchbox.core.Delete;
 import io.searchbox.core.Index;
 import io.searchbox.core.Search;
@@ -85,6 +88,15 @@ public class ElasticQueryBuilder {
 				.addType(ElasticConstants.TYPE_FEATURE).build();
 	}
 
+	public Search queryGetFeaturesByIds(Collection<String> uids, int size) {
+		BoolQueryBuilder query = QueryBuilders.boolQuery();
+		for (String uid : uids) {
+			query.should(QueryBuilders.matchQuery("uid", uid));
+		}
+		return new Search.Builder(new SearchSourceBuilder().query(query).size(size).toString())
+				.addIndex(connection.getIndexName()).addType(ElasticConstants.TYPE_FEATURE).build();
+	}
+
 	public Search getGroupByGroupName(String groupName) {
 		SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
 		searchSourceBuilder.query(QueryBuilders.matchQuery("group", groupName));
@@ -134,6 +146,107 @@ public class ElasticQueryBuilder {
 		return null;
 	}
 
+	/**
+	 * Single _bulk request indexing a batch of features, existing documents are overwritten.
+	 *
+	 * @param features
+	 *            features of the batch
+	 * @return query for JEST
+	 */
+	public Bulk queryBulkIndexFeatures(List<Feature> features) {
+		Set<String> uids = new HashSet<String>();
+		for (Feature fp : features) {
+			uids.add(fp.getUid());
+		}
+		Map<String, String> techIds = getTechIds(ElasticConstants.TYPE_FEATURE, "uid", uids);
+		Bulk.Builder bulk = new Bulk.Builder().defaultIndex(connection.getIndexName())
+				.defaultType(ElasticConstants.TYPE_FEATURE).refresh(true);
+		for (Feature fp : features) {
+			bulk.addAction(new Index.Builder(fp).id(techIds.get(fp.getUid())).build());
+		}
+		return bulk.build();
+	}
+
+	/**
+	 * Single _bulk request indexing a batch of properties, existing documents are overwritten.
+	 *
+	 * @param properties
+	 *            properties of the batch
+	 * @return query for JEST
+	 */
+	public Bulk queryBulkIndexProperties(List<Property<?>> properties) {
+		Set<String> names = new HashSet<String>();
+		for (Property<?> property : properties) {
+			names.add(property.getName());
+		}
+		Map<String, String> techIds = getTechIds(ElasticConstants.TYPE_PROPERTY, "name", names);
+		Bulk.Builder bulk = new Bulk.Builder().defaultIndex(connection.getIndexName())
+				.defaultType(ElasticConstants.TYPE_PROPERTY).refresh(true);
+		for (Property<?> property : properties) {
+			bulk.addAction(new Index.Builder(property).id(techIds.get(property.getName())).build());
+		}
+		return bulk.build();
+	}
+
+	/**
+	 * Technical ids of existing documents with a single search.
+	 *
+	 * @param type
+	 *            document type
+	 * @param field
+	 *            field holding the functional identifier
+	 * @param values
+	 *            functional identifiers
+	 * @return technical id by functional identifier (only existing documents)
+	 */
+	@SuppressWarnings("rawtypes")
+	private Map<String, String> getTechIds(String type, String field, Collection<String> values) {
+		Map<String, String> techIds = new HashMap<String, String>();
+		if (values.isEmpty()) {
+			return techIds;
+		}
+		SearchResult result = connection.search(querySearchByValues(type, field, values, values.size()), true);
+		if (null != result && result.isSucceeded() && result.getTotal() != null && result.getTotal() > values.size()) {
+			// Fuzzy matches on analyzed identifiers, fetch them all
+			result = connection.search(querySearchByValues(type, field, values,
+					Long.valueOf(result.getTotal()).intValue()), true);
+		}
+		if (null != result && result.isSucceeded()) {
+			for (Hit<Map, Void> hit : result.getHits(Map.class)) {
+				// match query may return similar values, only exact matches are kept
+				Object value = hit.source.get(field);
+				if (value != null && values.contains(value.toString())) {
+					techIds.put(value.toString(), hit.source.get(JestResult.ES_METADATA_ID).toString());
+				}
+			}
+		}
+		return techIds;
+	}
+
+	/**
+	 * Search documents matching any of the values of a field.
+	 *
+	 * @param type
+	 *            document type
+	 * @param field
+	 *            searched field
+	 * @param values
+	 *            searched values
+	 * @param size
+	 *            maximum number of hits
+	 * @return query for JEST
+	 */
+	private Search querySearchByValues(String type, String field, Collection<String> values, int size) {
+		BoolQueryBuilder query = QueryBuilders.boolQuery();
+		for (String value : values) {
+			query.should(QueryBuilders.matchQuery(field, value));
+		}
+		return new Search.Builder(new SearchSourceBuilder().query(query).size(size).toString()) //
+				.addIndex(connection.getIndexName()) //
+				.addType(type) //
+				.build();
+	}
+
 	@SuppressWarnings({ "rawtypes" })
 	public Set<String> getFeatureTechIdByGroup(String groupName) {
 		SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
@@ -213,6 +326,15 @@ public class ElasticQueryBuilder {
 				.addType(ElasticConstants.TYPE_FEATURE).build();
 	}
 
+	public Search queryPropertiesByNames(Collection<String> names, int size) {
+		BoolQueryBuilder query = QueryBuilders.boolQuery();
+		for (String name : names) {
+			query.should(QueryBuilders.matchQuery("name", name));
+		}
+		return new Search.Builder(new SearchSourceBuilder().query(query).size(size).toString())
+				.addIndex(connection.getIndexName()).addType(ElasticConstants.TYPE_PROPERTY).build();
+	}
+
 	public Search queryPropertyByName(String name) {
 		SearchSourceBuilder source = new SearchSourceBuilder();
 		source.query(QueryBuilders.matchQuery("name", name));
@@ -1,8 +1,11 @@
 package org.ff4j.elastic.store;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -109,6 +112,35 @@ public class FeatureStoreElastic extends AbstractFeatureStore {
                 getBuilder().queryGetFeatureById(uid)).getFirstHit(Feature.class).source;
     }
 
+    /**
+     * Identifiers are not the technical ids of documents (no _mget): a single search matching
+     * all identifiers is sent, hits are then filtered on exact identifier.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        Set<String> uids = new LinkedHashSet<String>(featureUids);
+        Map<String, Feature> found = new HashMap<String, Feature>();
+        if (!uids.isEmpty()) {
+            SearchResult search = getConnection().search(getBuilder().queryGetFeaturesByIds(uids, uids.size()), true);
+            if (null != search && search.isSucceeded() && search.getTotal() != null && search.getTotal() > uids.size()) {
+                // Fuzzy matches on analyzed identifiers, fetch them all
+                search = getConnection().search(getBuilder().queryGetFeaturesByIds(uids, 
+                        Long.valueOf(search.getTotal()).intValue()), true);
+            }
+            if (null != search && search.isSucceeded()) {
+                for (Hit<Feature, Void> feature : search.getHits(Feature.class)) {
+                    if (uids.contains(feature.source.getUid())) {
+                        found.put(feature.source.getUid(), feature.source);
+                    }
+                }
+            }
+        }
+        return Util.keepRequestedOrder(uids, found);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readAll() {
@@ -126,6 +158,17 @@ public class FeatureStoreElastic extends AbstractFeatureStore {
         return mapOfFeatures;
     }
 
+    /**
+     * Replace a batch of features with a single _bulk request.
+     *
+     * @param features
+     *      features of the batch
+     */
+    @Override
+    protected void importFeaturesBatch(List<Feature> features) {
+        getConnection().execute(getBuilder().queryBulkIndexFeatures(features));
+    }
+
     /** {@inheritDoc} */
     @Override
     public void delete(String uid) {
@@ -1,6 +1,9 @@
 package org.ff4j.elastic.store;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -80,6 +83,47 @@ public class PropertyStoreElastic extends AbstractPropertyStore {
 		return result.getFirstHit(Property.class).source;
 	}
 
+	/**
+	 * Names are not the technical ids of documents (no _mget): a single search matching
+	 * all names is sent, hits are then filtered on exact name.
+	 *
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Property<?>> readProperties(Collection<String> names) {
+		Util.assertNotNull(names);
+		Set<String> propertyNames = new LinkedHashSet<String>(names);
+		Map<String, Property<?>> found = new HashMap<String, Property<?>>();
+		if (!propertyNames.isEmpty()) {
+			SearchResult search = getConnection().search(
+					getBuilder().queryPropertiesByNames(propertyNames, propertyNames.size()), true);
+			if (null != search && search.isSucceeded() && search.getTotal() != null && search.getTotal() > propertyNames.size()) {
+				// Fuzzy matches on analyzed names, fetch them all
+				search = getConnection().search(getBuilder().queryPropertiesByNames(propertyNames,
+						Long.valueOf(search.getTotal()).intValue()), true);
+			}
+			if (null != search && search.isSucceeded()) {
+				for (Hit<Property, Void> property : search.getHits(Property.class)) {
+					if (propertyNames.contains(property.source.getName())) {
+						found.put(property.source.getName(), property.source);
+					}
+				}
+			}
+		}
+		return Util.keepRequestedOrder(propertyNames, found);
+	}
+
+	/**
+	 * Replace a batch of properties with a single _bulk request.
+	 *
+	 * @param properties
+	 *            properties of the batch
+	 */
+	@Override
+	protected void importPropertiesBatch(List<Property<?>> properties) {
+		getConnection().execute(getBuilder().queryBulkIndexProperties(properties));
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void deleteProperty(String name) {
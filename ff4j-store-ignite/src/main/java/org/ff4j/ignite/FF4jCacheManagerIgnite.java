@@ -27,6 +27,7 @@ import javax.cache.spi.CachingProvider;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.ff4j.cache.FF4jJCacheManager;
 import org.ff4j.ignite.jcache.IgniteCachingProviderImpl;
 
@@ -40,6 +41,9 @@ public class FF4jCacheManagerIgnite extends FF4jJCacheManager {
     /** Internal HazelCast Settings. */
     private Ignite ignite = null;
     
+    /** Near cache for features and properties (could be null). */
+    private NearCacheConfiguration<Object, Object> nearCacheConfiguration = null;
+    
     /**
      * Initialization of HazelCast with default config.
      *
@@ -73,7 +77,20 @@ public class FF4jCacheManagerIgnite extends FF4jJCacheManager {
      * @param hazelCastConfig
      */
     public FF4jCacheManagerIgnite(Ignite pIgnite) {
-        this.ignite = pIgnite;
+        this(pIgnite, null);
+    }
+    
+    /**
+     * Initialization with a near cache on this node, flags are read far more often than updated.
+     *
+     * @param pIgnite
+     *      ignite instance
+     * @param nearCacheConfig
+     *      near cache configuration (could be null)
+     */
+    public FF4jCacheManagerIgnite(Ignite pIgnite, NearCacheConfiguration<Object, Object> nearCacheConfig) {
+        this.ignite                 = pIgnite;
+        this.nearCacheConfiguration = nearCacheConfig;
         initCachingProvider(null);
     }
     
@@ -83,7 +100,7 @@ public class FF4jCacheManagerIgnite extends FF4jJCacheManager {
         if (getIgnite() == null) {
             throw new IllegalStateException("Cannot initialize cache, no configuration found");
         }
-        setCachingProvider(new IgniteCachingProviderImpl(getIgnite()));
+        setCachingProvider(new IgniteCachingProviderImpl(getIgnite(), nearCacheConfiguration));
         return getCachingProvider();
     }
     
@@ -32,6 +32,7 @@ import javax.cache.spi.CachingProvider;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.cache.CacheAtomicityMode;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.ff4j.cache.FF4jJCacheManager;
 
 /**
@@ -88,6 +89,11 @@ public class IgniteCachingManagerImpl implements CacheManager {
         CacheConfiguration<K, V> cfg = (CacheConfiguration<K, V>) conf;
         cfg.setName(cacheName);
         cfg.setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL);
+        NearCacheConfiguration<K, V> nearCfg = (NearCacheConfiguration<K, V>) 
+                ((IgniteCachingProviderImpl) getCachingProvider()).getNearCacheConfiguration();
+        if (nearCfg != null) {
+            return (Cache<K, V>) getIgnite().getOrCreateCache(cfg, nearCfg);
+        }
         return (Cache<K, V>) getIgnite().getOrCreateCache(cfg);
     }
     
@@ -116,7 +122,8 @@ public class IgniteCachingManagerImpl implements CacheManager {
     /** {@inheritDoc} */
     @Override
     public Iterable<String> getCacheNames() {
-        return Arrays.asList(FF4jJCacheManager.CACHENAME_FEATURES, FF4jJCacheManager.CACHENAME_PROPERTIES);
+        return Arrays.asList(FF4jJCacheManager.CACHENAME_FEATURES, 
+                FF4jJCacheManager.CACHENAME_PROPERTIES, FF4jJCacheManager.CACHENAME_KEYS);
     }
 
     /** {@inheritDoc} */
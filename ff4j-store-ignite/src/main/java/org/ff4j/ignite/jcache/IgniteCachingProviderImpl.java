@@ -29,6 +29,7 @@ import javax.cache.configuration.OptionalFeature;
 import javax.cache.spi.CachingProvider;
 
 import org.apache.ignite.Ignite;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 
 /**
  * Implementation of {@link CachingProvider} for Ignite as not provided (!)
@@ -43,6 +44,9 @@ public class IgniteCachingProviderImpl implements CachingProvider {
     /** Relative cache manager. */
     private CacheManager cacheManager = null;
     
+    /** Near cache for created caches (could be null). */
+    private NearCacheConfiguration<Object, Object> nearCacheConfiguration = null;
+    
     /**
      * Default constructor.
      * 
@@ -50,8 +54,21 @@ public class IgniteCachingProviderImpl implements CachingProvider {
      *      ignite configuration bean
      */
     public IgniteCachingProviderImpl(Ignite ini) {
-        this.ignite       = ini;
-        this.cacheManager = new IgniteCachingManagerImpl(this);
+        this(ini, null);
+    }
+    
+    /**
+     * Constructor with near cache, flags are read far more often than updated.
+     * 
+     * @param ini
+     *      ignite configuration bean
+     * @param nearCacheConfig
+     *      near cache configuration for created caches (could be null)
+     */
+    public IgniteCachingProviderImpl(Ignite ini, NearCacheConfiguration<Object, Object> nearCacheConfig) {
+        this.ignite                 = ini;
+        this.nearCacheConfiguration = nearCacheConfig;
+        this.cacheManager           = new IgniteCachingManagerImpl(this);
     }
     
     /** {@inheritDoc} */
@@ -128,4 +145,14 @@ public class IgniteCachingProviderImpl implements CachingProvider {
         return ignite;
     }
 
+    /**
+     * Getter accessor for attribute 'nearCacheConfiguration'.
+     *
+     * @return
+     *       current value of 'nearCacheConfiguration'
+     */
+    public NearCacheConfiguration<Object, Object> getNearCacheConfiguration() {
+        return nearCacheConfiguration;
+    }
+
 }
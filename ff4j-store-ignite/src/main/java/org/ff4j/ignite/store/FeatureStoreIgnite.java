@@ -22,6 +22,7 @@ package org.ff4j.ignite.store;
 
 import org.apache.ignite.Ignite;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.ff4j.cache.FF4JCacheManager;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.ignite.FF4jCacheManagerIgnite;
@@ -66,6 +67,18 @@ public class FeatureStoreIgnite extends FeatureStoreJCache {
         this(new FF4jCacheManagerIgnite(ignite));
     }
     
+    /**
+     * Leverage on JCACHE with a near cache on this node.
+     *
+     * @param ignite
+     *      ignite instance
+     * @param nearCacheConfig
+     *      near cache configuration
+     */
+    public FeatureStoreIgnite(Ignite ignite, NearCacheConfiguration<Object, Object> nearCacheConfig) {
+        this(new FF4jCacheManagerIgnite(ignite, nearCacheConfig));
+    }
+    
     /**
      * Init from hazelcast, cast manager (logic in {@link FeatureStoreJCache}).
      * 
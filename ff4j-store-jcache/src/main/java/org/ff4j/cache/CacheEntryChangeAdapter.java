@@ -0,0 +1,134 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-store-jcache
+ * %%
+ * Copyright (C) 2013 - 2015 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.event.EventType;
+
+/**
+ * JCache entry listener forwarding modifications of ff4j caches to a {@link CacheChangeListener}.
+ *
+ * <p>{@link javax.cache.Cache#clear()} does not raise events : a cleared cache is detected when the time of the
+ * last clear is written in its listing marker of the keys cache.</p>
+ *
+ * @param <V>
+ *      cached value
+ * @author Cedrick Lunven (@clunven)
+ */
+public class CacheEntryChangeAdapter<V> implements CacheEntryCreatedListener<String, V>,
+        CacheEntryUpdatedListener<String, V>, CacheEntryRemovedListener<String, V>,
+        CacheEntryExpiredListener<String, V>, Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = 2706462426806853426L;
+
+    /** Notified listener, local to this node. */
+    private final transient CacheChangeListener listener;
+
+    /** Name of the listened cache. */
+    private final String cacheName;
+
+    /**
+     * Constructor.
+     *
+     * @param listener
+     *      notified listener
+     * @param cacheName
+     *      listened cache, features, properties or keys
+     */
+    public CacheEntryChangeAdapter(CacheChangeListener listener, String cacheName) {
+        this.listener  = listener;
+        this.cacheName = cacheName;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCreated(Iterable<CacheEntryEvent<? extends String, ? extends V>> events) {
+        changed(events);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onUpdated(Iterable<CacheEntryEvent<? extends String, ? extends V>> events) {
+        changed(events);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRemoved(Iterable<CacheEntryEvent<? extends String, ? extends V>> events) {
+        changed(events);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onExpired(Iterable<CacheEntryEvent<? extends String, ? extends V>> events) {
+        changed(events);
+    }
+
+    /**
+     * Forward events to listener.
+     *
+     * @param events
+     *      cache events
+     */
+    private void changed(Iterable<CacheEntryEvent<? extends String, ? extends V>> events) {
+        if (listener == null) {
+            return;
+        }
+        for (CacheEntryEvent<? extends String, ? extends V> event : events) {
+            if (FF4jJCacheManager.CACHENAME_FEATURES.equals(cacheName)) {
+                listener.onFeatureChanged(event.getKey());
+            } else if (FF4jJCacheManager.CACHENAME_PROPERTIES.equals(cacheName)) {
+                listener.onPropertyChanged(event.getKey());
+            } else if (isCleared(event)) {
+                if (FF4jJCacheManager.KEYS_FEATURES.equals(event.getKey())) {
+                    listener.onFeaturesCleared();
+                } else if (FF4jJCacheManager.KEYS_PROPERTIES.equals(event.getKey())) {
+                    listener.onPropertiesCleared();
+                }
+            }
+        }
+    }
+
+    /**
+     * Listing marker written by a clear, markers of names and listing markers created from the cache content
+     * are ignored.
+     *
+     * @param event
+     *      event of keys cache
+     * @return
+     *      if the features or properties have been cleared
+     */
+    private boolean isCleared(CacheEntryEvent<? extends String, ? extends V> event) {
+        if (event.getEventType() != EventType.CREATED && event.getEventType() != EventType.UPDATED) {
+            return false;
+        }
+        Object clearedAt = event.getValue();
+        return clearedAt instanceof Long && ((Long) clearedAt) > 0;
+    }
+
+}
@@ -21,12 +21,19 @@ package org.ff4j.cache;
  */
 
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
 import javax.cache.configuration.MutableConfiguration;
 import javax.cache.spi.CachingProvider;
 
@@ -38,7 +45,7 @@ import org.ff4j.property.Property;
  * 
  * @author Cedrick Lunven (@clunven)</a>
  */
-public class FF4jJCacheManager implements FF4JCacheManager {    
+public class FF4jJCacheManager implements FF4JCacheManager, BulkCacheReader, CacheChangeNotifier {    
     
     /** cache name of the features. */
     public static final String CACHENAME_FEATURES      = "ff4jFeatures";
@@ -46,6 +53,18 @@ public class FF4jJCacheManager implements FF4JCacheManager {
     /** cache name of the properties. */
     public static final String CACHENAME_PROPERTIES    = "ff4jProperties";
     
+    /** cache name of the name markers. */
+    public static final String CACHENAME_KEYS          = "ff4jKeys";
+    
+    /** key of the marker telling that all feature names are in keys cache (time of last clear), prefix of name markers. */
+    public static final String KEYS_FEATURES           = "features";
+    
+    /** key of the marker telling that all property names are in keys cache (time of last clear), prefix of name markers. */
+    public static final String KEYS_PROPERTIES         = "properties";
+    
+    /** separator between prefix and name in keys cache. */
+    public static final String KEYS_SEPARATOR          = ":";
+    
     /** JCache associated CachingProvider in order to create 'CacheManager'. */
     private CachingProvider cachingProvider;
     
@@ -59,6 +78,9 @@ public class FF4jJCacheManager implements FF4JCacheManager {
     @SuppressWarnings("rawtypes")
     protected Cache<String, Property> propertiesCache; 
     
+    /** One small marker per name of feature and property, listed without reading cached values. */
+    protected Cache<String, Long> keysCache; 
+    
     /**
      * Initialisation of internal caches.
      */
@@ -88,6 +110,7 @@ public class FF4jJCacheManager implements FF4JCacheManager {
         this.cacheManager    = getCachingProvider().getCacheManager();
         featuresCache        = createCacheForFeatures();
         propertiesCache      = createCacheForProperties();
+        keysCache            = createCacheForKeys();
     }
     
     /**
@@ -114,14 +137,117 @@ public class FF4jJCacheManager implements FF4JCacheManager {
         }
         return getCacheManager().getCache(CACHENAME_PROPERTIES, String.class, Property.class);
     }
+    
+    /**
+     * Default initialisation of cache.
+     *
+     * @return
+     */
+    protected Cache<String, Long> createCacheForKeys() {
+        if (null == getCacheManager().getCache(CACHENAME_KEYS, String.class, Long.class)) {
+            getCacheManager().createCache(CACHENAME_KEYS, getKeysCacheConfiguration());
+        }
+        return getCacheManager().getCache(CACHENAME_KEYS, String.class, Long.class);
+    }
+    
+    /**
+     * Key of the marker of a name in keys cache.
+     *
+     * @param prefix
+     *      {@link #KEYS_FEATURES} or {@link #KEYS_PROPERTIES}
+     * @param name
+     *      feature or property name
+     * @return
+     *      key in keys cache
+     */
+    public static String markerKey(String prefix, String name) {
+        return prefix + KEYS_SEPARATOR + name;
+    }
+    
+    /**
+     * Keys of name markers in keys cache.
+     *
+     * @param prefix
+     *      {@link #KEYS_FEATURES} or {@link #KEYS_PROPERTIES}
+     * @return
+     *      marker key by name
+     */
+    private Map < String, String > readMarkers(String prefix) {
+        String start = prefix + KEYS_SEPARATOR;
+        Map < String, String > markers = new HashMap<String, String>();
+        for (Cache.Entry<String, Long> entry : getKeysCache()) {
+            if (entry.getKey().startsWith(start)) {
+                markers.put(entry.getKey().substring(start.length()), entry.getKey());
+            }
+        }
+        return markers;
+    }
+    
+    /**
+     * Read names from markers, markers are created from the cache content first when they may not all exist
+     * (caches filled before markers were maintained, expired markers).
+     *
+     * @param prefix
+     *      {@link #KEYS_FEATURES} or {@link #KEYS_PROPERTIES}
+     * @param cache
+     *      cache to list
+     * @return
+     *      names
+     */
+    private Set < String > readKeys(String prefix, Cache<String, ?> cache) {
+        if (!getKeysCache().containsKey(prefix)) {
+            Long now = System.currentTimeMillis();
+            Map < String, Long > markers = new HashMap<String, Long>();
+            for (Cache.Entry<String, ?> entry : cache) {
+                markers.put(markerKey(prefix, entry.getKey()), now);
+            }
+            getKeysCache().putAll(markers);
+            // Not a clear
+            getKeysCache().putIfAbsent(prefix, 0L);
+        }
+        return new HashSet<String>(readMarkers(prefix).keySet());
+    }
+    
+    /**
+     * Remove all names, the cache is cleared in between so that a name written by a concurrent put stays listed
+     * if its entry survives. The time of the clear in the listing marker notifies the other nodes.
+     *
+     * @param prefix
+     *      {@link #KEYS_FEATURES} or {@link #KEYS_PROPERTIES}
+     * @param cache
+     *      cache to clear
+     */
+    private void clearKeys(String prefix, Cache<String, ?> cache) {
+        getKeysCache().removeAll(new HashSet<String>(readMarkers(prefix).values()));
+        cache.clear();
+        getKeysCache().put(prefix, System.currentTimeMillis());
+    }
+    
+    /**
+     * Read all features with a single bulk operation.
+     *
+     * @return
+     *      features by name
+     */
+    public Map < String, Feature > getFeatures() {
+        return getFeaturesCache().getAll(readKeys(KEYS_FEATURES, getFeaturesCache()));
+    }
+    
+    /**
+     * Read all properties with a single bulk operation.
+     *
+     * @return
+     *      properties by name
+     */
+    @SuppressWarnings("rawtypes")
+    public Map < String, Property > getProperties() {
+        return getPropertiesCache().getAll(readKeys(KEYS_PROPERTIES, getPropertiesCache()));
+    }
 
 
     /** {@inheritDoc} */
     public Set<String> listCachedFeatureNames() {
-        Set<String> keys = new HashSet<>();
-        // Implements iterate, more elegant as stream how ?
-        getFeaturesCache().forEach(e->keys.add(e.getKey()));
-        return keys;
+        return readKeys(KEYS_FEATURES, getFeaturesCache());
     }
     
     /** {@inheritDoc} */
@@ -141,41 +267,42 @@ public class FF4jJCacheManager implements FF4JCacheManager {
     /** {@inheritDoc} */
     @Override
     public void clearFeatures() {
-        getFeaturesCache().clear();
+        clearKeys(KEYS_FEATURES, getFeaturesCache());
     }
 
     /** {@inheritDoc} */
     @Override
     public void clearProperties() {
-        getPropertiesCache().clear();
+        clearKeys(KEYS_PROPERTIES, getPropertiesCache());
     }
 
     /** {@inheritDoc} */
     @Override
     public void evictFeature(String featureId) {
-        if (getFeaturesCache().containsKey(featureId)) {
-            getFeaturesCache().remove(featureId);
-        }
+        // Marker removed before the entry, a concurrent put adds it back after its own write
+        getKeysCache().remove(markerKey(KEYS_FEATURES, featureId));
+        getFeaturesCache().remove(featureId);
     }
 
     /** {@inheritDoc} */
     @Override
     public void evictProperty(String propertyName) {
-        if (getPropertiesCache().containsKey(propertyName)) {
-            getPropertiesCache().remove(propertyName);
-        }
+        getKeysCache().remove(markerKey(KEYS_PROPERTIES, propertyName));
+        getPropertiesCache().remove(propertyName);
     }
 
     /** {@inheritDoc} */
     @Override
     public void putFeature(Feature feat) {
         getFeaturesCache().put(feat.getUid(), feat);
+        getKeysCache().put(markerKey(KEYS_FEATURES, feat.getUid()), System.currentTimeMillis());
     }
 
     /** {@inheritDoc} */
     @Override
     public void putProperty(Property<?> feat) {
         getPropertiesCache().put(feat.getName(), feat);
+        getKeysCache().put(markerKey(KEYS_PROPERTIES, feat.getName()), System.currentTimeMillis());
     }
 
     /** {@inheritDoc} */
@@ -190,13 +317,51 @@ public class FF4jJCacheManager implements FF4JCacheManager {
         return getPropertiesCache().get(name);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> getFeatures(Collection<String> featureIds) {
+        return getFeaturesCache().getAll(new LinkedHashSet<String>(featureIds));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Map<String, Property<?>> getProperties(Collection<String> propertyNames) {
+        Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+        for (Map.Entry<String, Property> entry : getPropertiesCache().getAll(new LinkedHashSet<String>(propertyNames)).entrySet()) {
+            properties.put(entry.getKey(), entry.getValue());
+        }
+        return properties;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Set<String> listCachedPropertyNames() {
-        Set<String> keys = new HashSet<>();
-        // Implements iterate, more elegant as stream how ?
-        getPropertiesCache().forEach(e->keys.add(e.getKey()));
-        return keys;
+        return readKeys(KEYS_PROPERTIES, getPropertiesCache());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void addChangeListener(CacheChangeListener listener) {
+        getFeaturesCache().registerCacheEntryListener(
+                listenerConfiguration(new CacheEntryChangeAdapter<Feature>(listener, CACHENAME_FEATURES)));
+        getPropertiesCache().registerCacheEntryListener(
+                listenerConfiguration(new CacheEntryChangeAdapter<Property>(listener, CACHENAME_PROPERTIES)));
+        getKeysCache().registerCacheEntryListener(
+                listenerConfiguration(new CacheEntryChangeAdapter<Long>(listener, CACHENAME_KEYS)));
+    }
+    
+    /**
+     * Asynchronous listener without old values, writes are not slowed down.
+     *
+     * @param adapter
+     *      listener
+     * @return
+     *      listener configuration
+     */
+    private static <V> CacheEntryListenerConfiguration<String, V> listenerConfiguration(CacheEntryChangeAdapter<V> adapter) {
+        return new MutableCacheEntryListenerConfiguration<String, V>(FactoryBuilder.factoryOf(adapter), null, false, false);
     }
 
     /** {@inheritDoc} */
@@ -247,6 +412,19 @@ public class FF4jJCacheManager implements FF4JCacheManager {
         return propertiesCache;
     }
     
+    /**
+     * Getter accessor for attribute 'keysCache'.
+     *
+     * @return
+     *       current value of 'keysCache'
+     */
+    public Cache<String, Long> getKeysCache() {
+        if (keysCache == null) {
+            initCaches();
+        }
+        return keysCache;
+    }
+    
     /**
      * Initialize cache configuration, could be overriden.
      *
@@ -276,6 +454,21 @@ public class FF4jJCacheManager implements FF4JCacheManager {
         return propertiesCacheConfig;
     }
     
+    /**
+     * Initialize cache configuration, could be overriden. Markers expire as the features.
+     *
+     * @return
+     *      cache default configuration
+     */
+    protected MutableConfiguration< String, Long> getKeysCacheConfiguration() {
+        MutableConfiguration<String, Long> keysCacheConfig = new MutableConfiguration<>();        
+        keysCacheConfig.setTypes(String.class, Long.class);
+        keysCacheConfig.setStoreByValue(true);
+        keysCacheConfig.setStatisticsEnabled(false);
+        keysCacheConfig.setExpiryPolicyFactory(getFeatureCacheConfiguration().getExpiryPolicyFactory());
+        return keysCacheConfig;
+    }
+    
     /**
      * Default Initialisation of {@link CachingProvider}. It will work only is there is
      * a single {@link CachingProvider} implementation within classpath. Otherwise should must
@@ -0,0 +1,144 @@
+package org.ff4j.store;
+
+/*
+ * #%L
+ * ff4j-store-jcache
+ * %%
+ * Copyright (C) 2013 - 2015 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.TreeSet;
+
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.MutableEntry;
+
+import org.ff4j.core.Feature;
+
+/**
+ * Update a {@link Feature} in place, executed where the entry lives so that the feature
+ * is not read and written back by the caller.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class FeatureEntryProcessor implements EntryProcessor<String, Feature, Boolean>, Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = 4873417298718003366L;
+
+    /** Enable feature. */
+    public static final FeatureEntryProcessor ENABLE = new FeatureEntryProcessor(Operation.ENABLE);
+
+    /** Disable feature. */
+    public static final FeatureEntryProcessor DISABLE = new FeatureEntryProcessor(Operation.DISABLE);
+
+    /** Add role, role name as argument. */
+    public static final FeatureEntryProcessor GRANT_ROLE = new FeatureEntryProcessor(Operation.GRANT_ROLE);
+
+    /** Remove role, role name as argument. */
+    public static final FeatureEntryProcessor REMOVE_ROLE = new FeatureEntryProcessor(Operation.REMOVE_ROLE);
+
+    /** Set group, group name as argument. */
+    public static final FeatureEntryProcessor ADD_TO_GROUP = new FeatureEntryProcessor(Operation.ADD_TO_GROUP);
+
+    /** Remove group. */
+    public static final FeatureEntryProcessor REMOVE_FROM_GROUP = new FeatureEntryProcessor(Operation.REMOVE_FROM_GROUP);
+
+    /** Enable feature if it belongs to group, group name as argument. */
+    public static final FeatureEntryProcessor ENABLE_GROUP = new FeatureEntryProcessor(Operation.ENABLE_GROUP);
+
+    /** Disable feature if it belongs to group, group name as argument. */
+    public static final FeatureEntryProcessor DISABLE_GROUP = new FeatureEntryProcessor(Operation.DISABLE_GROUP);
+
+    /** Available operations. */
+    public static enum Operation {
+        ENABLE, DISABLE, GRANT_ROLE, REMOVE_ROLE, ADD_TO_GROUP, REMOVE_FROM_GROUP, ENABLE_GROUP, DISABLE_GROUP;
+    }
+
+    /** Current operation. */
+    private final Operation operation;
+
+    /**
+     * Constructor.
+     *
+     * @param operation
+     *      operation to execute
+     */
+    public FeatureEntryProcessor(Operation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Process the entry.
+     *
+     * @return
+     *      false if the feature does not exist (or is not in the group for group operations)
+     */
+    @Override
+    public Boolean process(MutableEntry<String, Feature> entry, Object... arguments) {
+        if (!entry.exists()) {
+            return false;
+        }
+        Feature f = entry.getValue();
+        switch (operation) {
+            case ENABLE_GROUP:
+            case DISABLE_GROUP:
+                if (!arguments[0].equals(f.getGroup())) {
+                    return false;
+                }
+                f.setEnable(operation == Operation.ENABLE_GROUP);
+            break;
+            case ENABLE:
+                f.enable();
+            break;
+            case DISABLE:
+                f.disable();
+            break;
+            case GRANT_ROLE:
+                if (f.getPermissions() == null) {
+                    f.setPermissions(new TreeSet<String>());
+                }
+                f.getPermissions().add((String) arguments[0]);
+            break;
+            case REMOVE_ROLE:
+                if (f.getPermissions() != null) {
+                    f.getPermissions().remove(arguments[0]);
+                }
+            break;
+            case ADD_TO_GROUP:
+                f.setGroup((String) arguments[0]);
+            break;
+            case REMOVE_FROM_GROUP:
+                f.setGroup(null);
+            break;
+            default:
+            break;
+        }
+        entry.setValue(f);
+        return true;
+    }
+
+    /**
+     * Getter accessor for attribute 'operation'.
+     *
+     * @return
+     *       current value of 'operation'
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+}
@@ -20,11 +20,15 @@ package org.ff4j.store;
  * #L%
  */
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
+import javax.cache.processor.EntryProcessorResult;
+
 import org.ff4j.cache.FF4jJCacheManager;
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
@@ -63,16 +67,44 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
     @Override
     public boolean exist(String uid) {
         Util.assertParamHasLength(uid, "Feature identifier");
-        return getCacheManager().getFeature(uid) != null;
+        return getCacheManager().getFeaturesCache().containsKey(uid);
     }
     
     /** {@inheritDoc} */
     @Override
     public Feature read(String uid) {
-        if (!exist(uid)) {
+        Util.assertParamHasLength(uid, "Feature identifier");
+        Feature f = getCacheManager().getFeature(uid);
+        if (f == null) {
+            throw new FeatureNotFoundException(uid);
+        }
+        return f;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        Set<String> uids = new LinkedHashSet<String>(featureUids);
+        Map<String, Feature> found = getCacheManager().getFeaturesCache().getAll(uids);
+        return Util.keepRequestedOrder(uids, found);
+    }
+    
+    /**
+     * Update feature where it is stored.
+     *
+     * @param uid
+     *      feature identifier
+     * @param processor
+     *      update to apply
+     * @param arguments
+     *      processor arguments
+     */
+    private void invoke(String uid, FeatureEntryProcessor processor, Object... arguments) {
+        Util.assertParamHasLength(uid, "Feature identifier");
+        if (!getCacheManager().getFeaturesCache().invoke(uid, processor, arguments)) {
             throw new FeatureNotFoundException(uid);
         }
-        return getCacheManager().getFeature(uid);
     }
     
     /** {@inheritDoc} */
@@ -90,23 +122,13 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
     /** {@inheritDoc} */
     @Override
     public void enable(String uid) {
-        // Read from redis, feature not found if no present
-        Feature f = read(uid);
-        // Update within Object
-        f.enable();
-        // Serialization and update key, update TTL
-        update(f);
+        invoke(uid, FeatureEntryProcessor.ENABLE);
     }
 
     /** {@inheritDoc} */
     @Override
     public void disable(String uid) {
-        // Read from redis, feature not found if no present
-        Feature f = read(uid);
-        // Update within Object
-        f.disable();
-        // Serialization and update key, update TTL
-        update(f);
+        invoke(uid, FeatureEntryProcessor.DISABLE);
     }
 
     /** {@inheritDoc} */
@@ -124,9 +146,7 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
     /** {@inheritDoc} */
     @Override
     public Map<String, Feature> readAll() {
-        Map<String, Feature> myMap = new HashMap<>();
-        getCacheManager().getFeaturesCache().forEach(e->myMap.put(e.getKey(), e.getValue()));
-        return myMap;
+        return new HashMap<>(getCacheManager().getFeatures());
     }
 
     /** {@inheritDoc} */
@@ -142,23 +162,14 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
     @Override
     public void grantRoleOnFeature(String flipId, String roleName) {
         Util.assertParamHasLength(roleName, "roleName (#2)");
-        // retrieve
-        Feature f = read(flipId);
-        // modify
-        f.getPermissions().add(roleName);
-        // persist modification
-        update(f);
+        invoke(flipId, FeatureEntryProcessor.GRANT_ROLE, roleName);
     }
 
     /** {@inheritDoc} */
     @Override
     public void removeRoleFromFeature(String flipId, String roleName) {
         Util.assertParamHasLength(roleName, "roleName (#2)");
-        // retrieve
-        Feature f = read(flipId);
-        f.getPermissions().remove(roleName);
-        // persist modification
-        update(f);
+        invoke(flipId, FeatureEntryProcessor.REMOVE_ROLE, roleName);
     }
     
     /** {@inheritDoc} */
@@ -195,32 +206,41 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
     /** {@inheritDoc} */
     @Override
     public void enableGroup(String groupName) {
-        Map < String, Feature > features = readGroup(groupName);
-        for (Map.Entry<String,Feature> uid : features.entrySet()) {
-            uid.getValue().enable();
-            update(uid.getValue());
-        }
+        invokeGroup(groupName, FeatureEntryProcessor.ENABLE_GROUP);
     }
 
     /** {@inheritDoc} */
     @Override
     public void disableGroup(String groupName) {
-        Map < String, Feature > features = readGroup(groupName);
-        for (Map.Entry<String,Feature> uid : features.entrySet()) {
-            uid.getValue().disable();
-            update(uid.getValue());
+        invokeGroup(groupName, FeatureEntryProcessor.DISABLE_GROUP);
+    }
+    
+    /**
+     * Update features of a group where they are stored, selected by the processor among the names of keys cache
+     * instead of reading every feature first.
+     *
+     * @param groupName
+     *      target group
+     * @param processor
+     *      group operation
+     */
+    private void invokeGroup(String groupName, FeatureEntryProcessor processor) {
+        Util.assertParamHasLength(groupName, "groupName");
+        Map<String, EntryProcessorResult<Boolean>> results = getCacheManager().getFeaturesCache()
+                .invokeAll(getCacheManager().listCachedFeatureNames(), processor, groupName);
+        for (EntryProcessorResult<Boolean> result : results.values()) {
+            if (Boolean.TRUE.equals(result.get())) {
+                return;
+            }
         }
+        throw new GroupNotFoundException(groupName);
     }
 
     /** {@inheritDoc} */
     @Override
     public void addToGroup(String featureId, String groupName) {
         Util.assertParamHasLength(groupName, "groupName (#2)");
-        // retrieve
-        Feature f = read(featureId);
-        f.setGroup(groupName);
-        // persist modification
-        update(f);
+        invoke(featureId, FeatureEntryProcessor.ADD_TO_GROUP, groupName);
     }
 
     /** {@inheritDoc} */
@@ -230,11 +250,7 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
         if (!existGroup(groupName)) {
             throw new GroupNotFoundException(groupName);
         }
-        // retrieve
-        Feature f = read(featureId);
-        f.setGroup(null);
-        // persist modification
-        update(f);
+        invoke(featureId, FeatureEntryProcessor.REMOVE_FROM_GROUP);
     }
 
     /** {@inheritDoc} */
@@ -252,7 +268,7 @@ public class FeatureStoreJCache extends AbstractFeatureStore {
     /** {@inheritDoc} */
     @Override
     public void clear() {
-        getCacheManager().getFeaturesCache().removeAll();
+        getCacheManager().clearFeatures();
     }
     
     /**
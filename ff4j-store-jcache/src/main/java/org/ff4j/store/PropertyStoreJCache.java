@@ -21,8 +21,9 @@ package org.ff4j.store;
  */
 
 
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -88,6 +89,14 @@ public class PropertyStoreJCache extends AbstractPropertyStore {
         return getCacheManager().getProperty(name);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        Set<String> propertyNames = new LinkedHashSet<String>(names);
+        return Util.keepRequestedOrder(propertyNames, getCacheManager().getProperties(propertyNames));
+    }
+
     /** {@inheritDoc} */
     @Override
     public void updateProperty(String name, String newValue) {
@@ -119,24 +128,25 @@ public class PropertyStoreJCache extends AbstractPropertyStore {
 
     /** {@inheritDoc} */
     @Override
+    @SuppressWarnings("rawtypes")
     public Map<String, Property<?>> readAllProperties() {
         Map<String, Property<?>> myMap = new HashMap<>();
-        getCacheManager().getPropertiesCache().forEach(e->myMap.put(e.getKey(), e.getValue()));
+        for (Map.Entry<String, Property> entry : getCacheManager().getProperties().entrySet()) {
+            myMap.put(entry.getKey(), entry.getValue());
+        }
         return myMap;
     }
     
     /** {@inheritDoc} */
     @Override
     public Set<String> listPropertyNames() {
-        Set<String> setOfPropertyNames = new HashSet<>();
-        getCacheManager().getPropertiesCache().forEach(e->setOfPropertyNames.add(e.getKey()));
-        return setOfPropertyNames;
+        return getCacheManager().listCachedPropertyNames();
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
-        getCacheManager().getPropertiesCache().removeAll();
+        getCacheManager().clearProperties();
     }
     
     /**
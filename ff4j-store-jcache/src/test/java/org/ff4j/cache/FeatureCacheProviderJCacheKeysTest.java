@@ -0,0 +1,185 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-store-jcache
+ * %%
+ * Copyright (C) 2013 - 2015 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.PropertyString;
+import org.jsr107.ri.spi.RICachingProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Name markers of {@link FF4jJCacheManager} under concurrent put, evict and clear.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class FeatureCacheProviderJCacheKeysTest {
+
+    /** Writer threads. */
+    private static final int WRITERS = 4;
+
+    /** Operations per thread. */
+    private static final int LOOPS = 500;
+
+    /** Tested cache. */
+    private FF4jJCacheManager fcm;
+
+    @Before
+    public void setUp() {
+        fcm = new FF4jJCacheManager(RICachingProvider.class.getName());
+        fcm.clearFeatures();
+        fcm.clearProperties();
+    }
+
+    @Test
+    public void testConcurrentPutClearReadAll() throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < WRITERS; t++) {
+            final int id = t;
+            threads.add(new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < LOOPS; i++) {
+                            String uid = "f" + id + "_" + (i % 20);
+                            fcm.putFeature(new Feature(uid, true));
+                            fcm.putProperty(new PropertyString(uid, "v"));
+                            if (i % 7 == 0) {
+                                fcm.evictFeature(uid);
+                            }
+                        }
+                    } catch (Throwable e) {
+                        error.set(e);
+                    }
+                }
+            }));
+        }
+        threads.add(new Thread(new Runnable() {
+            public void run() {
+                try {
+                    start.await();
+                    for (int i = 0; i < LOOPS / 10; i++) {
+                        fcm.clearFeatures();
+                        fcm.clearProperties();
+                        fcm.getFeatures();
+                        fcm.getProperties();
+                    }
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            }
+        }));
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertNull(error.get());
+
+        // Every cached entry is listed
+        Set<String> featureNames = fcm.listCachedFeatureNames();
+        Map<String, Feature> features = fcm.getFeatures();
+        Set<String> propertyNames = fcm.listCachedPropertyNames();
+        for (int t = 0; t < WRITERS; t++) {
+            for (int i = 0; i < 20; i++) {
+                String uid = "f" + t + "_" + i;
+                if (fcm.getFeature(uid) != null) {
+                    Assert.assertTrue(uid, featureNames.contains(uid));
+                    Assert.assertTrue(uid, features.containsKey(uid));
+                }
+                if (fcm.getProperty(uid) != null) {
+                    Assert.assertTrue(uid, propertyNames.contains(uid));
+                }
+            }
+        }
+        Assert.assertFalse(featureNames.contains(FF4jJCacheManager.KEYS_FEATURES));
+    }
+
+    @Test
+    public void testMarkersCreatedFromCacheContent() {
+        // Given, entries written without markers
+        fcm.getKeysCache().remove(FF4jJCacheManager.KEYS_FEATURES);
+        fcm.getFeaturesCache().put("old", new Feature("old", true));
+        // When, put creates a single marker
+        fcm.putFeature(new Feature("new", true));
+        // Then
+        Set<String> names = fcm.listCachedFeatureNames();
+        Assert.assertEquals(2, names.size());
+        Assert.assertTrue(names.contains("old"));
+        Assert.assertTrue(names.contains("new"));
+        Assert.assertTrue(fcm.getKeysCache().containsKey(FF4jJCacheManager.markerKey(FF4jJCacheManager.KEYS_FEATURES, "old")));
+        // Listed from the cache content, not a clear
+        Assert.assertEquals(Long.valueOf(0), fcm.getKeysCache().get(FF4jJCacheManager.KEYS_FEATURES));
+        Assert.assertEquals(2, fcm.getFeatures().size());
+    }
+
+    @Test
+    public void testOneMarkerPerName() {
+        fcm.putFeature(new Feature("f1", true));
+        fcm.putProperty(new PropertyString("f1", "v1"));
+        Assert.assertTrue(fcm.getKeysCache().containsKey(FF4jJCacheManager.markerKey(FF4jJCacheManager.KEYS_FEATURES, "f1")));
+        Assert.assertTrue(fcm.getKeysCache().containsKey(FF4jJCacheManager.markerKey(FF4jJCacheManager.KEYS_PROPERTIES, "f1")));
+        fcm.evictFeature("f1");
+        Assert.assertFalse(fcm.getKeysCache().containsKey(FF4jJCacheManager.markerKey(FF4jJCacheManager.KEYS_FEATURES, "f1")));
+        Assert.assertEquals(1, fcm.listCachedPropertyNames().size());
+    }
+
+    @Test
+    public void testClearAndEvict() {
+        fcm.putFeature(new Feature("f1", true));
+        fcm.putFeature(new Feature("f2", true));
+        fcm.evictFeature("f1");
+        Assert.assertEquals(1, fcm.listCachedFeatureNames().size());
+        fcm.clearFeatures();
+        Assert.assertTrue(fcm.listCachedFeatureNames().isEmpty());
+        Assert.assertTrue(fcm.getFeatures().isEmpty());
+    }
+
+    @Test
+    public void testKeysExpireAsFeatures() {
+        FF4jJCacheManager expiring = new FF4jJCacheManager() {
+            @Override
+            protected MutableConfiguration<String, Feature> getFeatureCacheConfiguration() {
+                MutableConfiguration<String, Feature> config = super.getFeatureCacheConfiguration();
+                config.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ONE_MINUTE));
+                return config;
+            }
+        };
+        Assert.assertTrue(expiring.getKeysCacheConfiguration().getExpiryPolicyFactory().create() instanceof CreatedExpiryPolicy);
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.ff4j.cache;
+
+/*
+ * #%L
+ * ff4j-store-jcache
+ * %%
+ * Copyright (C) 2013 - 2015 Ff4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.core.Feature;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
+import org.jsr107.ri.spi.RICachingProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Local entries of {@link TwoTierCacheManager} evicted by JCache events raised by another writer.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class FeatureCacheProviderJCacheListenerTest {
+
+    /** Listeners are asynchronous. */
+    private static final long TIMEOUT = 5000;
+
+    /** Local cache over JCache. */
+    private TwoTierCacheManager cache;
+
+    /** Other writer on same JCache caches. */
+    private FF4jJCacheManager otherNode;
+
+    @Before
+    public void setUp() {
+        FF4jJCacheManager jcache = new FF4jJCacheManager(RICachingProvider.class.getName());
+        jcache.clearFeatures();
+        jcache.clearProperties();
+        // Long time-to-live, local entries can only be evicted by events
+        cache     = new TwoTierCacheManager(jcache, 100, 3600);
+        otherNode = new FF4jJCacheManager(RICachingProvider.class.getName());
+    }
+
+    @Test
+    public void testExternalPutEvictsLocal() throws InterruptedException {
+        cache.putFeature(new Feature("f1", true));
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        otherNode.putFeature(new Feature("f1", false));
+        Assert.assertTrue(waitForFeature("f1", false));
+
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertEquals("v1", cache.getProperty("p1").asString());
+        otherNode.putProperty(new PropertyString("p1", "v2"));
+        Assert.assertTrue(waitForProperty("p1", "v2"));
+    }
+
+    @Test
+    public void testExternalRemoveEvictsLocal() throws InterruptedException {
+        cache.putFeature(new Feature("f1", true));
+        Assert.assertNotNull(cache.getFeature("f1"));
+        otherNode.evictFeature("f1");
+        Assert.assertTrue(waitForFeature("f1", null));
+
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertNotNull(cache.getProperty("p1"));
+        otherNode.evictProperty("p1");
+        Assert.assertTrue(waitForProperty("p1", null));
+    }
+
+    @Test
+    public void testExternalClearEvictsLocal() throws InterruptedException {
+        cache.putFeature(new Feature("f1", true));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertNotNull(cache.getFeature("f1"));
+        Assert.assertNotNull(cache.getProperty("p1"));
+        otherNode.clearFeatures();
+        otherNode.clearProperties();
+        Assert.assertTrue(waitForFeature("f1", null));
+        Assert.assertTrue(waitForProperty("p1", null));
+    }
+
+    /**
+     * Wait for the local cache to serve expected feature.
+     *
+     * @param uid
+     *      feature identifier
+     * @param enable
+     *      expected status, null if feature is expected to be absent
+     * @return
+     *      true if reached before timeout
+     */
+    private boolean waitForFeature(String uid, Boolean enable) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (System.currentTimeMillis() < end) {
+            Feature f = cache.getFeature(uid);
+            if (enable == null ? f == null : (f != null && f.isEnable() == enable)) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    /**
+     * Wait for the local cache to serve expected property value.
+     *
+     * @param name
+     *      property name
+     * @param value
+     *      expected value, null if property is expected to be absent
+     * @return
+     *      true if reached before timeout
+     */
+    private boolean waitForProperty(String name, String value) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (System.currentTimeMillis() < end) {
+            Property<?> p = cache.getProperty(name);
+            if (value == null ? p == null : (p != null && value.equals(p.asString()))) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+}
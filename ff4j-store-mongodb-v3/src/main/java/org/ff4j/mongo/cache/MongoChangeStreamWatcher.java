@@ -0,0 +1,838 @@
+package org.ff4j.mongo.cache;
+
+/*
+ * #%L
+ * ff4j-store-mongodb-v3
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.ff4j.mongo.MongoDbConstants.FEATURE_UUID;
+import static org.ff4j.mongo.MongoDbConstants.PROPERTY_NAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.bson.Document;
+import org.ff4j.cache.BulkCacheWriter;
+import org.ff4j.cache.FF4JCacheManager;
+import org.ff4j.cache.FF4jCacheProxy;
+import org.ff4j.cache.Store2CachePollingScheduler;
+import org.ff4j.core.Feature;
+import org.ff4j.core.FeatureStore;
+import org.ff4j.mongo.mapper.MongoFeatureMapper;
+import org.ff4j.mongo.mapper.MongoPropertyMapper;
+import org.ff4j.mongo.store.FeatureStoreMongo;
+import org.ff4j.mongo.store.PropertyStoreMongo;
+import org.ff4j.property.Property;
+import org.ff4j.property.store.PropertyStore;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.UpdateOptions;
+
+/**
+ * Listen to MongoDB change streams on features and properties collections and push each
+ * modified document into the local {@link FF4JCacheManager}, no collection scan is performed.
+ *
+ * <p>The stream is opened with a <code>$changeStream</code> aggregation so that it works with
+ * any driver version, it requires a replica set or a sharded cluster (MongoDB 3.6+). The token of
+ * last applied event is kept and used to resume after a network error. With a resume token collection
+ * ({@link #setResumeTokenCollection(MongoCollection)}) tokens are saved every {@link #getTokenSaveBatchSize()} events
+ * or {@link #getTokenSaveInterval()} milliseconds (and when the stream is idle or closed) and the watcher resumes
+ * from them after a restart, replaying at most the events of last batch, otherwise the cache is fully reloaded
+ * when the stream is opened.
+ * When the server does not support change streams the watcher falls back to {@link Store2CachePollingScheduler}.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class MongoChangeStreamWatcher {
+
+    /** Aggregation stage. */
+    public static final String STAGE_CHANGESTREAM = "$changeStream";
+
+    /** Event attribute. */
+    private static final String EVENT_ID = "_id";
+
+    /** Event attribute. */
+    private static final String EVENT_OPERATION = "operationType";
+
+    /** Event attribute. */
+    private static final String EVENT_FULLDOCUMENT = "fullDocument";
+
+    /** Event attribute. */
+    private static final String EVENT_DOCUMENTKEY = "documentKey";
+
+    /** Document identifier. */
+    private static final String DOCUMENT_ID = "_id";
+
+    /** Attribute of saved resume token. */
+    private static final String TOKEN = "token";
+
+    /** Identifier of saved resume token for features. */
+    private static final String TOKEN_FEATURES = "features";
+
+    /** Identifier of saved resume token for properties. */
+    private static final String TOKEN_PROPERTIES = "properties";
+
+    /** Error codes when change streams are not available (standalone server, older version). */
+    private static final Set < Integer > UNSUPPORTED_CODES =
+            Collections.unmodifiableSet(new HashSet<Integer>(Arrays.asList(115, 16436, 40324, 40573)));
+
+    /** Error codes when resume token is no longer in the oplog. */
+    private static final Set < Integer > HISTORY_LOST_CODES =
+            Collections.unmodifiableSet(new HashSet<Integer>(Arrays.asList(280, 286)));
+
+    /** Map from Document to Feature. */
+    private static final MongoFeatureMapper FMAPPER = new MongoFeatureMapper();
+
+    /** Map from Document to Property. */
+    private static final MongoPropertyMapper PMAPPER = new MongoPropertyMapper();
+
+    /** Features collection (could be null). */
+    private final MongoCollection<Document> featuresCollection;
+
+    /** Properties collection (could be null). */
+    private final MongoCollection<Document> propertiesCollection;
+
+    /** Source feature store, used for polling. */
+    private final FeatureStore featureStore;
+
+    /** Source property store, used for polling. */
+    private final PropertyStore propertyStore;
+
+    /** Target cache, null when working with a proxy. */
+    private final FF4JCacheManager cacheManager;
+
+    /** Cache proxy (could be null). */
+    private final FF4jCacheProxy cacheProxy;
+
+    /** delay before opening again the stream after an error. */
+    private long retryDelay = 1000;
+
+    /** polling delay when change streams are not available. */
+    private long pollingDelay = 10000;
+
+    /** delay before reading the stream again when no event is available. */
+    private long awaitDelay = 200;
+
+    /** resume token is saved after this number of events. */
+    private int tokenSaveBatchSize = 100;
+
+    /** resume token is saved when this delay is elapsed since last save. */
+    private long tokenSaveInterval = 1000;
+
+    /** Number of events applied on features since the token has been saved. */
+    private int featuresUnsavedEvents = 0;
+
+    /** Number of events applied on properties since the token has been saved. */
+    private int propertiesUnsavedEvents = 0;
+
+    /** Last save of features token. */
+    private long featuresTokenSavedAt = 0;
+
+    /** Last save of properties token. */
+    private long propertiesTokenSavedAt = 0;
+
+    /** Last applied event on features. */
+    private volatile Document featuresResumeToken;
+
+    /** Last applied event on properties. */
+    private volatile Document propertiesResumeToken;
+
+    /** Collection where resume tokens are saved (could be null). */
+    private MongoCollection<Document> resumeTokenCollection;
+
+    /** Property name for each document identifier, deleted documents only provide their identifier. */
+    private final ConcurrentMap < Object, String > propertyNames = new ConcurrentHashMap<Object, String>();
+
+    /** Streams are listened. */
+    private volatile boolean running = false;
+
+    /** Fallback polling is used. */
+    private volatile boolean polling = false;
+
+    /** Thread for each stream. */
+    private ExecutorService executor;
+
+    /** Fallback. */
+    private Store2CachePollingScheduler pollingScheduler;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param sf
+     *      source feature store (could be null)
+     * @param sp
+     *      source property store (could be null)
+     * @param cp
+     *      current cache manager
+     */
+    public MongoChangeStreamWatcher(FeatureStoreMongo sf, PropertyStoreMongo sp, FF4JCacheManager cp) {
+        if (cp == null) {
+            throw new IllegalArgumentException("Cache manager cannot be null");
+        }
+        this.featuresCollection   = (sf == null) ? null : sf.getFeaturesCollection();
+        this.propertiesCollection = (sp == null) ? null : sp.getPropertiesCollection();
+        this.featureStore         = sf;
+        this.propertyStore        = sp;
+        this.cacheManager         = cp;
+        this.cacheProxy           = null;
+        assertCollections();
+    }
+
+    /**
+     * Parameterized constructor, target stores of the proxy should be MongoDB stores.
+     *
+     * @param fcp
+     *      cache proxy
+     */
+    public MongoChangeStreamWatcher(FF4jCacheProxy fcp) {
+        if (fcp == null) {
+            throw new IllegalArgumentException("Cache proxy cannot be null");
+        }
+        FeatureStore  sf = fcp.getTargetFeatureStore();
+        PropertyStore sp = fcp.getTargetPropertyStore();
+        this.featuresCollection   = (sf instanceof FeatureStoreMongo)  ? ((FeatureStoreMongo) sf).getFeaturesCollection() : null;
+        this.propertiesCollection = (sp instanceof PropertyStoreMongo) ? ((PropertyStoreMongo) sp).getPropertiesCollection() : null;
+        this.featureStore         = sf;
+        this.propertyStore        = sp;
+        this.cacheManager         = null;
+        this.cacheProxy           = fcp;
+        assertCollections();
+    }
+
+    /**
+     * At least one collection should be watched.
+     */
+    private void assertCollections() {
+        if (featuresCollection == null && propertiesCollection == null) {
+            throw new IllegalArgumentException("No MongoDB collection to watch, expecting FeatureStoreMongo or PropertyStoreMongo");
+        }
+    }
+
+    /**
+     * Start listening change streams.
+     */
+    public synchronized void start() {
+        if (running || polling) {
+            return;
+        }
+        running  = true;
+        loadResumeTokens();
+        executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "FF4j_MongoChangeStreamWatcher");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        if (featuresCollection != null) {
+            executor.submit(new CollectionWatch(true));
+        }
+        if (propertiesCollection != null) {
+            executor.submit(new CollectionWatch(false));
+        }
+    }
+
+    /**
+     * Stop listening (or polling).
+     */
+    public synchronized void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if (pollingScheduler != null) {
+            pollingScheduler.stop();
+            pollingScheduler = null;
+        }
+        polling = false;
+    }
+
+    /**
+     * Change streams are not available, poll stores instead.
+     */
+    private synchronized void fallbackToPolling() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdownNow();
+        executor = null;
+        if (cacheProxy != null) {
+            pollingScheduler = new Store2CachePollingScheduler(cacheProxy);
+        } else {
+            pollingScheduler = new Store2CachePollingScheduler(featureStore, propertyStore, cacheManager);
+        }
+        pollingScheduler.start(pollingDelay);
+        polling = true;
+    }
+
+    /**
+     * Cache to update, the proxy can replace its cache manager when polling.
+     *
+     * @return
+     *      current cache manager
+     */
+    private FF4JCacheManager getTargetCache() {
+        return (cacheProxy != null) ? cacheProxy.getCacheManager() : cacheManager;
+    }
+
+    /**
+     * Apply a change event and keep its token.
+     *
+     * @param features
+     *      event on features collection
+     * @param event
+     *      change event
+     * @return
+     *      if the stream is still valid
+     */
+    boolean apply(boolean features, Document event) {
+        boolean valid = features ? applyFeatureEvent(event) : applyPropertyEvent(event);
+        setResumeToken(features, valid ? (Document) event.get(EVENT_ID) : null);
+        return valid;
+    }
+
+    /**
+     * Apply event on features collection.
+     *
+     * @param event
+     *      change event
+     * @return
+     *      if the stream is still valid
+     */
+    private boolean applyFeatureEvent(Document event) {
+        String   operation = event.getString(EVENT_OPERATION);
+        Document document  = (Document) event.get(EVENT_FULLDOCUMENT);
+        if ("insert".equals(operation) || "update".equals(operation) || "replace".equals(operation)) {
+            if (document != null) {
+                getTargetCache().putFeature(FMAPPER.fromStore(document));
+            } else {
+                // Document has been deleted before lookup
+                getTargetCache().evictFeature(((Document) event.get(EVENT_DOCUMENTKEY)).getString(FEATURE_UUID));
+            }
+        } else if ("delete".equals(operation)) {
+            getTargetCache().evictFeature(((Document) event.get(EVENT_DOCUMENTKEY)).getString(FEATURE_UUID));
+        } else {
+            // drop, rename, dropDatabase, invalidate
+            getTargetCache().clearFeatures();
+            return !"invalidate".equals(operation);
+        }
+        return true;
+    }
+
+    /**
+     * Apply event on properties collection.
+     *
+     * @param event
+     *      change event
+     * @return
+     *      if the stream is still valid
+     */
+    private boolean applyPropertyEvent(Document event) {
+        String   operation = event.getString(EVENT_OPERATION);
+        Document document  = (Document) event.get(EVENT_FULLDOCUMENT);
+        boolean  write     = "insert".equals(operation) || "update".equals(operation) || "replace".equals(operation);
+        if (write && document != null) {
+            Property<?> prop = PMAPPER.fromStore(document);
+            propertyNames.put(document.get(DOCUMENT_ID), prop.getName());
+            getTargetCache().putProperty(prop);
+            return true;
+        }
+        if (write || "delete".equals(operation)) {
+            // Property name is not part of the document key, it has been recorded when loaded
+            String name = propertyNames.remove(((Document) event.get(EVENT_DOCUMENTKEY)).get(DOCUMENT_ID));
+            if (name != null) {
+                getTargetCache().evictProperty(name);
+            } else {
+                getTargetCache().clearProperties();
+            }
+            return true;
+        }
+        // drop, rename, dropDatabase, invalidate
+        propertyNames.clear();
+        getTargetCache().clearProperties();
+        return !"invalidate".equals(operation);
+    }
+
+    /**
+     * Changes done before the stream is opened are unknown, load the whole collection into cache.
+     *
+     * @param features
+     *      reload features or properties
+     */
+    void reload(boolean features) {
+        FF4JCacheManager cache = getTargetCache();
+        if (features) {
+            List<Feature> all = new ArrayList<Feature>();
+            for (Document document : featuresCollection.find()) {
+                all.add(FMAPPER.fromStore(document));
+            }
+            cache.clearFeatures();
+            if (cache instanceof BulkCacheWriter) {
+                ((BulkCacheWriter) cache).putFeatures(all);
+            } else {
+                for (Feature feature : all) {
+                    cache.putFeature(feature);
+                }
+            }
+        } else {
+            List<Property<?>> all = loadProperties(true);
+            cache.clearProperties();
+            if (cache instanceof BulkCacheWriter) {
+                ((BulkCacheWriter) cache).putProperties(all);
+            } else {
+                for (Property<?> prop : all) {
+                    cache.putProperty(prop);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read properties collection, recording the name of each document.
+     *
+     * @param values
+     *      read whole documents or only names
+     * @return
+     *      properties if whole documents are read
+     */
+    private List<Property<?>> loadProperties(boolean values) {
+        List<Property<?>> all = new ArrayList<Property<?>>();
+        propertyNames.clear();
+        if (values) {
+            for (Document document : propertiesCollection.find()) {
+                Property<?> prop = PMAPPER.fromStore(document);
+                propertyNames.put(document.get(DOCUMENT_ID), prop.getName());
+                all.add(prop);
+            }
+        } else {
+            Document projection = new Document(PROPERTY_NAME, 1);
+            for (Document document : propertiesCollection.find().projection(projection)) {
+                propertyNames.put(document.get(DOCUMENT_ID), document.getString(PROPERTY_NAME));
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Read saved resume tokens, names of properties are loaded to evict deleted ones when resuming.
+     */
+    void loadResumeTokens() {
+        if (resumeTokenCollection == null) {
+            return;
+        }
+        if (featuresCollection != null && featuresResumeToken == null) {
+            featuresResumeToken = readResumeToken(TOKEN_FEATURES);
+        }
+        if (propertiesCollection != null && propertiesResumeToken == null) {
+            propertiesResumeToken = readResumeToken(TOKEN_PROPERTIES);
+            if (propertiesResumeToken != null) {
+                loadProperties(false);
+            }
+        }
+    }
+
+    /**
+     * Read one saved resume token.
+     *
+     * @param id
+     *      token identifier
+     * @return
+     *      token or null
+     */
+    private Document readResumeToken(String id) {
+        Document saved = resumeTokenCollection.find(new Document(DOCUMENT_ID, id)).first();
+        return (saved == null) ? null : (Document) saved.get(TOKEN);
+    }
+
+    /**
+     * Keep last token, and save it when a collection is defined and the batch is full or the interval elapsed.
+     *
+     * @param features
+     *      token of features or properties stream
+     * @param token
+     *      token of last applied event, null if stream must be opened again from now
+     */
+    private void setResumeToken(boolean features, Document token) {
+        if (features) {
+            featuresResumeToken = token;
+        } else {
+            propertiesResumeToken = token;
+        }
+        if (resumeTokenCollection == null) {
+            return;
+        }
+        if (token == null) {
+            // Saved token must not be used anymore, removed at once
+            resumeTokenCollection.deleteOne(new Document(DOCUMENT_ID, features ? TOKEN_FEATURES : TOKEN_PROPERTIES));
+            setUnsavedEvents(features, 0);
+            return;
+        }
+        int  unsaved = features ? ++featuresUnsavedEvents : ++propertiesUnsavedEvents;
+        long savedAt = features ? featuresTokenSavedAt : propertiesTokenSavedAt;
+        if (unsaved >= tokenSaveBatchSize || System.currentTimeMillis() - savedAt >= tokenSaveInterval) {
+            flushResumeToken(features);
+        }
+    }
+
+    /**
+     * Save last token if events have been applied since last save.
+     *
+     * @param features
+     *      token of features or properties stream
+     */
+    void flushResumeToken(boolean features) {
+        Document token = features ? featuresResumeToken : propertiesResumeToken;
+        int unsaved    = features ? featuresUnsavedEvents : propertiesUnsavedEvents;
+        if (resumeTokenCollection == null || token == null || unsaved == 0) {
+            return;
+        }
+        resumeTokenCollection.updateOne(new Document(DOCUMENT_ID, features ? TOKEN_FEATURES : TOKEN_PROPERTIES),
+                new Document("$set", new Document(TOKEN, token)), new UpdateOptions().upsert(true));
+        setUnsavedEvents(features, 0);
+    }
+
+    /**
+     * Reset counter of unsaved events.
+     *
+     * @param features
+     *      token of features or properties stream
+     * @param count
+     *      events applied since last save
+     */
+    private void setUnsavedEvents(boolean features, int count) {
+        if (features) {
+            featuresUnsavedEvents = count;
+            featuresTokenSavedAt  = System.currentTimeMillis();
+        } else {
+            propertiesUnsavedEvents = count;
+            propertiesTokenSavedAt  = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Listen to one collection.
+     */
+    private class CollectionWatch implements Runnable {
+
+        /** Features or properties. */
+        private final boolean features;
+
+        /**
+         * Constructor.
+         *
+         * @param features
+         *      listen features collection
+         */
+        private CollectionWatch(boolean features) {
+            this.features = features;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            while (running) {
+                MongoCursor<Document> cursor = null;
+                try {
+                    Document token = features ? featuresResumeToken : propertiesResumeToken;
+                    cursor = open(token);
+                    if (token == null) {
+                        // Changes done before the stream is opened are unknown
+                        reload(features);
+                    }
+                    while (running) {
+                        Document event = cursor.tryNext();
+                        if (event == null) {
+                            if (cursor.getServerCursor() == null) {
+                                break;
+                            }
+                            // Stream is idle, save pending token and wait instead of sending getMore at once
+                            flushResumeToken(features);
+                            if (!pause(awaitDelay)) {
+                                return;
+                            }
+                            continue;
+                        }
+                        if (!apply(features, event)) {
+                            break;
+                        }
+                    }
+                } catch (MongoCommandException mce) {
+                    if (UNSUPPORTED_CODES.contains(mce.getErrorCode())) {
+                        fallbackToPolling();
+                        return;
+                    }
+                    if (HISTORY_LOST_CODES.contains(mce.getErrorCode())) {
+                        setResumeToken(features, null);
+                    } else if (!pause(retryDelay)) {
+                        return;
+                    }
+                } catch (MongoException me) {
+                    if (!pause(retryDelay)) {
+                        return;
+                    }
+                } finally {
+                    close(cursor);
+                }
+            }
+        }
+
+        /**
+         * Open change stream.
+         *
+         * @param token
+         *      last applied event (could be null)
+         * @return
+         *      cursor on events
+         */
+        private MongoCursor<Document> open(Document token) {
+            Document stage = new Document(EVENT_FULLDOCUMENT, "updateLookup");
+            if (token != null) {
+                stage.append("resumeAfter", token);
+            }
+            MongoCollection<Document> collection = features ? featuresCollection : propertiesCollection;
+            return collection.aggregate(Collections.singletonList(new Document(STAGE_CHANGESTREAM, stage))).iterator();
+        }
+
+        /**
+         * Wait before reading or opening the stream again.
+         *
+         * @param delay
+         *      waiting time in milliseconds
+         * @return
+         *      false if interrupted
+         */
+        private boolean pause(long delay) {
+            try {
+                Thread.sleep(delay);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /**
+         * Close cursor silently, saving pending token.
+         *
+         * @param cursor
+         *      current cursor
+         */
+        private void close(MongoCursor<Document> cursor) {
+            try {
+                flushResumeToken(features);
+            } catch (MongoException me) {
+                // Token is saved again with next event
+            }
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                } catch (MongoException me) {
+                    // Connection could already be lost
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if change streams are listened.
+     *
+     * @return
+     *      if change streams are listened
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Check if watcher fell back to polling.
+     *
+     * @return
+     *      if stores are polled
+     */
+    public boolean isPolling() {
+        return polling;
+    }
+
+    /**
+     * Getter accessor for attribute 'featuresResumeToken'.
+     *
+     * @return
+     *       current value of 'featuresResumeToken'
+     */
+    public Document getFeaturesResumeToken() {
+        return featuresResumeToken;
+    }
+
+    /**
+     * Setter accessor for attribute 'featuresResumeToken', to be set before start.
+     * @param featuresResumeToken
+     * 		new value for 'featuresResumeToken '
+     */
+    public void setFeaturesResumeToken(Document featuresResumeToken) {
+        this.featuresResumeToken = featuresResumeToken;
+    }
+
+    /**
+     * Getter accessor for attribute 'propertiesResumeToken'.
+     *
+     * @return
+     *       current value of 'propertiesResumeToken'
+     */
+    public Document getPropertiesResumeToken() {
+        return propertiesResumeToken;
+    }
+
+    /**
+     * Setter accessor for attribute 'propertiesResumeToken', to be set before start.
+     * @param propertiesResumeToken
+     * 		new value for 'propertiesResumeToken '
+     */
+    public void setPropertiesResumeToken(Document propertiesResumeToken) {
+        this.propertiesResumeToken = propertiesResumeToken;
+    }
+
+    /**
+     * Getter accessor for attribute 'resumeTokenCollection'.
+     *
+     * @return
+     *       current value of 'resumeTokenCollection'
+     */
+    public MongoCollection<Document> getResumeTokenCollection() {
+        return resumeTokenCollection;
+    }
+
+    /**
+     * Setter accessor for attribute 'resumeTokenCollection', to be set before start.
+     * @param resumeTokenCollection
+     * 		new value for 'resumeTokenCollection '
+     */
+    public void setResumeTokenCollection(MongoCollection<Document> resumeTokenCollection) {
+        this.resumeTokenCollection = resumeTokenCollection;
+    }
+
+    /**
+     * Getter accessor for attribute 'retryDelay'.
+     *
+     * @return
+     *       current value of 'retryDelay'
+     */
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Setter accessor for attribute 'retryDelay'.
+     * @param retryDelay
+     * 		new value for 'retryDelay '
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Getter accessor for attribute 'pollingDelay'.
+     *
+     * @return
+     *       current value of 'pollingDelay'
+     */
+    public long getPollingDelay() {
+        return pollingDelay;
+    }
+
+    /**
+     * Setter accessor for attribute 'pollingDelay'.
+     * @param pollingDelay
+     * 		new value for 'pollingDelay '
+     */
+    public void setPollingDelay(long pollingDelay) {
+        this.pollingDelay = pollingDelay;
+    }
+
+    /**
+     * Getter accessor for attribute 'awaitDelay'.
+     *
+     * @return
+     *       current value of 'awaitDelay'
+     */
+    public long getAwaitDelay() {
+        return awaitDelay;
+    }
+
+    /**
+     * Setter accessor for attribute 'awaitDelay'.
+     * @param awaitDelay
+     * 		new value for 'awaitDelay '
+     */
+    public void setAwaitDelay(long awaitDelay) {
+        this.awaitDelay = awaitDelay;
+    }
+
+    /**
+     * Getter accessor for attribute 'tokenSaveBatchSize'.
+     *
+     * @return
+     *       current value of 'tokenSaveBatchSize'
+     */
+    public int getTokenSaveBatchSize() {
+        return tokenSaveBatchSize;
+    }
+
+    /**
+     * Setter accessor for attribute 'tokenSaveBatchSize'.
+     * @param tokenSaveBatchSize
+     * 		new value for 'tokenSaveBatchSize '
+     */
+    public void setTokenSaveBatchSize(int tokenSaveBatchSize) {
+        this.tokenSaveBatchSize = tokenSaveBatchSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'tokenSaveInterval'.
+     *
+     * @return
+     *       current value of 'tokenSaveInterval'
+     */
+    public long getTokenSaveInterval() {
+        return tokenSaveInterval;
+    }
+
+    /**
+     * Setter accessor for attribute 'tokenSaveInterval'.
+     * @param tokenSaveInterval
+     * 		new value for 'tokenSaveInterval '
+     */
+    public void setTokenSaveInterval(long tokenSaveInterval) {
+        this.tokenSaveInterval = tokenSaveInterval;
+    }
+
+}
@@ -23,6 +23,7 @@ import static org.ff4j.mongo.MongoDbConstants.*;
  */
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Set;
 
 import org.bson.Document;
@@ -51,6 +52,18 @@ public final class FeatureDocumentBuilder {
         return new Document(FEATURE_UUID, value);
     }
 
+    /**
+     * Mongo internal object to match a list of identifiers.
+     *
+     * @param values
+     *      target identifiers
+     * @return
+     *      internal mongo object
+     */
+    public Document getFeatUids(Collection<String> values) {
+        return new Document(FEATURE_UUID, new Document("$in", new ArrayList<String>(values)));
+    }
+
     /**
      * Chain add to build object.
      *
@@ -26,6 +26,8 @@ import static org.ff4j.mongo.MongoDbConstants.PROPERTY_VALUE;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Set;
 
 import org.bson.Document;
@@ -56,6 +58,18 @@ public final class PropertyDocumentBuilder {
         return new Document(PROPERTY_NAME, value);
     }
 
+    /**
+     * Mongo internal object to match a list of names.
+     *
+     * @param values
+     *      target names
+     * @return
+     *      internal mong object
+     */
+    public Document getNames(Collection<String> values) {
+        return new Document(PROPERTY_NAME, new Document("$in", new ArrayList<String>(values)));
+    }
+
     /**
      * Chain add to build object.
      * 
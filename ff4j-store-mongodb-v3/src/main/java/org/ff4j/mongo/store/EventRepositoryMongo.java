@@ -1,5 +1,28 @@
 package org.ff4j.mongo.store;
 
+import static org.ff4j.audit.EventConstants.ACTION_CHECK_OK;
+import static org.ff4j.audit.EventConstants.ACTION_CLEAR;
+import static org.ff4j.audit.EventConstants.ACTION_CONNECT;
+import static org.ff4j.audit.EventConstants.ACTION_CREATE;
+import static org.ff4j.audit.EventConstants.ACTION_DELETE;
+import static org.ff4j.audit.EventConstants.ACTION_DISCONNECT;
+import static org.ff4j.audit.EventConstants.ACTION_TOGGLE_OFF;
+import static org.ff4j.audit.EventConstants.ACTION_TOGGLE_ON;
+import static org.ff4j.audit.EventConstants.ACTION_UPDATE;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_ACTION;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_HOST;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_ID;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_NAME;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_SOURCE;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_TIME;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_TYPE;
+import static org.ff4j.audit.EventConstants.ATTRIBUTE_USER;
+import static org.ff4j.audit.EventConstants.TARGET_FEATURE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 
@@ -23,10 +46,13 @@ import java.util.HashSet;
  * #L%
  */
 
+import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.ff4j.audit.Event;
 import org.ff4j.audit.EventQueryDefinition;
 import org.ff4j.audit.EventSeries;
@@ -35,10 +61,14 @@ import org.ff4j.audit.chart.TimeSeriesChart;
 import org.ff4j.audit.repository.AbstractEventRepository;
 import org.ff4j.mongo.MongoDbConstants;
 import org.ff4j.mongo.mapper.MongoEventMapper;
+import org.ff4j.utils.Util;
 
 import com.mongodb.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
 
 /**
  * Implementation of EventRepository for Mongo.
@@ -50,6 +80,15 @@ public class EventRepositoryMongo extends AbstractEventRepository {
     /** Event Mapping. */
     private static final MongoEventMapper EMAPPER = new MongoEventMapper();
     
+    /** Identifier of aggregation results. */
+    private static final String MONGO_ID = "_id";
+    
+    /** Count computed in aggregations. */
+    private static final String HITS = "hits";
+    
+    /** Start of time slot computed in aggregations. */
+    private static final String SLOT = "slot";
+    
     /** MongoDB collection. */
     private MongoCollection<Document> eventsCollection;
     
@@ -59,6 +98,11 @@ public class EventRepositoryMongo extends AbstractEventRepository {
     /** Database name. */
     private String dbName = MongoDbConstants.DEFAULT_DBNAME;
     
+    /** Actions of the audit trail when the query does not filter on actions. */
+    private static final List<String> AUDIT_TRAIL_ACTIONS = Arrays.asList(
+            ACTION_CONNECT, ACTION_DISCONNECT, ACTION_TOGGLE_ON, ACTION_TOGGLE_OFF,
+            ACTION_CREATE, ACTION_DELETE, ACTION_UPDATE, ACTION_CLEAR);
+    
     /** Current mongo client. */
     private MongoClient mongoClient;
     
@@ -157,59 +201,198 @@ public class EventRepositoryMongo extends AbstractEventRepository {
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getFeatureUsageHitCount(EventQueryDefinition query) {
-        return new HashMap<String, MutableHitCount>();
+        return computeHitCount(query, ATTRIBUTE_NAME);
     }
 
     /** {@inheritDoc} */
     @Override
     public TimeSeriesChart getFeatureUsageHistory(EventQueryDefinition query, TimeUnit tu) {
-        return new TimeSeriesChart();
+        TimeSeriesChart tsc = new TimeSeriesChart(query.getFrom(), query.getTo(), tu);
+        // Events are bucketed by the server, truncating timestamps to the slot (local time) : one document per feature and slot
+        long width  = getSlotWidth(tu);
+        long offset = TimeZone.getDefault().getOffset(query.getFrom());
+        Document slotStart = new Document("$subtract", Arrays.asList("$" + ATTRIBUTE_TIME, 
+                new Document("$mod", Arrays.asList(new Document("$add", Arrays.asList("$" + ATTRIBUTE_TIME, offset)), width))));
+        Document groupKey = new Document(ATTRIBUTE_NAME, "$" + ATTRIBUTE_NAME).append(SLOT, slotStart);
+        List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(featureUsageFilter(query)),
+                Aggregates.group(groupKey, Accumulators.sum(HITS, 1)));
+        for (Document bucket : getEventCollection().aggregate(pipeline)) {
+            Document key    = (Document) bucket.get(MONGO_ID);
+            String featureName = key.getString(ATTRIBUTE_NAME);
+            if (!tsc.getSeries().containsKey(featureName)) {
+                tsc.createNewSerie(featureName);
+            }
+            String slotLabel = tsc.getSdf().format(new Date(((Number) key.get(SLOT)).longValue()));
+            MutableHitCount mhc = tsc.getSeries().get(featureName).getValue().get(slotLabel);
+            if (mhc != null) {
+                mhc.incBy(((Number) bucket.get(HITS)).intValue());
+            }
+        }
+        return tsc;
     }
 
     /** {@inheritDoc} */
     @Override
     public EventSeries searchFeatureUsageEvents(EventQueryDefinition query) {        
-        return new EventSeries();
+        return searchEvents(eventFilter(query, Arrays.asList(ACTION_CHECK_OK)));
     }
 
     /** {@inheritDoc} */
     @Override
     public void purgeFeatureUsage(EventQueryDefinition query) {
+        Util.assertNotNull(query);
+        // Enforce remove "checks" only, whatever the action filters
+        getEventCollection().deleteMany(Filters.and(
+                eventFilter(query, Arrays.asList(ACTION_CHECK_OK)), 
+                Filters.eq(ATTRIBUTE_ACTION, ACTION_CHECK_OK)));
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getHostHitCount(EventQueryDefinition query) {
-        return new HashMap<String, MutableHitCount>();
+        return computeHitCount(query, ATTRIBUTE_HOST);
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getUserHitCount(EventQueryDefinition query) {
-        return new HashMap<String, MutableHitCount>();
+        return computeHitCount(query, ATTRIBUTE_USER);
     }
 
     /** {@inheritDoc} */
     @Override
     public Map<String, MutableHitCount> getSourceHitCount(EventQueryDefinition query) {
-        return new HashMap<String, MutableHitCount>();
+        return computeHitCount(query, ATTRIBUTE_SOURCE);
+    }
+    
+    /**
+     * Count feature usage (checkOn) per value of an attribute with a single aggregation ($match + $group).
+     *
+     * @param query
+     *      query with time window
+     * @param attribute
+     *      attribute used as key
+     * @return
+     *      hit count per value
+     */
+    private Map<String, MutableHitCount> computeHitCount(EventQueryDefinition query, String attribute) {
+        Map<String, MutableHitCount> hitCount = new HashMap<String, MutableHitCount>();
+        List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(featureUsageFilter(query)),
+                Aggregates.group("$" + attribute, Accumulators.sum(HITS, 1)));
+        for (Document result : getEventCollection().aggregate(pipeline)) {
+            Object key = result.get(MONGO_ID);
+            if (key != null) {
+                hitCount.put(key.toString(), new MutableHitCount(((Number) result.get(HITS)).intValue()));
+            }
+        }
+        return hitCount;
+    }
+    
+    /**
+     * Filter on feature usage events within the time window of the query.
+     *
+     * @param query
+     *      current query
+     * @return
+     *      filter
+     */
+    private Bson featureUsageFilter(EventQueryDefinition query) {
+        return Filters.and(
+                Filters.eq(ATTRIBUTE_TYPE,   TARGET_FEATURE),
+                Filters.eq(ATTRIBUTE_ACTION, ACTION_CHECK_OK),
+                Filters.gt(ATTRIBUTE_TIME,   query.getFrom()),
+                Filters.lt(ATTRIBUTE_TIME,   query.getTo()));
+    }
+    
+    /**
+     * Filter on events within the time window of the query, restricted to the action, host, name and source filters.
+     *
+     * @param query
+     *      current query
+     * @param defaultActions
+     *      actions to filter on when the query does not define any
+     * @return
+     *      filter
+     */
+    private Bson eventFilter(EventQueryDefinition query, Collection<String> defaultActions) {
+        List<Bson> filters = new ArrayList<Bson>();
+        filters.add(Filters.gt(ATTRIBUTE_TIME, query.getFrom()));
+        filters.add(Filters.lt(ATTRIBUTE_TIME, query.getTo()));
+        if (query.getActionFilters().isEmpty()) {
+            filters.add(Filters.in(ATTRIBUTE_ACTION, defaultActions));
+        } else {
+            filters.add(Filters.in(ATTRIBUTE_ACTION, query.getActionFilters()));
+        }
+        if (!query.getHostFilters().isEmpty()) {
+            filters.add(Filters.in(ATTRIBUTE_HOST, query.getHostFilters()));
+        }
+        if (!query.getNamesFilter().isEmpty()) {
+            filters.add(Filters.in(ATTRIBUTE_NAME, query.getNamesFilter()));
+        }
+        if (!query.getSourceFilters().isEmpty()) {
+            filters.add(Filters.in(ATTRIBUTE_SOURCE, query.getSourceFilters()));
+        }
+        return Filters.and(filters);
+    }
+    
+    /**
+     * Read events matching a filter.
+     *
+     * @param filter
+     *      current filter
+     * @return
+     *      matching events
+     */
+    private EventSeries searchEvents(Bson filter) {
+        EventSeries es = new EventSeries();
+        for (Document document : getEventCollection().find(filter)) {
+            es.add(EMAPPER.fromStore(document));
+        }
+        return es;
+    }
+    
+    /**
+     * Width of a slot in milliseconds, same as {@link TimeSeriesChart#initSlots(long, long, TimeUnit)}.
+     *
+     * @param units
+     *      units of the chart
+     * @return
+     *      width of slot
+     */
+    private static long getSlotWidth(TimeUnit units) {
+        switch (units) {
+            case MINUTES:
+                return 1000 * 60;
+            case HOURS:
+                return 1000 * 60 * 60;
+            case DAYS:
+                return 1000 * 60 * 60 * 24;
+            default:
+                return 1000;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public EventSeries getAuditTrail(EventQueryDefinition query) {
-        return new EventSeries();
+        return searchEvents(eventFilter(query, AUDIT_TRAIL_ACTIONS));
     }
 
     /** {@inheritDoc} */
     @Override
     public void purgeAuditTrail(EventQueryDefinition query) {
+        Util.assertNotNull(query);
+        getEventCollection().deleteMany(eventFilter(query, AUDIT_TRAIL_ACTIONS));
     }
 
     /** {@inheritDoc} */
     @Override
     public Event getEventByUUID(String uuid, Long timestamp) {
-        return null;
+        Util.assertHasLength(uuid);
+        Document document = getEventCollection().find(Filters.eq(ATTRIBUTE_ID, uuid)).first();
+        return (document == null) ? null : EMAPPER.fromStore(document);
     }
     
 }
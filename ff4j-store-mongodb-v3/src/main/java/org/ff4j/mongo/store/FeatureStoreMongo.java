@@ -2,8 +2,13 @@ package org.ff4j.mongo.store;
 
 import static org.ff4j.mongo.MongoDbConstants.MONGO_SET;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -34,6 +39,10 @@ import com.mongodb.MongoClient;
 
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 
 /**
  * Implementation of {@link FeatureStore} to work with MongoDB.
@@ -190,7 +199,7 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
     @Override
     public boolean exist(String featId) {
         Util.assertHasLength(featId);
-        return 1 == getFeaturesCollection().count(BUILDER.getFeatUid(featId));
+        return exists(BUILDER.getFeatUid(featId));
     }
 
     /** {@inheritDoc} */
@@ -206,6 +215,20 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
         return FMAPPER.fromStore(object);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        Map<String, Feature> found = new HashMap<String, Feature>();
+        if (!featureUids.isEmpty()) {
+            for (Document document : getFeaturesCollection().find(BUILDER.getFeatUids(new LinkedHashSet<String>(featureUids)))) {
+                Feature feature = FMAPPER.fromStore(document);
+                found.put(feature.getUid(), feature);
+            }
+        }
+        return Util.keepRequestedOrder(featureUids, found);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void create(Feature fp) {
@@ -287,16 +310,29 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
         if (groupName == null || groupName.isEmpty()) {
             throw new IllegalArgumentException(GROUPNAME_CANNOT_BE_NULL_NOR_EMPTY);
         }
-        return getFeaturesCollection().count(BUILDER.getGroupName(groupName)) > 0;
+        return exists(BUILDER.getGroupName(groupName));
+    }
+    
+    /**
+     * Test if at least one document matches, only the first identifier is fetched (no count).
+     *
+     * @param filter
+     *      target filter
+     * @return
+     *      if a document matches
+     */
+    private boolean exists(Document filter) {
+        return getFeaturesCollection().find(filter)
+                .projection(new Document(MongoDbConstants.FEATURE_UUID, 1))
+                .limit(1).first() != null;
     }
 
     /** {@inheritDoc} */
     @Override
     public Set<String> readAllGroups() {
-        Set<String> setOfGroups = new HashSet<String>();
-        for (Document document : getFeaturesCollection().find()) {
-            setOfGroups.add(document.getString(MongoDbConstants.FEATURE_GROUPNAME));
-        }
+        Set<String> setOfGroups = getFeaturesCollection()
+                .distinct(MongoDbConstants.FEATURE_GROUPNAME, String.class)
+                .into(new HashSet<String>());
         setOfGroups.remove(null);
         setOfGroups.remove("");
         return setOfGroups;
@@ -328,10 +364,8 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
         if (!existGroup(groupName)) {
             throw new GroupNotFoundException(groupName);
         }
-        for (Document document : getFeaturesCollection().find(BUILDER.getGroupName(groupName))) {
-            Object enabled = BUILDER.getEnable(true);
-            getFeaturesCollection().updateOne(document, new Document(MONGO_SET, enabled));
-        }
+        Object enabled = BUILDER.getEnable(true);
+        getFeaturesCollection().updateMany(BUILDER.getGroupName(groupName), new Document(MONGO_SET, enabled));
     }
 
     /** {@inheritDoc} */
@@ -343,10 +377,8 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
         if (!existGroup(groupName)) {
             throw new GroupNotFoundException(groupName);
         }
-        for (Document document: getFeaturesCollection().find(BUILDER.getGroupName(groupName))) {
-            Object enabled = BUILDER.getEnable(false);
-            getFeaturesCollection().updateOne(document, new Document(MONGO_SET, enabled));
-        }
+        Object enabled = BUILDER.getEnable(false);
+        getFeaturesCollection().updateMany(BUILDER.getGroupName(groupName), new Document(MONGO_SET, enabled));
     }
 
     /** {@inheritDoc} */
@@ -391,6 +423,22 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
     public void clear() {
         getFeaturesCollection().deleteMany(new Document());
     }
+    
+    /**
+     * Replace a batch of features with a single unordered bulkWrite (replace with upsert).
+     *
+     * @param features
+     *      features of the batch
+     */
+    @Override
+    protected void importFeaturesBatch(List<Feature> features) {
+        List<WriteModel<Document>> requests = new ArrayList<WriteModel<Document>>(features.size());
+        for (Feature fp : features) {
+            requests.add(new ReplaceOneModel<Document>(BUILDER.getFeatUid(fp.getUid()), 
+                    FMAPPER.toStore(fp), new UpdateOptions().upsert(true)));
+        }
+        getFeaturesCollection().bulkWrite(requests, new BulkWriteOptions().ordered(false));
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -402,6 +450,8 @@ public class FeatureStoreMongo extends AbstractFeatureStore {
             mongoClient.getDatabase(dbName).createCollection(collectionName);
         }
         featuresCollection = mongoClient.getDatabase(dbName).getCollection(collectionName);
+        // Group operations (readGroup, enableGroup, existGroup) filter on group name
+        featuresCollection.createIndex(new Document(MongoDbConstants.FEATURE_GROUPNAME, 1));
     }
     
     /**
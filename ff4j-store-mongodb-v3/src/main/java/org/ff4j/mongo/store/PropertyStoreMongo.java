@@ -2,6 +2,9 @@ package org.ff4j.mongo.store;
 
 import static org.ff4j.mongo.MongoDbConstants.MONGO_SET;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 
 /*
@@ -25,6 +28,8 @@ import java.util.HashSet;
  */
 
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +45,10 @@ import org.ff4j.utils.Util;
 import com.mongodb.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 
 /**
  * PropertyStore based on MongoDB database.
@@ -177,6 +186,20 @@ public class PropertyStoreMongo extends AbstractPropertyStore {
         return PMAPPER.fromStore(object);
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        Map<String, Property<?>> found = new HashMap<String, Property<?>>();
+        if (!names.isEmpty()) {
+            for (Document document : getPropertiesCollection().find(BUILDER.getNames(new LinkedHashSet<String>(names)))) {
+                Property<?> prop = PMAPPER.fromStore(document);
+                found.put(prop.getName(), prop);
+            }
+        }
+        return Util.keepRequestedOrder(names, found);
+    }
+    
     /** {@inheritDoc} */
     public void deleteProperty(String name) {
         assertPropertyExist(name);
@@ -187,6 +210,22 @@ public class PropertyStoreMongo extends AbstractPropertyStore {
     public void clear() {
         getPropertiesCollection().deleteMany(new Document());
     }
+    
+    /**
+     * Replace a batch of properties with a single unordered bulkWrite (replace with upsert).
+     *
+     * @param properties
+     *      properties of the batch
+     */
+    @Override
+    protected void importPropertiesBatch(List<Property<?>> properties) {
+        List<WriteModel<Document>> requests = new ArrayList<WriteModel<Document>>(properties.size());
+        for (Property<?> prop : properties) {
+            requests.add(new ReplaceOneModel<Document>(BUILDER.getName(prop.getName()), 
+                    PMAPPER.toStore(prop), new UpdateOptions().upsert(true)));
+        }
+        getPropertiesCollection().bulkWrite(requests, new BulkWriteOptions().ordered(false));
+    }
 
     /** {@inheritDoc} */
     public void updateProperty(String name, String newValue) {
@@ -0,0 +1,215 @@
+package org.ff4j.mongo.cache;
+
+/*
+ * #%L
+ * ff4j-store-mongodb-v3
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.bson.Document;
+import org.ff4j.cache.InMemoryCacheManager;
+import org.ff4j.core.Feature;
+import org.ff4j.mongo.store.FeatureStoreMongo;
+import org.ff4j.mongo.store.PropertyStoreMongo;
+import org.ff4j.property.PropertyString;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.github.fakemongo.junit.FongoRule;
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Change events applied by {@link MongoChangeStreamWatcher} (change streams are not available with Fongo, events
+ * are built from the documents written by the stores).
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public class MongoChangeStreamWatcherTest {
+
+    /** DataBase. */
+    @Rule
+    public FongoRule fongoRule = new FongoRule(false);
+
+    /** Features. */
+    private MongoCollection<Document> features;
+
+    /** Properties. */
+    private MongoCollection<Document> properties;
+
+    /** Watched store. */
+    private FeatureStoreMongo featureStore;
+
+    /** Watched store. */
+    private PropertyStoreMongo propertyStore;
+
+    /** Local cache. */
+    private InMemoryCacheManager cache;
+
+    /** Tested watcher. */
+    private MongoChangeStreamWatcher watcher;
+
+    @Before
+    public void setUp() {
+        features      = fongoRule.getDatabase().getCollection("ff4j_features");
+        properties    = fongoRule.getDatabase().getCollection("ff4j_properties");
+        featureStore  = new FeatureStoreMongo(features);
+        propertyStore = new PropertyStoreMongo(properties);
+        cache         = new InMemoryCacheManager();
+        watcher       = new MongoChangeStreamWatcher(featureStore, propertyStore, cache);
+    }
+
+    @Test
+    public void testFeatureInsertUpdateDelete() {
+        featureStore.create(new Feature("f1", true));
+        Assert.assertTrue(watcher.apply(true, event("1", "insert", feature("f1"), featureKey("f1"))));
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+
+        featureStore.disable("f1");
+        Assert.assertTrue(watcher.apply(true, event("2", "update", feature("f1"), featureKey("f1"))));
+        Assert.assertFalse(cache.getFeature("f1").isEnable());
+
+        featureStore.delete("f1");
+        Assert.assertTrue(watcher.apply(true, event("3", "delete", null, featureKey("f1"))));
+        Assert.assertNull(cache.getFeature("f1"));
+        Assert.assertEquals(token("3"), watcher.getFeaturesResumeToken());
+    }
+
+    @Test
+    public void testPropertyDeleteEvictsOnlyThisProperty() {
+        propertyStore.createProperty(new PropertyString("p1", "v1"));
+        propertyStore.createProperty(new PropertyString("p2", "v2"));
+        watcher.reload(false);
+        Object p1Id = property("p1").get("_id");
+
+        propertyStore.updateProperty("p2", "v3");
+        Assert.assertTrue(watcher.apply(false, event("1", "update", property("p2"), new Document("_id", property("p2").get("_id")))));
+        Assert.assertEquals("v3", cache.getProperty("p2").asString());
+
+        propertyStore.deleteProperty("p1");
+        Assert.assertTrue(watcher.apply(false, event("2", "delete", null, new Document("_id", p1Id))));
+        Assert.assertNull(cache.getProperty("p1"));
+        Assert.assertNotNull(cache.getProperty("p2"));
+    }
+
+    @Test
+    public void testInvalidateClearsCache() {
+        cache.putFeature(new Feature("f1", true));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertFalse(watcher.apply(true, event("1", "invalidate", null, null)));
+        Assert.assertFalse(watcher.apply(false, event("2", "invalidate", null, null)));
+        Assert.assertNull(cache.getFeature("f1"));
+        Assert.assertNull(cache.getProperty("p1"));
+        Assert.assertNull(watcher.getFeaturesResumeToken());
+        Assert.assertNull(watcher.getPropertiesResumeToken());
+    }
+
+    @Test
+    public void testReloadReplacesCache() {
+        featureStore.create(new Feature("f1", true));
+        featureStore.create(new Feature("f2", false));
+        cache.putFeature(new Feature("deleted", true));
+        watcher.reload(true);
+        Assert.assertTrue(cache.getFeature("f1").isEnable());
+        Assert.assertFalse(cache.getFeature("f2").isEnable());
+        Assert.assertNull(cache.getFeature("deleted"));
+    }
+
+    @Test
+    public void testResumeTokensSaved() {
+        MongoCollection<Document> tokens = fongoRule.getDatabase().getCollection("ff4j_tokens");
+        watcher.setResumeTokenCollection(tokens);
+        featureStore.create(new Feature("f1", true));
+        propertyStore.createProperty(new PropertyString("p1", "v1"));
+        watcher.apply(true, event("1", "insert", feature("f1"), featureKey("f1")));
+        watcher.apply(false, event("2", "insert", property("p1"), new Document("_id", property("p1").get("_id"))));
+
+        // Restarted node resumes from saved tokens and knows property names
+        InMemoryCacheManager cache2 = new InMemoryCacheManager();
+        cache2.putProperty(new PropertyString("p1", "v1"));
+        MongoChangeStreamWatcher watcher2 = new MongoChangeStreamWatcher(featureStore, propertyStore, cache2);
+        watcher2.setResumeTokenCollection(tokens);
+        watcher2.loadResumeTokens();
+        Assert.assertEquals(token("1"), watcher2.getFeaturesResumeToken());
+        Assert.assertEquals(token("2"), watcher2.getPropertiesResumeToken());
+        Object p1Id = property("p1").get("_id");
+        propertyStore.deleteProperty("p1");
+        watcher2.apply(false, event("3", "delete", null, new Document("_id", p1Id)));
+        Assert.assertNull(cache2.getProperty("p1"));
+
+        // Invalidated stream is opened again from now
+        watcher2.apply(true, event("4", "invalidate", null, null));
+        Assert.assertNull(tokens.find(new Document("_id", "features")).first());
+    }
+
+    @Test
+    public void testResumeTokensSavedByBatch() {
+        MongoCollection<Document> tokens = fongoRule.getDatabase().getCollection("ff4j_tokens");
+        watcher.setResumeTokenCollection(tokens);
+        watcher.setTokenSaveBatchSize(2);
+        watcher.setTokenSaveInterval(3600000);
+        featureStore.create(new Feature("f1", true));
+        watcher.apply(true, event("1", "insert", feature("f1"), featureKey("f1")));
+        Assert.assertEquals(token("1"), savedToken(tokens));
+
+        // Not saved until the batch is full
+        watcher.apply(true, event("2", "update", feature("f1"), featureKey("f1")));
+        Assert.assertEquals(token("2"), watcher.getFeaturesResumeToken());
+        Assert.assertEquals(token("1"), savedToken(tokens));
+        watcher.apply(true, event("3", "update", feature("f1"), featureKey("f1")));
+        Assert.assertEquals(token("3"), savedToken(tokens));
+
+        // Pending token is saved when the stream is idle or closed
+        watcher.apply(true, event("4", "update", feature("f1"), featureKey("f1")));
+        Assert.assertEquals(token("3"), savedToken(tokens));
+        watcher.flushResumeToken(true);
+        Assert.assertEquals(token("4"), savedToken(tokens));
+    }
+
+    private static Document savedToken(MongoCollection<Document> tokens) {
+        return (Document) tokens.find(new Document("_id", "features")).first().get("token");
+    }
+
+    private Document feature(String uid) {
+        return features.find(new Document("_id", uid)).first();
+    }
+
+    private Document property(String name) {
+        return properties.find(new Document("name", name)).first();
+    }
+
+    private static Document featureKey(String uid) {
+        return new Document("_id", uid);
+    }
+
+    private static Document token(String id) {
+        return new Document("_data", id);
+    }
+
+    private static Document event(String id, String operation, Document fullDocument, Document documentKey) {
+        Document event = new Document("_id", token(id)).append("operationType", operation);
+        if (fullDocument != null) {
+            event.append("fullDocument", fullDocument);
+        }
+        if (documentKey != null) {
+            event.append("documentKey", documentKey);
+        }
+        return event;
+    }
+
+}
@@ -0,0 +1,59 @@
+package org.ff4j.test.store;
+
+/*
+ * #%L
+ * ff4j-store-mongodb-v3
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.ff4j.audit.repository.EventRepository;
+import org.ff4j.mongo.store.EventRepositoryMongo;
+import org.ff4j.test.audit.EventRepositoryTestSupport;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.github.fakemongo.junit.FongoRule;
+
+/**
+ * Unit testing of MongoDB Event Repository.
+ *
+ * @author <a href="mailto:cedrick.lunven@gmail.com">Cedrick LUNVEN</a>
+ */
+public class EventRepositoryMongoTest extends EventRepositoryTestSupport {
+
+    /**
+     * DataBase.
+     */
+    @Rule
+    public FongoRule fongoRule = new FongoRule(false);
+
+    /** {@inheritDoc} */
+    @Override
+    protected EventRepository initRepository() {
+        return new EventRepositoryMongo(fongoRule.getDatabase().getCollection("ff4j_events"));
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    @Test
+    @Ignore("Fongo does not support $subtract/$mod expressions used to bucket time slots in $group")
+    public void testGetFeatureUsageHistory() throws InterruptedException {
+        super.testGetFeatureUsageHistory();
+    }
+
+}
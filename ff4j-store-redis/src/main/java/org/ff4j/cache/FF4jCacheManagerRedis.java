@@ -1,22 +1,39 @@
 package org.ff4j.cache;
 
 import org.ff4j.core.Feature;
+import org.ff4j.mapper.BinaryCodec;
+import org.ff4j.mapper.BinaryFeatureMapper;
+import org.ff4j.mapper.BinaryPropertyMapper;
+import org.ff4j.mapper.FeatureMapper;
+import org.ff4j.mapper.PropertyMapper;
 import org.ff4j.property.Property;
 import org.ff4j.redis.RedisConnection;
 import org.ff4j.utils.Util;
 import org.ff4j.utils.json.FeatureJsonParser;
 import org.ff4j.utils.json.PropertyJsonParser;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.exceptions.JedisDataException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.ff4j.redis.RedisContants.DEFAULT_TTL;
-import static org.ff4j.redis.RedisContants.KEY_FEATURE;
-import static org.ff4j.redis.RedisContants.KEY_PROPERTY;
+import static org.ff4j.redis.RedisContants.GENERATION_SEPARATOR;
+import static org.ff4j.redis.RedisContants.KEY_CACHE_FEATURE;
+import static org.ff4j.redis.RedisContants.KEY_CACHE_GENERATION_FEATURES;
+import static org.ff4j.redis.RedisContants.KEY_CACHE_GENERATION_PROPERTIES;
+import static org.ff4j.redis.RedisContants.KEY_CACHE_PROPERTY;
 
 /*
  * #%L
@@ -41,9 +58,17 @@ import static org.ff4j.redis.RedisContants.KEY_PROPERTY;
 /**
  * Implementation of ditributed cache to limit overhead, with REDIS (JEDIS).
  *
+ * <p>Values are prefixed by the generation of their namespace (features or properties). Clearing a namespace
+ * increments its generation (O(1), no scan) : entries of previous generations are then ignored, unlinked when read
+ * and expire with their time-to-live. Generation and entry are read in a single round trip.</p>
+ *
+ * <p>Entries are written under {@link org.ff4j.redis.RedisContants#KEY_CACHE_FEATURE} and
+ * {@link org.ff4j.redis.RedisContants#KEY_CACHE_PROPERTY} : nodes running a previous version keep reading and writing
+ * their own keys during a rolling upgrade, changes made by one version reach the other one within the time-to-live.</p>
+ *
  * @author <a href="mailto:cedrick.lunven@gmail.com">Cedrick LUNVEN</a>
  */
-public class FF4jCacheManagerRedis implements FF4JCacheManager {
+public class FF4jCacheManagerRedis implements FF4JCacheManager, BulkCacheWriter, BulkCacheReader {
 
     /** Wrapping of redis connection (isolation). */
     private RedisConnection redisConnection;
@@ -51,6 +76,21 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
     /** time to live for cache on top of store. */
     protected int timeToLive = DEFAULT_TTL;
 
+    /** Optional binary mapper for features, JSON text is used when null. */
+    private FeatureMapper < byte[] > featureBinaryMapper;
+
+    /** Optional binary mapper for properties, JSON text is used when null. */
+    private PropertyMapper < byte[] > propertyBinaryMapper;
+
+    /** Last known generation of features, -1 if not read yet. */
+    private volatile long featureGeneration = -1;
+
+    /** Last known generation of properties, -1 if not read yet. */
+    private volatile long propertyGeneration = -1;
+
+    /** Use UNLINK to remove entries, switched to DEL when not supported by the server (before Redis 4.0). */
+    private volatile boolean unlinkSupported = true;
+
     /**
      * Default constructor
      */
@@ -75,7 +115,7 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            return getKeys(jedis, KEY_FEATURE + "*");
+            return listCurrentKeys(jedis, KEY_CACHE_FEATURE, KEY_CACHE_GENERATION_FEATURES);
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -95,15 +135,8 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            // --> This Pattern is not always supported
-            // jedis.del(KEY_FEATURE + "*");
-            // <--
-            Set<String> matchingKeys = getKeys(jedis, KEY_FEATURE + "*");
-
-            if (!matchingKeys.isEmpty()) {
-                jedis.del(matchingKeys.toArray(new String[matchingKeys.size()]));
-            }
-
+            // Entries of previous generation are ignored and unlinked when read, no scan
+            featureGeneration = jedis.incr(KEY_CACHE_GENERATION_FEATURES);
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -111,28 +144,14 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         }
     }
 
-    private Set<String> getKeys(Jedis jedis, String pattern) {
-        Set<String> matchingKeys = new HashSet<>();
-        ScanParams params = new ScanParams();
-        params.match(pattern);
-        String cursor = "0";
-        do {
-            ScanResult<String> scanResult = jedis.scan(cursor, params);
-            List<String> keys = scanResult.getResult();
-            cursor = scanResult.getCursor();
-            matchingKeys.addAll(keys);
-        } while (!cursor.equals("0"));
-
-        return matchingKeys;
-    }
-
     /** {@inheritDoc} */
     @Override
     public void clearProperties() {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            jedis.del(KEY_PROPERTY + "*");
+            // Entries of previous generation are ignored and unlinked when read, no scan
+            propertyGeneration = jedis.incr(KEY_CACHE_GENERATION_PROPERTIES);
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -147,7 +166,7 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            jedis.del(KEY_FEATURE + uid);
+            remove(jedis, binaryKey(KEY_CACHE_FEATURE + uid));
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -165,7 +184,7 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            jedis.del(KEY_PROPERTY + propertyName);
+            remove(jedis, binaryKey(KEY_CACHE_PROPERTY + propertyName));
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -180,8 +199,12 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            jedis.set(KEY_FEATURE + fp.getUid(), fp.toJson());
-            jedis.expire(KEY_FEATURE + fp.getUid(), getTimeToLive());
+            String prefix = generationPrefix(getFeatureGeneration(jedis));
+            if (featureBinaryMapper != null) {
+                setWithTtl(jedis, binaryKey(KEY_CACHE_FEATURE + fp.getUid()), binaryValue(prefix, featureBinaryMapper.toStore(fp)));
+            } else {
+                setWithTtl(jedis, KEY_CACHE_FEATURE + fp.getUid(), prefix + fp.toJson());
+            }
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -196,8 +219,60 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            jedis.set(KEY_PROPERTY + property.getName(), property.toJson());
-            jedis.expire(KEY_PROPERTY + property.getName(), getTimeToLive());
+            String prefix = generationPrefix(getPropertyGeneration(jedis));
+            if (propertyBinaryMapper != null) {
+                setWithTtl(jedis, binaryKey(KEY_CACHE_PROPERTY + property.getName()), binaryValue(prefix, propertyBinaryMapper.toStore(property)));
+            } else {
+                setWithTtl(jedis, KEY_CACHE_PROPERTY + property.getName(), prefix + property.toJson());
+            }
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putFeatures(Collection<Feature> features) {
+        Util.assertNotNull(features);
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            String prefix = generationPrefix(getFeatureGeneration(jedis));
+            Pipeline pipeline = jedis.pipelined();
+            for (Feature fp : features) {
+                if (featureBinaryMapper != null) {
+                    setWithTtl(pipeline, binaryKey(KEY_CACHE_FEATURE + fp.getUid()), binaryValue(prefix, featureBinaryMapper.toStore(fp)));
+                } else {
+                    setWithTtl(pipeline, binaryKey(KEY_CACHE_FEATURE + fp.getUid()), binaryKey(prefix + fp.toJson()));
+                }
+            }
+            pipeline.sync();
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putProperties(Collection<Property<?>> properties) {
+        Util.assertNotNull(properties);
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            String prefix = generationPrefix(getPropertyGeneration(jedis));
+            Pipeline pipeline = jedis.pipelined();
+            for (Property<?> property : properties) {
+                if (propertyBinaryMapper != null) {
+                    setWithTtl(pipeline, binaryKey(KEY_CACHE_PROPERTY + property.getName()), binaryValue(prefix, propertyBinaryMapper.toStore(property)));
+                } else {
+                    setWithTtl(pipeline, binaryKey(KEY_CACHE_PROPERTY + property.getName()), binaryKey(prefix + property.toJson()));
+                }
+            }
+            pipeline.sync();
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -212,16 +287,97 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            String value = jedis.get(KEY_FEATURE + uid);
-            if (value != null) {
-                return FeatureJsonParser.parseFeature(value);
+            // Generation and entry in a single round trip
+            byte[] key = binaryKey(KEY_CACHE_FEATURE + uid);
+            List<byte[]> values = jedis.mget(binaryKey(KEY_CACHE_GENERATION_FEATURES), key);
+            featureGeneration = parseGeneration(values.get(0));
+            byte[] payload = currentPayload(jedis, key, values.get(1), featureGeneration);
+            if (payload == null) {
+                return null;
             }
+            if (featureBinaryMapper != null) {
+                return decodeFeature(payload);
+            }
+            return decodeFeatureJson(payload);
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
+    /**
+     * Generation and all entries in a single MGET (one round trip).
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Feature> getFeatures(Collection<String> featureIds) {
+        Util.assertNotNull(featureIds);
+        List<String> uids = new ArrayList<String>(new LinkedHashSet<String>(featureIds));
+        Map<String, Feature> features = new HashMap<String, Feature>();
+        if (uids.isEmpty()) {
+            return features;
+        }
+        byte[][] keys = new byte[uids.size() + 1][];
+        keys[0] = binaryKey(KEY_CACHE_GENERATION_FEATURES);
+        for (int i = 0; i < uids.size(); i++) {
+            keys[i + 1] = binaryKey(KEY_CACHE_FEATURE + uids.get(i));
+        }
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            List<byte[]> values = jedis.mget(keys);
+            featureGeneration = parseGeneration(values.get(0));
+            for (int i = 0; i < uids.size(); i++) {
+                byte[] payload = currentPayload(jedis, keys[i + 1], values.get(i + 1), featureGeneration);
+                if (payload != null) {
+                    features.put(uids.get(i), (featureBinaryMapper != null) ? decodeFeature(payload) : decodeFeatureJson(payload));
+                }
+            }
+            return features;
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
+    /**
+     * Generation and all entries in a single MGET (one round trip).
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Property<?>> getProperties(Collection<String> propertyNames) {
+        Util.assertNotNull(propertyNames);
+        List<String> names = new ArrayList<String>(new LinkedHashSet<String>(propertyNames));
+        Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+        if (names.isEmpty()) {
+            return properties;
+        }
+        byte[][] keys = new byte[names.size() + 1][];
+        keys[0] = binaryKey(KEY_CACHE_GENERATION_PROPERTIES);
+        for (int i = 0; i < names.size(); i++) {
+            keys[i + 1] = binaryKey(KEY_CACHE_PROPERTY + names.get(i));
+        }
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            List<byte[]> values = jedis.mget(keys);
+            propertyGeneration = parseGeneration(values.get(0));
+            for (int i = 0; i < names.size(); i++) {
+                byte[] payload = currentPayload(jedis, keys[i + 1], values.get(i + 1), propertyGeneration);
+                if (payload != null) {
+                    properties.put(names.get(i), (propertyBinaryMapper != null) ? decodeProperty(payload) : decodePropertyJson(payload));
+                }
+            }
+            return properties;
         } finally {
             if (jedis != null) {
                 jedis.close();
             }
         }
-        return null;
     }
 
     /** {@inheritDoc} */
@@ -231,16 +387,23 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            String value = jedis.get(KEY_PROPERTY + propertyName);
-            if (value != null) {
-                return PropertyJsonParser.parseProperty(value);
+            // Generation and entry in a single round trip
+            byte[] key = binaryKey(KEY_CACHE_PROPERTY + propertyName);
+            List<byte[]> values = jedis.mget(binaryKey(KEY_CACHE_GENERATION_PROPERTIES), key);
+            propertyGeneration = parseGeneration(values.get(0));
+            byte[] payload = currentPayload(jedis, key, values.get(1), propertyGeneration);
+            if (payload == null) {
+                return null;
             }
+            if (propertyBinaryMapper != null) {
+                return decodeProperty(payload);
+            }
+            return decodePropertyJson(payload);
         } finally {
             if (jedis != null) {
                 jedis.close();
             }
         }
-        return null;
     }
 
     /** {@inheritDoc} */
@@ -248,7 +411,7 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            return jedis.keys(KEY_PROPERTY + "*");
+            return listCurrentKeys(jedis, KEY_CACHE_PROPERTY, KEY_CACHE_GENERATION_PROPERTIES);
         } finally {
             if (jedis != null) {
                 jedis.close();
@@ -256,6 +419,200 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         }
     }
 
+    /**
+     * List keys of entries in current generation (diagnostic, keys are scanned).
+     *
+     * @param jedis
+     *      current connection
+     * @param keyPrefix
+     *      prefix of entries
+     * @param generationKey
+     *      key of generation counter
+     * @return
+     *      keys of current entries
+     */
+    private Set<String> listCurrentKeys(Jedis jedis, String keyPrefix, String generationKey) {
+        Set<String> currentKeys = new HashSet<>();
+        List<String> keys = new ArrayList<>(getKeys(jedis, keyPrefix + "*"));
+        if (keys.isEmpty()) {
+            return currentKeys;
+        }
+        byte[][] binaryKeys = new byte[keys.size() + 1][];
+        binaryKeys[0] = binaryKey(generationKey);
+        for (int i = 0; i < keys.size(); i++) {
+            binaryKeys[i + 1] = binaryKey(keys.get(i));
+        }
+        List<byte[]> values = jedis.mget(binaryKeys);
+        byte[] prefix = binaryKey(generationPrefix(parseGeneration(values.get(0))));
+        for (int i = 0; i < keys.size(); i++) {
+            if (hasPrefix(values.get(i + 1), prefix)) {
+                currentKeys.add(keys.get(i));
+            }
+        }
+        return currentKeys;
+    }
+
+    private Set<String> getKeys(Jedis jedis, String pattern) {
+        Set<String> matchingKeys = new HashSet<>();
+        ScanParams params = new ScanParams();
+        params.match(pattern);
+        String cursor = "0";
+        do {
+            ScanResult<String> scanResult = jedis.scan(cursor, params);
+            List<String> keys = scanResult.getResult();
+            cursor = scanResult.getCursor();
+            matchingKeys.addAll(keys);
+        } while (!cursor.equals("0"));
+
+        return matchingKeys;
+    }
+
+    /**
+     * Generation of features, read from Redis if not known yet.
+     *
+     * @param jedis
+     *      current connection
+     * @return
+     *      generation of features
+     */
+    private long getFeatureGeneration(Jedis jedis) {
+        if (featureGeneration < 0) {
+            featureGeneration = parseGeneration(jedis.get(binaryKey(KEY_CACHE_GENERATION_FEATURES)));
+        }
+        return featureGeneration;
+    }
+
+    /**
+     * Generation of properties, read from Redis if not known yet.
+     *
+     * @param jedis
+     *      current connection
+     * @return
+     *      generation of properties
+     */
+    private long getPropertyGeneration(Jedis jedis) {
+        if (propertyGeneration < 0) {
+            propertyGeneration = parseGeneration(jedis.get(binaryKey(KEY_CACHE_GENERATION_PROPERTIES)));
+        }
+        return propertyGeneration;
+    }
+
+    /**
+     * Payload of an entry if it belongs to the current generation, a stale entry is unlinked.
+     *
+     * @param jedis
+     *      current connection
+     * @param key
+     *      entry key
+     * @param value
+     *      entry value
+     * @param generation
+     *      current generation
+     * @return
+     *      payload or null if not found or stale
+     */
+    private byte[] currentPayload(Jedis jedis, byte[] key, byte[] value, long generation) {
+        if (value == null) {
+            return null;
+        }
+        byte[] prefix = binaryKey(generationPrefix(generation));
+        if (!hasPrefix(value, prefix)) {
+            // Cleared or written in another format
+            remove(jedis, key);
+            return null;
+        }
+        return Arrays.copyOfRange(value, prefix.length, value.length);
+    }
+
+    /**
+     * Remove entries without blocking the server (UNLINK), with DEL if the command is unknown.
+     *
+     * @param jedis
+     *      current connection
+     * @param keys
+     *      keys to remove
+     */
+    private void remove(Jedis jedis, byte[]... keys) {
+        if (unlinkSupported) {
+            try {
+                jedis.unlink(keys);
+                return;
+            } catch (JedisDataException jde) {
+                if (!isUnknownCommand(jde)) {
+                    throw jde;
+                }
+                unlinkSupported = false;
+            }
+        }
+        jedis.del(keys);
+    }
+
+    /**
+     * Error raised by servers not supporting a command.
+     *
+     * @param jde
+     *      error returned by the server
+     * @return
+     *      if the command is not known
+     */
+    private static boolean isUnknownCommand(JedisDataException jde) {
+        return jde.getMessage() != null && jde.getMessage().toLowerCase().contains("unknown command");
+    }
+
+    /**
+     * Write entry with its time-to-live in a single command.
+     *
+     * @param jedis
+     *      current connection
+     * @param key
+     *      entry key
+     * @param value
+     *      entry value
+     */
+    private void setWithTtl(Jedis jedis, String key, String value) {
+        if (getTimeToLive() > 0) {
+            jedis.setex(key, getTimeToLive(), value);
+        } else {
+            jedis.set(key, value);
+        }
+    }
+
+    /**
+     * Write entry with its time-to-live in a single command.
+     *
+     * @param jedis
+     *      current connection
+     * @param key
+     *      entry key
+     * @param value
+     *      entry value
+     */
+    private void setWithTtl(Jedis jedis, byte[] key, byte[] value) {
+        if (getTimeToLive() > 0) {
+            jedis.setex(key, getTimeToLive(), value);
+        } else {
+            jedis.set(key, value);
+        }
+    }
+
+    /**
+     * Queue entry with its time-to-live.
+     *
+     * @param pipeline
+     *      current pipeline
+     * @param key
+     *      entry key
+     * @param value
+     *      entry value
+     */
+    private void setWithTtl(Pipeline pipeline, byte[] key, byte[] value) {
+        if (getTimeToLive() > 0) {
+            pipeline.setex(key, getTimeToLive(), value);
+        } else {
+            pipeline.set(key, value);
+        }
+    }
+
     /** {@inheritDoc} */
     public Object getFeatureNativeCache() {
         return getJedis();
@@ -266,6 +623,171 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         return getJedis();
     }
 
+    /**
+     * Store features and properties with the compact binary format of {@link org.ff4j.mapper.BinaryCodec}
+     * instead of JSON text.
+     *
+     * @return
+     *      current cache manager
+     */
+    public FF4jCacheManagerRedis enableBinaryFormat() {
+        setFeatureBinaryMapper(new BinaryFeatureMapper());
+        setPropertyBinaryMapper(new BinaryPropertyMapper());
+        return this;
+    }
+
+    /**
+     * Entries written in another format (e.g. JSON before switching to binary) are seen as cache miss.
+     *
+     * @param payload
+     *      cached value
+     * @return
+     *      feature or null if not readable
+     */
+    private Feature decodeFeature(byte[] payload) {
+        try {
+            return featureBinaryMapper.fromStore(payload);
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Entries written in another format (e.g. JSON before switching to binary) are seen as cache miss.
+     *
+     * @param payload
+     *      cached value
+     * @return
+     *      property or null if not readable
+     */
+    private Property<?> decodeProperty(byte[] payload) {
+        try {
+            return propertyBinaryMapper.fromStore(payload);
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Entries written in binary by nodes with {@link #enableBinaryFormat()} are seen as cache miss.
+     *
+     * @param payload
+     *      cached value
+     * @return
+     *      feature or null if not readable
+     */
+    private static Feature decodeFeatureJson(byte[] payload) {
+        if (BinaryCodec.isBinary(payload)) {
+            return null;
+        }
+        try {
+            return FeatureJsonParser.parseFeature(new String(payload, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Entries written in binary by nodes with {@link #enableBinaryFormat()} are seen as cache miss.
+     *
+     * @param payload
+     *      cached value
+     * @return
+     *      property or null if not readable
+     */
+    private static Property<?> decodePropertyJson(byte[] payload) {
+        if (BinaryCodec.isBinary(payload)) {
+            return null;
+        }
+        try {
+            return PropertyJsonParser.parseProperty(new String(payload, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Prefix of values written in a generation.
+     *
+     * @param generation
+     *      current generation
+     * @return
+     *      prefix of values
+     */
+    private static String generationPrefix(long generation) {
+        return generation + GENERATION_SEPARATOR;
+    }
+
+    /**
+     * Read generation counter.
+     *
+     * @param value
+     *      counter value, null if never cleared
+     * @return
+     *      generation
+     */
+    private static long parseGeneration(byte[] value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(new String(value, StandardCharsets.UTF_8));
+        } catch (NumberFormatException nfe) {
+            return 0;
+        }
+    }
+
+    /**
+     * Prepend generation to payload.
+     *
+     * @param prefix
+     *      generation prefix
+     * @param payload
+     *      serialized element
+     * @return
+     *      value to store
+     */
+    private static byte[] binaryValue(String prefix, byte[] payload) {
+        byte[] head  = binaryKey(prefix);
+        byte[] value = Arrays.copyOf(head, head.length + payload.length);
+        System.arraycopy(payload, 0, value, head.length, payload.length);
+        return value;
+    }
+
+    /**
+     * Check value prefix.
+     *
+     * @param value
+     *      stored value
+     * @param prefix
+     *      expected prefix
+     * @return
+     *      if the value starts with the prefix
+     */
+    private static boolean hasPrefix(byte[] value, byte[] prefix) {
+        if (value == null || value.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (value[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encode key for binary commands.
+     *
+     * @param key
+     *      key as String
+     * @return
+     *      key as bytes
+     */
+    private static byte[] binaryKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Safe acces to Jedis, avoid JNPE.
      *
@@ -319,4 +841,44 @@ public class FF4jCacheManagerRedis implements FF4JCacheManager {
         this.timeToLive = timeToLive;
     }
 
+    /**
+     * Getter accessor for attribute 'featureBinaryMapper'.
+     *
+     * @return
+     *       current value of 'featureBinaryMapper'
+     */
+    public FeatureMapper<byte[]> getFeatureBinaryMapper() {
+        return featureBinaryMapper;
+    }
+
+    /**
+     * Setter accessor for attribute 'featureBinaryMapper'.
+     *
+     * @param featureBinaryMapper
+     *      new value for 'featureBinaryMapper '
+     */
+    public void setFeatureBinaryMapper(FeatureMapper<byte[]> featureBinaryMapper) {
+        this.featureBinaryMapper = featureBinaryMapper;
+    }
+
+    /**
+     * Getter accessor for attribute 'propertyBinaryMapper'.
+     *
+     * @return
+     *       current value of 'propertyBinaryMapper'
+     */
+    public PropertyMapper<byte[]> getPropertyBinaryMapper() {
+        return propertyBinaryMapper;
+    }
+
+    /**
+     * Setter accessor for attribute 'propertyBinaryMapper'.
+     *
+     * @param propertyBinaryMapper
+     *      new value for 'propertyBinaryMapper '
+     */
+    public void setPropertyBinaryMapper(PropertyMapper<byte[]> propertyBinaryMapper) {
+        this.propertyBinaryMapper = propertyBinaryMapper;
+    }
+
 }
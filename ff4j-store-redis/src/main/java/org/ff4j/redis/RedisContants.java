@@ -45,6 +45,21 @@ public class RedisContants {
     /** prefix of keys. */
     public static final String KEY_EVENT_AUDIT = "AUDITRAIL";
 
+    /** generation of cached features, incremented to clear them. */
+    public static final String KEY_CACHE_GENERATION_FEATURES = "FF4J_CACHE_GENERATION_FEATURES";
+
+    /** generation of cached properties, incremented to clear them. */
+    public static final String KEY_CACHE_GENERATION_PROPERTIES = "FF4J_CACHE_GENERATION_PROPERTIES";
+
+    /** prefix of cached features, values are prefixed by their generation. */
+    public static final String KEY_CACHE_FEATURE = "FF4J_CACHE_FEATURE_";
+
+    /** prefix of cached properties, values are prefixed by their generation. */
+    public static final String KEY_CACHE_PROPERTY = "FF4J_CACHE_PROPERTY_";
+
+    /** separator between generation and cached value. */
+    public static final String GENERATION_SEPARATOR = ":";
+
     /** default ttl. */
     public static int DEFAULT_TTL = 900000000;
 
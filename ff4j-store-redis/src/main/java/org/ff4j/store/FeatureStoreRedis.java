@@ -29,9 +29,15 @@ import org.ff4j.redis.RedisConnection;
 import org.ff4j.utils.Util;
 import org.ff4j.utils.json.FeatureJsonParser;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -141,6 +147,40 @@ public class FeatureStoreRedis extends AbstractFeatureStore {
         }
     }
     
+    /**
+     * Read all features with a single MGET (one round trip), unknown keys are not part of the result.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Util.assertNotNull(featureUids);
+        List<String> uids = new ArrayList<String>(new LinkedHashSet<String>(featureUids));
+        Map<String, Feature> features = new LinkedHashMap<String, Feature>();
+        if (uids.isEmpty()) {
+            return features;
+        }
+        String[] keys = new String[uids.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = KEY_FEATURE + uids.get(i);
+        }
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            List<String> values = jedis.mget(keys);
+            for (int i = 0; i < keys.length; i++) {
+                if (values.get(i) != null) {
+                    features.put(uids.get(i), FeatureJsonParser.parseFeature(values.get(i)));
+                }
+            }
+            return features;
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+    
     /** {@inheritDoc} */
     @Override
     public void update(Feature fp) {
@@ -375,6 +415,31 @@ public class FeatureStoreRedis extends AbstractFeatureStore {
         }
     }
 
+    /**
+     * Replace a batch of features with a single pipeline (one round trip).
+     *
+     * @param features
+     *      features of the batch
+     */
+    @Override
+    protected void importFeaturesBatch(List<Feature> features) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            Pipeline pipeline = jedis.pipelined();
+            for (Feature fp : features) {
+                // SET without expiration also removes any TTL on the key
+                pipeline.sadd(KEY_FEATURE_MAP, fp.getUid());
+                pipeline.set(KEY_FEATURE + fp.getUid(), fp.toJson());
+            }
+            pipeline.sync();
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
     /**
      * Getter accessor for attribute 'redisConnection'.
      *
@@ -7,8 +7,13 @@ import org.ff4j.redis.RedisConnection;
 import org.ff4j.utils.Util;
 import org.ff4j.utils.json.PropertyJsonParser;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -157,6 +162,40 @@ public class PropertyStoreRedis extends AbstractPropertyStore {
         }
     }
 
+    /**
+     * Read all properties with a single MGET (one round trip), unknown keys are not part of the result.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Util.assertNotNull(names);
+        List<String> propertyNames = new ArrayList<String>(new LinkedHashSet<String>(names));
+        Map<String, Property<?>> properties = new LinkedHashMap<String, Property<?>>();
+        if (propertyNames.isEmpty()) {
+            return properties;
+        }
+        String[] keys = new String[propertyNames.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = KEY_PROPERTY + propertyNames.get(i);
+        }
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            List<String> values = jedis.mget(keys);
+            for (int i = 0; i < keys.length; i++) {
+                if (values.get(i) != null) {
+                    properties.put(propertyNames.get(i), PropertyJsonParser.parseProperty(values.get(i)));
+                }
+            }
+            return properties;
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -230,6 +269,31 @@ public class PropertyStoreRedis extends AbstractPropertyStore {
         }
     }
 
+    /**
+     * Replace a batch of properties with a single pipeline (one round trip).
+     *
+     * @param properties
+     *      properties of the batch
+     */
+    @Override
+    protected void importPropertiesBatch(List<Property<?>> properties) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            Pipeline pipeline = jedis.pipelined();
+            for (Property<?> prop : properties) {
+                // SET without expiration also removes any TTL on the key
+                pipeline.sadd(KEY_PROPERTY_MAP, prop.getName());
+                pipeline.set(KEY_PROPERTY + prop.getName(), prop.toJson());
+            }
+            pipeline.sync();
+        } finally {
+            if (jedis != null) {
+                jedis.close();
+            }
+        }
+    }
+
     /**
      * Getter accessor for attribute 'redisConnection'.
      *
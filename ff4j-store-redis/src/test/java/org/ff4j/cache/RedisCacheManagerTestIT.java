@@ -1,5 +1,8 @@
 package org.ff4j.cache;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.property.PropertyString;
@@ -9,6 +12,8 @@ import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import redis.clients.jedis.Jedis;
+
 import static org.ff4j.test.TestsFf4jConstants.*;
 
 /*
@@ -56,7 +61,7 @@ public class RedisCacheManagerTestIT {
         cache.putProperty(new PropertyString("p1", "v1"));
 
         Assert.assertNotNull(cache.getProperty("p1"));
-        Assert.assertTrue(cache.listCachedPropertyNames().contains(RedisContants.KEY_PROPERTY + "p1"));
+        Assert.assertTrue(cache.listCachedPropertyNames().contains(RedisContants.KEY_CACHE_PROPERTY + "p1"));
     }
 
     @Test
@@ -64,6 +69,64 @@ public class RedisCacheManagerTestIT {
         cache.putFeature(new Feature("f1"));
 
         Assert.assertNotNull(cache.getFeature("f1"));
-        Assert.assertTrue(cache.listCachedFeatureNames().contains(RedisContants.KEY_FEATURE + "f1"));
+        Assert.assertTrue(cache.listCachedFeatureNames().contains(RedisContants.KEY_CACHE_FEATURE + "f1"));
+    }
+
+    @Test
+    public void testClearByGeneration() {
+        FF4jCacheManagerRedis otherNode = new FF4jCacheManagerRedis();
+        cache.putFeature(new Feature("f1"));
+        cache.putProperty(new PropertyString("p1", "v1"));
+        Assert.assertNotNull(otherNode.getFeature("f1"));
+        Assert.assertNotNull(otherNode.getProperty("p1"));
+
+        // Generation incremented, entries are not removed
+        cache.clearFeatures();
+        cache.clearProperties();
+        Assert.assertNull(cache.getFeature("f1"));
+        Assert.assertNull(otherNode.getFeature("f1"));
+        Assert.assertNull(otherNode.getProperty("p1"));
+        Assert.assertFalse(cache.listCachedFeatureNames().contains(RedisContants.KEY_CACHE_FEATURE + "f1"));
+
+        // Written in new generation
+        otherNode.putFeature(new Feature("f1"));
+        Assert.assertNotNull(cache.getFeature("f1"));
+    }
+
+    @Test
+    public void testStaleEntryIsMiss() {
+        FF4jCacheManagerRedis redisCache = new FF4jCacheManagerRedis();
+        redisCache.putFeature(new Feature("f1"));
+        Jedis jedis = redisCache.getJedis();
+        try {
+            // Value of a previous generation
+            jedis.set(RedisContants.KEY_CACHE_FEATURE + "f1", "-1" + RedisContants.GENERATION_SEPARATOR + new Feature("f1").toJson());
+            Assert.assertNull(redisCache.getFeature("f1"));
+            // Unlinked when read
+            Assert.assertFalse(jedis.exists(RedisContants.KEY_CACHE_FEATURE + "f1"));
+            // Entries of previous version, written without generation, are not read
+            jedis.set(RedisContants.KEY_FEATURE + "legacy", new Feature("legacy").toJson());
+            Assert.assertNull(redisCache.getFeature("legacy"));
+            jedis.del(RedisContants.KEY_FEATURE + "legacy");
+        } finally {
+            jedis.close();
+        }
+    }
+
+    @Test
+    public void testPipelinedPutFeatures() {
+        FF4jCacheManagerRedis redisCache = new FF4jCacheManagerRedis();
+        redisCache.clearFeatures();
+        List<Feature> features = new ArrayList<Feature>();
+        for (int i = 0; i < 50; i++) {
+            features.add(new Feature("bulk" + i, i % 2 == 0));
+        }
+        redisCache.putFeatures(features);
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(i % 2 == 0, redisCache.getFeature("bulk" + i).isEnable());
+        }
+        Assert.assertEquals(50, redisCache.listCachedFeatureNames().size());
+        redisCache.clearFeatures();
+        Assert.assertNull(redisCache.getFeature("bulk0"));
     }
 }
@@ -25,6 +25,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * Custom bootstrap configuration to fetch properties from FF4J as Well.
@@ -34,6 +35,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FF4jBootstrapConfiguration {
 
+    /** Interval between refreshes of the properties snapshot in milliseconds. */
+    public static final String REFRESH_INTERVAL = "ff4j.propertysource.refresh-interval";
+
     @Configuration
     @EnableConfigurationProperties
     @ConditionalOnProperty(name = "spring.cloud.custom.config.enabled", matchIfMissing = true)
@@ -55,11 +59,13 @@ public class FF4jBootstrapConfiguration {
         
         /**
          * Expected 
+         * @param env
+         *          environment with optional 'ff4j.propertysource.refresh-interval' (milliseconds)
          * @return
          */
         @Bean
-        public FF4jPropertySourceLocator customPropertySourceLocator() {
-            return new FF4jPropertySourceLocator(ff4j);
+        public FF4jPropertySourceLocator customPropertySourceLocator(Environment env) {
+            return new FF4jPropertySourceLocator(ff4j, env.getProperty(REFRESH_INTERVAL, Long.class, 0L));
         }
     }
 }
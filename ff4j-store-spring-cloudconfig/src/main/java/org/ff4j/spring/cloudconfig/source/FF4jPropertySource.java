@@ -20,19 +20,36 @@ package org.ff4j.spring.cloudconfig.source;
  * #L%
  */
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.ff4j.FF4j;
 import org.ff4j.property.Property;
+import org.ff4j.property.store.PropertyChangeFeed;
+import org.ff4j.property.store.PropertyStore;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.core.env.EnumerablePropertySource;
 
 /**
  * Implementation of spring config {@link PropertySource} to inject properties from FF4j (property Store). 
+ * 
+ * <p>Spring probes every source for each key, most of them unknown to FF4j : lookups are served from an in-memory
+ * snapshot loaded with a single {@link PropertyStore#readAllProperties()}, misses never reach the store.
+ * The snapshot is reloaded by {@link #refresh()}, invoked on each location by {@link FF4jPropertySourceLocator}
+ * (context refresh) and periodically if a refresh interval is defined. When the store implements
+ * {@link PropertyChangeFeed} only changed properties are read again. The periodic refresh is stopped by
+ * {@link #close()}, called when the context holding the {@link FF4jPropertySourceLocator} is closed.</p>
  *
  * @author Cedrick LUNVEN (@clunven)
  */
-public class FF4jPropertySource extends EnumerablePropertySource<Map<String, Property<?>>> {
+public class FF4jPropertySource extends EnumerablePropertySource<Map<String, Property<?>>> implements DisposableBean {
    
     /**  FF4j as source for Spring Config. */
     private static final String PROPERTY_SOURCE_NAME = "FF4JSource";
@@ -40,6 +57,18 @@ public class FF4jPropertySource extends EnumerablePropertySource<Map<String, Pro
     /** Reference to FF4J. */
     private FF4j ff4j;
     
+    /** Current properties (immutable, replaced on refresh). */
+    private volatile Map<String, Property<?>> snapshot;
+    
+    /** Names of current properties. */
+    private volatile String[] propertyNames;
+    
+    /** Checkpoint of the change feed when snapshot has been loaded. */
+    private long checkpoint;
+    
+    /** Periodic refresh if interval is defined. */
+    private ScheduledExecutorService scheduler;
+    
     /**
      * Expected constructor to populate {@link FF4j}
      *
@@ -47,8 +76,39 @@ public class FF4jPropertySource extends EnumerablePropertySource<Map<String, Pro
      *      current instance of {@link FF4j}
      */
     public FF4jPropertySource(FF4j ff4j) {
+        this(ff4j, 0);
+    }
+    
+    /**
+     * Constructor with a periodic refresh of the snapshot.
+     *
+     * @param ff4j
+     *      current instance of {@link FF4j}
+     * @param refreshInterval
+     *      interval between refreshes in milliseconds (no periodic refresh if not positive)
+     */
+    public FF4jPropertySource(FF4j ff4j, long refreshInterval) {
         this(PROPERTY_SOURCE_NAME);
         this.ff4j = ff4j;
+        refresh();
+        if (refreshInterval > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "ff4j-propertysource-refresh");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            scheduler.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        // Keep previous snapshot, next refresh will try again
+                    }
+                }
+            }, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+        }
     }
     
     /**
@@ -60,19 +120,80 @@ public class FF4jPropertySource extends EnumerablePropertySource<Map<String, Pro
     protected FF4jPropertySource(String name) {
         super(name);
     }
+    
+    /**
+     * Reload the snapshot from the property store.
+     */
+    public synchronized void refresh() {
+        PropertyStore store = ff4j.getPropertiesStore();
+        PropertyChangeFeed feed = (store instanceof PropertyChangeFeed) ? (PropertyChangeFeed) store : null;
+        long current = (feed == null) ? 0 : feed.getCheckpoint();
+        Set<String> changedNames = (feed == null || snapshot == null) ? null : feed.changedSince(checkpoint);
+        if (changedNames != null && changedNames.isEmpty()) {
+            return;
+        }
+        Map<String, Property<?>> properties;
+        if (changedNames == null) {
+            properties = new HashMap<String, Property<?>>(store.readAllProperties());
+        } else {
+            properties = new HashMap<String, Property<?>>(snapshot);
+            // Deleted properties are not part of the bulk read
+            Map<String, Property<?>> changed = store.readProperties(changedNames);
+            for (String name : changedNames) {
+                Property<?> property = changed.get(name);
+                if (property != null) {
+                    properties.put(name, property);
+                } else {
+                    properties.remove(name);
+                }
+            }
+        }
+        propertyNames = properties.keySet().toArray(new String[0]);
+        snapshot      = Collections.unmodifiableMap(properties);
+        checkpoint    = current;
+    }
+    
+    /**
+     * Stop periodic refresh.
+     */
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    /**
+     * Check if the snapshot is periodically refreshed.
+     *
+     * @return
+     *      if refresh thread is running
+     */
+    public boolean isRefreshing() {
+        return scheduler != null && !scheduler.isShutdown();
+    }
 
     /** {@inheritDoc} */
     @Override
     public String[] getPropertyNames() {
-        return ff4j.getPropertiesStore().listPropertyNames().toArray(new String[0]);
+        return propertyNames.clone();
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsProperty(String name) {
+        return snapshot.containsKey(name);
     }
     
     /** {@inheritDoc} */
     @Override
     public Object getProperty(String name) {
-        if (!ff4j.getPropertiesStore().existProperty(name)) return null;        
-        Property<?> p = ff4j.getPropertiesStore().readProperty(name);
-        return p;
+        return snapshot.get(name);
     }
     
 }
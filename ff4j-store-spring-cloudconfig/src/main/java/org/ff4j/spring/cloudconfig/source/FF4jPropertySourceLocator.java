@@ -21,6 +21,7 @@ package org.ff4j.spring.cloudconfig.source;
  */
 
 import org.ff4j.FF4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.bootstrap.config.PropertySourceLocator;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.PropertySource;
@@ -28,21 +29,48 @@ import org.springframework.core.env.PropertySource;
 /**
  * Provide a bridge to load FF4J properties as source for Spring Cloud Config.
  *
+ * <p>Closing the context (including the bootstrap contexts created on refresh) stops the periodic refresh of the source.</p>
+ *
  * @author Cedrick LUNVEN (@clunven)
  */
-public class FF4jPropertySourceLocator implements PropertySourceLocator {
+public class FF4jPropertySourceLocator implements PropertySourceLocator, DisposableBean {
   
     /** Instance of FF4J to be used. */
     private FF4j ff4j;
     
+    /** Interval between refreshes of the snapshot in milliseconds (0 = only on context refresh). */
+    private long refreshInterval;
+    
+    /** Single source, refreshed on each location. */
+    private FF4jPropertySource propertySource;
+    
     public FF4jPropertySourceLocator(FF4j ff4j) {
+        this(ff4j, 0);
+    }
+    
+    public FF4jPropertySourceLocator(FF4j ff4j, long refreshInterval) {
         this.ff4j = ff4j;
+        this.refreshInterval = refreshInterval;
     }
     
     /** {@inheritDoc} */
     @Override
-    public PropertySource<?> locate(Environment environment) {
-        return new FF4jPropertySource(ff4j);
+    public synchronized PropertySource<?> locate(Environment environment) {
+        if (propertySource == null) {
+            propertySource = new FF4jPropertySource(ff4j, refreshInterval);
+        } else {
+            // Context refresh : reload properties instead of creating a new source
+            propertySource.refresh();
+        }
+        return propertySource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void destroy() {
+        if (propertySource != null) {
+            propertySource.close();
+        }
     }
 
 }
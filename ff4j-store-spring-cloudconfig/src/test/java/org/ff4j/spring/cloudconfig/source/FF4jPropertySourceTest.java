@@ -0,0 +1,170 @@
+package org.ff4j.spring.cloudconfig.source;
+
+/*
+ * #%L
+ * ff4j-store-spring-cloudconfig
+ * %%
+ * Copyright (C) 2013 - 2017 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ff4j.FF4j;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
+import org.ff4j.property.store.InMemoryPropertyStore;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Snapshot of {@link FF4jPropertySource}, its refresh and shutdown.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class FF4jPropertySourceTest {
+
+    /** Periodic refresh in tests. */
+    private static final long INTERVAL = 50;
+
+    /** Store counting reads. */
+    private CountingPropertyStore store;
+
+    /** Current ff4j. */
+    private FF4j ff4j;
+
+    @Before
+    public void setUp() {
+        store = new CountingPropertyStore();
+        store.createProperty(new PropertyString("p1", "v1"));
+        store.createProperty(new PropertyString("p2", "v2"));
+        ff4j = new FF4j();
+        ff4j.setPropertiesStore(store);
+    }
+
+    @Test
+    public void testLookupsServedFromSnapshot() {
+        FF4jPropertySource source = new FF4jPropertySource(ff4j);
+        int reads = store.reads.get();
+        Assert.assertTrue(source.containsProperty("p1"));
+        Assert.assertNull(source.getProperty("unknown"));
+        Assert.assertEquals(2, source.getPropertyNames().length);
+        Assert.assertEquals(reads, store.reads.get());
+        Assert.assertFalse(source.isRefreshing());
+    }
+
+    @Test
+    public void testRefreshReadsChangedProperties() {
+        FF4jPropertySource source = new FF4jPropertySource(ff4j);
+        replace("p1", "v1bis");
+        store.deleteProperty("p2");
+        store.createProperty(new PropertyString("p3", "v3"));
+        Assert.assertEquals("v1", ((Property<?>) source.getProperty("p1")).asString());
+
+        int reads = store.reads.get();
+        source.refresh();
+        Assert.assertEquals("v1bis", ((Property<?>) source.getProperty("p1")).asString());
+        Assert.assertFalse(source.containsProperty("p2"));
+        Assert.assertTrue(source.containsProperty("p3"));
+        // Changes read in bulk
+        Assert.assertEquals(reads + 1, store.reads.get());
+
+        // No change, no read
+        source.refresh();
+        Assert.assertEquals(reads + 1, store.reads.get());
+    }
+
+    @Test
+    public void testPeriodicRefresh() throws InterruptedException {
+        FF4jPropertySource source = new FF4jPropertySource(ff4j, INTERVAL);
+        try {
+            Assert.assertTrue(source.isRefreshing());
+            replace("p1", "v1bis");
+            long end = System.currentTimeMillis() + 5000;
+            while (!"v1bis".equals(((Property<?>) source.getProperty("p1")).asString())
+                    && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals("v1bis", ((Property<?>) source.getProperty("p1")).asString());
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void testLocatorDestroyStopsRefresh() throws InterruptedException {
+        FF4jPropertySourceLocator locator = new FF4jPropertySourceLocator(ff4j, INTERVAL);
+        FF4jPropertySource source = (FF4jPropertySource) locator.locate(null);
+        // Context refresh reuses the source
+        Assert.assertSame(source, locator.locate(null));
+        Assert.assertTrue(source.isRefreshing());
+
+        locator.destroy();
+        Assert.assertFalse(source.isRefreshing());
+        replace("p1", "v1bis");
+        Thread.sleep(INTERVAL * 4);
+        Assert.assertEquals("v1", ((Property<?>) source.getProperty("p1")).asString());
+    }
+
+    @Test
+    public void testSourceDestroyStopsRefresh() {
+        FF4jPropertySource source = new FF4jPropertySource(ff4j, INTERVAL);
+        source.destroy();
+        Assert.assertFalse(source.isRefreshing());
+        // Closing twice is harmless
+        source.close();
+    }
+
+    /**
+     * In-memory store updates the property instance shared with the snapshot, replace it as remote stores do.
+     *
+     * @param name
+     *      property name
+     * @param value
+     *      new value
+     */
+    private void replace(String name, String value) {
+        store.deleteProperty(name);
+        store.createProperty(new PropertyString(name, value));
+    }
+
+    /** Property store counting reads. */
+    private static class CountingPropertyStore extends InMemoryPropertyStore {
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public Property<?> readProperty(String name) {
+            reads.incrementAndGet();
+            return super.readProperty(name);
+        }
+
+        @Override
+        public Map<String, Property<?>> readAllProperties() {
+            reads.incrementAndGet();
+            return super.readAllProperties();
+        }
+
+        @Override
+        public Map<String, Property<?>> readProperties(Collection<String> names) {
+            reads.incrementAndGet();
+            return super.readProperties(names);
+        }
+    }
+
+}
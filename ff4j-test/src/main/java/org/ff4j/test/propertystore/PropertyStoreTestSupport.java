@@ -1,6 +1,9 @@
 package org.ff4j.test.propertystore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -27,6 +30,7 @@ import org.ff4j.FF4j;
  */
 
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
 import org.ff4j.exception.PropertyAlreadyExistException;
 import org.ff4j.exception.PropertyNotFoundException;
 import org.ff4j.property.Property;
@@ -177,6 +181,19 @@ public abstract class PropertyStoreTestSupport {
         
     }
     
+    @Test
+    public void readPropertiesOK() {
+        // Given
+        testedStore.createProperty(new PropertyString("toto", "ff4j"));
+        testedStore.createProperty(new PropertyString("titi", "ff4j2"));
+        // When
+        Map<String, Property<?>> properties = testedStore.readProperties(Arrays.asList("titi", "does-not-exist", "toto"));
+        // Then, unknown names are omitted and requested order is kept
+        Assert.assertEquals(Arrays.asList("titi", "toto"), new ArrayList<String>(properties.keySet()));
+        Assert.assertEquals("ff4j", properties.get("toto").asString());
+        Assert.assertTrue(testedStore.readProperties(new ArrayList<String>()).isEmpty());
+    }
+    
     @Test
     public void readOKFixed() {
         // Given
@@ -378,6 +395,37 @@ public abstract class PropertyStoreTestSupport {
         }
     }
     
+    /** TDD. */
+    @Test
+    public void importPropertiesByBatches() {
+        // Given
+        Assert.assertTrue(testedStore.existProperty("a"));
+        Assert.assertFalse(testedStore.existProperty("imp1"));
+        Property<?> before = testedStore.readProperty("a");
+        final List<Integer> progress = new ArrayList<Integer>();
+        // When
+        testedStore.importProperties(Arrays.<Property<?>>asList(
+                new PropertyString("a", "replaced"),
+                new PropertyString("imp1", "v1"),
+                new PropertyString("imp2", "v2")), 2, new ImportListener() {
+            public void onBatch(int imported, int total) {
+                Assert.assertEquals(3, total);
+                progress.add(imported);
+            }
+        });
+        // Then
+        Assert.assertEquals(Arrays.asList(2, 3), progress);
+        Assert.assertEquals("replaced", testedStore.readProperty("a").asString());
+        Assert.assertEquals("v1", testedStore.readProperty("imp1").asString());
+        Assert.assertEquals("v2", testedStore.readProperty("imp2").asString());
+        
+        /// Reinit
+        testedStore.deleteProperty("imp1");
+        testedStore.deleteProperty("imp2");
+        testedStore.deleteProperty("a");
+        testedStore.createProperty(before);
+    }
+    
 
     
 }
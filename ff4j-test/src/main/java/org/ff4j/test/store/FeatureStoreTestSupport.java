@@ -26,6 +26,7 @@ import org.ff4j.FF4j;
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
 import org.ff4j.core.FlippingStrategy;
+import org.ff4j.core.ImportListener;
 import org.ff4j.exception.FeatureAlreadyExistException;
 import org.ff4j.exception.FeatureNotFoundException;
 import org.ff4j.exception.GroupNotFoundException;
@@ -120,6 +121,24 @@ public abstract class FeatureStoreTestSupport {
 		assertFf4j.assertThatFeatureIsInGroup(F4, G1);
 	}
 
+	/**
+	 * TDD.
+	 */
+	@Test
+	public void testReadFeatures() {
+		// Given
+		assertFf4j.assertThatFeatureExist(F4);
+		assertFf4j.assertThatFeatureExist(F1);
+		assertFf4j.assertThatFeatureDoesNotExist("does-not-exist");
+		// When
+		Map<String, Feature> features = testedStore.readFeatures(Arrays.asList(F4, "does-not-exist", F1));
+		// Then, unknown identifiers are omitted and requested order is kept
+		Assert.assertEquals(Arrays.asList(F4, F1), new ArrayList<String>(features.keySet()));
+		Assert.assertTrue(features.get(F4).getPermissions().contains(ROLE_ADMIN));
+		Assert.assertEquals(G1, features.get(F4).getGroup());
+		Assert.assertTrue(testedStore.readFeatures(new ArrayList<String>()).isEmpty());
+	}
+
 	/**
 	 * TDD.
 	 */
@@ -1208,4 +1227,41 @@ public abstract class FeatureStoreTestSupport {
 		Assert.assertEquals(2, fixValues2.size());
 	}
 
+	/**
+	 * TDD.
+	 */
+	@Test
+	public void testImportFeaturesByBatches() {
+		// Given
+		assertFf4j.assertThatFeatureExist(F1);
+		assertFf4j.assertThatFeatureDoesNotExist("imp1");
+		Feature f1 = new Feature(F1, false, "replaced");
+		f1.getPermissions().add(ROLE_XYZ);
+		f1.addProperty(new PropertyString(PPSTRING, "hello"));
+		Feature imp1 = new Feature("imp1", true, "imported", G1, Util.set(ROLE_XYZ));
+		Feature imp2 = new Feature("imp2", false);
+		final List<Integer> progress = new ArrayList<Integer>();
+		// When
+		testedStore.importFeatures(Arrays.asList(f1, imp1, imp2), 2, new ImportListener() {
+			public void onBatch(int imported, int total) {
+				Assert.assertEquals(3, total);
+				progress.add(imported);
+			}
+		});
+		// Then
+		Assert.assertEquals(Arrays.asList(2, 3), progress);
+		assertFf4j.assertThatStoreHasSize(EXPECTED_FEATURES_NUMBERS + 2);
+		Feature read = testedStore.read(F1);
+		Assert.assertFalse(read.isEnable());
+		Assert.assertEquals("replaced", read.getDescription());
+		Assert.assertEquals(Util.set(ROLE_XYZ), read.getPermissions());
+		Assert.assertEquals("hello", read.getProperty(PPSTRING).asString());
+		assertFf4j.assertThatFeatureIsEnabled("imp1");
+		assertFf4j.assertThatFeatureIsInGroup("imp1", G1);
+		assertFf4j.assertThatFeatureHasRole("imp1", ROLE_XYZ);
+		assertFf4j.assertThatFeatureIsDisabled("imp2");
+		testedStore.delete("imp1");
+		testedStore.delete("imp2");
+	}
+
 }
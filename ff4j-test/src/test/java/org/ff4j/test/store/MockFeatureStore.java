@@ -29,6 +29,7 @@ import java.util.Set;
 
 import org.ff4j.core.Feature;
 import org.ff4j.core.FeatureStore;
+import org.ff4j.core.ImportListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +72,16 @@ public class MockFeatureStore implements FeatureStore {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Feature> readFeatures(Collection<String> featureUids) {
+        Map < String, Feature> map = new HashMap<String, Feature>();
+        if (featureUids.contains("first")) {
+            map.put("first", new Feature("first"));
+        }
+        return map;
+    }
+
     /** {@inheritDoc} */
     public Map<String, Feature> readAll() {
         Map < String, Feature> map = new HashMap<String, Feature>();
@@ -148,6 +159,11 @@ public class MockFeatureStore implements FeatureStore {
         LOGGER.debug("MOCK [importFeatures]");
     }
 
+    /** {@inheritDoc} */
+    public void importFeatures(Collection<Feature> features, int batchSize, ImportListener listener) {
+        LOGGER.debug("MOCK [importFeatures]");
+    }
+
     /** {@inheritDoc} */
     @Override
     public void createSchema() {
@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.ff4j.core.ImportListener;
 import org.ff4j.property.Property;
 import org.ff4j.property.PropertyString;
 import org.ff4j.property.store.PropertyStore;
@@ -61,6 +62,16 @@ public class MockPropertyStore implements PropertyStore {
         if ("a".equals(name)) return new PropertyString("a", "AMER");
         return null;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Property<?>> readProperties(Collection<String> names) {
+        Map<String, Property<?>> map = new HashMap<String, Property<?>>();
+        if (names.contains("a")) {
+            map.put("a", new PropertyString("a", "AMER"));
+        }
+        return map;
+    }
     
     /** {@inheritDoc} */
     @Override
@@ -114,6 +125,12 @@ public class MockPropertyStore implements PropertyStore {
         LOGGER.debug("MOCK [importProperties]");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void importProperties(Collection<Property<?>> properties, int batchSize, ImportListener listener) {
+        LOGGER.debug("MOCK [importProperties]");
+    }
+
     /** {@inheritDoc} */
     @Override
     public void createSchema() {
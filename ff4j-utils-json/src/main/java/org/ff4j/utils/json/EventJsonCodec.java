@@ -0,0 +1,293 @@
+package org.ff4j.utils.json;
+
+/*
+ * #%L
+ * ff4j-utils-json
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.ff4j.utils.json.PropertyJsonCodec.JSON_FACTORY;
+import static org.ff4j.utils.json.PropertyJsonCodec.expectArray;
+import static org.ff4j.utils.json.PropertyJsonCodec.expectObject;
+import static org.ff4j.utils.json.PropertyJsonCodec.readString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.ff4j.audit.Event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+/**
+ * Streaming (token based) reader and writer for {@link Event}, no intermediate map is created.
+ *
+ * <p>Layout is the one produced by {@link Event#toJson()}, unknown keys are custom keys.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class EventJsonCodec {
+
+    /**
+     * Hide constructor.
+     */
+    private EventJsonCodec() {
+    }
+
+    /**
+     * Read event from json bytes (UTF-8).
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      event
+     */
+    public static Event readEvent(byte[] json) {
+        if (json == null || json.length == 0) {
+            throw new IllegalArgumentException("Cannot parse empty json as Event");
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            jp.nextToken();
+            return readEvent(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse json as Event", e);
+        }
+    }
+
+    /**
+     * Read event from json string.
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      event
+     */
+    public static Event readEvent(String json) {
+        if (json == null || json.isEmpty()) {
+            throw new IllegalArgumentException("Cannot parse empty json as Event");
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            jp.nextToken();
+            return readEvent(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse json as Event " + json, e);
+        }
+    }
+
+    /**
+     * Read array of events from json bytes (UTF-8).
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      events or null if json is empty
+     */
+    public static Event[] readEventArray(byte[] json) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readEventArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Event array", e);
+        }
+    }
+
+    /**
+     * Read array of events from json string.
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      events or null if json is empty
+     */
+    public static Event[] readEventArray(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readEventArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON " + json, e);
+        }
+    }
+
+    /**
+     * Read events until end of array.
+     *
+     * @param jp
+     *      parser, not started or positioned on START_ARRAY
+     * @return
+     *      events
+     * @throws IOException
+     *      error when reading
+     */
+    private static Event[] readEventArray(JsonParser jp) throws IOException {
+        expectArray(jp);
+        List<Event> events = new ArrayList<Event>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            events.add(readEvent(jp));
+        }
+        return events.toArray(new Event[events.size()]);
+    }
+
+    /**
+     * Read an event, parser is positioned on START_OBJECT and left on matching END_OBJECT.
+     *
+     * @param jp
+     *      current parser
+     * @return
+     *      event
+     * @throws IOException
+     *      error when reading
+     */
+    public static Event readEvent(JsonParser jp) throws IOException {
+        expectObject(jp);
+        Event e = new Event();
+        e.setDuration(0L);
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if ("id".equals(field)) {
+                e.setUuid(readString(jp));
+            } else if ("timestamp".equals(field)) {
+                e.setTimestamp(jp.getValueAsLong());
+            } else if ("duration".equals(field)) {
+                e.setDuration(jp.getValueAsLong());
+            } else if ("hostName".equals(field)) {
+                e.setHostName(readString(jp));
+            } else if ("source".equals(field)) {
+                e.setSource(readString(jp));
+            } else if ("user".equals(field)) {
+                e.setUser(readString(jp));
+            } else if ("name".equals(field)) {
+                e.setName(readString(jp));
+            } else if ("type".equals(field)) {
+                e.setType(readString(jp));
+            } else if ("action".equals(field)) {
+                e.setAction(readString(jp));
+            } else if ("value".equals(field)) {
+                e.setValue(readString(jp));
+            } else if (token.isStructStart()) {
+                jp.skipChildren();
+            } else {
+                e.getCustomKeys().put(field, readString(jp));
+            }
+        }
+        return e;
+    }
+
+    /**
+     * Write event as json bytes (UTF-8).
+     *
+     * @param event
+     *      current event
+     * @return
+     *      json bytes
+     */
+    public static byte[] writeEvent(Event event) {
+        ByteArrayBuilder bab = new ByteArrayBuilder();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(bab)) {
+            writeEvent(gen, event);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot write event as JSON", e);
+        }
+        return bab.toByteArray();
+    }
+
+    /**
+     * Write events as a json array (UTF-8).
+     *
+     * @param events
+     *      events to write
+     * @return
+     *      json bytes
+     */
+    public static byte[] writeEventArray(Collection<Event> events) {
+        ByteArrayBuilder bab = new ByteArrayBuilder();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(bab)) {
+            gen.writeStartArray();
+            if (events != null) {
+                for (Event event : events) {
+                    writeEvent(gen, event);
+                }
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot write events as JSON", e);
+        }
+        return bab.toByteArray();
+    }
+
+    /**
+     * Write event with same keys as {@link Event#toJson()}, null values are omitted.
+     *
+     * @param gen
+     *      current generator
+     * @param event
+     *      current event
+     * @throws IOException
+     *      error when writing
+     */
+    public static void writeEvent(JsonGenerator gen, Event event) throws IOException {
+        if (event == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeStringField("id", event.getUuid());
+        gen.writeNumberField("timestamp", event.getTimestamp());
+        writeIfNotNull(gen, "hostName", event.getHostName());
+        writeIfNotNull(gen, "source",   event.getSource());
+        writeIfNotNull(gen, "user",     event.getUser());
+        writeIfNotNull(gen, "name",     event.getName());
+        writeIfNotNull(gen, "type",     event.getType());
+        writeIfNotNull(gen, "action",   event.getAction());
+        writeIfNotNull(gen, "value",    event.getValue());
+        gen.writeNumberField("duration", event.getDuration());
+        if (event.getCustomKeys() != null) {
+            for (Map.Entry<String, String> customKey : event.getCustomKeys().entrySet()) {
+                writeIfNotNull(gen, customKey.getKey(), customKey.getValue());
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Write string field only if there is a value.
+     *
+     * @param gen
+     *      current generator
+     * @param name
+     *      field name
+     * @param value
+     *      field value
+     * @throws IOException
+     *      error when writing
+     */
+    private static void writeIfNotNull(JsonGenerator gen, String name, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value);
+        }
+    }
+
+}
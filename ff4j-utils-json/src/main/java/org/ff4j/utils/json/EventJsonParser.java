@@ -20,11 +20,11 @@ package org.ff4j.utils.json;
  * #L%
  */
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.ff4j.audit.Event;
 
-import java.io.IOException;
-import java.util.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Unmarshalling event data from JSON using Jackson.
@@ -33,11 +33,6 @@ import java.util.*;
  */
 public class EventJsonParser {
 
-    /**
-     * Jackson mapper.
-     */
-    private static ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Hide constructor.
      */
@@ -50,46 +45,8 @@ public class EventJsonParser {
      * @param json json representation of event.
      * @return event object
      */
-    @SuppressWarnings("unchecked")
     public static Event parseEvent(String json) {
-        try {
-            return parseEventMap(objectMapper.readValue(json, HashMap.class));
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Cannot parse json as Event " + json, e);
-        }
-    }
-
-    private static Event parseEventMap(Map<String, Object> eMap) {
-        Event e = new Event();
-
-        e.setUuid((String) eMap.get("id"));
-        e.setTimestamp((Long) eMap.get("timestamp"));
-        e.setHostName((String) eMap.get("hostName"));
-        e.setSource((String) eMap.get("source"));
-        e.setUser((String) eMap.get("user"));
-        e.setName((String) eMap.get("name"));
-        e.setType((String) eMap.get("type"));
-        e.setAction((String) eMap.get("action"));
-        e.setValue((String) eMap.get("value"));
-
-        if (null != eMap.get("duration")) {
-            if (eMap.get("duration") instanceof Integer) {
-                e.setDuration(((Integer) eMap.get("duration")).longValue());
-            } else {
-                e.setDuration((Long) eMap.get("duration"));
-            }
-        } else {
-            e.setDuration(0L);
-        }
-
-        // Handle custom keys - Get all keys and remove known keys. The remaining are custom keys
-        Set<String> keys = eMap.keySet();
-        keys.removeAll(Arrays.asList("id", "timestamp", "hostName", "source", "user", "name", "type", "action", "value", "duration"));
-        for (String key : keys) {
-            e.getCustomKeys().put(key, (String) eMap.get(key));
-        }
-
-        return e;
+        return EventJsonCodec.readEvent(json);
     }
 
     /**
@@ -99,18 +56,8 @@ public class EventJsonParser {
      * @return json string
      */
     public static String eventArrayToJson(Event[] events) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-        if (events != null) {
-            boolean first = true;
-            for (Event event : events) {
-                sb.append(first ? "" : ",");
-                sb.append(event.toJson());
-                first = false;
-            }
-        }
-        sb.append("]");
-        return sb.toString();
+        List<Event> eventList = (events == null) ? null : Arrays.asList(events);
+        return new String(EventJsonCodec.writeEventArray(eventList), StandardCharsets.UTF_8);
     }
 
     /**
@@ -119,22 +66,8 @@ public class EventJsonParser {
      * @param json json expression
      * @return array of event
      */
-    @SuppressWarnings("unchecked")
     public static Event[] parseEventArray(String json) {
-        if (null == json || "".equals(json)) {
-            return null;
-        }
-        try {
-            List<LinkedHashMap<String, Object>> evtMap = objectMapper.readValue(json, List.class);
-            Event[] eArray = new Event[evtMap.size()];
-            int idx = 0;
-            for (LinkedHashMap<String, Object> ll : evtMap) {
-                eArray[idx++] = parseEventMap(ll);
-            }
-            return eArray;
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Cannot parse JSON " + json, e);
-        }
+        return EventJsonCodec.readEventArray(json);
     }
 
 }
@@ -0,0 +1,402 @@
+package org.ff4j.utils.json;
+
+/*
+ * #%L
+ * ff4j-utils-json
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.ff4j.utils.json.PropertyJsonCodec.JSON_FACTORY;
+import static org.ff4j.utils.json.PropertyJsonCodec.expectArray;
+import static org.ff4j.utils.json.PropertyJsonCodec.expectObject;
+import static org.ff4j.utils.json.PropertyJsonCodec.readString;
+import static org.ff4j.utils.json.PropertyJsonCodec.readStringList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ff4j.core.Feature;
+import org.ff4j.core.FlippingStrategy;
+import org.ff4j.property.Property;
+import org.ff4j.utils.MappingUtil;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+/**
+ * Streaming (token based) reader and writer for {@link Feature}, no intermediate map is created.
+ *
+ * <p>Layout is the one produced by {@link Feature#toJson()}.</p>
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class FeatureJsonCodec {
+
+    /**
+     * Hide constructor.
+     */
+    private FeatureJsonCodec() {
+    }
+
+    /**
+     * Read feature from json bytes (UTF-8).
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      feature
+     */
+    public static Feature readFeature(byte[] json) {
+        if (json == null || json.length == 0) {
+            throw new IllegalArgumentException("Cannot parse empty json as Feature");
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            jp.nextToken();
+            return readFeature(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse json as Feature", e);
+        }
+    }
+
+    /**
+     * Read feature from json string.
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      feature
+     */
+    public static Feature readFeature(String json) {
+        if (json == null || json.isEmpty()) {
+            throw new IllegalArgumentException("Cannot parse empty json as Feature");
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            jp.nextToken();
+            return readFeature(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse json as Feature " + json, e);
+        }
+    }
+
+    /**
+     * Read array of features from json bytes (UTF-8).
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      features or null if json is empty
+     */
+    public static Feature[] readFeatureArray(byte[] json) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readFeatureArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Feature array", e);
+        }
+    }
+
+    /**
+     * Read array of features from json string.
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      features or null if json is empty
+     */
+    public static Feature[] readFeatureArray(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readFeatureArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON " + json, e);
+        }
+    }
+
+    /**
+     * Read array of features from a stream (UTF-8), features are read one after another.
+     *
+     * @param json
+     *      json stream (not closed)
+     * @return
+     *      features
+     */
+    public static Feature[] readFeatureArray(InputStream json) {
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readFeatureArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Feature array", e);
+        }
+    }
+
+    /**
+     * Read features until end of array.
+     *
+     * @param jp
+     *      parser, not started or positioned on START_ARRAY
+     * @return
+     *      features
+     * @throws IOException
+     *      error when reading
+     */
+    private static Feature[] readFeatureArray(JsonParser jp) throws IOException {
+        expectArray(jp);
+        List<Feature> features = new ArrayList<Feature>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            features.add(readFeature(jp));
+        }
+        return features.toArray(new Feature[features.size()]);
+    }
+
+    /**
+     * Read a feature, parser is positioned on START_OBJECT and left on matching END_OBJECT.
+     *
+     * @param jp
+     *      current parser
+     * @return
+     *      feature
+     * @throws IOException
+     *      error when reading
+     */
+    public static Feature readFeature(JsonParser jp) throws IOException {
+        expectObject(jp);
+        String uid          = null;
+        boolean enable      = false;
+        String description  = null;
+        String group        = null;
+        List<String> perms  = null;
+        String strategyType = null;
+        Map<String, String> initParams = null;
+        Map<String, Property<?>> customProperties = new LinkedHashMap<String, Property<?>>();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if ("uid".equals(field)) {
+                uid = readString(jp);
+            } else if ("enable".equals(field)) {
+                enable = (token == JsonToken.VALUE_TRUE);
+            } else if ("description".equals(field)) {
+                description = readString(jp);
+            } else if ("group".equals(field)) {
+                group = readString(jp);
+            } else if ("permissions".equals(field)) {
+                perms = readStringList(jp);
+            } else if ("flippingStrategy".equals(field) && token == JsonToken.START_OBJECT) {
+                while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                    String strategyField = jp.getCurrentName();
+                    jp.nextToken();
+                    if ("type".equals(strategyField)) {
+                        strategyType = readString(jp);
+                    } else if ("initParams".equals(strategyField)) {
+                        initParams = readStringMap(jp);
+                    } else {
+                        jp.skipChildren();
+                    }
+                }
+            } else if ("customProperties".equals(field) && token == JsonToken.START_OBJECT) {
+                while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                    jp.nextToken();
+                    Property<?> ap = PropertyJsonCodec.readProperty(jp);
+                    if (ap != null) {
+                        customProperties.put(ap.getName(), ap);
+                    }
+                }
+            } else {
+                jp.skipChildren();
+            }
+        }
+        Feature f = new Feature(uid, enable, description);
+        f.setGroup(group);
+        f.setPermissions(new HashSet<String>());
+        if (perms != null) {
+            f.getPermissions().addAll(perms);
+        }
+        if (strategyType != null) {
+            f.setFlippingStrategy(MappingUtil.instanceFlippingStrategy(uid, strategyType, initParams));
+        }
+        f.setCustomProperties(customProperties);
+        return f;
+    }
+
+    /**
+     * Write feature as json bytes (UTF-8).
+     *
+     * @param feature
+     *      current feature
+     * @return
+     *      json bytes
+     */
+    public static byte[] writeFeature(Feature feature) {
+        ByteArrayBuilder bab = new ByteArrayBuilder();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(bab)) {
+            writeFeature(gen, feature);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot write feature as JSON", e);
+        }
+        return bab.toByteArray();
+    }
+
+    /**
+     * Write features as a json array (UTF-8).
+     *
+     * @param features
+     *      features to write
+     * @return
+     *      json bytes
+     */
+    public static byte[] writeFeatureArray(Collection<Feature> features) {
+        ByteArrayBuilder bab = new ByteArrayBuilder();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(bab)) {
+            writeFeatureArray(gen, features);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot write features as JSON", e);
+        }
+        return bab.toByteArray();
+    }
+
+    /**
+     * Write features as a json array, each feature is flushed to the generator as soon as written.
+     *
+     * @param gen
+     *      current generator
+     * @param features
+     *      features to write
+     * @throws IOException
+     *      error when writing
+     */
+    public static void writeFeatureArray(JsonGenerator gen, Iterable<Feature> features) throws IOException {
+        gen.writeStartArray();
+        if (features != null) {
+            for (Feature feature : features) {
+                writeFeature(gen, feature);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Write feature with same layout as {@link Feature#toJson()}.
+     *
+     * @param gen
+     *      current generator
+     * @param feature
+     *      current feature
+     * @throws IOException
+     *      error when writing
+     */
+    public static void writeFeature(JsonGenerator gen, Feature feature) throws IOException {
+        if (feature == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeStringField("uid", feature.getUid());
+        gen.writeBooleanField("enable", feature.isEnable());
+        gen.writeStringField("description", feature.getDescription());
+        gen.writeStringField("group", feature.getGroup());
+        gen.writeFieldName("permissions");
+        if (feature.getPermissions() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray();
+            for (String permission : feature.getPermissions()) {
+                gen.writeString(permission);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeFieldName("flippingStrategy");
+        writeFlippingStrategy(gen, feature.getFlippingStrategy());
+        gen.writeFieldName("customProperties");
+        if (feature.getCustomProperties() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            for (Map.Entry<String, Property<?>> customProperty : feature.getCustomProperties().entrySet()) {
+                gen.writeFieldName(customProperty.getKey());
+                PropertyJsonCodec.writeProperty(gen, customProperty.getValue());
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Write strategy as <code>{"initParams":{...},"type":"..."}</code>.
+     *
+     * @param gen
+     *      current generator
+     * @param strategy
+     *      current strategy
+     * @throws IOException
+     *      error when writing
+     */
+    public static void writeFlippingStrategy(JsonGenerator gen, FlippingStrategy strategy) throws IOException {
+        if (strategy == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName("initParams");
+        if (strategy.getInitParams() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            for (Map.Entry<String, String> initParam : strategy.getInitParams().entrySet()) {
+                gen.writeStringField(initParam.getKey(), initParam.getValue());
+            }
+            gen.writeEndObject();
+        }
+        gen.writeStringField("type", strategy.getClass().getName());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Read current object as map of String.
+     *
+     * @param jp
+     *      current parser
+     * @return
+     *      values, null for json null
+     * @throws IOException
+     *      error when reading
+     */
+    private static Map<String, String> readStringMap(JsonParser jp) throws IOException {
+        if (jp.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(jp);
+        Map<String, String> values = new LinkedHashMap<String, String>();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String key = jp.getCurrentName();
+            jp.nextToken();
+            values.put(key, readString(jp));
+        }
+        return values;
+    }
+
+}
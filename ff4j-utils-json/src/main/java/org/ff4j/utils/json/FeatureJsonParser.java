@@ -20,19 +20,15 @@ package org.ff4j.utils.json;
  * #L%
  */
 
-import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.ff4j.core.Feature;
 import org.ff4j.core.FlippingStrategy;
-import org.ff4j.property.Property;
-import org.ff4j.property.util.PropertyFactory;
 import org.ff4j.utils.MappingUtil;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,13 +56,8 @@ public class FeatureJsonParser {
      *            json representation of feature.
      * @return feature object
      */
-    @SuppressWarnings("unchecked")
     public static Feature parseFeature(String json) {
-        try {
-            return parseFeatureMap(objectMapper.readValue(json, HashMap.class));
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Cannot parse json as Feature " + json, e);
-        }
+        return FeatureJsonCodec.readFeature(json);
     }
     
     @SuppressWarnings("unchecked")
@@ -79,71 +70,6 @@ public class FeatureJsonParser {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Feature parseFeatureMap(Map<String, Object> fMap) {
-        Feature f = new Feature((String) fMap.get("uid"));
-        f.setEnable((Boolean) fMap.get("enable"));
-        f.setDescription((String) fMap.get("description"));
-        f.setGroup((String) fMap.get("group"));
-        // permissions
-        List<String> perm = (ArrayList<String>) fMap.get("permissions");
-        f.setPermissions(new HashSet<String>());
-        if (perm != null) {
-            f.getPermissions().addAll(perm);
-        }
-        // flipping strategy
-        f.setFlippingStrategy(parseFlipStrategy(f.getUid(), (LinkedHashMap<String, Object>) fMap.get("flippingStrategy")));
-        // custom properties
-        Map <String, Object > propertyMap = (Map < String, Object >) fMap.get("customProperties");
-        f.setCustomProperties(parseCustomProperties(propertyMap));
-        return f;
-    }    
-    
-    /**
-     * Parse the "customproperties" JSOn attribute.
-     *
-     * @param uid
-     *      current feature identifier
-     * @param tag
-     *      current TAG
-     * @return
-     *      target map of properties
-     */
-    @SuppressWarnings("unchecked")
-    private static Map < String, Property<?>> parseCustomProperties(Map <String, Object > customPTag) {
-        Map < String, Property<?>> myProperties = new LinkedHashMap<String, Property<?>>();
-        if (null != customPTag && !customPTag.isEmpty()) {
-            // Loop over properties
-            for (Object property : customPTag.values()) {
-                HashMap<String, Object> propertyJson = (HashMap<String, Object>) property;
-                String propertyName = (String) propertyJson.get("name");
-                String propertyVal  = String.valueOf(propertyJson.get("value"));
-                String propertyType = (String) propertyJson.get("type");
-                Property<?> ap = PropertyFactory.createProperty(propertyName, propertyType, propertyVal);
-                // FixedValued
-                List <Object> listOfFixedValue = (List<Object>) propertyJson.get("fixedValues");
-                addFixedValuesToProperty(ap, listOfFixedValue);
-                myProperties.put(ap.getName(), ap);
-            }
-        }
-        return myProperties;
-        
-    }
-
-    private static void addFixedValuesToProperty(Property<?> ap, List<Object> listOfFixedValue) {
-        if (listOfFixedValue != null) {
-            for (Object v : listOfFixedValue) {
-                ap.add2FixedValueFromString(String.valueOf(v));
-            }
-            // Check fixed value
-            if (ap.getFixedValues() != null && !ap.getFixedValues().contains(ap.getValue())) {
-                throw new IllegalArgumentException("Cannot create property <" + ap.getName() + 
-                        "> invalid value <" + ap.getValue() + 
-                        "> expected one of " + ap.getFixedValues());
-            }
-        }
-    }
-
     /**
      * Convert feature array to json.
      *
@@ -152,18 +78,8 @@ public class FeatureJsonParser {
      * @return json string
      */
     public static String featureArrayToJson(Feature[] features) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-        if (features != null) {
-            boolean first = true;
-            for (Feature feature : features) {
-                sb.append(first ? "" : ",");
-                sb.append(feature.toJson());
-                first = false;
-            }
-        }
-        sb.append("]");
-        return sb.toString();
+        List<Feature> featureList = (features == null) ? null : Arrays.asList(features);
+        return new String(FeatureJsonCodec.writeFeatureArray(featureList), StandardCharsets.UTF_8);
     }
 
     /**
@@ -214,22 +130,8 @@ public class FeatureJsonParser {
      * @return
      *      array of feature
      */
-    @SuppressWarnings("unchecked")
     public static Feature[] parseFeatureArray(String json) {
-        if (null == json || "".equals(json)) {
-            return null;
-        }
-        try {
-            List<LinkedHashMap<String, Object>> flipMap = objectMapper.readValue(json, List.class);
-            Feature[] fArray = new Feature[flipMap.size()];
-            int idx = 0;
-            for (LinkedHashMap<String, Object> ll : flipMap) {
-                fArray[idx++] = parseFeatureMap(ll);
-            }
-            return fArray;
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Cannot parse JSON " + json, e);
-        }
+        return FeatureJsonCodec.readFeatureArray(json);
     }
 
 }
@@ -0,0 +1,352 @@
+package org.ff4j.utils.json;
+
+/*
+ * #%L
+ * ff4j-utils-json
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.ff4j.property.Property;
+import org.ff4j.property.util.PropertyFactory;
+import org.ff4j.property.util.PropertyJsonBean;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+/**
+ * Streaming (token based) reader and writer for {@link Property}, no intermediate map is created.
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public final class PropertyJsonCodec {
+
+    /** Jackson factory, thread-safe. */
+    static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Hide constructor.
+     */
+    private PropertyJsonCodec() {
+    }
+
+    /**
+     * Read property from json bytes (UTF-8).
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      property or null if json is empty
+     */
+    public static Property<?> readProperty(byte[] json) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            jp.nextToken();
+            return readProperty(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Property", e);
+        }
+    }
+
+    /**
+     * Read property from json string.
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      property or null if json is empty
+     */
+    public static Property<?> readProperty(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            jp.nextToken();
+            return readProperty(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Property", e);
+        }
+    }
+
+    /**
+     * Read array of properties from json bytes (UTF-8).
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      properties or null if json is empty
+     */
+    public static Property<?>[] readPropertyArray(byte[] json) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readPropertyArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Property array", e);
+        }
+    }
+
+    /**
+     * Read array of properties from json string.
+     *
+     * @param json
+     *      json expression
+     * @return
+     *      properties or null if json is empty
+     */
+    public static Property<?>[] readPropertyArray(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try (JsonParser jp = JSON_FACTORY.createParser(json)) {
+            return readPropertyArray(jp);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot parse JSON Property array", e);
+        }
+    }
+
+    /**
+     * Read properties one after another until end of array.
+     *
+     * @param jp
+     *      parser, not started or positioned on START_ARRAY
+     * @return
+     *      properties
+     * @throws IOException
+     *      error when reading
+     */
+    private static Property<?>[] readPropertyArray(JsonParser jp) throws IOException {
+        expectArray(jp);
+        List<Property<?>> properties = new ArrayList<Property<?>>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            properties.add(readProperty(jp));
+        }
+        return properties.toArray(new Property<?>[properties.size()]);
+    }
+
+    /**
+     * Read a property, parser is positioned on START_OBJECT and left on matching END_OBJECT.
+     *
+     * @param jp
+     *      current parser
+     * @return
+     *      property (null for json null)
+     * @throws IOException
+     *      error when reading
+     */
+    public static Property<?> readProperty(JsonParser jp) throws IOException {
+        if (jp.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(jp);
+        String name        = null;
+        String description = null;
+        String type        = null;
+        String value       = null;
+        List<String> fixedValues = null;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            jp.nextToken();
+            if ("name".equals(field)) {
+                name = readString(jp);
+            } else if ("description".equals(field)) {
+                description = readString(jp);
+            } else if ("type".equals(field)) {
+                type = readString(jp);
+            } else if ("value".equals(field)) {
+                value = readString(jp);
+            } else if (PropertyJsonParser.FIXED_VALUES.equals(field)) {
+                fixedValues = readStringList(jp);
+            } else {
+                jp.skipChildren();
+            }
+        }
+        Property<?> ap = PropertyFactory.createProperty(name, type, value, description, null);
+        if (fixedValues != null) {
+            for (String v : fixedValues) {
+                ap.add2FixedValueFromString(v);
+            }
+            if (ap.getFixedValues() != null && !ap.getFixedValues().contains(ap.getValue())) {
+                throw new IllegalArgumentException("Cannot create property <" + ap.getName() +
+                        "> invalid value <" + ap.getValue() +
+                        "> expected one of " + ap.getFixedValues());
+            }
+        }
+        return ap;
+    }
+
+    /**
+     * Write property as json bytes (UTF-8).
+     *
+     * @param property
+     *      current property
+     * @return
+     *      json bytes
+     */
+    public static byte[] writeProperty(Property<?> property) {
+        ByteArrayBuilder bab = new ByteArrayBuilder();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(bab)) {
+            writeProperty(gen, property);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot write property as JSON", e);
+        }
+        return bab.toByteArray();
+    }
+
+    /**
+     * Write properties as a json array (UTF-8).
+     *
+     * @param properties
+     *      properties to write
+     * @return
+     *      json bytes
+     */
+    public static byte[] writePropertyArray(Collection<Property<?>> properties) {
+        ByteArrayBuilder bab = new ByteArrayBuilder();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(bab)) {
+            gen.writeStartArray();
+            if (properties != null) {
+                for (Property<?> property : properties) {
+                    writeProperty(gen, property);
+                }
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot write properties as JSON", e);
+        }
+        return bab.toByteArray();
+    }
+
+    /**
+     * Write property with same layout as {@link PropertyJsonBean#asJson()}.
+     *
+     * @param gen
+     *      current generator
+     * @param property
+     *      current property
+     * @throws IOException
+     *      error when writing
+     */
+    public static void writeProperty(JsonGenerator gen, Property<?> property) throws IOException {
+        if (property == null) {
+            gen.writeNull();
+            return;
+        }
+        PropertyJsonBean bean = new PropertyJsonBean(property);
+        gen.writeStartObject();
+        gen.writeStringField("name", bean.getName());
+        gen.writeStringField("description", bean.getDescription());
+        gen.writeStringField("type", bean.getType());
+        gen.writeStringField("value", bean.getValue());
+        gen.writeFieldName(PropertyJsonParser.FIXED_VALUES);
+        if (bean.getFixedValues() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray();
+            for (String fixedValue : bean.getFixedValues()) {
+                gen.writeString(fixedValue);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Read current scalar as String (numbers and booleans included), null for json null.
+     *
+     * @param jp
+     *      current parser
+     * @return
+     *      value as String
+     * @throws IOException
+     *      error when reading
+     */
+    static String readString(JsonParser jp) throws IOException {
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            throw new IllegalArgumentException("Expecting a value but got " + token);
+        }
+        return jp.getValueAsString();
+    }
+
+    /**
+     * Read current array as list of String.
+     *
+     * @param jp
+     *      current parser
+     * @return
+     *      values, null for json null
+     * @throws IOException
+     *      error when reading
+     */
+    static List<String> readStringList(JsonParser jp) throws IOException {
+        if (jp.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (jp.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Expecting an array but got " + jp.currentToken());
+        }
+        List<String> values = new ArrayList<String>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(jp));
+        }
+        return values;
+    }
+
+    /**
+     * Ensure parser is positioned on START_OBJECT.
+     *
+     * @param jp
+     *      current parser
+     */
+    static void expectObject(JsonParser jp) {
+        if (jp.currentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expecting a json object but got " + jp.currentToken());
+        }
+    }
+
+    /**
+     * Move parser to START_ARRAY if not yet started and ensure it is there.
+     *
+     * @param jp
+     *      current parser
+     * @throws IOException
+     *      error when reading
+     */
+    static void expectArray(JsonParser jp) throws IOException {
+        if (jp.currentToken() == null) {
+            jp.nextToken();
+        }
+        if (jp.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Expecting a json array but got " + jp.currentToken());
+        }
+    }
+
+}
@@ -22,18 +22,14 @@ import java.util.ArrayList;
  * #L%
  */
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.ff4j.core.Feature;
 import org.ff4j.property.Property;
-import org.ff4j.property.util.PropertyFactory;
 import org.ff4j.property.util.PropertyJsonBean;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * Unmarshalling data from JSON with Jackson.
  *
@@ -42,8 +38,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public final class PropertyJsonParser {
 
     public static final String FIXED_VALUES = "fixedValues";
-    /** Jackson mapper. */
-    private static ObjectMapper objectMapper = new ObjectMapper();
     
     private PropertyJsonParser() {}
     
@@ -54,37 +48,9 @@ public final class PropertyJsonParser {
      *            json representation of feature.
      * @return feature object
      */
-    @SuppressWarnings("unchecked")
     public static Property<?> parseProperty(String json) {
-        if (null == json || "".equals(json)) {
-            return null;
-        }
-        Map<String, Object> propertyJson;
-        try {
-            propertyJson = objectMapper.readValue(json, HashMap.class);
-        } catch (Exception re) {
-            throw new IllegalArgumentException("Cannot parse JSON Property", re);
-        }
-        String propertyName = String.valueOf(propertyJson.get("name"));
-        String propertyVal  = String.valueOf(propertyJson.get("value"));
-        String propertyType = String.valueOf(propertyJson.get("type"));
-        Property < ?> ap = PropertyFactory.createProperty(propertyName, propertyType, propertyVal);
-        
-        // FixedValued
-        List <Object> listOfFixedValue = (List<Object>) propertyJson.get(FIXED_VALUES);
-        if (listOfFixedValue != null) {
-            for (Object v : listOfFixedValue) {
-                ap.add2FixedValueFromString(String.valueOf(v));
-            }
-            // Check fixed value
-            if (ap.getFixedValues() != null && !ap.getFixedValues().contains(ap.getValue())) {
-                throw new IllegalArgumentException("Cannot create property <" + ap.getName() + 
-                        "> invalid value <" + ap.getValue() + 
-                        "> expected one of " + ap.getFixedValues());
-            }
-        }
-       return ap;
-   }
+        return PropertyJsonCodec.readProperty(json);
+    }
     
     /**
      * Parse the json expression as array of {@link Feature}.
@@ -94,22 +60,8 @@ public final class PropertyJsonParser {
      * @return
      *      array of feature
      */
-    @SuppressWarnings("unchecked")
     public static Property<?>[] parsePropertyArray(String json) {
-        if (null == json || "".equals(json)) {
-            return null;
-        }
-        try {
-            List<LinkedHashMap<String, Object>> flipMap = objectMapper.readValue(json, List.class);
-            Property<?>[] fArray = new Property<?>[flipMap.size()];
-            int idx = 0;
-            for (LinkedHashMap<String, Object> ll : flipMap) {
-                fArray[idx++] = parsePropertyMap(ll);
-            }
-            return fArray;
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Cannot parse JSON " + json, e);
-        }
+        return PropertyJsonCodec.readPropertyArray(json);
     }
     
     /**
@@ -20,8 +20,11 @@ package org.ff4j.utils.mapping;
  * #L%
  */
 
+import java.nio.charset.StandardCharsets;
+
 import org.ff4j.audit.Event;
 import org.ff4j.mapper.EventMapper;
+import org.ff4j.utils.json.EventJsonCodec;
 import org.ff4j.utils.json.EventJsonParser;
 
 /**
@@ -37,7 +40,7 @@ public class JsonStringEventMapper implements EventMapper<String> {
     @Override
     public String toStore(Event bean) {
         if (bean == null) return null;
-        return bean.toJson();
+        return new String(EventJsonCodec.writeEvent(bean), StandardCharsets.UTF_8);
     }
 
     /**
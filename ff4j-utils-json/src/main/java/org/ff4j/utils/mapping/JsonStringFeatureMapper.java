@@ -20,8 +20,11 @@ package org.ff4j.utils.mapping;
  * #L%
  */
 
+import java.nio.charset.StandardCharsets;
+
 import org.ff4j.core.Feature;
 import org.ff4j.mapper.FeatureMapper;
+import org.ff4j.utils.json.FeatureJsonCodec;
 import org.ff4j.utils.json.FeatureJsonParser;
 
 /**
@@ -34,7 +37,7 @@ public class JsonStringFeatureMapper implements FeatureMapper < String > {
     @Override
     public String toStore(Feature bean) {
         if (bean == null) return null;
-        return bean.toJson();
+        return new String(FeatureJsonCodec.writeFeature(bean), StandardCharsets.UTF_8);
     }
 
     /** {@inheritDoc} */
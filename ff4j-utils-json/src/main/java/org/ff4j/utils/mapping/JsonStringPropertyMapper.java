@@ -20,9 +20,12 @@ package org.ff4j.utils.mapping;
  * #L%
  */
 
+import java.nio.charset.StandardCharsets;
+
 import org.ff4j.core.Feature;
 import org.ff4j.mapper.PropertyMapper;
 import org.ff4j.property.Property;
+import org.ff4j.utils.json.PropertyJsonCodec;
 import org.ff4j.utils.json.PropertyJsonParser;
 
 /**
@@ -36,7 +39,7 @@ public class JsonStringPropertyMapper implements PropertyMapper< String > {
     @Override
     public String toStore(Property<?> bean) {
         if (bean == null) return null;
-        return bean.toJson();
+        return new String(PropertyJsonCodec.writeProperty(bean), StandardCharsets.UTF_8);
     }
 
     /** {@inheritDoc} */
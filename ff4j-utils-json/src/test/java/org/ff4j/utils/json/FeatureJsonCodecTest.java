@@ -0,0 +1,80 @@
+package org.ff4j.utils.json;
+
+/*
+ * #%L
+ * ff4j-utils-json
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayInputStream;
+
+import org.ff4j.FF4j;
+import org.ff4j.core.Feature;
+import org.ff4j.property.Property;
+import org.ff4j.property.PropertyString;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FeatureJsonCodecTest {
+
+    /** Sample in-memory. */
+    private final FF4j ff4j = new FF4j("test-ff4j-parser.xml");
+
+    @Test
+    public void testFeatureRoundTrip() {
+        for (Feature f : ff4j.getFeatures().values()) {
+            Feature f1 = FeatureJsonCodec.readFeature(FeatureJsonCodec.writeFeature(f));
+            Assert.assertEquals(f.toJson(), f1.toJson());
+            // Same layout as Feature.toJson()
+            Assert.assertEquals(f.toJson(), FeatureJsonCodec.readFeature(f.toJson()).toJson());
+        }
+    }
+
+    @Test
+    public void testFeatureArrayFromStream() {
+        byte[] json = FeatureJsonCodec.writeFeatureArray(ff4j.getFeatures().values());
+        Feature[] features = FeatureJsonCodec.readFeatureArray(new ByteArrayInputStream(json));
+        Assert.assertEquals(ff4j.getFeatures().size(), features.length);
+        Assert.assertNull(FeatureJsonCodec.readFeatureArray(new byte[0]));
+    }
+
+    @Test
+    public void testEscapedValues() {
+        Feature f = new Feature("f\"1", true, "quote \" and \\ backslash");
+        f.addProperty(new PropertyString("p\"1", "v\"1"));
+        Feature f1 = FeatureJsonCodec.readFeature(FeatureJsonCodec.writeFeature(f));
+        Assert.assertEquals(f.getUid(), f1.getUid());
+        Assert.assertEquals(f.getDescription(), f1.getDescription());
+        Assert.assertEquals("v\"1", f1.getProperty("p\"1").asString());
+    }
+
+    @Test
+    public void testPropertyRoundTrip() {
+        for (Property<?> p : ff4j.getProperties().values()) {
+            Property<?> p1 = PropertyJsonCodec.readProperty(PropertyJsonCodec.writeProperty(p));
+            Assert.assertEquals(p.getName(), p1.getName());
+            Assert.assertEquals(p.asString(), p1.asString());
+            Assert.assertEquals(p.getType(), p1.getType());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFeature() {
+        FeatureJsonCodec.readFeature("something:invalid".getBytes());
+    }
+
+}
@@ -35,6 +35,7 @@ import static org.ff4j.web.bean.WebConstants.OP_TIMESERIES;
 import static org.ff4j.web.embedded.ConsoleOperations.exportFile;
 
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -220,17 +221,18 @@ public class OperationsController extends AbstractController {
             }
         } else {
             Map< String, Feature > mapOfFeatures = getFf4j().getFeatureStore().readAll();
-            StringBuilder sb = new StringBuilder("[");
+            // Write features one at a time, the whole array is never built in memory
+            PrintWriter out = res.getWriter();
+            out.write("[");
             boolean first = true;
             for (Feature feature : mapOfFeatures.values()) {
                 if (!first) {
-                    sb.append(",");
+                    out.write(",");
                 }
-                sb.append(feature.toJson());
-               first = false;
+                out.write(feature.toJson());
+                first = false;
             }
-            sb.append("]");
-            res.getWriter().println(sb.toString());
+            out.println("]");
         }
     }
     
@@ -257,17 +259,18 @@ public class OperationsController extends AbstractController {
             }
         } else {
             Map< String, Property<?> > mapOfFeatures = getFf4j().getPropertiesStore().readAllProperties();
-            StringBuilder sb = new StringBuilder("[");
+            // Write properties one at a time, the whole array is never built in memory
+            PrintWriter out = res.getWriter();
+            out.write("[");
             boolean first = true;
             for (Property<?> myProperty : mapOfFeatures.values()) {
                 if (!first) {
-                    sb.append(",");
+                    out.write(",");
                 }
-                sb.append(myProperty.toJson());
-               first = false;
+                out.write(myProperty.toJson());
+                first = false;
             }
-            sb.append("]");
-            res.getWriter().println(sb.toString());
+            out.println("]");
         }
         return;
     }
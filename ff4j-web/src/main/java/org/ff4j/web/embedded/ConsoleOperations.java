@@ -347,19 +347,15 @@ public final class ConsoleOperations {
      */
     public static void exportFile(FF4j ff4j, HttpServletResponse res) throws IOException {
         Map<String, Feature> features = ff4j.getFeatureStore().readAll();
-        InputStream in = new XmlParser().exportFeatures(features);
         ServletOutputStream sos = null;
         try {
             sos = res.getOutputStream();
             res.setContentType("text/xml");
             res.setHeader("Content-Disposition", "attachment; filename=\"ff4j.xml\"");
-            // res.setContentLength()
-            org.apache.commons.io.IOUtils.copy(in, sos);
+            // Features are written one after another, no full document in memory
+            new XmlParser().exportFeatures(features, sos);
             LOGGER.info(features.size() + " features have been exported.");
         } finally {
-            if (in != null) {
-                in.close();
-            }
             if (sos != null) {
                 sos.flush();
                 sos.close();
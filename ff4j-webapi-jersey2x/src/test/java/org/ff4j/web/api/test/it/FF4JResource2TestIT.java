@@ -213,6 +213,48 @@ public class FF4JResource2TestIT extends AbstractWebResourceTestIT {
         Assert.assertNotNull(resEntity);
         Assert.assertFalse(Boolean.valueOf(resEntity));
         ff4j.delete("FWP");
-    } 
+    }
+
+    /**
+     * TDD.
+     */
+    @Test
+    public void testPostCheckAll() {
+        // Given
+        assertFF4J.assertThatFeatureExist(F1);
+        assertFF4J.assertThatFeatureExist(F4);
+        // When
+        Form formData = new Form();
+        formData.param(POST_PARAMNAME_FEATURE_UID, F1);
+        formData.param(POST_PARAMNAME_FEATURE_UID, F4);
+        Response resHttp = resourceff4j().path(OPERATION_CHECK) //
+                .request(MediaType.APPLICATION_FORM_URLENCODED_TYPE)
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.form(formData));
+        String resEntity = resHttp.readEntity(String.class);
+
+        // Then
+        Assert.assertEquals("Expected status is 200", Status.OK.getStatusCode(), resHttp.getStatus());
+        Assert.assertTrue(resEntity.contains("\"" + F1 + "\":" + ff4j.check(F1)));
+        Assert.assertTrue(resEntity.contains("\"" + F4 + "\":" + ff4j.check(F4)));
+    }
+
+    /**
+     * TDD.
+     */
+    @Test
+    public void testPostCheckAllNotFound() {
+        // Given
+        assertFF4J.assertThatFeatureDoesNotExist(F_DOESNOTEXIST);
+        // When
+        Form formData = new Form();
+        formData.param(POST_PARAMNAME_FEATURE_UID, F1);
+        formData.param(POST_PARAMNAME_FEATURE_UID, F_DOESNOTEXIST);
+        Response resHttp = resourceff4j().path(OPERATION_CHECK) //
+                .request(MediaType.APPLICATION_FORM_URLENCODED_TYPE)
+                .post(Entity.form(formData));
+        // Then
+        Assert.assertEquals("Expected status is 404", Status.NOT_FOUND.getStatusCode(), resHttp.getStatus());
+    }
 
 }
@@ -20,6 +20,9 @@ package org.ff4j.web.api.resources;
  * #L%
  */
 
+import java.util.List;
+import java.util.Map;
+
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
@@ -164,4 +167,48 @@ public class FF4jResource extends AbstractResource {
        
     }
     
+    /**
+     * Check several features at once, with the same parameters.
+     * 
+     * @param formParams
+     *      expected 'uid' values (features to check) and target custom params
+     * @return
+     *      status of each feature
+     */
+    @POST
+    @Path("/" + OPERATION_CHECK) 
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+    @ApiOperation(value= "<b>Batch check</b> of feature toggles (parameterized)", response=Map.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message= "status of each feature"),
+        @ApiResponse(code = 400, message= "Invalid parameter"),
+        @ApiResponse(code = 404, message= "feature has not been found")})
+    public Response checkAllPOST(@Context HttpHeaders headers, MultivaluedMap<String, String> formParams) {
+        // HoldSecurity Context
+        FF4JSecurityContextHolder.save(securityContext);
+        List<String> uids = formParams.get(POST_PARAMNAME_FEATURE_UID);
+        if (uids == null || uids.isEmpty()) {
+            String errMsg = "Invalid parameter, expecting at least one '" + POST_PARAMNAME_FEATURE_UID + "'";
+            return Response.status(Response.Status.BAD_REQUEST).entity(errMsg).build();
+        }
+        
+        // Other parameters are shared by the strategies of all features
+        FlippingExecutionContext flipExecCtx = new FlippingExecutionContext();
+        for (String key : formParams.keySet()) {
+            if (!POST_PARAMNAME_FEATURE_UID.equals(key)) {
+                flipExecCtx.putString(key, formParams.getFirst(key));
+            }
+        }
+        try {
+            Map<String, Boolean> flipped = ff4j.checkAll(uids, flipExecCtx);
+            return Response.ok(flipped).build();
+        } catch(FeatureNotFoundException fnfe) {
+            return Response.status(Response.Status.NOT_FOUND).entity(fnfe.getMessage()).build();
+        } catch(IllegalArgumentException iae) {
+            String errMsg = "Invalid parameter " + iae.getMessage();
+            return Response.status(Response.Status.BAD_REQUEST).entity(errMsg).build();
+        }
+    }
+    
 }
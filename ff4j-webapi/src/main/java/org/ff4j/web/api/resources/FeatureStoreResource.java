@@ -1,5 +1,9 @@
 package org.ff4j.web.api.resources;
 
+import static org.ff4j.web.FF4jWebConstants.HEADER_TOTAL_COUNT;
+import static org.ff4j.web.FF4jWebConstants.PARAM_FIELDS;
+import static org.ff4j.web.FF4jWebConstants.PARAM_LIMIT;
+import static org.ff4j.web.FF4jWebConstants.PARAM_OFFSET;
 import static org.ff4j.web.FF4jWebConstants.RESOURCE_CACHE;
 import static org.ff4j.web.FF4jWebConstants.RESOURCE_FEATURES;
 import static org.ff4j.web.FF4jWebConstants.RESOURCE_GROUPS;
@@ -36,8 +40,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.ff4j.cache.FF4jCacheProxy;
 import org.ff4j.core.Feature;
@@ -50,6 +56,7 @@ import org.ff4j.web.api.resources.domain.PropertyStoreApiBean;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
@@ -85,15 +92,24 @@ public class FeatureStoreResource extends AbstractResource {
     @GET
     @Path("/" + RESOURCE_FEATURES)
     @Produces(MediaType.APPLICATION_JSON)
-    @ApiOperation(value= "Display information regarding <b>Features</b>", response=FeatureApiBean.class)
-    @ApiResponses(@ApiResponse(code = 200, message= "get all features"))
-    public List < FeatureApiBean> readFeatures() {
-        Feature[] storeContent = getFeatureStore().readAll().values().toArray(new Feature[0]);
-        List < FeatureApiBean > apiBean = new ArrayList<FeatureApiBean>();
-        for (Feature feature : storeContent) {
-            apiBean.add(new FeatureApiBean(feature));
+    @ApiOperation(value= "Display information regarding <b>Features</b>", response=FeatureApiBean.class, responseContainer = "List")
+    @ApiResponses({ @ApiResponse(code = 200, message= "get all features"),
+                    @ApiResponse(code = 400, message= "invalid paging parameters") })
+    public Response readFeatures(
+            @ApiParam(value = "index of first feature (sorted by uid)") @QueryParam(PARAM_OFFSET) Integer offset,
+            @ApiParam(value = "maximum number of features") @QueryParam(PARAM_LIMIT) Integer limit,
+            @ApiParam(value = "comma separated attributes to return") @QueryParam(PARAM_FIELDS) String fields) {
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("Paging parameters must be positive").build();
         }
-        return apiBean;
+        Map < String, Feature > storeContent = getFeatureStore().readAll();
+        List < Feature > features = JsonArrayStreamingOutput.page(storeContent, offset, limit);
+        StreamingOutput output = new JsonArrayStreamingOutput<Feature>(features, fields) {
+            protected Object toApiBean(Feature feature) {
+                return new FeatureApiBean(feature);
+            }
+        };
+        return Response.ok(output).header(HEADER_TOTAL_COUNT, storeContent == null ? 0 : storeContent.size()).build();
     }
 
     /**
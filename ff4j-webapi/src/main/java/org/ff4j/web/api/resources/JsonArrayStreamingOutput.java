@@ -0,0 +1,157 @@
+package org.ff4j.web.api.resources;
+
+/*
+ * #%L
+ * ff4j-webapi
+ * %%
+ * Copyright (C) 2013 - 2016 FF4J
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.ff4j.web.api.FF4jJacksonMapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Write a list of elements as a JSON array, each element is converted into its API bean and
+ * serialized only when written to the response (chunked), the full payload is never built in memory.
+ *
+ * @param <T>
+ *      type of element read from the store
+ *
+ * @author Cedrick Lunven (@clunven)
+ */
+public abstract class JsonArrayStreamingOutput < T > implements StreamingOutput {
+
+    /** Same mapper as the one registered for the API. */
+    private static final ObjectMapper MAPPER = new FF4jJacksonMapper().getContext(Object.class);
+
+    /** Elements to write. */
+    private final List < T > items;
+
+    /** Attributes to keep, empty means all. */
+    private final Set < String > fields;
+
+    /**
+     * Constructor with elements and projection.
+     *
+     * @param items
+     *      elements to write
+     * @param fields
+     *      comma separated attributes to keep (could be null)
+     */
+    public JsonArrayStreamingOutput(List < T > items, String fields) {
+        this.items  = items;
+        this.fields = parseFields(fields);
+    }
+
+    /**
+     * Convert an element into the bean serialized in the response.
+     *
+     * @param item
+     *      current element
+     * @return
+     *      API bean
+     */
+    protected abstract Object toApiBean(T item);
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(OutputStream output) throws IOException, WebApplicationException {
+        JsonGenerator gen = MAPPER.getFactory().createGenerator(output);
+        gen.writeStartArray();
+        for (T item : items) {
+            Object bean = toApiBean(item);
+            if (fields.isEmpty()) {
+                MAPPER.writeValue(gen, bean);
+            } else {
+                ObjectNode node = MAPPER.valueToTree(bean);
+                node.retain(fields);
+                MAPPER.writeTree(gen, node);
+            }
+        }
+        gen.writeEndArray();
+        gen.flush();
+    }
+
+    /**
+     * Select a page of values, sorted by key to keep pages stable, when no paging is requested
+     * values are returned as provided by the store.
+     *
+     * @param all
+     *      all values from the store
+     * @param offset
+     *      index of first element (could be null)
+     * @param limit
+     *      maximum number of elements (could be null)
+     * @return
+     *      selected values
+     */
+    public static < T > List < T > page(Map < String, T > all, Integer offset, Integer limit) {
+        if (all == null || all.isEmpty()) {
+            return new ArrayList<T>();
+        }
+        if (offset == null && limit == null) {
+            return new ArrayList<T>(all.values());
+        }
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            throw new IllegalArgumentException("Paging parameters 'offset' and 'limit' must be positive");
+        }
+        List < String > keys = new ArrayList<String>(all.keySet());
+        Collections.sort(keys);
+        int from = (offset == null) ? 0 : Math.min(offset, keys.size());
+        int to   = (limit  == null) ? keys.size() : (int) Math.min((long) from + limit, keys.size());
+        List < T > page = new ArrayList<T>(to - from);
+        for (String key : keys.subList(from, to)) {
+            page.add(all.get(key));
+        }
+        return page;
+    }
+
+    /**
+     * Parse projection parameter.
+     *
+     * @param fields
+     *      comma separated attributes
+     * @return
+     *      set of attributes
+     */
+    private static Set < String > parseFields(String fields) {
+        Set < String > result = new HashSet<String>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                if (!field.trim().isEmpty()) {
+                    result.add(field.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+}
@@ -1,15 +1,17 @@
 package org.ff4j.web.api.resources;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.ff4j.cache.FF4jCacheProxy;
 import org.ff4j.property.Property;
@@ -21,6 +23,7 @@ import org.ff4j.web.api.resources.domain.PropertyStoreApiBean;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
@@ -72,15 +75,24 @@ public class PropertyStoreResource  extends AbstractResource {
     @GET
     @Path("/" + RESOURCE_PROPERTIES)
     @Produces(MediaType.APPLICATION_JSON)
-    @ApiOperation(value= "Display information regarding <b>Properties</b>", response=PropertyApiBean.class)
-    @ApiResponses(@ApiResponse(code = 200, message= "get all Properties"))
-    public List < PropertyApiBean> readProperties() {
-        List < PropertyApiBean > apiBean = new ArrayList<PropertyApiBean>();
-        getPropertyStore().readAllProperties();
-        for (Property<?> prop : getPropertyStore().readAllProperties().values()) {
-            apiBean.add(new PropertyApiBean(prop));
+    @ApiOperation(value= "Display information regarding <b>Properties</b>", response=PropertyApiBean.class, responseContainer = "List")
+    @ApiResponses({ @ApiResponse(code = 200, message= "get all Properties"),
+                    @ApiResponse(code = 400, message= "invalid paging parameters") })
+    public Response readProperties(
+            @ApiParam(value = "index of first property (sorted by name)") @QueryParam(PARAM_OFFSET) Integer offset,
+            @ApiParam(value = "maximum number of properties") @QueryParam(PARAM_LIMIT) Integer limit,
+            @ApiParam(value = "comma separated attributes to return") @QueryParam(PARAM_FIELDS) String fields) {
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("Paging parameters must be positive").build();
         }
-        return apiBean;
+        Map < String, Property<?> > storeContent = getPropertyStore().readAllProperties();
+        List < Property<?> > properties = JsonArrayStreamingOutput.page(storeContent, offset, limit);
+        StreamingOutput output = new JsonArrayStreamingOutput<Property<?>>(properties, fields) {
+            protected Object toApiBean(Property<?> property) {
+                return new PropertyApiBean(property);
+            }
+        };
+        return Response.ok(output).header(HEADER_TOTAL_COUNT, storeContent == null ? 0 : storeContent.size()).build();
     }
     
     @POST